@@ -0,0 +1,56 @@
+#!/bin/sh
+# Restores the application from $CRAC_CHECKPOINT_DIR when a checkpoint exists. Otherwise starts it normally,
+# waits until it is ready, warms it up, takes a checkpoint and restores from it.
+#
+# The warmup always polls /q/health/ready, whose datasource checks go through the JDBC pools. When
+# CRAC_WARMUP_USERNAME and CRAC_WARMUP_PASSWORD are set, it also gets a token for that user from Keycloak with the
+# configured OIDC client and reads /api/v1/books with it, which warms security, JPA and serialization as well.
+set -e
+
+CHECKPOINT_DIR="${CRAC_CHECKPOINT_DIR:-/crac}"
+PORT="${QUARKUS_HTTP_PORT:-8081}"
+WARMUP_REQUESTS="${CRAC_WARMUP_REQUESTS:-200}"
+TOKEN_URL="http://${KEYCLOAK_HOSTNAME:-localhost}:${KEYCLOAK_PORT_CONTAINER:-8080}/realms/${KEYCLOAK_REALM:-my-readings}/protocol/openid-connect/token"
+
+if [ -n "$(ls -A "$CHECKPOINT_DIR" 2>/dev/null)" ]; then
+    exec java -XX:CRaCRestoreFrom="$CHECKPOINT_DIR"
+fi
+
+mkdir -p "$CHECKPOINT_DIR"
+java -XX:CRaCCheckpointTo="$CHECKPOINT_DIR" \
+    -Dquarkus.http.host=0.0.0.0 -Djava.util.logging.manager=org.jboss.logmanager.LogManager $JAVA_OPTS_APPEND \
+    -jar /deployments/quarkus-run.jar &
+PID=$!
+
+until curl -fs -o /dev/null "http://localhost:$PORT/q/health/ready"; do
+    kill -0 "$PID" 2>/dev/null || exit 1
+    sleep 0.5
+done
+
+TOKEN=""
+if [ -n "$CRAC_WARMUP_USERNAME" ] && [ -n "$CRAC_WARMUP_PASSWORD" ]; then
+    TOKEN=$(curl -fs "$TOKEN_URL" \
+        -d grant_type=password \
+        -d client_id="${KEYCLOAK_CLIENT_ID:-myreadings-client}" \
+        -d client_secret="${KC_ADMIN_PASSWORD:-admin}" \
+        --data-urlencode username="$CRAC_WARMUP_USERNAME" \
+        --data-urlencode password="$CRAC_WARMUP_PASSWORD" \
+        | sed -n 's/.*"access_token":"\([^"]*\)".*/\1/p') || TOKEN=""
+    [ -n "$TOKEN" ] || echo "crac-entrypoint: could not get a warmup token from $TOKEN_URL, warming health checks only" >&2
+else
+    echo "crac-entrypoint: CRAC_WARMUP_USERNAME/CRAC_WARMUP_PASSWORD not set, warming health checks only" >&2
+fi
+
+i=0
+while [ "$i" -lt "$WARMUP_REQUESTS" ]; do
+    if [ -n "$TOKEN" ]; then
+        curl -s -o /dev/null -H "Authorization: Bearer $TOKEN" "http://localhost:$PORT/api/v1/books"
+    fi
+    curl -s -o /dev/null "http://localhost:$PORT/q/health/ready"
+    i=$((i + 1))
+done
+
+jcmd "$PID" JDK.checkpoint
+wait "$PID" || true
+
+exec java -XX:CRaCRestoreFrom="$CHECKPOINT_DIR"
@@ -0,0 +1,41 @@
+package org.modular.playground.application.bff;
+
+import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.logging.Logger;
+
+import java.util.UUID;
+
+@Path("/api/v1/book-details")
+@Produces(MediaType.APPLICATION_JSON)
+@Authenticated
+@RunOnVirtualThread
+public class BookDetailController {
+
+    private static final Logger LOGGER = Logger.getLogger(BookDetailController.class);
+
+    @Inject
+    BookDetailService bookDetailService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @GET
+    @Path("/{bookId}")
+    @RolesAllowed({ "user", "admin" })
+    public Response getBookDetail(@PathParam("bookId") UUID bookId) {
+        LOGGER.infof("Received request for book detail of book ID: %s", bookId);
+        return bookDetailService.getBookDetail(bookId, jwt)
+                .map(detail -> Response.ok(detail).build())
+                .orElse(Response.status(Response.Status.NOT_FOUND).build());
+    }
+}
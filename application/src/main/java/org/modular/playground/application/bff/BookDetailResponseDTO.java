@@ -0,0 +1,23 @@
+package org.modular.playground.application.bff;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.modular.playground.catalog.web.dto.BookResponseDTO;
+import org.modular.playground.readinglist.web.dto.ReadingListResponseDTO;
+import org.modular.playground.review.web.dto.ReviewResponseDTO;
+import org.modular.playground.review.web.dto.ReviewStatsResponseDTO;
+
+import java.util.List;
+
+/**
+ * Everything the book detail page shows in one document. {@code myReview} and {@code myReadingList} are null when the
+ * caller has none; parts that failed or timed out are null as well and named in {@code unavailable}.
+ */
+@RegisterForReflection
+public record BookDetailResponseDTO(
+        BookResponseDTO book,
+        ReviewStatsResponseDTO reviewStats,
+        ReviewResponseDTO myReview,
+        ReadingListResponseDTO myReadingList,
+        List<String> unavailable
+) {
+}
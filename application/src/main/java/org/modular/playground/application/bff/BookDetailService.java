@@ -0,0 +1,128 @@
+package org.modular.playground.application.bff;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.logging.Logger;
+import org.modular.playground.catalog.core.usecases.BookService;
+import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
+import org.modular.playground.catalog.web.dto.BookResponseDTO;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.common.web.FieldSelection;
+import org.modular.playground.readinglist.core.usecases.ReadingListService;
+import org.modular.playground.readinglist.infrastructure.persistence.postgres.mapper.ReadingListMapper;
+import org.modular.playground.readinglist.web.dto.ReadingListResponseDTO;
+import org.modular.playground.review.core.usecases.ReviewService;
+import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapper;
+import org.modular.playground.review.web.dto.ReviewResponseDTO;
+import org.modular.playground.review.web.dto.ReviewStatsResponseDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Backend-for-frontend aggregate of the book detail page. The book, its review stats, the caller's review and the
+ * caller's reading list containing the book are loaded in parallel, one lookup per datasource, each bounded by
+ * {@code app.book-detail.part-timeout-ms}. The caller is resolved once for all four parts, and the review and
+ * reading list are loaded without the book enrichment the page already has.
+ */
+@ApplicationScoped
+public class BookDetailService {
+
+    private static final Logger LOGGER = Logger.getLogger(BookDetailService.class);
+
+    static final String REVIEW_STATS = "reviewStats";
+    static final String MY_REVIEW = "myReview";
+    static final String MY_READING_LIST = "myReadingList";
+
+    /** The review fields the page shows: the username needs a user lookup, the book does not. */
+    private static final FieldSelection REVIEW_FIELDS =
+            FieldSelection.parse("reviewId,bookId,userId,reviewText,rating,publicationDate,username");
+    private static final FieldSelection READING_LIST_FIELDS =
+            FieldSelection.parse("readingListId,name,description,bookCount");
+
+    @Inject
+    BookService bookService;
+    @Inject
+    ReviewService reviewService;
+    @Inject
+    ReadingListService readingListService;
+    @Inject
+    BookMapper bookMapper;
+    @Inject
+    ReviewMapper reviewMapper;
+    @Inject
+    ReadingListMapper readingListMapper;
+    @Inject
+    PrincipalContext principalContext;
+    @Inject
+    ManagedExecutor managedExecutor;
+
+    @ConfigProperty(name = "app.book-detail.part-timeout-ms", defaultValue = "1000")
+    long partTimeoutMs;
+
+    /**
+     * Returns empty if the book does not exist.
+     *
+     * @throws ServiceUnavailableException if the book itself could not be loaded in time
+     */
+    public Optional<BookDetailResponseDTO> getBookDetail(UUID bookId, JsonWebToken principal) {
+        UUID userId = principalContext.resolve(principal).userId();
+        LOGGER.debugf("Loading book detail for book %s and user %s", bookId, userId);
+
+        CompletableFuture<Optional<BookResponseDTO>> bookFuture = partAsync(
+                () -> bookService.getBookById(bookId).map(bookMapper::toResponseDTO));
+        CompletableFuture<ReviewStatsResponseDTO> statsFuture = partAsync(
+                () -> reviewMapper.toStatsResponseDTO(reviewService.getReviewStatsForBook(bookId), bookId));
+        CompletableFuture<Optional<ReviewResponseDTO>> reviewFuture = partAsync(
+                () -> reviewService.findReviewByUserAndBook(userId, bookId, principal, REVIEW_FIELDS)
+                        .map(reviewMapper::toResponseDTO));
+        CompletableFuture<Optional<ReadingListResponseDTO>> readingListFuture = partAsync(
+                () -> readingListService.findReadingListForBookAndUser(userId, bookId, READING_LIST_FIELDS)
+                        .map(readingListMapper::toResponseDTO));
+
+        Optional<BookResponseDTO> book;
+        try {
+            book = bookFuture.join();
+        } catch (CompletionException e) {
+            LOGGER.warnf(e.getCause(), "Book detail for book %s failed to load the book", bookId);
+            throw new ServiceUnavailableException("Book could not be loaded, please retry.");
+        }
+        if (book.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<String> unavailable = new ArrayList<>();
+        ReviewStatsResponseDTO stats = joinPart(statsFuture, REVIEW_STATS, bookId, unavailable);
+        Optional<ReviewResponseDTO> review = joinPart(reviewFuture, MY_REVIEW, bookId, unavailable);
+        Optional<ReadingListResponseDTO> readingList = joinPart(readingListFuture, MY_READING_LIST, bookId, unavailable);
+        return Optional.of(new BookDetailResponseDTO(book.get(), stats,
+                review == null ? null : review.orElse(null),
+                readingList == null ? null : readingList.orElse(null),
+                List.copyOf(unavailable)));
+    }
+
+    private <T> CompletableFuture<T> partAsync(Supplier<T> lookup) {
+        return CompletableFuture.supplyAsync(lookup, managedExecutor)
+                .orTimeout(partTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static <T> T joinPart(CompletableFuture<T> future, String part, UUID bookId, List<String> unavailable) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            LOGGER.warnf(e.getCause(), "Book detail part %s for book %s failed or timed out", part, bookId);
+            unavailable.add(part);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.modular.playground.application.bff;
+
+import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.Separator;
+
+import java.util.List;
+import java.util.UUID;
+
+@Path("/api/v1/book-overlays")
+@Produces(MediaType.APPLICATION_JSON)
+@Authenticated
+@RunOnVirtualThread
+public class BookOverlayController {
+
+    private static final Logger LOGGER = Logger.getLogger(BookOverlayController.class);
+
+    @Inject
+    BookOverlayService bookOverlayService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @GET
+    @RolesAllowed({ "user", "admin" })
+    public BookOverlayResponseDTO getBookOverlays(@NotEmpty @Separator(",") @QueryParam("ids") List<UUID> bookIds) {
+        LOGGER.infof("Received request for the overlays of %d books", bookIds.size());
+        return bookOverlayService.getBookOverlays(bookIds, jwt);
+    }
+}
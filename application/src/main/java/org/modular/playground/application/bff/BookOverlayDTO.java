@@ -0,0 +1,18 @@
+package org.modular.playground.application.bff;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.util.UUID;
+
+/**
+ * The caller's own state for one book of a grid: the reading list holding it and their rating, both null if none.
+ */
+@RegisterForReflection
+public record BookOverlayDTO(
+        UUID bookId,
+        UUID readingListId,
+        String readingListName,
+        UUID myReviewId,
+        Integer myRating
+) {
+}
@@ -0,0 +1,16 @@
+package org.modular.playground.application.bff;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.util.List;
+
+/**
+ * One overlay per requested book, in request order. Parts that failed or timed out are named in {@code unavailable}
+ * and their fields are null for every book.
+ */
+@RegisterForReflection
+public record BookOverlayResponseDTO(
+        List<BookOverlayDTO> content,
+        List<String> unavailable
+) {
+}
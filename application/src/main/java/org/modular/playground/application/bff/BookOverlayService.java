@@ -0,0 +1,102 @@
+package org.modular.playground.application.bff;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.logging.Logger;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.readinglist.core.domain.BookListMembership;
+import org.modular.playground.readinglist.core.usecases.ReadingListService;
+import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.usecases.ReviewService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The caller's reading-list membership and rating for a whole grid of books. Each datasource is queried once with
+ * all book IDs, the two lookups run in parallel, and neither loads books or users. Each lookup is bounded by
+ * {@code app.book-overlay.part-timeout-ms}.
+ */
+@ApplicationScoped
+public class BookOverlayService {
+
+    private static final Logger LOGGER = Logger.getLogger(BookOverlayService.class);
+
+    static final String READING_LISTS = "readingLists";
+    static final String RATINGS = "ratings";
+
+    @Inject
+    ReadingListService readingListService;
+    @Inject
+    ReviewService reviewService;
+    @Inject
+    PrincipalContext principalContext;
+    @Inject
+    ManagedExecutor managedExecutor;
+
+    @ConfigProperty(name = "app.book-overlay.part-timeout-ms", defaultValue = "1000")
+    long partTimeoutMs;
+
+    @ConfigProperty(name = "app.pagination.max-page-size", defaultValue = "100")
+    int maxPageSize;
+
+    public BookOverlayResponseDTO getBookOverlays(List<UUID> bookIds, JsonWebToken principal) {
+        List<UUID> distinctIds = bookIds.stream().distinct().toList();
+        if (distinctIds.size() > maxPageSize) {
+            throw new BadRequestException(
+                    "Cannot fetch more than " + maxPageSize + " book overlays at once, got " + distinctIds.size());
+        }
+        UUID userId = principalContext.resolve(principal).userId();
+        LOGGER.debugf("Loading overlays of %d books for user %s", distinctIds.size(), userId);
+
+        CompletableFuture<Map<UUID, BookListMembership>> membershipsFuture = partAsync(
+                () -> readingListService.findReadingListMembershipsForUser(userId, distinctIds));
+        CompletableFuture<Map<UUID, Review>> reviewsFuture = partAsync(
+                () -> reviewService.findReviewsByUserAndBooks(userId, distinctIds).stream()
+                        .collect(Collectors.toMap(review -> review.getBook().getBookId(), Function.identity(),
+                                (first, other) -> first)));
+
+        List<String> unavailable = new ArrayList<>();
+        Map<UUID, BookListMembership> memberships = joinPart(membershipsFuture, READING_LISTS, unavailable);
+        Map<UUID, Review> reviews = joinPart(reviewsFuture, RATINGS, unavailable);
+
+        List<BookOverlayDTO> overlays = distinctIds.stream().map(bookId -> {
+            BookListMembership membership = memberships.get(bookId);
+            Review review = reviews.get(bookId);
+            return new BookOverlayDTO(bookId,
+                    membership == null ? null : membership.readingListId(),
+                    membership == null ? null : membership.readingListName(),
+                    review == null ? null : review.getReviewId(),
+                    review == null ? null : review.getRating());
+        }).toList();
+        return new BookOverlayResponseDTO(overlays, List.copyOf(unavailable));
+    }
+
+    private <T> CompletableFuture<T> partAsync(Supplier<T> lookup) {
+        return CompletableFuture.supplyAsync(lookup, managedExecutor)
+                .orTimeout(partTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static <K, V> Map<K, V> joinPart(CompletableFuture<Map<K, V>> future, String part,
+            List<String> unavailable) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            LOGGER.warnf(e.getCause(), "Book overlay part %s failed or timed out", part);
+            unavailable.add(part);
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.modular.playground.application.crac;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.jboss.logging.Logger;
+
+/**
+ * Closes the pooled JDBC connections of every datasource before a CRaC checkpoint, since open sockets cannot be
+ * saved in the image. The pools reconnect lazily after restore. Registration is a no-op on JVMs without CRaC.
+ */
+@ApplicationScoped
+public class DataSourceCheckpointResource implements Resource {
+
+    private static final Logger LOGGER = Logger.getLogger(DataSourceCheckpointResource.class);
+
+    @Inject
+    @Any
+    Instance<AgroalDataSource> dataSources;
+
+    void onStart(@Observes StartupEvent event) {
+        Core.getGlobalContext().register(this);
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        for (AgroalDataSource dataSource : dataSources) {
+            try {
+                dataSource.flush(AgroalDataSource.FlushMode.ALL);
+            } catch (RuntimeException e) {
+                LOGGER.warnf(e, "Could not flush datasource before checkpoint");
+            }
+        }
+        LOGGER.info("Closed datasource connections before checkpoint");
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        LOGGER.info("Restored from checkpoint, datasource connections will be reopened on demand");
+    }
+}
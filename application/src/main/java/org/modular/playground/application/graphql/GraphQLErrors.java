@@ -0,0 +1,25 @@
+package org.modular.playground.application.graphql;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Ends a GraphQL request that is rejected before execution with a single error in the GraphQL response format.
+ */
+final class GraphQLErrors {
+
+    private GraphQLErrors() {
+    }
+
+    static void fail(RoutingContext context, int status, String message, JsonObject extensions) {
+        JsonObject error = new JsonObject()
+                .put("message", message)
+                .put("extensions", extensions);
+        context.response()
+                .setStatusCode(status)
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .end(new JsonObject().put("errors", new JsonArray().add(error)).encode());
+    }
+}
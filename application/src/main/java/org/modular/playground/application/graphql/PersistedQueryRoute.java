@@ -0,0 +1,109 @@
+package org.modular.playground.application.graphql;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import io.vertx.ext.web.impl.RoutingContextInternal;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Implements the automatic persisted query protocol in front of the GraphQL endpoint. A POST whose
+ * {@code extensions.persistedQuery} carries only a {@code sha256Hash} is completed with the registered query before
+ * SmallRye GraphQL sees it; an unknown hash is answered with {@code PersistedQueryNotFound} so the client retries
+ * with the full query, which is then registered. Requests without the extension pass through untouched.
+ */
+@ApplicationScoped
+public class PersistedQueryRoute {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistedQueryRoute.class);
+
+    /**
+     * Before {@link QueryCostRoute} and the GraphQL route, which is registered without an explicit order, and after
+     * the security filters.
+     */
+    static final int ROUTE_ORDER = -2;
+
+    private static final String QUERY = "query";
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
+    private static final String VERSION = "version";
+    private static final String NOT_FOUND = "PersistedQueryNotFound";
+
+    @Inject
+    PersistedQueryStore store;
+
+    @ConfigProperty(name = "app.graphql.persisted-queries.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "quarkus.smallrye-graphql.root-path", defaultValue = "graphql")
+    String graphqlPath;
+
+    @ConfigProperty(name = "quarkus.http.limits.max-body-size", defaultValue = "10240K")
+    MemorySize maxBodySize;
+
+    void register(@Observes Router router) {
+        if (!enabled) {
+            return;
+        }
+        String path = graphqlPath.startsWith("/") ? graphqlPath : "/" + graphqlPath;
+        router.post(path)
+                .order(ROUTE_ORDER)
+                .handler(BodyHandler.create(false).setBodyLimit(maxBodySize.asLongValue()))
+                .handler(this::resolve);
+        LOGGER.infof("Automatic persisted queries enabled on %s", path);
+    }
+
+    void resolve(RoutingContext context) {
+        JsonObject request = parse(context);
+        if (request == null || !(request.getValue(EXTENSIONS) instanceof JsonObject extensions)
+                || !(extensions.getValue(PERSISTED_QUERY) instanceof JsonObject persistedQuery)) {
+            context.next();
+            return;
+        }
+        Object version = persistedQuery.getValue(VERSION);
+        if (!(persistedQuery.getValue(SHA256_HASH) instanceof String hash)
+                || (version != null && !Integer.valueOf(1).equals(version))) {
+            fail(context, 400, "Unsupported persisted query", "PERSISTED_QUERY_NOT_SUPPORTED");
+            return;
+        }
+        if (request.getValue(QUERY) instanceof String query) {
+            try {
+                store.register(hash, query);
+            } catch (IllegalArgumentException e) {
+                fail(context, 400, e.getMessage(), "INVALID_PERSISTED_QUERY");
+                return;
+            }
+            context.next();
+            return;
+        }
+        store.find(hash).ifPresentOrElse(registered -> {
+            ((RoutingContextInternal) context).setBody(request.put(QUERY, registered).toBuffer());
+            context.next();
+        }, () -> fail(context, 200, NOT_FOUND, "PERSISTED_QUERY_NOT_FOUND"));
+    }
+
+    private static JsonObject parse(RoutingContext context) {
+        Buffer body = context.body().buffer();
+        if (body == null || body.length() == 0) {
+            return null;
+        }
+        try {
+            return body.toJson() instanceof JsonObject object ? object : null;
+        } catch (DecodeException e) {
+            return null;
+        }
+    }
+
+    private static void fail(RoutingContext context, int status, String message, String code) {
+        GraphQLErrors.fail(context, status, message, new JsonObject().put("code", code));
+    }
+}
@@ -0,0 +1,94 @@
+package org.modular.playground.application.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Query documents registered through automatic persisted queries, keyed by the SHA-256 of the query text. Clients
+ * send only the hash once a query is known, and since the registered text is passed on unchanged, SmallRye's cache
+ * of parsed and validated documents hits for it as well. The store holds at most
+ * {@code app.graphql.persisted-queries.max-size} queries and evicts the least used ones to make room, so a burst of
+ * one-off registrations cannot lock out new clients. Hashes are compared in lowercase. Lookups are counted in
+ * {@code graphql.persisted.queries} tagged with {@code result=hit|miss|registered}.
+ */
+@ApplicationScoped
+public class PersistedQueryStore {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistedQueryStore.class);
+    static final String METRIC = "graphql.persisted.queries";
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "app.graphql.persisted-queries.max-size", defaultValue = "1000")
+    int maxSize;
+
+    private Cache<String, String> queries;
+    private Counter hits;
+    private Counter misses;
+    private Counter registrations;
+
+    @PostConstruct
+    void init() {
+        queries = Caffeine.newBuilder().maximumSize(maxSize).build();
+        hits = meterRegistry.counter(METRIC, "result", "hit");
+        misses = meterRegistry.counter(METRIC, "result", "miss");
+        registrations = meterRegistry.counter(METRIC, "result", "registered");
+        meterRegistry.gauge(METRIC + ".size", Tags.empty(), queries, Cache::estimatedSize);
+    }
+
+    public Optional<String> find(String hash) {
+        String query = queries.getIfPresent(normalize(hash));
+        (query == null ? misses : hits).increment();
+        return Optional.ofNullable(query);
+    }
+
+    /**
+     * Registers {@code query} under {@code hash}, which must be the SHA-256 of the query text.
+     *
+     * @throws IllegalArgumentException if the hash does not match the query
+     */
+    public void register(String hash, String query) {
+        String key = normalize(hash);
+        if (!sha256(query).equals(key)) {
+            throw new IllegalArgumentException("provided sha does not match query");
+        }
+        if (queries.asMap().putIfAbsent(key, query) == null) {
+            registrations.increment();
+            LOGGER.debugf("Registered persisted query %s", key);
+        }
+    }
+
+    long size() {
+        queries.cleanUp();
+        return queries.estimatedSize();
+    }
+
+    private static String normalize(String hash) {
+        return hash.toLowerCase(Locale.ROOT);
+    }
+
+    public static String sha256(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.modular.playground.application.graphql;
+
+import graphql.language.ArrayValue;
+import graphql.language.Argument;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.IntValue;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.VariableDefinition;
+import graphql.language.VariableReference;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Static cost and depth of a GraphQL operation, computed from the document alone before anything is resolved.
+ * A field with a selection set costs its base cost plus, for each of the elements it may return, one unit and the
+ * cost of its sub-selection; leaf fields are free unless given a cost. Root fields start at {@code resolverCost},
+ * nested object fields at one. The number of elements is read from a list-size argument ({@code limit}, {@code size},
+ * the length of {@code bookIds}, ...) given as a literal or variable and capped at {@code maxListSize}; list fields
+ * called without one count as {@code defaultListSize}. Introspection fields are ignored.
+ */
+public class QueryCostAnalyzer {
+
+    public record QueryCost(long cost, int depth) {
+    }
+
+    private final int resolverCost;
+    private final int defaultListSize;
+    private final int maxListSize;
+    private final Map<String, Integer> fieldCosts;
+    private final Set<String> listSizeArguments;
+    private final Set<String> listFields;
+
+    public QueryCostAnalyzer(int resolverCost, int defaultListSize, int maxListSize, Map<String, Integer> fieldCosts,
+                             Set<String> listSizeArguments, Set<String> listFields) {
+        this.resolverCost = resolverCost;
+        this.defaultListSize = defaultListSize;
+        this.maxListSize = maxListSize;
+        this.fieldCosts = Map.copyOf(fieldCosts);
+        this.listSizeArguments = Set.copyOf(listSizeArguments);
+        this.listFields = Set.copyOf(listFields);
+    }
+
+    /**
+     * Analyzes the operation named {@code operationName}, or the only operation of the document when no name is
+     * given. Returns empty if the operation cannot be identified, leaving the error to the GraphQL engine.
+     */
+    public Optional<QueryCost> analyze(Document document, String operationName, Map<String, Object> variables) {
+        Optional<OperationDefinition> operation = findOperation(document, operationName);
+        if (operation.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, Object> effectiveVariables = new HashMap<>();
+        for (VariableDefinition definition : operation.get().getVariableDefinitions()) {
+            if (definition.getDefaultValue() != null) {
+                effectiveVariables.put(definition.getName(), definition.getDefaultValue());
+            }
+        }
+        if (variables != null) {
+            effectiveVariables.putAll(variables);
+        }
+        Walk walk = new Walk(document.getDefinitionsOfType(FragmentDefinition.class).stream()
+                .collect(Collectors.toMap(FragmentDefinition::getName, f -> f, (a, b) -> a)), effectiveVariables);
+        long cost = walk.cost(operation.get().getSelectionSet(), 1, new HashSet<>());
+        return Optional.of(new QueryCost(cost, walk.maxDepth));
+    }
+
+    private static Optional<OperationDefinition> findOperation(Document document, String operationName) {
+        var operations = document.getDefinitionsOfType(OperationDefinition.class);
+        if (operationName == null || operationName.isBlank()) {
+            return operations.size() == 1 ? Optional.of(operations.get(0)) : Optional.empty();
+        }
+        return operations.stream().filter(o -> operationName.equals(o.getName())).findFirst();
+    }
+
+    private final class Walk {
+
+        private final Map<String, FragmentDefinition> fragments;
+        private final Map<String, Object> variables;
+        private int maxDepth;
+
+        private Walk(Map<String, FragmentDefinition> fragments, Map<String, Object> variables) {
+            this.fragments = fragments;
+            this.variables = variables;
+        }
+
+        private long cost(SelectionSet selectionSet, int depth, Set<String> visitedFragments) {
+            if (selectionSet == null) {
+                return 0;
+            }
+            long cost = 0;
+            for (Selection<?> selection : selectionSet.getSelections()) {
+                if (selection instanceof Field field) {
+                    cost = saturatedAdd(cost, fieldCost(field, depth, visitedFragments));
+                } else if (selection instanceof InlineFragment inlineFragment) {
+                    cost = saturatedAdd(cost, cost(inlineFragment.getSelectionSet(), depth, visitedFragments));
+                } else if (selection instanceof FragmentSpread spread && fragments.containsKey(spread.getName())
+                        && visitedFragments.add(spread.getName())) {
+                    cost = saturatedAdd(cost, cost(fragments.get(spread.getName()).getSelectionSet(), depth, visitedFragments));
+                    visitedFragments.remove(spread.getName());
+                }
+            }
+            return cost;
+        }
+
+        private long fieldCost(Field field, int depth, Set<String> visitedFragments) {
+            if (field.getName().startsWith("__")) {
+                return 0;
+            }
+            maxDepth = Math.max(maxDepth, depth);
+            SelectionSet selectionSet = field.getSelectionSet();
+            boolean leaf = selectionSet == null || selectionSet.getSelections().isEmpty();
+            long base = fieldCosts.getOrDefault(field.getName(), leaf ? 0 : depth == 1 ? resolverCost : 1);
+            if (leaf) {
+                return base;
+            }
+            long perElement = saturatedAdd(1, cost(selectionSet, depth + 1, visitedFragments));
+            return saturatedAdd(base, saturatedMultiply(listSize(field), perElement));
+        }
+
+        private long listSize(Field field) {
+            for (Argument argument : field.getArguments()) {
+                if (listSizeArguments.contains(argument.getName())) {
+                    Long size = size(argument.getValue());
+                    if (size != null) {
+                        return Math.min(Math.max(size, 0), maxListSize);
+                    }
+                }
+            }
+            return listFields.contains(field.getName()) ? defaultListSize : 1;
+        }
+
+        private Long size(Object value) {
+            if (value instanceof VariableReference reference) {
+                return size(variables.get(reference.getName()));
+            }
+            if (value instanceof IntValue intValue) {
+                return intValue.getValue().longValue();
+            }
+            if (value instanceof ArrayValue arrayValue) {
+                return (long) arrayValue.getValues().size();
+            }
+            if (value instanceof Number number) {
+                return number.longValue();
+            }
+            if (value instanceof Iterable<?> iterable) {
+                long count = 0;
+                for (Object ignored : iterable) {
+                    count++;
+                }
+                return count;
+            }
+            return null;
+        }
+    }
+
+    /** Costs are never negative, so overflow shows up as a negative sum. */
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        return b != 0 && a > Long.MAX_VALUE / b ? Long.MAX_VALUE : a * b;
+    }
+}
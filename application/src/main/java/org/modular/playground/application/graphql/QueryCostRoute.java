@@ -0,0 +1,227 @@
+package org.modular.playground.application.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.language.Document;
+import graphql.parser.InvalidSyntaxException;
+import graphql.parser.Parser;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rejects GraphQL operations whose static cost or depth, as computed by {@link QueryCostAnalyzer}, exceeds the
+ * caller's budget before SmallRye GraphQL executes them. The budget is the largest one configured for the caller's
+ * roles in {@code app.graphql.cost.budgets}, or {@code app.graphql.cost.default-budget}. Runs after
+ * {@link PersistedQueryRoute}, so hash-only requests are analyzed with their registered query. Documents that do not
+ * parse pass through for SmallRye to report. Parsed documents are kept in a bounded cache keyed by query text
+ * ({@code app.graphql.cost.document-cache-size}), so a persisted or repeated query is only parsed once here; the
+ * variable-dependent list sizes are still worked out per request. Costs are recorded in {@code graphql.query.cost} and rejections in
+ * {@code graphql.query.rejected}, tagged with {@code reason=cost|depth}.
+ */
+@ApplicationScoped
+public class QueryCostRoute {
+
+    private static final Logger LOGGER = Logger.getLogger(QueryCostRoute.class);
+
+    static final int ROUTE_ORDER = PersistedQueryRoute.ROUTE_ORDER + 1;
+    static final String COST_METRIC = "graphql.query.cost";
+    static final String REJECTED_METRIC = "graphql.query.rejected";
+
+    private static final String QUERY = "query";
+    private static final String OPERATION_NAME = "operationName";
+    private static final String VARIABLES = "variables";
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "app.graphql.cost.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "app.graphql.cost.max-depth", defaultValue = "8")
+    int maxDepth;
+
+    @ConfigProperty(name = "app.graphql.cost.resolver-cost", defaultValue = "10")
+    int resolverCost;
+
+    @ConfigProperty(name = "app.graphql.cost.default-list-size", defaultValue = "50")
+    int defaultListSize;
+
+    @ConfigProperty(name = "app.graphql.cost.max-list-size", defaultValue = "100")
+    int maxListSize;
+
+    @ConfigProperty(name = "app.graphql.cost.list-size-arguments", defaultValue = "limit,size,first,bookIds")
+    List<String> listSizeArguments;
+
+    @ConfigProperty(name = "app.graphql.cost.list-fields")
+    Optional<List<String>> listFields;
+
+    @ConfigProperty(name = "app.graphql.cost.field-costs")
+    Optional<List<String>> fieldCosts;
+
+    @ConfigProperty(name = "app.graphql.cost.budgets", defaultValue = "user:1000,admin:5000")
+    List<String> budgets;
+
+    @ConfigProperty(name = "app.graphql.cost.default-budget", defaultValue = "500")
+    long defaultBudget;
+
+    @ConfigProperty(name = "app.graphql.cost.document-cache-size", defaultValue = "1000")
+    int documentCacheSize;
+
+    @ConfigProperty(name = "quarkus.smallrye-graphql.root-path", defaultValue = "graphql")
+    String graphqlPath;
+
+    @ConfigProperty(name = "quarkus.http.limits.max-body-size", defaultValue = "10240K")
+    MemorySize maxBodySize;
+
+    private QueryCostAnalyzer analyzer;
+    private Map<String, Long> roleBudgets;
+    private DistributionSummary costs;
+    private Cache<String, Document> documents;
+
+    @PostConstruct
+    void init() {
+        Map<String, Integer> costsByField = new HashMap<>();
+        parseEntries(fieldCosts.orElse(List.of())).forEach((field, cost) -> costsByField.put(field, cost.intValue()));
+        analyzer = new QueryCostAnalyzer(resolverCost, defaultListSize, maxListSize, costsByField,
+                new HashSet<>(listSizeArguments), new HashSet<>(listFields.orElse(List.of())));
+        roleBudgets = parseEntries(budgets);
+        costs = DistributionSummary.builder(COST_METRIC).register(meterRegistry);
+        documents = Caffeine.newBuilder().maximumSize(documentCacheSize).build();
+    }
+
+    void register(@Observes Router router) {
+        if (!enabled) {
+            return;
+        }
+        String path = graphqlPath.startsWith("/") ? graphqlPath : "/" + graphqlPath;
+        router.post(path)
+                .order(ROUTE_ORDER)
+                .handler(BodyHandler.create(false).setBodyLimit(maxBodySize.asLongValue()))
+                .handler(this::checkPost);
+        router.get(path)
+                .order(ROUTE_ORDER)
+                .handler(this::checkGet);
+        LOGGER.infof("GraphQL cost analysis enabled on %s [max depth: %d, budgets: %s, default budget: %d]",
+                path, maxDepth, roleBudgets, defaultBudget);
+    }
+
+    void checkPost(RoutingContext context) {
+        String contentType = context.request().getHeader(HttpHeaders.CONTENT_TYPE);
+        if (contentType != null && contentType.startsWith("application/graphql") && context.body().buffer() != null) {
+            check(context, context.body().asString(), null, Map.of());
+            return;
+        }
+        JsonObject request = parse(context.body().buffer());
+        if (request == null || !(request.getValue(QUERY) instanceof String query)) {
+            context.next();
+            return;
+        }
+        Map<String, Object> variables = request.getValue(VARIABLES) instanceof JsonObject v ? v.getMap() : Map.of();
+        check(context, query, request.getString(OPERATION_NAME), variables);
+    }
+
+    void checkGet(RoutingContext context) {
+        String query = context.request().getParam(QUERY);
+        if (query == null) {
+            context.next();
+            return;
+        }
+        String variables = context.request().getParam(VARIABLES);
+        JsonObject parsedVariables = variables == null ? null : parse(Buffer.buffer(variables));
+        check(context, query, context.request().getParam(OPERATION_NAME),
+                parsedVariables == null ? Map.of() : parsedVariables.getMap());
+    }
+
+    private void check(RoutingContext context, String query, String operationName, Map<String, Object> variables) {
+        Document document;
+        try {
+            document = documents.get(query, Parser::parse);
+        } catch (InvalidSyntaxException e) {
+            context.next();
+            return;
+        }
+        Optional<QueryCostAnalyzer.QueryCost> result = analyzer.analyze(document, operationName, variables);
+        if (result.isEmpty()) {
+            context.next();
+            return;
+        }
+        QueryCostAnalyzer.QueryCost queryCost = result.get();
+        costs.record(queryCost.cost());
+        if (queryCost.depth() > maxDepth) {
+            reject(context, "depth", "Query depth " + queryCost.depth() + " exceeds the maximum of " + maxDepth,
+                    "QUERY_TOO_DEEP", new JsonObject().put("depth", queryCost.depth()).put("maxDepth", maxDepth));
+            return;
+        }
+        long budget = budgetFor(context);
+        if (queryCost.cost() > budget) {
+            reject(context, "cost", "Query cost " + queryCost.cost() + " exceeds the budget of " + budget,
+                    "QUERY_TOO_EXPENSIVE", new JsonObject().put("cost", queryCost.cost()).put("budget", budget));
+            return;
+        }
+        context.next();
+    }
+
+    long budgetFor(RoutingContext context) {
+        if (!(context.user() instanceof QuarkusHttpUser user)) {
+            return defaultBudget;
+        }
+        SecurityIdentity identity = user.getSecurityIdentity();
+        return identity.getRoles().stream()
+                .filter(roleBudgets::containsKey)
+                .mapToLong(roleBudgets::get)
+                .max()
+                .orElse(defaultBudget);
+    }
+
+    private void reject(RoutingContext context, String reason, String message, String code, JsonObject details) {
+        LOGGER.debugf("Rejecting GraphQL request: %s", message);
+        meterRegistry.counter(REJECTED_METRIC, "reason", reason).increment();
+        GraphQLErrors.fail(context, 200, message, details.put("code", code));
+    }
+
+    /** Parses {@code name:value} entries such as {@code admin:5000}. */
+    static Map<String, Long> parseEntries(List<String> entries) {
+        Map<String, Long> parsed = new HashMap<>();
+        for (String entry : entries) {
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected name:value but got '" + entry + "'");
+            }
+            parsed.put(entry.substring(0, separator).trim(), Long.parseLong(entry.substring(separator + 1).trim()));
+        }
+        return Map.copyOf(parsed);
+    }
+
+    private static JsonObject parse(Buffer body) {
+        if (body == null || body.length() == 0) {
+            return null;
+        }
+        try {
+            return body.toJson() instanceof JsonObject object ? object : null;
+        } catch (DecodeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.modular.playground.application.persistence;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.flywaydb.core.Flyway;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+
+/**
+ * In the consolidated datasource mode every persistence unit shares the {@code shared-db} pool and lives in its own
+ * schema. Flyway only supports one configuration per datasource, so this bean migrates each module's scripts into
+ * the module's schema (taken from the persistence unit's {@code database.default-schema}) before traffic is served.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "app.datasource.mode", stringValue = "consolidated", enableIfMissing = false)
+public class ConsolidatedSchemaMigrator {
+
+    private static final Logger LOGGER = Logger.getLogger(ConsolidatedSchemaMigrator.class);
+    private static final List<String> PERSISTENCE_UNITS = List.of("books-db", "users-db", "readinglist-db", "review-db");
+
+    @Inject
+    @DataSource("shared-db")
+    AgroalDataSource dataSource;
+
+    @Inject
+    Config config;
+
+    @ConfigProperty(name = "app.datasource.consolidated.migrate-at-start", defaultValue = "true")
+    boolean migrateAtStart;
+
+    @ConfigProperty(name = "app.datasource.consolidated.clean-at-start", defaultValue = "false")
+    boolean cleanAtStart;
+
+    void onStart(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+        if (!migrateAtStart) {
+            return;
+        }
+        for (String persistenceUnit : PERSISTENCE_UNITS) {
+            String schema = config.getValue("quarkus.hibernate-orm.\"" + persistenceUnit + "\".database.default-schema",
+                    String.class);
+            String[] locations = config.getValue("quarkus.flyway.\"" + persistenceUnit + "\".locations", String[].class);
+            LOGGER.infof("Migrating persistence unit %s into schema %s", persistenceUnit, schema);
+            Flyway flyway = Flyway.configure(Thread.currentThread().getContextClassLoader())
+                    .dataSource(dataSource)
+                    .schemas(schema)
+                    .defaultSchema(schema)
+                    .createSchemas(true)
+                    .locations(locations)
+                    .baselineOnMigrate(true)
+                    .baselineVersion("0")
+                    .cleanDisabled(!cleanAtStart)
+                    .load();
+            if (cleanAtStart) {
+                flyway.clean();
+            }
+            flyway.migrate();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.modular.playground.application;
+
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+
+@QuarkusIntegrationTest
+public class ApplicationSmokeIT extends ApplicationSmokeTest {
+}
@@ -0,0 +1,156 @@
+package org.modular.playground.application;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.keycloak.client.KeycloakTestClient;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+import org.modular.playground.application.graphql.PersistedQueryStore;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+/**
+ * Boots the whole application and touches each layer that native images tend to break: Flyway and the four
+ * persistence units at startup, OIDC, Jackson serialization of the MapStruct/Lombok DTOs and GraphQL.
+ * {@link ApplicationSmokeIT} runs the same checks against the packaged artifact, including the native executable.
+ */
+@QuarkusTest
+public class ApplicationSmokeTest {
+
+    KeycloakTestClient keycloakClient = new KeycloakTestClient();
+
+    @Test
+    void shouldReportReady() {
+        given()
+                .when().get("/q/health/ready")
+                .then()
+                .statusCode(200)
+                .body("status", equalTo("UP"));
+    }
+
+    @Test
+    void shouldRejectUnauthenticatedRequests() {
+        given()
+                .when().get("/api/v1/books")
+                .then()
+                .statusCode(401);
+    }
+
+    @Test
+    void shouldExecutePersistedQueryByHashOnceRegistered() {
+        String token = keycloakClient.getAccessToken("alice");
+        String query = "{ myReadingLists { name } }";
+        String hash = PersistedQueryStore.sha256(query);
+        String extensions = String.format("\"extensions\": {\"persistedQuery\": {\"version\": 1, \"sha256Hash\": \"%s\"}}", hash);
+
+        given()
+                .auth().oauth2(token)
+                .contentType(ContentType.JSON)
+                .body("{" + extensions + "}")
+                .when().post("/graphql")
+                .then()
+                .statusCode(200)
+                .body("errors[0].message", equalTo("PersistedQueryNotFound"));
+
+        given()
+                .auth().oauth2(token)
+                .contentType(ContentType.JSON)
+                .body(String.format("{\"query\": \"%s\", %s}", query, extensions))
+                .when().post("/graphql")
+                .then()
+                .statusCode(200)
+                .body("data.myReadingLists", notNullValue());
+
+        given()
+                .auth().oauth2(token)
+                .contentType(ContentType.JSON)
+                .body("{" + extensions + "}")
+                .when().post("/graphql")
+                .then()
+                .statusCode(200)
+                .body("data.myReadingLists", notNullValue());
+    }
+
+    @Test
+    void shouldRejectGraphQLQueryOverTheUserBudget() {
+        String selection = "searchBooks(query: \\\"java\\\", size: 100) { content { title } }";
+        String query = String.format("{ a: %1$s b: %1$s c: %1$s d: %1$s }", selection);
+
+        given()
+                .auth().oauth2(keycloakClient.getAccessToken("alice"))
+                .contentType(ContentType.JSON)
+                .body(String.format("{\"query\": \"%s\"}", query))
+                .when().post("/graphql")
+                .then()
+                .statusCode(200)
+                .body("errors[0].extensions.code", equalTo("QUERY_TOO_EXPENSIVE"))
+                .body("data", nullValue());
+    }
+
+    @Test
+    void shouldCreateReadAndDeleteBookAcrossRestAndGraphQL() {
+        String adminToken = keycloakClient.getAccessToken("admin");
+        String aliceToken = keycloakClient.getAccessToken("alice");
+
+        String bookId = given()
+                .auth().oauth2(adminToken)
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"isbn": "9780000000001", "title": "Smoke Test", "authors": ["Native Author"],
+                         "publicationDate": "2020-01-01", "pageCount": 10}
+                        """)
+                .when().post("/api/v1/books")
+                .then()
+                .statusCode(201)
+                .body("bookId", notNullValue())
+                .extract().path("bookId");
+
+        given()
+                .auth().oauth2(aliceToken)
+                .when().get("/api/v1/books/{bookId}", bookId)
+                .then()
+                .statusCode(200)
+                .body("title", equalTo("Smoke Test"))
+                .body("publicationDate", equalTo("2020-01-01"));
+
+        given()
+                .auth().oauth2(aliceToken)
+                .contentType(ContentType.JSON)
+                .body(String.format("""
+                        { "query": "{ bookById(bookId: \\"%s\\") { title authors } }" }
+                        """, bookId))
+                .when().post("/graphql")
+                .then()
+                .statusCode(200)
+                .body("data.bookById.title", equalTo("Smoke Test"))
+                .body("data.bookById.authors[0]", equalTo("Native Author"));
+
+        given()
+                .auth().oauth2(aliceToken)
+                .when().get("/api/v1/book-details/{bookId}", bookId)
+                .then()
+                .statusCode(200)
+                .body("book.title", equalTo("Smoke Test"))
+                .body("reviewStats.totalReviews", equalTo(0))
+                .body("myReview", nullValue())
+                .body("unavailable.size()", equalTo(0));
+
+        given()
+                .auth().oauth2(aliceToken)
+                .queryParam("ids", bookId)
+                .when().get("/api/v1/book-overlays")
+                .then()
+                .statusCode(200)
+                .body("content[0].bookId", equalTo(bookId))
+                .body("content[0].myRating", nullValue())
+                .body("unavailable.size()", equalTo(0));
+
+        given()
+                .auth().oauth2(adminToken)
+                .when().delete("/api/v1/books/{bookId}", bookId)
+                .then()
+                .statusCode(204);
+    }
+}
@@ -0,0 +1,50 @@
+package org.modular.playground.application;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the application smoke checks with every persistence unit mapped onto the single {@code shared-db} pool and
+ * verifies that each module's tables were migrated into its own schema.
+ */
+@QuarkusTest
+@TestProfile(ConsolidatedDatasourceTestProfile.class)
+public class ConsolidatedDatasourceSmokeTest extends ApplicationSmokeTest {
+
+    @Inject
+    @DataSource("shared-db")
+    AgroalDataSource sharedDataSource;
+
+    @Test
+    void shouldMigrateEachModuleIntoItsOwnSchema() throws SQLException {
+        Set<String> tables = new HashSet<>();
+        try (Connection connection = sharedDataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "SELECT table_schema || '.' || table_name FROM information_schema.tables "
+                                + "WHERE table_schema IN ('catalog', 'users', 'readinglist', 'review')")) {
+            while (resultSet.next()) {
+                tables.add(resultSet.getString(1));
+            }
+        }
+
+        assertTrue(tables.contains("catalog.books"), tables::toString);
+        assertTrue(tables.contains("users.users"), tables::toString);
+        assertTrue(tables.contains("readinglist.reading_lists"), tables::toString);
+        assertTrue(tables.contains("review.reviews"), tables::toString);
+        assertTrue(tables.contains("catalog.flyway_schema_history"), tables::toString);
+    }
+}
@@ -0,0 +1,33 @@
+package org.modular.playground.application;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ConsolidatedDatasourceTestProfile implements QuarkusTestProfile {
+
+    private static final Map<String, String> SCHEMAS = Map.of(
+            "books-db", "catalog",
+            "users-db", "users",
+            "readinglist-db", "readinglist",
+            "review-db", "review");
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        Map<String, String> overrides = new HashMap<>();
+        overrides.put("app.datasource.mode", "consolidated");
+        overrides.put("app.datasource.consolidated.clean-at-start", "true");
+        overrides.put("quarkus.datasource.\"shared-db\".db-kind", "postgresql");
+        overrides.put("quarkus.datasource.\"shared-db\".jdbc.additional-jdbc-properties.currentSchema",
+                String.join(",", List.of("catalog", "users", "readinglist", "review")));
+        SCHEMAS.forEach((persistenceUnit, schema) -> {
+            overrides.put("quarkus.hibernate-orm.\"" + persistenceUnit + "\".datasource", "shared-db");
+            overrides.put("quarkus.hibernate-orm.\"" + persistenceUnit + "\".database.default-schema", schema);
+            overrides.put("quarkus.datasource.\"" + persistenceUnit + "\".active", "false");
+            overrides.put("quarkus.datasource.\"" + persistenceUnit + "\".devservices.enabled", "false");
+        });
+        return overrides;
+    }
+}
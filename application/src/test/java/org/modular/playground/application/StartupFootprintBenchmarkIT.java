@@ -0,0 +1,168 @@
+package org.modular.playground.application;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the packaged JVM application (with its AppCDS archive too, when one was generated) and, when present, the
+ * native executable several times each and logs the time until {@code /q/health/ready} answers and the resident set
+ * size at that point. It runs against the infrastructure
+ * configured for the application (databases, Keycloak, RabbitMQ), not Dev Services. Excluded from the default build;
+ * run with {@code ./mvnw verify -Pbenchmark -Dnative -pl application -am}.
+ */
+@Tag("benchmark")
+public class StartupFootprintBenchmarkIT {
+
+    private static final Logger LOGGER = Logger.getLogger(StartupFootprintBenchmarkIT.class);
+
+    private static final int ROUNDS = Integer.getInteger("benchmark.startup-rounds", 5);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(Long.getLong("benchmark.startup-timeout-seconds", 60));
+    private static final Path TARGET = Path.of(System.getProperty("benchmark.target-dir", "target"));
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @Test
+    void benchmarkStartup() throws Exception {
+        List<Sample> jvm = new ArrayList<>();
+        Path runJar = TARGET.resolve("quarkus-app/quarkus-run.jar");
+        if (Files.exists(runJar)) {
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            jvm = measure("jvm", port -> List.of(java, "-Dquarkus.http.port=" + port, "-jar", runJar.toString()));
+        }
+
+        List<Sample> appCds = new ArrayList<>();
+        Path archive = TARGET.resolve("quarkus-app/app-cds.jsa");
+        if (Files.exists(runJar) && Files.exists(archive)) {
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            appCds = measure("jvm-appcds", port -> List.of(java, "-XX:SharedArchiveFile=" + archive, "-Xshare:auto",
+                    "-Dquarkus.http.port=" + port, "-jar", runJar.toString()));
+        }
+
+        List<Sample> nativeSamples = new ArrayList<>();
+        Optional<Path> runner = findNativeRunner();
+        if (runner.isPresent()) {
+            nativeSamples = measure("native", port -> List.of(runner.get().toString(), "-Dquarkus.http.port=" + port));
+        }
+
+        assertFalse(jvm.isEmpty() && nativeSamples.isEmpty(), "No packaged application found in " + TARGET);
+        report("jvm", jvm);
+        report("jvm-appcds", appCds);
+        report("native", nativeSamples);
+    }
+
+    private List<Sample> measure(String mode, CommandFactory commandFactory) throws Exception {
+        List<Sample> samples = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            int port = freePort();
+            ProcessBuilder builder = new ProcessBuilder(commandFactory.command(port))
+                    .redirectErrorStream(true)
+                    .redirectOutput(TARGET.resolve("startup-benchmark-" + mode + ".log").toFile());
+            long start = System.nanoTime();
+            Process process = builder.start();
+            try {
+                boolean ready = awaitReady(port, process);
+                assertTrue(ready, mode + " application did not become ready within " + STARTUP_TIMEOUT);
+                long startupMillis = (System.nanoTime() - start) / 1_000_000;
+                samples.add(new Sample(startupMillis, residentSetKb(process.pid())));
+            } finally {
+                process.destroy();
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+        return samples;
+    }
+
+    private boolean awaitReady(int port, Process process) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/q/health/ready"))
+                .timeout(Duration.ofMillis(500))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline && process.isAlive()) {
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return true;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    private static long residentSetKb(long pid) {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        try (Stream<String> lines = Files.lines(status)) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.replaceAll("\\D", ""))
+                    .mapToLong(Long::parseLong)
+                    .findFirst()
+                    .orElse(-1);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static Optional<Path> findNativeRunner() throws IOException {
+        if (!Files.isDirectory(TARGET)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(TARGET)) {
+            return files.filter(file -> file.getFileName().toString().endsWith("-runner"))
+                    .filter(file -> file.toFile().canExecute())
+                    .findFirst();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void report(String mode, List<Sample> samples) {
+        if (samples.isEmpty()) {
+            LOGGER.infof("Startup benchmark [%s]: skipped, artifact not built", mode);
+            return;
+        }
+        List<Long> startup = samples.stream().map(Sample::startupMillis).sorted().toList();
+        List<Long> rss = samples.stream().map(Sample::rssKb).sorted().toList();
+        LOGGER.infof("Startup benchmark [%s]: rounds=%d, time-to-ready ms min=%d median=%d max=%d, RSS MB median=%d max=%d",
+                mode, samples.size(), startup.get(0), median(startup), startup.get(startup.size() - 1),
+                median(rss) / 1024, Collections.max(rss) / 1024);
+    }
+
+    private static long median(List<Long> sorted) {
+        return sorted.get(sorted.size() / 2);
+    }
+
+    @FunctionalInterface
+    private interface CommandFactory {
+        List<String> command(int port);
+    }
+
+    private record Sample(long startupMillis, long rssKb) {
+    }
+}
@@ -0,0 +1,146 @@
+package org.modular.playground.application.bff;
+
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.usecases.BookService;
+import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
+import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapperImpl;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.readinglist.core.domain.ReadingList;
+import org.modular.playground.readinglist.core.domain.ReadingListImpl;
+import org.modular.playground.readinglist.core.usecases.ReadingListService;
+import org.modular.playground.readinglist.infrastructure.persistence.postgres.mapper.ReadingListMapper;
+import org.modular.playground.readinglist.infrastructure.persistence.postgres.mapper.ReadingListMapperImpl;
+import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewImpl;
+import org.modular.playground.review.core.domain.ReviewStatsImpl;
+import org.modular.playground.review.core.usecases.ReviewService;
+import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapper;
+import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapperImpl;
+import org.modular.playground.user.core.domain.User;
+import org.modular.playground.user.core.domain.UserImpl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookDetailServiceUnitTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private ReviewService reviewService;
+
+    @Mock
+    private ReadingListService readingListService;
+
+    @Mock
+    private ManagedExecutor managedExecutor;
+
+    @Mock
+    private JsonWebToken jwt;
+
+    @Spy
+    private BookMapper bookMapper = new BookMapperImpl();
+
+    @Spy
+    private ReviewMapper reviewMapper = new ReviewMapperImpl();
+
+    @Spy
+    private ReadingListMapper readingListMapper = new ReadingListMapperImpl();
+
+    @Spy
+    private PrincipalContext principalContext = new PrincipalContext();
+
+    @InjectMocks
+    private BookDetailService bookDetailService;
+
+    private User user;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        bookDetailService.partTimeoutMs = 1000;
+        user = UserImpl.builder().keycloakUserId(UUID.randomUUID()).username("alice").build();
+        book = BookImpl.builder().bookId(UUID.randomUUID()).title("Dune").build();
+        when(jwt.getSubject()).thenReturn(user.getKeycloakUserId().toString());
+        doAnswer(invocation -> {
+            new Thread(invocation.<Runnable>getArgument(0)).start();
+            return null;
+        }).when(managedExecutor).execute(any(Runnable.class));
+    }
+
+    @Test
+    void shouldCombineAllPartsWithoutEnrichingBooks() {
+        Review review = ReviewImpl.builder().reviewId(UUID.randomUUID()).user(user).book(book).rating(5).build();
+        ReadingList readingList = ReadingListImpl.builder().readingListId(UUID.randomUUID()).user(user)
+                .name("To read").books(List.of(BookImpl.builder().bookId(book.getBookId()).build())).build();
+        when(bookService.getBookById(book.getBookId())).thenReturn(Optional.of(book));
+        when(reviewService.getReviewStatsForBook(book.getBookId()))
+                .thenReturn(ReviewStatsImpl.builder().totalReviews(3).averageRating(4.0).build());
+        when(reviewService.findReviewByUserAndBook(eq(user.getKeycloakUserId()), eq(book.getBookId()), eq(jwt),
+                argThat(fields -> fields.includes("username") && !fields.isAll())))
+                .thenReturn(Optional.of(review));
+        when(readingListService.findReadingListForBookAndUser(eq(user.getKeycloakUserId()), eq(book.getBookId()),
+                argThat(fields -> !fields.includes("books"))))
+                .thenReturn(Optional.of(readingList));
+
+        BookDetailResponseDTO detail = bookDetailService.getBookDetail(book.getBookId(), jwt).orElseThrow();
+
+        assertEquals("Dune", detail.book().getTitle());
+        assertEquals(3, detail.reviewStats().getTotalReviews());
+        assertEquals(5, detail.myReview().getRating());
+        assertEquals("alice", detail.myReview().getUsername());
+        assertEquals("To read", detail.myReadingList().getName());
+        assertEquals(1, detail.myReadingList().getBookCount());
+        assertTrue(detail.unavailable().isEmpty());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenBookDoesNotExist() {
+        when(bookService.getBookById(book.getBookId())).thenReturn(Optional.empty());
+
+        assertFalse(bookDetailService.getBookDetail(book.getBookId(), jwt).isPresent());
+    }
+
+    @Test
+    void shouldReportPartsThatFailOrTimeOut() {
+        bookDetailService.partTimeoutMs = 100;
+        when(bookService.getBookById(book.getBookId())).thenReturn(Optional.of(book));
+        when(reviewService.getReviewStatsForBook(book.getBookId())).thenThrow(new IllegalStateException("review-db down"));
+        when(reviewService.findReviewByUserAndBook(any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(readingListService.findReadingListForBookAndUser(any(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return Optional.empty();
+        });
+
+        BookDetailResponseDTO detail = bookDetailService.getBookDetail(book.getBookId(), jwt).orElseThrow();
+
+        assertEquals(book.getBookId(), detail.book().getBookId());
+        assertNull(detail.reviewStats());
+        assertNull(detail.myReview());
+        assertNull(detail.myReadingList());
+        assertEquals(List.of(BookDetailService.REVIEW_STATS, BookDetailService.MY_READING_LIST), detail.unavailable());
+    }
+}
@@ -0,0 +1,122 @@
+package org.modular.playground.application.bff;
+
+import jakarta.ws.rs.BadRequestException;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.readinglist.core.domain.BookListMembership;
+import org.modular.playground.readinglist.core.usecases.ReadingListService;
+import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewImpl;
+import org.modular.playground.review.core.usecases.ReviewService;
+import org.modular.playground.user.core.domain.UserImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookOverlayServiceUnitTest {
+
+    @Mock
+    private ReadingListService readingListService;
+
+    @Mock
+    private ReviewService reviewService;
+
+    @Mock
+    private ManagedExecutor managedExecutor;
+
+    @Mock
+    private JsonWebToken jwt;
+
+    @Spy
+    private PrincipalContext principalContext = new PrincipalContext();
+
+    @InjectMocks
+    private BookOverlayService bookOverlayService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID listedBookId = UUID.randomUUID();
+    private final UUID ratedBookId = UUID.randomUUID();
+    private final UUID plainBookId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        bookOverlayService.partTimeoutMs = 1000;
+        bookOverlayService.maxPageSize = 100;
+    }
+
+
+    @Test
+    void shouldCombineMembershipsAndRatingsInRequestOrder() {
+        useCallerWithThreadExecutor();
+        List<UUID> bookIds = List.of(plainBookId, listedBookId, ratedBookId);
+        UUID readingListId = UUID.randomUUID();
+        Review review = ReviewImpl.builder().reviewId(UUID.randomUUID()).rating(4)
+                .user(UserImpl.builder().keycloakUserId(userId).build())
+                .book(BookImpl.builder().bookId(ratedBookId).build())
+                .build();
+        when(readingListService.findReadingListMembershipsForUser(userId, bookIds))
+                .thenReturn(Map.of(listedBookId, new BookListMembership(listedBookId, readingListId, "To read")));
+        when(reviewService.findReviewsByUserAndBooks(userId, bookIds)).thenReturn(List.of(review));
+
+        BookOverlayResponseDTO response = bookOverlayService.getBookOverlays(bookIds, jwt);
+
+        assertEquals(bookIds, response.content().stream().map(BookOverlayDTO::bookId).toList());
+        assertEquals(new BookOverlayDTO(plainBookId, null, null, null, null), response.content().get(0));
+        assertEquals(new BookOverlayDTO(listedBookId, readingListId, "To read", null, null), response.content().get(1));
+        assertEquals(new BookOverlayDTO(ratedBookId, null, null, review.getReviewId(), 4), response.content().get(2));
+        assertTrue(response.unavailable().isEmpty());
+    }
+
+    @Test
+    void shouldReportFailedLookupAndKeepTheOther() {
+        useCallerWithThreadExecutor();
+        List<UUID> bookIds = List.of(listedBookId);
+        UUID readingListId = UUID.randomUUID();
+        when(readingListService.findReadingListMembershipsForUser(userId, bookIds))
+                .thenReturn(Map.of(listedBookId, new BookListMembership(listedBookId, readingListId, "To read")));
+        when(reviewService.findReviewsByUserAndBooks(userId, bookIds)).thenThrow(new IllegalStateException("review-db down"));
+
+        BookOverlayResponseDTO response = bookOverlayService.getBookOverlays(bookIds, jwt);
+
+        assertEquals(readingListId, response.content().get(0).readingListId());
+        assertNull(response.content().get(0).myRating());
+        assertEquals(List.of(BookOverlayService.RATINGS), response.unavailable());
+    }
+
+    @Test
+    void shouldRejectMoreBooksThanTheMaximumPageSize() {
+        bookOverlayService.maxPageSize = 2;
+        List<UUID> bookIds = List.of(plainBookId, listedBookId, ratedBookId);
+
+        assertThrows(BadRequestException.class, () -> bookOverlayService.getBookOverlays(bookIds, jwt));
+        verifyNoInteractions(readingListService, reviewService);
+    }
+
+    private void useCallerWithThreadExecutor() {
+        when(jwt.getSubject()).thenReturn(userId.toString());
+        doAnswer(invocation -> {
+            new Thread(invocation.<Runnable>getArgument(0)).start();
+            return null;
+        }).when(managedExecutor).execute(any(Runnable.class));
+    }
+}
@@ -0,0 +1,80 @@
+package org.modular.playground.application.graphql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PersistedQueryStoreUnitTest {
+
+    private static final String QUERY = "{ myReadingLists { name } }";
+
+    private PersistedQueryStore store;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new PersistedQueryStore();
+        store.meterRegistry = meterRegistry;
+        store.maxSize = 1000;
+        store.init();
+    }
+
+    @Test
+    void shouldFindRegisteredQueryByHash() {
+        String hash = PersistedQueryStore.sha256(QUERY);
+
+        assertEquals(Optional.empty(), store.find(hash));
+        store.register(hash, QUERY);
+
+        assertEquals(Optional.of(QUERY), store.find(hash));
+        assertEquals(1.0, count("hit"));
+        assertEquals(1.0, count("miss"));
+        assertEquals(1.0, count("registered"));
+    }
+
+    @Test
+    void shouldRejectHashThatDoesNotMatchQuery() {
+        String hash = PersistedQueryStore.sha256("{ allBooks { title } }");
+
+        assertThrows(IllegalArgumentException.class, () -> store.register(hash, QUERY));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void shouldMakeRoomForNewQueriesWhenFull() {
+        store.maxSize = 2;
+        store.init();
+        for (int i = 0; i < 50; i++) {
+            String query = "{ bookById(bookId: \"" + i + "\") { title } }";
+            store.register(PersistedQueryStore.sha256(query), query);
+        }
+
+        String hash = PersistedQueryStore.sha256(QUERY);
+        store.register(hash, QUERY);
+
+        assertEquals(Optional.of(QUERY), store.find(hash));
+        assertTrue(store.size() <= 2);
+    }
+
+    @Test
+    void shouldMatchHashesRegardlessOfCase() {
+        String hash = PersistedQueryStore.sha256(QUERY);
+        store.register(hash.toUpperCase(Locale.ROOT), QUERY);
+
+        assertEquals(Optional.of(QUERY), store.find(hash));
+        assertEquals(Optional.of(QUERY), store.find(hash.toUpperCase(Locale.ROOT)));
+        assertEquals(1, store.size());
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(PersistedQueryStore.METRIC, "result", result).count();
+    }
+}
@@ -0,0 +1,77 @@
+package org.modular.playground.application.graphql;
+
+import graphql.parser.Parser;
+import io.vertx.core.json.JsonArray;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryCostAnalyzerUnitTest {
+
+    private final QueryCostAnalyzer analyzer = new QueryCostAnalyzer(10, 50, 100, Map.of("searchBooks", 20),
+            Set.of("limit", "size", "bookIds"), Set.of("allBooks", "searchBooks", "reviewsByBookId"));
+
+    @Test
+    void shouldMultiplyElementCostBySizeArgument() {
+        QueryCostAnalyzer.QueryCost cost = analyze("{ allBooks(limit: 5) { title authors } }", Map.of());
+
+        assertEquals(10 + 5, cost.cost());
+        assertEquals(2, cost.depth());
+    }
+
+    @Test
+    void shouldUseDefaultListSizeWhenListFieldHasNoSizeArgument() {
+        assertEquals(10 + 50, analyze("{ reviewsByBookId(bookId: \"b\") { rating } }", Map.of()).cost());
+    }
+
+    @Test
+    void shouldCapListSizeAndReadItFromVariables() {
+        String query = "query Search($size: Int = 10) { searchBooks(query: \"x\", size: $size) { content { title } } }";
+
+        assertEquals(20 + 10 * (1 + 2), analyze(query, Map.of()).cost());
+        assertEquals(20 + 100 * (1 + 2), analyze(query, Map.of("size", 5000)).cost());
+    }
+
+    @Test
+    void shouldSizeBatchByListArgumentLength() {
+        assertEquals(10 + 3 * (1 + 2), analyze("{ booksByIds(bookIds: [\"a\", \"b\", \"c\"]) { content { title } } }", Map.of()).cost());
+        assertEquals(10 + 2 * (1 + 2), analyze("query Q($ids: [ID!]!) { booksByIds(bookIds: $ids) { content { title } } }",
+                Map.of("ids", new JsonArray().add("a").add("b"))).cost());
+    }
+
+    @Test
+    void shouldCompoundNestedListsAndFollowFragments() {
+        String query = "{ allBooks { ...BookFields } } fragment BookFields on Book { reviews(size: 20) { user { name } } }";
+        QueryCostAnalyzer.QueryCost cost = analyze(query, Map.of());
+
+        assertEquals(10 + 50 * (1 + 1 + 20 * (1 + 2)), cost.cost());
+        assertEquals(4, cost.depth());
+    }
+
+    @Test
+    void shouldIgnoreIntrospectionFields() {
+        QueryCostAnalyzer.QueryCost cost = analyze("{ __schema { types { fields { type { ofType { name } } } } } }", Map.of());
+
+        assertEquals(0, cost.cost());
+        assertEquals(0, cost.depth());
+    }
+
+    @Test
+    void shouldSelectOperationByName() {
+        String query = "query A { allBooks(limit: 1) { title } } query B { allBooks(limit: 2) { title } }";
+
+        assertEquals(12, analyzer.analyze(Parser.parse(query), "B", Map.of()).orElseThrow().cost());
+        assertTrue(analyzer.analyze(Parser.parse(query), null, Map.of()).isEmpty());
+    }
+
+    private QueryCostAnalyzer.QueryCost analyze(String query, Map<String, Object> variables) {
+        Optional<QueryCostAnalyzer.QueryCost> cost = analyzer.analyze(Parser.parse(query), null, variables);
+        assertTrue(cost.isPresent());
+        return cost.get();
+    }
+}
@@ -28,5 +28,7 @@ public interface Book {
     String getOriginalLanguage();
 
     String getGenre();
+
+    Long getVersion();
     
 }
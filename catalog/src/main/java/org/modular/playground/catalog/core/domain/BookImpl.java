@@ -52,4 +52,6 @@ public class BookImpl implements Book {
 
     @Size(max = 50)
     private String genre;
+
+    private Long version;
 }
\ No newline at end of file
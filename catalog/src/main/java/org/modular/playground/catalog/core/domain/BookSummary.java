@@ -0,0 +1,27 @@
+package org.modular.playground.catalog.core.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The few book fields that lists of reading-list entries and reviews need, loaded without the rest of the row.
+ */
+public record BookSummary(
+    UUID bookId,
+    String title,
+    List<String> authors,
+    String coverImageId
+) {
+    public static BookSummary from(Book book) {
+        return new BookSummary(book.getBookId(), book.getTitle(), book.getAuthors(), book.getCoverImageId());
+    }
+
+    public Book toBook() {
+        return BookImpl.builder()
+                .bookId(bookId)
+                .title(title)
+                .authors(authors)
+                .coverImageId(coverImageId)
+                .build();
+    }
+}
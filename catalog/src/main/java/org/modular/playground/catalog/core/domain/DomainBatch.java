@@ -0,0 +1,32 @@
+package org.modular.playground.catalog.core.domain;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public record DomainBatch<T>(
+    List<T> content,
+    List<UUID> missingIds
+) {
+    /**
+     * Orders {@code found} by the requested IDs, dropping duplicate requests, and collects the IDs that were not found.
+     */
+    public static <T> DomainBatch<T> of(List<UUID> requestedIds, List<T> found, Function<T, UUID> idExtractor) {
+        Map<UUID, T> byId = found.stream().collect(Collectors.toMap(idExtractor, Function.identity(), (a, b) -> a));
+        List<T> content = new ArrayList<>();
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : new LinkedHashSet<>(requestedIds)) {
+            T item = byId.get(id);
+            if (item != null) {
+                content.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new DomainBatch<>(content, missingIds);
+    }
+}
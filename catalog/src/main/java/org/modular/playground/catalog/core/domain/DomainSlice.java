@@ -0,0 +1,15 @@
+package org.modular.playground.catalog.core.domain;
+
+import java.util.List;
+
+public record DomainSlice<T>(
+    List<T> content,
+    boolean hasNext
+) {
+    public static <T> DomainSlice<T> of(List<T> fetched, int size) {
+        if (fetched.size() > size) {
+            return new DomainSlice<>(fetched.subList(0, size), true);
+        }
+        return new DomainSlice<>(fetched, false);
+    }
+}
@@ -5,7 +5,10 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookSummary;
+import org.modular.playground.catalog.core.domain.DomainBatch;
 import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
 import org.modular.playground.catalog.web.dto.BookRequestDTO;
 import org.modular.playground.catalog.web.dto.BookUpdateDTO;
 
@@ -13,7 +16,11 @@ public interface BookService {
     Book createBook(BookRequestDTO createBookRequestDTO);
     Optional<Book> getBookById(UUID bookId);
     List<Book> getBooksByIds(List<UUID> bookIds);
+    DomainBatch<Book> getBookBatch(List<UUID> bookIds);
+    List<BookSummary> getBookSummariesByIds(List<UUID> bookIds);
     List<Book> getAllBooks(String sort, String order, Integer limit);
+    DomainPage<Book> getBooksPage(int page, int size, String sort, String order);
+    DomainSlice<Book> getBooksAfter(UUID afterBookId, Integer size);
     Optional<Book> updateBook(UUID bookId, BookUpdateDTO updateDTO);
     boolean deleteBookById(UUID bookId);
     DomainPage<Book> searchBooks(String query, int page, int size, String sortBy, String sortOrder);
@@ -4,14 +4,20 @@ import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.BadRequestException;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.modular.playground.catalog.core.domain.Book;
 import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.domain.BookSummary;
+import org.modular.playground.catalog.core.domain.DomainBatch;
 import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
 import org.modular.playground.catalog.core.usecases.repositories.BookRepository;
 import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
 import org.modular.playground.catalog.web.dto.BookRequestDTO;
 import org.modular.playground.catalog.web.dto.BookUpdateDTO;
+import org.modular.playground.common.persistence.ReadOnly;
+import org.modular.playground.common.web.SerializedResponseCache;
 
 import org.jboss.logging.Logger;
 
@@ -31,9 +37,15 @@ public class BookServiceImpl implements BookService {
     @Inject
     BookMapper bookMapper;
 
+    @Inject
+    SerializedResponseCache responseCache;
+
     @ConfigProperty(name = "app.search.enrichment-strategy", defaultValue = "normal")
     String searchEnrichmentStrategy;
 
+    @ConfigProperty(name = "app.pagination.max-page-size", defaultValue = "100")
+    int maxPageSize;
+
     @Override
     @Transactional
     public Book createBook(BookRequestDTO createBookRequestDTO) {
@@ -46,16 +58,36 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
+    @ReadOnly
     public Optional<Book> getBookById(UUID bookId) {
         LOGGER.debugf("Searching for book by ID: %s", bookId);
         return bookRepository.findById(bookId);
     }
 
     @Override
+    @ReadOnly
     public List<Book> getAllBooks(String sort, String order, Integer limit) {
         LOGGER.debugf("Passing 'getAllBooks' request to repository with params [sort: %s, order: %s, limit: %s]",
                 sort, order, limit);
-        return bookRepository.findAll(sort, order, limit);
+        return bookRepository.findAll(sort, order, boundedPageSize(limit));
+    }
+
+    @Override
+    @ReadOnly
+    public DomainPage<Book> getBooksPage(int page, int size, String sort, String order) {
+        LOGGER.debugf("Getting books page with params [page: %d, size: %d, sort: %s, order: %s]",
+                page, size, sort, order);
+        int boundedSize = boundedPageSize(size);
+        return bookRepository.findAllPaged(validatedPage(page, boundedSize), boundedSize, sort, order);
+    }
+
+    @Override
+    @ReadOnly
+    public DomainSlice<Book> getBooksAfter(UUID afterBookId, Integer size) {
+        LOGGER.debugf("Getting books after ID: %s with size: %s", afterBookId, size);
+        int boundedSize = boundedPageSize(size);
+        List<Book> fetched = bookRepository.findAllAfter(afterBookId, boundedSize + 1);
+        return DomainSlice.of(fetched, boundedSize);
     }
 
     @Override
@@ -71,6 +103,7 @@ public class BookServiceImpl implements BookService {
         LOGGER.debugf("Book found, applying updates...");
         bookMapper.updateDomainFromDto(updateDTO, bookToUpdate);
         Book updatedBook = bookRepository.update(bookToUpdate);
+        responseCache.invalidate(bookId);
         LOGGER.infof("Book with ID: %s updated successfully.", updatedBook.getBookId());
         return Optional.of(updatedBook);
     }
@@ -79,14 +112,19 @@ public class BookServiceImpl implements BookService {
     @Transactional
     public boolean deleteBookById(UUID bookId) {
         LOGGER.infof("Deleting book with ID: %s", bookId);
-        return bookRepository.deleteById(bookId);
+        boolean deleted = bookRepository.deleteById(bookId);
+        responseCache.invalidate(bookId);
+        return deleted;
     }
 
     @Override
+    @ReadOnly
     @WithSpan("catalog.searchBooks")
     public DomainPage<Book> searchBooks(String query, int page, int size, String sortBy, String sortOrder) {
         LOGGER.debugf("Searching books with query: '%s' (strategy: %s)", query, searchEnrichmentStrategy);
-        DomainPage<Book> results = bookRepository.searchBooks(query, page, size, sortBy, sortOrder);
+        int boundedSize = boundedPageSize(size);
+        DomainPage<Book> results = bookRepository.searchBooks(query, validatedPage(page, boundedSize), boundedSize,
+                sortBy, sortOrder);
 
         if ("broken".equals(searchEnrichmentStrategy) && !results.content().isEmpty()) {
             return refetchResultsIndividually(results);
@@ -95,6 +133,22 @@ public class BookServiceImpl implements BookService {
         return results;
     }
 
+    private int boundedPageSize(Integer requestedSize) {
+        if (requestedSize == null || requestedSize <= 0 || requestedSize > maxPageSize) {
+            return maxPageSize;
+        }
+        return requestedSize;
+    }
+
+    /** Clamps negative pages to the first one and rejects pages whose row offset does not fit in an int. */
+    private int validatedPage(int page, int size) {
+        int validPage = Math.max(page, 0);
+        if ((long) validPage * size > Integer.MAX_VALUE) {
+            throw new BadRequestException("Page " + page + " is out of range for page size " + size);
+        }
+        return validPage;
+    }
+
     @WithSpan("catalog.searchBooks.enrichResults")
     protected DomainPage<Book> refetchResultsIndividually(DomainPage<Book> results) {
         bookRepository.clearCache();
@@ -106,8 +160,28 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
+    @ReadOnly
     public List<Book> getBooksByIds(List<UUID> bookIds) {
         LOGGER.debugf("Searching for %d books by IDs", bookIds.size());
         return bookRepository.findByIds(bookIds);
     }
+
+    @Override
+    @ReadOnly
+    public DomainBatch<Book> getBookBatch(List<UUID> bookIds) {
+        List<UUID> distinctIds = bookIds.stream().distinct().toList();
+        if (distinctIds.size() > maxPageSize) {
+            throw new BadRequestException(
+                    "Cannot fetch more than " + maxPageSize + " books at once, got " + distinctIds.size());
+        }
+        LOGGER.debugf("Fetching batch of %d books", distinctIds.size());
+        return DomainBatch.of(distinctIds, bookRepository.findByIds(distinctIds), Book::getBookId);
+    }
+
+    @Override
+    @ReadOnly
+    public List<BookSummary> getBookSummariesByIds(List<UUID> bookIds) {
+        LOGGER.debugf("Searching for %d book summaries by IDs", bookIds.size());
+        return bookRepository.findSummariesByIds(bookIds);
+    }
 }
@@ -0,0 +1,14 @@
+package org.modular.playground.catalog.core.usecases;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.modular.playground.catalog.core.domain.Book;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveBookService {
+    Uni<Book> getBookById(UUID bookId);
+    Uni<List<Book>> getBooksByIds(List<UUID> bookIds);
+    Multi<Book> getAllBooks(String sort, String order, Integer limit);
+}
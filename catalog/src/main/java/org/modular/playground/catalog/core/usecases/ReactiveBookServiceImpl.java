@@ -0,0 +1,46 @@
+package org.modular.playground.catalog.core.usecases;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.usecases.repositories.ReactiveBookRepository;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactiveBookServiceImpl implements ReactiveBookService {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveBookServiceImpl.class);
+
+    @Inject
+    ReactiveBookRepository reactiveBookRepository;
+
+    @ConfigProperty(name = "app.pagination.max-page-size", defaultValue = "100")
+    int maxPageSize;
+
+    @Override
+    public Uni<Book> getBookById(UUID bookId) {
+        LOGGER.debugf("Reactive search for book by ID: %s", bookId);
+        return reactiveBookRepository.findById(bookId);
+    }
+
+    @Override
+    public Uni<List<Book>> getBooksByIds(List<UUID> bookIds) {
+        LOGGER.debugf("Reactive search for %d books by IDs", bookIds.size());
+        return reactiveBookRepository.findByIds(bookIds);
+    }
+
+    @Override
+    public Multi<Book> getAllBooks(String sort, String order, Integer limit) {
+        int boundedLimit = (limit == null || limit <= 0 || limit > maxPageSize) ? maxPageSize : limit;
+        LOGGER.debugf("Reactive 'getAllBooks' with params [sort: %s, order: %s, limit: %s]", sort, order, boundedLimit);
+        return reactiveBookRepository.findAll(sort, order, boundedLimit);
+    }
+}
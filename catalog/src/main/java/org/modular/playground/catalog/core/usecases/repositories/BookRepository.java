@@ -3,6 +3,7 @@ package org.modular.playground.catalog.core.usecases.repositories;
 import java.util.UUID;
 
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookSummary;
 import org.modular.playground.catalog.core.domain.DomainPage;
 
 import java.util.Optional;
@@ -14,7 +15,10 @@ public interface BookRepository {
     Book update(Book book);
     Optional<Book> findById(UUID bookId);
     List<Book> findByIds(List<UUID> bookIds);
+    List<BookSummary> findSummariesByIds(List<UUID> bookIds);
     List<Book> findAll(String sort, String order, Integer limit);
+    DomainPage<Book> findAllPaged(int page, int size, String sort, String order);
+    List<Book> findAllAfter(UUID afterBookId, int limit);
     boolean deleteById(UUID bookId);
     DomainPage<Book> searchBooks(String query, int page, int size, String sortBy, String sortOrder);
     void clearCache();
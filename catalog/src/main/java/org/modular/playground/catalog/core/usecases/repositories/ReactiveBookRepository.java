@@ -0,0 +1,14 @@
+package org.modular.playground.catalog.core.usecases.repositories;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.modular.playground.catalog.core.domain.Book;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveBookRepository {
+    Uni<Book> findById(UUID bookId);
+    Uni<List<Book>> findByIds(List<UUID> bookIds);
+    Multi<Book> findAll(String sort, String order, int limit);
+}
@@ -4,6 +4,7 @@ import io.quarkus.arc.properties.IfBuildProperty;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.modular.playground.catalog.core.domain.Book;
 import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.domain.BookSummary;
 import org.modular.playground.catalog.core.domain.DomainPage;
 import org.modular.playground.catalog.core.usecases.repositories.BookRepository;
 import org.jboss.logging.Logger;
@@ -36,6 +37,7 @@ public class InMemoryBookRepository implements BookRepository {
                 .coverImageId(book.getCoverImageId())
                 .originalLanguage(book.getOriginalLanguage())
                 .genre(book.getGenre())
+                .version(0L)
                 .build();
 
         books.put(bookToSave.getBookId(), bookToSave);
@@ -48,6 +50,10 @@ public class InMemoryBookRepository implements BookRepository {
         if (book.getBookId() == null || !books.containsKey(book.getBookId())) {
             throw new IllegalArgumentException("Book with ID " + book.getBookId() + " not found for update.");
         }
+        if (book instanceof BookImpl bookImpl) {
+            Long version = books.get(book.getBookId()).getVersion();
+            bookImpl.setVersion(version == null ? 1L : version + 1);
+        }
         books.put(book.getBookId(), book);
         return book;
     }
@@ -70,6 +76,14 @@ public class InMemoryBookRepository implements BookRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<BookSummary> findSummariesByIds(List<UUID> bookIds) {
+        LOGGER.debugf("In-memory: Finding %d book summaries by IDs", bookIds.size());
+        return findByIds(bookIds).stream()
+                .map(BookSummary::from)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Book> findAll(String sort, String order, Integer limit) {
         LOGGER.debugf("In-memory: Finding all books with params [sort: %s, order: %s, limit: %d]", sort, order, limit);
@@ -94,6 +108,42 @@ public class InMemoryBookRepository implements BookRepository {
         return bookStream.collect(Collectors.toList());
     }
 
+    @Override
+    public DomainPage<Book> findAllPaged(int page, int size, String sort, String order) {
+        LOGGER.debugf("In-memory: Finding books page with params [page: %d, size: %d, sort: %s, order: %s]",
+                page, size, sort, order);
+        Comparator<Book> comparator = Comparator.comparing(book -> book.getBookId().toString());
+
+        if (sort != null && !sort.trim().isEmpty()) {
+            Comparator<Book> sortComparator = getBookComparator(sort);
+            if (sortComparator != null) {
+                if ("desc".equalsIgnoreCase(order)) {
+                    sortComparator = sortComparator.reversed();
+                }
+                comparator = sortComparator.thenComparing(comparator);
+            } else {
+                LOGGER.warnf("In-memory: Invalid sort field provided for findAllPaged: %s", sort);
+            }
+        }
+
+        List<Book> sortedBooks = books.values().stream()
+                .sorted(comparator)
+                .collect(Collectors.toList());
+
+        return DomainPage.of(sortedBooks, page, size);
+    }
+
+    @Override
+    public List<Book> findAllAfter(UUID afterBookId, int limit) {
+        LOGGER.debugf("In-memory: Finding %d books after ID: %s", limit, afterBookId);
+        String afterKey = afterBookId == null ? null : afterBookId.toString();
+        return books.values().stream()
+                .filter(book -> afterKey == null || book.getBookId().toString().compareTo(afterKey) > 0)
+                .sorted(Comparator.comparing(book -> book.getBookId().toString()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public boolean deleteById(UUID bookId) {
         LOGGER.debugf("In-memory: Deleting book with ID: %s", bookId);
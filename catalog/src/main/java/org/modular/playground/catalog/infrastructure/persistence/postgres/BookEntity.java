@@ -14,7 +14,10 @@ import java.util.UUID;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 
 @Entity
-@Table(name = "books")
+@Table(name = "books", indexes = {
+        @Index(name = "idx_books_publication_date", columnList = "publication_date, book_id"),
+        @Index(name = "idx_books_title", columnList = "title, book_id")
+})
 @Data
 @EqualsAndHashCode(callSuper = false)
 @Builder
@@ -55,5 +58,9 @@ public class BookEntity extends PanacheEntityBase {
 
     @Column(name = "genre", length = 50)
     private String genre;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
     
 }
\ No newline at end of file
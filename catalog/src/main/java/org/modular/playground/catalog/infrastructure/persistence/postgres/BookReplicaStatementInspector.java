@@ -0,0 +1,23 @@
+package org.modular.playground.catalog.infrastructure.persistence.postgres;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.modular.playground.common.persistence.ReplicaRouter;
+
+@ApplicationScoped
+@PersistenceUnitExtension("books-db")
+@IfBuildProperty(name = "app.repository.type", stringValue = "jpa", enableIfMissing = false)
+@IfBuildProperty(name = "quarkus.hibernate-orm.\"books-db\".multitenant", stringValue = "DATABASE")
+public class BookReplicaStatementInspector implements StatementInspector {
+
+    @Inject
+    ReplicaRouter replicaRouter;
+
+    @Override
+    public String inspect(String sql) {
+        return replicaRouter.recordStatement(sql);
+    }
+}
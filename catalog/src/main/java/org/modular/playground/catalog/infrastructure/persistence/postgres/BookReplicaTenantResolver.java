@@ -0,0 +1,31 @@
+package org.modular.playground.catalog.infrastructure.persistence.postgres;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantResolver;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.modular.playground.common.persistence.ReplicaRouter;
+
+@ApplicationScoped
+@PersistenceUnitExtension("books-db")
+@IfBuildProperty(name = "app.repository.type", stringValue = "jpa", enableIfMissing = false)
+@IfBuildProperty(name = "quarkus.hibernate-orm.\"books-db\".multitenant", stringValue = "DATABASE")
+public class BookReplicaTenantResolver implements TenantResolver {
+
+    static final String PRIMARY = "books-db";
+    static final String REPLICA = "books-db-replica";
+
+    @Inject
+    ReplicaRouter replicaRouter;
+
+    @Override
+    public String getDefaultTenantId() {
+        return PRIMARY;
+    }
+
+    @Override
+    public String resolveTenantId() {
+        return replicaRouter.route(PRIMARY, REPLICA);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.ws.rs.NotFoundException;
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookSummary;
 import org.modular.playground.catalog.core.domain.DomainPage;
 import org.modular.playground.catalog.core.usecases.repositories.BookRepository;
 import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
@@ -80,6 +81,20 @@ public class JpaBookRepository implements BookRepository {
         return bookMapper.toDomainList(query.getResultList());
     }
 
+    @Override
+    public List<BookSummary> findSummariesByIds(List<UUID> bookIds) {
+        LOGGER.debugf("JPA: Finding %d book summaries by IDs", bookIds.size());
+        if (bookIds == null || bookIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // Constructor expression: only the four columns are read and no entity enters the persistence context.
+        return entityManager.createQuery(
+                "SELECT new org.modular.playground.catalog.core.domain.BookSummary(b.bookId, b.title, b.authors, b.coverImageId) "
+                        + "FROM BookEntity b WHERE b.bookId IN :ids", BookSummary.class)
+                .setParameter("ids", bookIds)
+                .getResultList();
+    }
+
     @Override
     public List<Book> findAll(String sort, String order, Integer limit) {
         LOGGER.debugf("JPA: Finding all book entities with params [sort: %s, order: %s, limit: %d]", sort, order,
@@ -108,6 +123,60 @@ public class JpaBookRepository implements BookRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public DomainPage<Book> findAllPaged(int page, int size, String sort, String order) {
+        LOGGER.debugf("JPA: Finding book entities page with params [page: %d, size: %d, sort: %s, order: %s]",
+                page, size, sort, order);
+        StringBuilder contentJpql = new StringBuilder("SELECT b FROM BookEntity b ORDER BY ");
+
+        if (sort != null && !sort.trim().isEmpty()) {
+            String validatedSortField = SORTABLE_FIELDS.get(sort.toLowerCase());
+            if (validatedSortField != null) {
+                contentJpql.append(validatedSortField);
+                contentJpql.append("desc".equalsIgnoreCase(order) ? " DESC, " : " ASC, ");
+            } else {
+                LOGGER.warnf("JPA: Invalid sort field provided for findAllPaged: %s", sort);
+            }
+        }
+        contentJpql.append("b.bookId ASC");
+
+        LOGGER.debugf("JPA: Executing findAllPaged content query: %s", contentJpql.toString());
+        TypedQuery<BookEntity> contentQuery = entityManager.createQuery(contentJpql.toString(), BookEntity.class);
+        contentQuery.setFirstResult(page * size);
+        contentQuery.setMaxResults(size);
+
+        List<Book> content = contentQuery.getResultList().stream()
+                .map(bookMapper::toDomain)
+                .collect(Collectors.toList());
+
+        long totalElements = entityManager.createQuery("SELECT COUNT(b) FROM BookEntity b", Long.class)
+                .getSingleResult();
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+
+        return new DomainPage<>(
+                content,
+                totalElements,
+                totalPages,
+                page,
+                size,
+                (page + 1) >= totalPages,
+                page == 0);
+    }
+
+    @Override
+    public List<Book> findAllAfter(UUID afterBookId, int limit) {
+        LOGGER.debugf("JPA: Finding %d book entities after ID: %s", limit, afterBookId);
+        String jpql = afterBookId == null
+                ? "SELECT b FROM BookEntity b ORDER BY b.bookId ASC"
+                : "SELECT b FROM BookEntity b WHERE b.bookId > :afterBookId ORDER BY b.bookId ASC";
+        TypedQuery<BookEntity> query = entityManager.createQuery(jpql, BookEntity.class);
+        if (afterBookId != null) {
+            query.setParameter("afterBookId", afterBookId);
+        }
+        query.setMaxResults(limit);
+        return bookMapper.toDomainList(query.getResultList());
+    }
+
     @Override
     public boolean deleteById(UUID bookId) {
         LOGGER.debugf("JPA: Deleting book entity with ID: %s", bookId);
@@ -20,6 +20,7 @@ import java.util.UUID;
 public interface BookMapper {
 
     @Mapping(target = "bookId", ignore = true)
+    @Mapping(target = "version", ignore = true)
     BookImpl toDomain(BookRequestDTO dto);
 
     BookResponseDTO toResponseDTO(Book book);
@@ -34,10 +35,12 @@ public interface BookMapper {
 
     List<Book> toDomainList(List<BookEntity> entities);
 
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromDomain(Book book, @MappingTarget BookEntity entity);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "bookId", ignore = true)
     @Mapping(target = "isbn", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateDomainFromDto(BookUpdateDTO dto, @MappingTarget BookImpl book);
 }
\ No newline at end of file
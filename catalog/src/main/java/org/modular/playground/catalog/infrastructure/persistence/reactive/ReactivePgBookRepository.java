@@ -0,0 +1,103 @@
+package org.modular.playground.catalog.infrastructure.persistence.reactive;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.usecases.repositories.ReactiveBookRepository;
+import org.jboss.logging.Logger;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@ApplicationScoped
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactivePgBookRepository implements ReactiveBookRepository {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactivePgBookRepository.class);
+    private static final String SELECT_BOOKS = "SELECT book_id, isbn, title, authors, publication_date, publisher, "
+            + "description, page_count, cover_image_id, original_language, genre FROM books";
+    private static final Map<String, String> SORTABLE_COLUMNS = new HashMap<>();
+    static {
+        SORTABLE_COLUMNS.put("publicationdate", "publication_date");
+        SORTABLE_COLUMNS.put("title", "title");
+    }
+
+    @Inject
+    @ReactiveDataSource("books-db")
+    Pool client;
+
+    @Override
+    public Uni<Book> findById(UUID bookId) {
+        LOGGER.debugf("Reactive: Finding book by ID: %s", bookId);
+        return client.preparedQuery(SELECT_BOOKS + " WHERE book_id = $1")
+                .execute(Tuple.of(bookId))
+                .map(rows -> rows.iterator().hasNext() ? toDomain(rows.iterator().next()) : null);
+    }
+
+    @Override
+    public Uni<List<Book>> findByIds(List<UUID> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        LOGGER.debugf("Reactive: Finding %d books by IDs", bookIds.size());
+        return client.preparedQuery(SELECT_BOOKS + " WHERE book_id = ANY($1)")
+                .execute(Tuple.of(bookIds.toArray(new UUID[0])))
+                .map(this::toDomainList);
+    }
+
+    @Override
+    public Multi<Book> findAll(String sort, String order, int limit) {
+        LOGGER.debugf("Reactive: Finding all books with params [sort: %s, order: %s, limit: %s]", sort, order, limit);
+        StringBuilder sql = new StringBuilder(SELECT_BOOKS);
+
+        if (sort != null && !sort.trim().isEmpty()) {
+            String validatedSortColumn = SORTABLE_COLUMNS.get(sort.toLowerCase());
+            if (validatedSortColumn != null) {
+                sql.append(" ORDER BY ").append(validatedSortColumn);
+                sql.append("desc".equalsIgnoreCase(order) ? " DESC" : " ASC");
+            } else {
+                LOGGER.warnf("Reactive: Invalid sort field provided for findAll: %s", sort);
+            }
+        }
+        sql.append(" LIMIT $1");
+
+        return client.preparedQuery(sql.toString())
+                .execute(Tuple.of(limit))
+                .onItem().transformToMulti(rows -> Multi.createFrom().iterable(rows))
+                .map(this::toDomain);
+    }
+
+    private List<Book> toDomainList(RowSet<Row> rows) {
+        return StreamSupport.stream(rows.spliterator(), false)
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private Book toDomain(Row row) {
+        String[] authors = row.getArrayOfStrings("authors");
+        Integer pageCount = row.getInteger("page_count");
+        return BookImpl.builder()
+                .bookId(row.getUUID("book_id"))
+                .isbn(row.getString("isbn"))
+                .title(row.getString("title"))
+                .authors(authors == null ? new ArrayList<>() : new ArrayList<>(Arrays.asList(authors)))
+                .publicationDate(row.getLocalDate("publication_date"))
+                .publisher(row.getString("publisher"))
+                .description(row.getString("description"))
+                .pageCount(pageCount == null ? 0 : pageCount)
+                .coverImageId(row.getString("cover_image_id"))
+                .originalLanguage(row.getString("original_language"))
+                .genre(row.getString("genre"))
+                .build();
+    }
+}
@@ -1,24 +1,45 @@
 package org.modular.playground.catalog.web.controllers;
 
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.DomainBatch;
 import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
 import org.modular.playground.catalog.core.usecases.BookService;
 import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
+import org.modular.playground.catalog.web.dto.BatchResponse;
+import org.modular.playground.catalog.web.dto.BookBatchRequestDTO;
 import org.modular.playground.catalog.web.dto.BookRequestDTO;
 import org.modular.playground.catalog.web.dto.BookResponseDTO;
 import org.modular.playground.catalog.web.dto.BookUpdateDTO;
+import org.modular.playground.catalog.web.dto.CursorResponse;
 import org.modular.playground.catalog.web.dto.PagedResponse;
+import org.modular.playground.common.web.EntityTags;
+import org.modular.playground.common.web.FieldSelection;
+import org.modular.playground.common.web.SerializedResponseCache;
+import org.modular.playground.common.web.SparseFieldsets;
+import org.modular.playground.common.web.protobuf.ProtobufMessageBodyWriter;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.Separator;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,9 +48,12 @@ import java.util.UUID;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Authenticated
+@RunOnVirtualThread
+@SparseFieldsets
 public class BookController {
 
     private static final Logger LOGGER = Logger.getLogger(BookController.class);
+    private static final String BOOK_RESPONSE = "book";
 
     @Inject
     BookService bookService;
@@ -37,6 +61,15 @@ public class BookController {
     @Inject
     BookMapper bookMapper;
 
+    @Inject
+    SerializedResponseCache responseCache;
+
+    @ConfigProperty(name = "app.http.cache.catalog.max-age", defaultValue = "60S")
+    Duration catalogMaxAge;
+
+    @ConfigProperty(name = "app.http.cache.catalog.shared", defaultValue = "false")
+    boolean catalogShared;
+
     @POST
     @RolesAllowed("admin")
     public Response createBook(@Valid BookRequestDTO createBookRequestDTO) {
@@ -70,13 +103,30 @@ public class BookController {
     @GET
     @Path("/{bookId}")
     @RolesAllowed({ "user", "admin" })
-    public Response getBookById(@PathParam("bookId") UUID bookId) {
+    public Response getBookById(@PathParam("bookId") UUID bookId, @Context Request request,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+            @QueryParam(SparseFieldsets.FIELDS_PARAM) String fields) {
         LOGGER.infof("Received request to get book by ID: %s", bookId);
         Optional<Book> bookOptional = bookService.getBookById(bookId);
         if (bookOptional.isPresent()) {
-            BookResponseDTO responseDTO = bookMapper.toResponseDTO(bookOptional.get());
+            Book book = bookOptional.get();
+            boolean allFields = FieldSelection.parse(fields).isAll();
+            EntityTag tag = EntityTags.of(book.getBookId(), book.getVersion());
+            if (allFields) {
+                tag = responseCache.tag(tag, acceptEncoding);
+            }
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+            if (notModified != null) {
+                LOGGER.debugf("Book with ID: %s not modified", bookId);
+                return notModified.tag(tag).cacheControl(catalogCacheControl()).build();
+            }
             LOGGER.debugf("Book found with ID: %s", bookId);
-            return Response.ok(responseDTO).build();
+            if (!allFields) {
+                return Response.ok(bookMapper.toResponseDTO(book)).tag(tag).cacheControl(catalogCacheControl()).build();
+            }
+            return responseCache.ok(BOOK_RESPONSE, bookId, book.getVersion(), acceptEncoding,
+                    () -> bookMapper.toResponseDTO(book))
+                    .tag(tag).cacheControl(catalogCacheControl()).build();
         } else {
             LOGGER.warnf("Book not found for ID: %s", bookId);
             return Response.status(Response.Status.NOT_FOUND).build();
@@ -99,6 +149,7 @@ public class BookController {
     }
 
     @GET
+    @Produces({ MediaType.APPLICATION_JSON, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF })
     @RolesAllowed({ "user", "admin" })
     public Response getAllBooks(
             @QueryParam("sort") String sort,
@@ -109,23 +160,83 @@ public class BookController {
         List<Book> books = bookService.getAllBooks(sort, order, limit);
         List<BookResponseDTO> responseDTOs = bookMapper.toResponseDTOs(books);
         LOGGER.infof("Found and returning %d books.", responseDTOs.size());
-        return Response.ok(responseDTOs).build();
+        return Response.ok(new GenericEntity<>(responseDTOs) { }).build();
+    }
+
+    @GET
+    @Path("/batch")
+    @Produces({ MediaType.APPLICATION_JSON, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF })
+    @RolesAllowed({ "user", "admin" })
+    public BatchResponse<BookResponseDTO> getBookBatch(
+            @NotEmpty @Separator(",") @QueryParam("ids") List<UUID> bookIds) {
+        LOGGER.infof("Received request to get a batch of %d books", bookIds.size());
+        return toBatchResponse(bookService.getBookBatch(bookIds));
+    }
+
+    @POST
+    @Path("/batch")
+    @Produces({ MediaType.APPLICATION_JSON, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF })
+    @RolesAllowed({ "user", "admin" })
+    public BatchResponse<BookResponseDTO> postBookBatch(@Valid @NotNull BookBatchRequestDTO batchRequestDTO) {
+        LOGGER.infof("Received request to get a batch of %d books", batchRequestDTO.getIds().size());
+        return toBatchResponse(bookService.getBookBatch(batchRequestDTO.getIds()));
+    }
+
+    @GET
+    @Path("/page")
+    @RolesAllowed({ "user", "admin" })
+    public PagedResponse<BookResponseDTO> getBooksPage(
+            @DefaultValue("0") @QueryParam("page") int page,
+            @DefaultValue("25") @QueryParam("size") int size,
+            @QueryParam("sort") String sort,
+            @QueryParam("order") String order) {
+        LOGGER.infof("Received request to get books page [page: %d, size: %d, sort: %s, order: %s]",
+                page, size, sort, order);
+        DomainPage<Book> booksPage = bookService.getBooksPage(page, size, sort, order);
+        List<BookResponseDTO> content = bookMapper.toResponseDTOs(booksPage.content());
+        return new PagedResponse<>(
+                content,
+                booksPage.pageNumber(),
+                booksPage.pageSize(),
+                booksPage.totalElements(),
+                booksPage.totalPages(),
+                booksPage.isLast(),
+                booksPage.isFirst());
+    }
+
+    @GET
+    @Path("/cursor")
+    @RolesAllowed({ "user", "admin" })
+    public CursorResponse<BookResponseDTO> getBooksAfter(
+            @QueryParam("after") UUID afterBookId,
+            @DefaultValue("25") @QueryParam("size") int size) {
+        LOGGER.infof("Received request to get books after cursor [after: %s, size: %d]", afterBookId, size);
+        DomainSlice<Book> booksSlice = bookService.getBooksAfter(afterBookId, size);
+        List<Book> books = booksSlice.content();
+        UUID nextCursor = booksSlice.hasNext() ? books.get(books.size() - 1).getBookId() : null;
+        return new CursorResponse<>(bookMapper.toResponseDTOs(books), nextCursor, booksSlice.hasNext());
     }
 
     @GET
     @Path("/search")
     @RolesAllowed({ "user", "admin" })
-    public PagedResponse<BookResponseDTO> searchBooks(
+    public Response searchBooks(
             @NotNull @NotBlank @QueryParam("query") String query,
             @DefaultValue("0") @QueryParam("page") int page,
             @DefaultValue("10") @QueryParam("size") int size,
             @DefaultValue("title") @QueryParam("sort") String sortBy,
-            @DefaultValue("asc") @QueryParam("order") String sortOrder) {
+            @DefaultValue("asc") @QueryParam("order") String sortOrder,
+            @Context Request request) {
         LOGGER.infof("Received book search request with query: '%s', page: %d, size: %d", query, page, size);
         DomainPage<Book> searchResultPage = bookService.searchBooks(query, page, size, sortBy, sortOrder);
-        List<BookResponseDTO> content = bookMapper.toResponseDTOs(searchResultPage.content());
         LOGGER.infof("Search returned %d books.", searchResultPage.totalElements());
-        return new PagedResponse<>(
+        EntityTag tag = searchResultTag(searchResultPage);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.tag(tag).cacheControl(catalogCacheControl()).build();
+        }
+        List<BookResponseDTO> content = bookMapper.toResponseDTOs(searchResultPage.content());
+        PagedResponse<BookResponseDTO> response = new PagedResponse<>(
                 content,
                 searchResultPage.pageNumber(),
                 searchResultPage.pageSize(),
@@ -133,5 +244,27 @@ public class BookController {
                 searchResultPage.totalPages(),
                 searchResultPage.isLast(),
                 searchResultPage.isFirst());
+        return Response.ok(response).tag(tag).cacheControl(catalogCacheControl()).build();
+    }
+
+    private static EntityTag searchResultTag(DomainPage<Book> page) {
+        StringBuilder versions = new StringBuilder();
+        page.content().forEach(book -> versions.append(book.getBookId()).append(':').append(book.getVersion()).append(','));
+        return EntityTags.of(page.pageNumber(), page.pageSize(), page.totalElements(), versions);
+    }
+
+    private CacheControl catalogCacheControl() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoTransform(false);
+        cacheControl.setPrivate(!catalogShared);
+        cacheControl.setMaxAge((int) catalogMaxAge.toSeconds());
+        return cacheControl;
+    }
+
+    private BatchResponse<BookResponseDTO> toBatchResponse(DomainBatch<Book> batch) {
+        if (!batch.missingIds().isEmpty()) {
+            LOGGER.debugf("Books not found in batch: %s", batch.missingIds());
+        }
+        return new BatchResponse<>(bookMapper.toResponseDTOs(batch.content()), batch.missingIds());
     }
 }
\ No newline at end of file
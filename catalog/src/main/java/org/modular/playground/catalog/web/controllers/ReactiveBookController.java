@@ -0,0 +1,58 @@
+package org.modular.playground.catalog.web.controllers;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.security.Authenticated;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import org.modular.playground.catalog.core.usecases.ReactiveBookService;
+import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
+import org.modular.playground.catalog.web.dto.BookResponseDTO;
+import org.jboss.logging.Logger;
+
+import java.util.UUID;
+
+@Path("/api/v1/reactive/books")
+@Produces(MediaType.APPLICATION_JSON)
+@Authenticated
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactiveBookController {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveBookController.class);
+
+    @Inject
+    ReactiveBookService reactiveBookService;
+
+    @Inject
+    BookMapper bookMapper;
+
+    @GET
+    @Path("/{bookId}")
+    @RolesAllowed({ "user", "admin" })
+    public Uni<BookResponseDTO> getBookById(@PathParam("bookId") UUID bookId) {
+        LOGGER.infof("Received reactive request to get book by ID: %s", bookId);
+        return reactiveBookService.getBookById(bookId)
+                .onItem().ifNull().failWith(() -> new NotFoundException("Book not found with ID: " + bookId))
+                .map(bookMapper::toResponseDTO);
+    }
+
+    @GET
+    @RolesAllowed({ "user", "admin" })
+    public Multi<BookResponseDTO> getAllBooks(
+            @QueryParam("sort") String sort,
+            @QueryParam("order") String order,
+            @QueryParam("limit") Integer limit) {
+        LOGGER.infof("Received reactive request to get all books with parameters [sort: %s, order: %s, limit: %s]",
+                sort, order, limit);
+        return reactiveBookService.getAllBooks(sort, order, limit)
+                .map(bookMapper::toResponseDTO);
+    }
+}
@@ -0,0 +1,10 @@
+package org.modular.playground.catalog.web.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchResponse<T>(
+        List<T> content,
+        List<UUID> missingIds
+) {
+}
@@ -0,0 +1,20 @@
+package org.modular.playground.catalog.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookBatchRequestDTO {
+
+    @NotEmpty(message = "At least one book ID is required")
+    private List<UUID> ids;
+}
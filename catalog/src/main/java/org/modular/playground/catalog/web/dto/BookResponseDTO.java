@@ -1,5 +1,6 @@
 package org.modular.playground.catalog.web.dto;
 
+import io.quarkus.runtime.annotations.RegisterForReflection;
 import lombok.Builder;
 import lombok.Data;
 import java.time.LocalDate;
@@ -8,6 +9,7 @@ import java.util.UUID;
 
 @Data
 @Builder
+@RegisterForReflection
 public class BookResponseDTO {
 
     private UUID bookId;
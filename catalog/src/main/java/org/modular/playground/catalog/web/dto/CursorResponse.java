@@ -0,0 +1,11 @@
+package org.modular.playground.catalog.web.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CursorResponse<T>(
+        List<T> content,
+        UUID nextCursor,
+        boolean hasNext
+) {
+}
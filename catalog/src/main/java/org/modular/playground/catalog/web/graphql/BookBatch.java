@@ -0,0 +1,24 @@
+package org.modular.playground.catalog.web.graphql;
+
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.DomainBatch;
+import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
+import org.modular.playground.catalog.web.dto.BookResponseDTO;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BookBatch {
+    private List<BookResponseDTO> content;
+    private List<UUID> missingIds;
+
+    public static BookBatch from(DomainBatch<Book> domainBatch, BookMapper mapper) {
+        BookBatch batch = new BookBatch();
+        batch.setContent(mapper.toResponseDTOs(domainBatch.content()));
+        batch.setMissingIds(domainBatch.missingIds());
+        return batch;
+    }
+}
@@ -6,7 +6,9 @@ import jakarta.validation.Valid;
 import org.eclipse.microprofile.graphql.*;
 import org.jboss.logging.Logger;
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.DomainBatch;
 import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
 import org.modular.playground.catalog.core.usecases.BookService;
 import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
 import org.modular.playground.catalog.web.dto.BookRequestDTO;
@@ -14,12 +16,14 @@ import org.modular.playground.catalog.web.dto.BookResponseDTO;
 import org.modular.playground.catalog.web.dto.BookUpdateDTO;
 
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 import java.util.List;
 import java.util.UUID;
 
 @GraphQLApi
 @Authenticated
+@RunOnVirtualThread
 public class BookGraphQLController {
 
     private static final Logger LOGGER = Logger.getLogger(BookGraphQLController.class);
@@ -40,8 +44,17 @@ public class BookGraphQLController {
                 .orElse(null);
     }
 
+    @Query("booksByIds")
+    @Description("Gets several books by ID in one call, in the requested order, along with the IDs that were not found.")
+    @RolesAllowed({ "user", "admin" })
+    public BookBatch getBooksByIds(@Name("bookIds") @NonNull List<UUID> bookIds) {
+        LOGGER.infof("GraphQL request for a batch of %d books", bookIds.size());
+        DomainBatch<Book> batch = bookService.getBookBatch(bookIds);
+        return BookBatch.from(batch, bookMapper);
+    }
+
     @Query("allBooks")
-    @Description("Gets a list of all books with simple sorting and limiting.")
+    @Description("Gets a list of books with simple sorting and limiting, capped at the server maximum page size.")
     @RolesAllowed({ "user", "admin" })
     public List<BookResponseDTO> getAllBooks(
             @Name("sort") String sort,
@@ -52,6 +65,30 @@ public class BookGraphQLController {
         return bookMapper.toResponseDTOs(books);
     }
 
+    @Query("booksPage")
+    @Description("Gets a page of books with offset pagination and sorting.")
+    @RolesAllowed({ "user", "admin" })
+    public BookPage getBooksPage(
+            @Name("page") @DefaultValue("0") int page,
+            @Name("size") @DefaultValue("25") int size,
+            @Name("sort") String sort,
+            @Name("order") String order) {
+        LOGGER.infof("GraphQL request for books page [page: %d, size: %d, sort: %s, order: %s]", page, size, sort, order);
+        DomainPage<Book> booksPage = bookService.getBooksPage(page, size, sort, order);
+        return BookPage.from(booksPage, bookMapper);
+    }
+
+    @Query("booksAfter")
+    @Description("Gets the next slice of books after the given cursor (keyset pagination).")
+    @RolesAllowed({ "user", "admin" })
+    public BookSlice getBooksAfter(
+            @Name("after") UUID afterBookId,
+            @Name("size") @DefaultValue("25") int size) {
+        LOGGER.infof("GraphQL request for books after cursor [after: %s, size: %d]", afterBookId, size);
+        DomainSlice<Book> booksSlice = bookService.getBooksAfter(afterBookId, size);
+        return BookSlice.from(booksSlice, bookMapper);
+    }
+
     @Query("searchBooks")
     @Description("Searches for books with pagination and sorting.")
     @RolesAllowed({ "user", "admin" })
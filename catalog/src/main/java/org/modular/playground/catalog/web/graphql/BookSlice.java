@@ -0,0 +1,28 @@
+package org.modular.playground.catalog.web.graphql;
+
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.DomainSlice;
+import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
+import org.modular.playground.catalog.web.dto.BookResponseDTO;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BookSlice {
+    private List<BookResponseDTO> content;
+    private UUID nextCursor;
+    private boolean hasNext;
+
+    public static BookSlice from(DomainSlice<Book> domainSlice, BookMapper mapper) {
+        BookSlice slice = new BookSlice();
+        slice.setContent(mapper.toResponseDTOs(domainSlice.content()));
+        slice.setNextCursor(domainSlice.hasNext()
+                ? domainSlice.content().get(domainSlice.content().size() - 1).getBookId()
+                : null);
+        slice.setHasNext(domainSlice.hasNext());
+        return slice;
+    }
+}
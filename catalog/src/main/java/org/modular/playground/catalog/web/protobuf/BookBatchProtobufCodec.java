@@ -0,0 +1,36 @@
+package org.modular.playground.catalog.web.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.modular.playground.catalog.web.dto.BatchResponse;
+import org.modular.playground.catalog.web.dto.BookResponseDTO;
+import org.modular.playground.common.web.protobuf.ProtobufCodec;
+
+import java.io.IOException;
+
+import static org.modular.playground.common.web.protobuf.ProtobufFields.writeMessages;
+import static org.modular.playground.common.web.protobuf.ProtobufFields.writeUuids;
+
+/**
+ * Writes the book {@link BatchResponse} as the {@code BookBatch} message.
+ */
+@ApplicationScoped
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class BookBatchProtobufCodec implements ProtobufCodec<BatchResponse> {
+
+    @Inject
+    BookResponseProtobufCodec bookCodec;
+
+    @Override
+    public Class<BatchResponse> type() {
+        return BatchResponse.class;
+    }
+
+    @Override
+    public void writeTo(BatchResponse batch, CodedOutputStream output) throws IOException {
+        BatchResponse<BookResponseDTO> books = batch;
+        writeMessages(output, 1, bookCodec, books.content());
+        writeUuids(output, 2, books.missingIds());
+    }
+}
@@ -0,0 +1,37 @@
+package org.modular.playground.catalog.web.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.modular.playground.catalog.web.dto.BookResponseDTO;
+import org.modular.playground.common.web.protobuf.ProtobufCodec;
+
+import java.io.IOException;
+
+import static org.modular.playground.common.web.protobuf.ProtobufFields.*;
+
+/**
+ * Writes {@link BookResponseDTO} as the {@code Book} message.
+ */
+@ApplicationScoped
+public class BookResponseProtobufCodec implements ProtobufCodec<BookResponseDTO> {
+
+    @Override
+    public Class<BookResponseDTO> type() {
+        return BookResponseDTO.class;
+    }
+
+    @Override
+    public void writeTo(BookResponseDTO book, CodedOutputStream output) throws IOException {
+        writeUuid(output, 1, book.getBookId());
+        writeString(output, 2, book.getIsbn());
+        writeString(output, 3, book.getTitle());
+        writeStrings(output, 4, book.getAuthors());
+        writeDate(output, 5, book.getPublicationDate());
+        writeString(output, 6, book.getPublisher());
+        writeString(output, 7, book.getDescription());
+        writeInt32(output, 8, book.getPageCount());
+        writeString(output, 9, book.getCoverImageId());
+        writeString(output, 10, book.getOriginalLanguage());
+        writeString(output, 11, book.getGenre());
+    }
+}
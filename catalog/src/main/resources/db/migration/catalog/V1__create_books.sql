@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS books (
+    book_id           UUID         NOT NULL,
+    isbn              VARCHAR(255) NOT NULL,
+    title             VARCHAR(255) NOT NULL,
+    authors           VARCHAR(255)[],
+    publication_date  DATE,
+    publisher         VARCHAR(255),
+    description       VARCHAR(500),
+    page_count        INTEGER      NOT NULL,
+    cover_image_id    VARCHAR(255),
+    original_language VARCHAR(50),
+    genre             VARCHAR(50),
+    CONSTRAINT books_pkey PRIMARY KEY (book_id),
+    CONSTRAINT uk_books_isbn UNIQUE (isbn)
+);
@@ -0,0 +1,3 @@
+-- Sorted listings (findAll, findAllPaged) order by one of these columns with book_id as tiebreak.
+CREATE INDEX IF NOT EXISTS idx_books_publication_date ON books (publication_date, book_id);
+CREATE INDEX IF NOT EXISTS idx_books_title ON books (title, book_id);
@@ -0,0 +1,2 @@
+-- Optimistic-locking version; also the validator behind the book ETags.
+ALTER TABLE books ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -1,6 +1,7 @@
 package org.modular.playground.catalog.infrastructure;
 
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookSummary;
 import org.modular.playground.catalog.core.domain.DomainPage;
 import org.modular.playground.catalog.core.usecases.repositories.BookRepository;
 import org.modular.playground.catalog.utils.CatalogTestUtils;
@@ -162,6 +163,26 @@ public abstract class AbstractBookRepositoryTest {
         assertTrue(foundBooks.isEmpty());
     }
 
+    @Test
+    void shouldFindBookSummariesByIds() {
+        Book book = repository.create(CatalogTestUtils.createTestBook("Book One", "Desc 1"));
+        repository.create(CatalogTestUtils.createTestBook("Book Two", "Desc 2"));
+
+        List<BookSummary> summaries = repository.findSummariesByIds(List.of(book.getBookId(), UUID.randomUUID()));
+
+        assertEquals(1, summaries.size());
+        BookSummary summary = summaries.get(0);
+        assertEquals(book.getBookId(), summary.bookId());
+        assertEquals("Book One", summary.title());
+        assertEquals(book.getAuthors(), summary.authors());
+        assertEquals(book.getCoverImageId(), summary.coverImageId());
+    }
+
+    @Test
+    void shouldReturnEmptyListWhenFindingSummariesWithEmptyList() {
+        assertTrue(repository.findSummariesByIds(List.of()).isEmpty());
+    }
+
     @Test
     void shouldFindAllAndSortByTitleAsc() {
         repository.create(CatalogTestUtils.createTestBook("Zebra", ""));
@@ -206,4 +227,36 @@ public abstract class AbstractBookRepositoryTest {
         
         assertEquals(2, allBooks.size());
     }
+
+    @Test
+    void shouldFindAllPagedSortedByTitle() {
+        repository.create(CatalogTestUtils.createTestBook("Cherry", ""));
+        repository.create(CatalogTestUtils.createTestBook("Apple", ""));
+        repository.create(CatalogTestUtils.createTestBook("Banana", ""));
+
+        DomainPage<Book> firstPage = repository.findAllPaged(0, 2, "title", "asc");
+        DomainPage<Book> secondPage = repository.findAllPaged(1, 2, "title", "asc");
+
+        assertEquals(3, firstPage.totalElements());
+        assertEquals(2, firstPage.totalPages());
+        assertEquals(List.of("Apple", "Banana"), firstPage.content().stream().map(Book::getTitle).toList());
+        assertTrue(firstPage.isFirst());
+        assertFalse(firstPage.isLast());
+        assertEquals(List.of("Cherry"), secondPage.content().stream().map(Book::getTitle).toList());
+        assertTrue(secondPage.isLast());
+    }
+
+    @Test
+    void shouldFindAllAfterCursorWithoutOverlap() {
+        repository.create(CatalogTestUtils.createTestBook("Book 1", ""));
+        repository.create(CatalogTestUtils.createTestBook("Book 2", ""));
+        repository.create(CatalogTestUtils.createTestBook("Book 3", ""));
+
+        List<Book> firstSlice = repository.findAllAfter(null, 2);
+        List<Book> secondSlice = repository.findAllAfter(firstSlice.get(1).getBookId(), 2);
+
+        assertEquals(2, firstSlice.size());
+        assertEquals(1, secondSlice.size());
+        assertTrue(firstSlice.stream().noneMatch(b -> b.getBookId().equals(secondSlice.get(0).getBookId())));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package org.modular.playground.catalog.infrastructure;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.modular.playground.common.JpaRepositoryTestProfile;
+
+import static org.modular.playground.common.QueryPlanAssertions.assertUsesIndex;
+
+@QuarkusTest
+@TestProfile(JpaRepositoryTestProfile.class)
+public class BookIndexUsageTest {
+
+    @Inject
+    @DataSource("books-db")
+    AgroalDataSource dataSource;
+
+    @Test
+    void pagedListingByPublicationDateUsesIndex() {
+        assertUsesIndex(dataSource,
+                "SELECT * FROM books ORDER BY publication_date DESC, book_id DESC LIMIT 25",
+                "idx_books_publication_date");
+    }
+
+    @Test
+    void pagedListingByTitleUsesIndex() {
+        assertUsesIndex(dataSource,
+                "SELECT * FROM books ORDER BY title ASC, book_id ASC LIMIT 25",
+                "idx_books_title");
+    }
+
+    @Test
+    void lookupByIsbnUsesUniqueConstraint() {
+        assertUsesIndex(dataSource,
+                "SELECT * FROM books WHERE isbn = '9780000000000'",
+                "uk_books_isbn");
+    }
+}
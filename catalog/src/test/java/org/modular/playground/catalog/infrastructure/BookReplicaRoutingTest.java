@@ -0,0 +1,70 @@
+package org.modular.playground.catalog.infrastructure;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.security.TestSecurity;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.usecases.BookService;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.modular.playground.catalog.utils.CatalogTestUtils.createValidBookRequestDTO;
+
+/**
+ * Runs {@link BookService} against separate primary and replica databases. Books are only ever written to the
+ * primary, so a read that finds one was routed to the primary and a read that misses it went to the replica.
+ */
+@QuarkusTest
+@TestProfile(BookReplicaTestProfile.class)
+public class BookReplicaRoutingTest {
+
+    @Inject
+    BookService bookService;
+
+    @Test
+    void shouldWriteToPrimaryAndReadFromReplica() throws Exception {
+        UUID bookId = inRequest(() -> bookService.createBook(createValidBookRequestDTO())).getBookId();
+
+        assertFalse(inRequest(() -> bookService.getBookById(bookId)).isPresent());
+    }
+
+    @Test
+    void shouldReadFromPrimaryInTheRequestThatWrote() throws Exception {
+        Optional<Book> book = inRequest(() -> {
+            Book created = bookService.createBook(createValidBookRequestDTO());
+            return bookService.getBookById(created.getBookId());
+        });
+
+        assertTrue(book.isPresent());
+    }
+
+    @Test
+    @TestSecurity(user = "alice")
+    void shouldKeepCallerOnPrimaryAfterTheyWrote() throws Exception {
+        UUID bookId = inRequest(() -> bookService.createBook(createValidBookRequestDTO())).getBookId();
+
+        assertTrue(inRequest(() -> bookService.getBookById(bookId)).isPresent());
+    }
+
+    /** Runs {@code action} on a fresh thread in its own request context, as an HTTP request would. */
+    private static <T> T inRequest(Supplier<T> action) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            ManagedContext requestContext = Arc.container().requestContext();
+            requestContext.activate();
+            try {
+                return action.get();
+            } finally {
+                requestContext.terminate();
+            }
+        }).get();
+    }
+}
@@ -0,0 +1,24 @@
+package org.modular.playground.catalog.infrastructure;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+/**
+ * Turns on replica routing for {@code books-db}, with {@code books-db-replica} as a second Dev Services database that
+ * is migrated but never written to, so every read that reaches it misses what was written to the primary.
+ */
+public class BookReplicaTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of(
+                "app.repository.type", "jpa",
+                "app.datasource.replica.enabled", "true",
+                "quarkus.hibernate-orm.\"books-db\".multitenant", "DATABASE",
+                "quarkus.datasource.\"books-db-replica\".db-kind", "postgresql",
+                "quarkus.flyway.\"books-db-replica\".migrate-at-start", "true",
+                "quarkus.flyway.\"books-db-replica\".clean-at-start", "true",
+                "quarkus.flyway.\"books-db-replica\".locations", "db/migration/catalog");
+    }
+}
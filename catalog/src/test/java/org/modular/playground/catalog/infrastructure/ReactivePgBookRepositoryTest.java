@@ -0,0 +1,86 @@
+package org.modular.playground.catalog.infrastructure;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.usecases.repositories.ReactiveBookRepository;
+import org.modular.playground.catalog.utils.CatalogRepositoryUtils;
+import org.modular.playground.catalog.utils.CatalogTestUtils;
+import org.modular.playground.common.ReactiveRepositoryTestProfile;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@TestProfile(ReactiveRepositoryTestProfile.class)
+public class ReactivePgBookRepositoryTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Inject
+    ReactiveBookRepository reactiveBookRepository;
+
+    @Inject
+    CatalogRepositoryUtils catalogRepositoryUtils;
+
+    private Book olderBook;
+    private Book newerBook;
+
+    @BeforeEach
+    void setUp() {
+        olderBook = catalogRepositoryUtils.saveBook(
+                CatalogTestUtils.createTestBookWithDate("Older", "First", LocalDate.of(2001, 1, 1)));
+        newerBook = catalogRepositoryUtils.saveBook(
+                CatalogTestUtils.createTestBookWithDate("Newer", "Second", LocalDate.of(2021, 1, 1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogRepositoryUtils.deleteBook(olderBook.getBookId());
+        catalogRepositoryUtils.deleteBook(newerBook.getBookId());
+    }
+
+    @Test
+    void testFindByIdMapsAllColumns() {
+        Book found = reactiveBookRepository.findById(olderBook.getBookId()).await().atMost(TIMEOUT);
+
+        assertNotNull(found);
+        assertEquals(olderBook.getTitle(), found.getTitle());
+        assertEquals(olderBook.getIsbn(), found.getIsbn());
+        assertEquals(olderBook.getAuthors(), found.getAuthors());
+        assertEquals(olderBook.getPublicationDate(), found.getPublicationDate());
+    }
+
+    @Test
+    void testFindByIdReturnsNullWhenMissing() {
+        assertNull(reactiveBookRepository.findById(UUID.randomUUID()).await().atMost(TIMEOUT));
+    }
+
+    @Test
+    void testFindByIdsReturnsOnlyExistingBooks() {
+        List<Book> found = reactiveBookRepository
+                .findByIds(List.of(olderBook.getBookId(), newerBook.getBookId(), UUID.randomUUID()))
+                .await().atMost(TIMEOUT);
+
+        assertEquals(2, found.size());
+    }
+
+    @Test
+    void testFindAllSortsAndLimits() {
+        List<String> titles = reactiveBookRepository.findAll("publicationDate", "desc", 100)
+                .collect().asList().await().atMost(TIMEOUT)
+                .stream().map(Book::getTitle).collect(Collectors.toList());
+
+        assertTrue(titles.indexOf("Newer") < titles.indexOf("Older"));
+        assertEquals(1, reactiveBookRepository.findAll(null, null, 1).collect().asList().await().atMost(TIMEOUT).size());
+    }
+}
@@ -2,7 +2,9 @@ package org.modular.playground.catalog.usecases;
 
 import org.modular.playground.catalog.core.domain.Book;
 import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.domain.DomainBatch;
 import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
 import org.modular.playground.catalog.core.usecases.BookServiceImpl;
 import org.modular.playground.catalog.core.usecases.repositories.BookRepository;
 import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
@@ -10,7 +12,9 @@ import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper
 import org.modular.playground.catalog.utils.CatalogTestUtils;
 import org.modular.playground.catalog.web.dto.BookRequestDTO;
 import org.modular.playground.catalog.web.dto.BookUpdateDTO;
+import org.modular.playground.common.web.SerializedResponseCache;
 
+import jakarta.ws.rs.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -19,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,12 +45,18 @@ public class BookServiceImplTest {
     @Spy
     private BookMapper bookMapper = new BookMapperImpl();
 
+    @Mock
+    private SerializedResponseCache responseCache;
+
     @InjectMocks
     private BookServiceImpl bookService;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
         MockitoAnnotations.openMocks(this);
+        Field maxPageSize = BookServiceImpl.class.getDeclaredField("maxPageSize");
+        maxPageSize.setAccessible(true);
+        maxPageSize.set(bookService, 100);
     }
 
     @Test
@@ -95,24 +106,24 @@ public class BookServiceImplTest {
     void shouldReturnListOfBooksWhenBooksExist() {
         List<Book> expectedBooks = Arrays.asList(CatalogTestUtils.createValidBook(),
                 CatalogTestUtils.createValidBook());
-        when(bookRepository.findAll(null, null, null)).thenReturn(expectedBooks);
+        when(bookRepository.findAll(null, null, 100)).thenReturn(expectedBooks);
 
         List<Book> retrievedBooks = bookService.getAllBooks(null, null, null);
 
         assertNotNull(retrievedBooks);
         assertEquals(expectedBooks.size(), retrievedBooks.size());
-        verify(bookRepository, times(1)).findAll(null, null, null);
+        verify(bookRepository, times(1)).findAll(null, null, 100);
     }
 
     @Test
     void shouldReturnEmptyListWhenNoBooksExist() {
-        when(bookRepository.findAll(null, null, null)).thenReturn(new ArrayList<>());
+        when(bookRepository.findAll(null, null, 100)).thenReturn(new ArrayList<>());
 
         List<Book> retrievedBooks = bookService.getAllBooks(null, null, null);
 
         assertNotNull(retrievedBooks);
         assertTrue(retrievedBooks.isEmpty());
-        verify(bookRepository, times(1)).findAll(null, null, null);
+        verify(bookRepository, times(1)).findAll(null, null, 100);
     }
 
     @Test
@@ -132,6 +143,7 @@ public class BookServiceImplTest {
         ArgumentCaptor<Book> bookCaptor = ArgumentCaptor.forClass(Book.class);
         verify(bookRepository, times(1)).update(bookCaptor.capture());
         assertEquals("New Title", bookCaptor.getValue().getTitle());
+        verify(responseCache).invalidate(bookId);
     }
 
     @Test
@@ -142,6 +154,7 @@ public class BookServiceImplTest {
         bookService.deleteBookById(bookIdToDelete);
 
         verify(bookRepository, times(1)).deleteById(bookIdToDelete);
+        verify(responseCache).invalidate(bookIdToDelete);
     }
 
     @Test
@@ -173,4 +186,82 @@ public class BookServiceImplTest {
         assertEquals(2, resultBooks.size());
         verify(bookRepository, times(1)).findByIds(bookIds);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldCapGetAllBooksLimitAtServerMaximum() {
+        when(bookRepository.findAll("title", "asc", 100)).thenReturn(new ArrayList<>());
+
+        bookService.getAllBooks("title", "asc", 5000);
+
+        verify(bookRepository, times(1)).findAll("title", "asc", 100);
+    }
+
+    @Test
+    void shouldCapBooksPageSizeAtServerMaximum() {
+        DomainPage<Book> mockDomainPage = new DomainPage<>(Collections.emptyList(), 0, 0, 0, 100, true, true);
+        when(bookRepository.findAllPaged(0, 100, "title", "asc")).thenReturn(mockDomainPage);
+
+        DomainPage<Book> resultPage = bookService.getBooksPage(-1, 1000, "title", "asc");
+
+        assertSame(mockDomainPage, resultPage);
+        verify(bookRepository, times(1)).findAllPaged(0, 100, "title", "asc");
+    }
+
+    @Test
+    void shouldRejectPageWhoseOffsetOverflows() {
+        assertThrows(BadRequestException.class, () -> bookService.getBooksPage(30_000_000, 100, "title", "asc"));
+        assertThrows(BadRequestException.class, () -> bookService.searchBooks("query", 30_000_000, 100, "title", "asc"));
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    void shouldReportNextSliceWhenRepositoryReturnsExtraBook() {
+        UUID cursor = UUID.randomUUID();
+        List<Book> fetched = List.of(CatalogTestUtils.createValidBook(), CatalogTestUtils.createValidBook(),
+                CatalogTestUtils.createValidBook());
+        when(bookRepository.findAllAfter(cursor, 3)).thenReturn(fetched);
+
+        DomainSlice<Book> slice = bookService.getBooksAfter(cursor, 2);
+
+        assertTrue(slice.hasNext());
+        assertEquals(2, slice.content().size());
+        verify(bookRepository, times(1)).findAllAfter(cursor, 3);
+    }
+
+    @Test
+    void shouldReportLastSliceWhenRepositoryReturnsNoExtraBook() {
+        List<Book> fetched = List.of(CatalogTestUtils.createValidBook());
+        when(bookRepository.findAllAfter(null, 3)).thenReturn(fetched);
+
+        DomainSlice<Book> slice = bookService.getBooksAfter(null, 2);
+
+        assertFalse(slice.hasNext());
+        assertEquals(1, slice.content().size());
+    }
+
+    @Test
+    void shouldReturnBookBatchInRequestedOrderAndReportMissingIds() {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        List<UUID> requested = List.of(secondId, missingId, firstId, secondId);
+        when(bookRepository.findByIds(List.of(secondId, missingId, firstId))).thenReturn(List.of(
+                CatalogTestUtils.createValidBookWithId(firstId), CatalogTestUtils.createValidBookWithId(secondId)));
+
+        DomainBatch<Book> batch = bookService.getBookBatch(requested);
+
+        assertEquals(List.of(secondId, firstId), batch.content().stream().map(Book::getBookId).toList());
+        assertEquals(List.of(missingId), batch.missingIds());
+    }
+
+    @Test
+    void shouldRejectBookBatchLargerThanServerMaximum() {
+        List<UUID> requested = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            requested.add(UUID.randomUUID());
+        }
+
+        assertThrows(BadRequestException.class, () -> bookService.getBookBatch(requested));
+        verify(bookRepository, never()).findByIds(any());
+    }
+}
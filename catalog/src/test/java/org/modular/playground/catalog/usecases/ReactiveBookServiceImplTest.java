@@ -0,0 +1,84 @@
+package org.modular.playground.catalog.usecases;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.usecases.ReactiveBookServiceImpl;
+import org.modular.playground.catalog.core.usecases.repositories.ReactiveBookRepository;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveBookServiceImplTest {
+
+    @Mock
+    private ReactiveBookRepository reactiveBookRepository;
+
+    @InjectMocks
+    private ReactiveBookServiceImpl reactiveBookService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field maxPageSize = ReactiveBookServiceImpl.class.getDeclaredField("maxPageSize");
+        maxPageSize.setAccessible(true);
+        maxPageSize.set(reactiveBookService, 100);
+    }
+
+    @Test
+    void shouldReturnBookWhenFound() {
+        Book book = BookImpl.builder().bookId(UUID.randomUUID()).title("Reactive").build();
+        when(reactiveBookRepository.findById(book.getBookId())).thenReturn(Uni.createFrom().item(book));
+
+        Book result = reactiveBookService.getBookById(book.getBookId()).await().indefinitely();
+
+        assertEquals(book, result);
+    }
+
+    @Test
+    void shouldReturnNullItemWhenBookNotFound() {
+        UUID bookId = UUID.randomUUID();
+        when(reactiveBookRepository.findById(bookId)).thenReturn(Uni.createFrom().nullItem());
+
+        assertNull(reactiveBookService.getBookById(bookId).await().indefinitely());
+    }
+
+    @Test
+    void shouldDelegateBatchLookupToRepository() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(reactiveBookRepository.findByIds(ids)).thenReturn(Uni.createFrom().item(List.of()));
+
+        assertTrue(reactiveBookService.getBooksByIds(ids).await().indefinitely().isEmpty());
+        verify(reactiveBookRepository).findByIds(ids);
+    }
+
+    @Test
+    void shouldBoundLimitToMaxPageSize() {
+        when(reactiveBookRepository.findAll("title", "asc", 100)).thenReturn(Multi.createFrom().empty());
+
+        reactiveBookService.getAllBooks("title", "asc", 5000).collect().asList().await().indefinitely();
+        reactiveBookService.getAllBooks("title", "asc", null).collect().asList().await().indefinitely();
+
+        verify(reactiveBookRepository, times(2)).findAll("title", "asc", 100);
+    }
+
+    @Test
+    void shouldKeepLimitWithinMaxPageSize() {
+        when(reactiveBookRepository.findAll(null, null, 10)).thenReturn(Multi.createFrom().empty());
+
+        reactiveBookService.getAllBooks(null, null, 10).collect().asList().await().indefinitely();
+
+        verify(reactiveBookRepository).findAll(null, null, 10);
+    }
+}
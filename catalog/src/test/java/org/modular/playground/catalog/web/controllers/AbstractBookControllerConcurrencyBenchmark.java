@@ -0,0 +1,136 @@
+package org.modular.playground.catalog.web.controllers;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.keycloak.client.KeycloakTestClient;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.utils.CatalogRepositoryUtils;
+import org.modular.playground.catalog.utils.CatalogTestUtils;
+import org.modular.playground.user.core.domain.User;
+import org.modular.playground.user.utils.UserRepositoryUtils;
+import org.modular.playground.user.utils.UserTestUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives the paged book listing with many concurrent requests and logs throughput and latency
+ * percentiles. Subclasses pin the thread mode through a test profile so the two runs can be compared.
+ * Excluded from the default build; run with {@code ./mvnw test -Pbenchmark -pl catalog -am}.
+ */
+@Tag("benchmark")
+public abstract class AbstractBookControllerConcurrencyBenchmark {
+
+    private static final Logger LOGGER = Logger.getLogger(AbstractBookControllerConcurrencyBenchmark.class);
+    private static final UUID ALICE_UUID = UUID.fromString("eb4123a3-b722-4798-9af5-8957f823657a");
+    private static final int SEEDED_BOOKS = 50;
+
+    private static final int WARMUP_REQUESTS = Integer.getInteger("benchmark.warmup-requests", 200);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 5000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 500);
+
+    @Inject
+    UserRepositoryUtils userRepositoryUtils;
+
+    @Inject
+    CatalogRepositoryUtils catalogRepositoryUtils;
+
+    @TestHTTPResource("/api/v1/books/page?size=25")
+    URI booksPageUri;
+
+    KeycloakTestClient keycloakClient = new KeycloakTestClient();
+
+    private User alice;
+    private final List<Book> seededBooks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        alice = userRepositoryUtils.saveUser(UserTestUtils.createValidUserWithIdAndUsername(ALICE_UUID, "alice"));
+        for (int i = 0; i < SEEDED_BOOKS; i++) {
+            seededBooks.add(catalogRepositoryUtils.saveBook(CatalogTestUtils.createValidBook()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        seededBooks.forEach(book -> catalogRepositoryUtils.deleteBook(book.getBookId()));
+        seededBooks.clear();
+        userRepositoryUtils.deleteUser(alice.getKeycloakUserId());
+    }
+
+    protected abstract String threadMode();
+
+    @Test
+    void benchmarkConcurrentPagedListing() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(booksPageUri)
+                .header("Authorization", "Bearer " + keycloakClient.getAccessToken("alice"))
+                .GET()
+                .build();
+
+        warmUp(client, request, WARMUP_REQUESTS);
+        List<Long> latenciesNanos = Collections.synchronizedList(new ArrayList<>(REQUESTS));
+        AtomicInteger failures = new AtomicInteger();
+
+        long start = System.nanoTime();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<CompletableFuture<Void>> pending = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            inFlight.acquire();
+            long sentAt = System.nanoTime();
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        latenciesNanos.add(System.nanoTime() - sentAt);
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.release();
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        long elapsedNanos = System.nanoTime() - start;
+
+        List<Long> sorted = new ArrayList<>(latenciesNanos);
+        Collections.sort(sorted);
+        LOGGER.info(String.format(
+                "Benchmark [%s threads]: %d requests, concurrency %d, %.1f req/s, p50 %.1f ms, p99 %.1f ms, max %.1f ms",
+                threadMode(), REQUESTS, CONCURRENCY,
+                REQUESTS / (elapsedNanos / 1_000_000_000.0),
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99), percentileMillis(sorted, 1.0)));
+
+        assertEquals(0, failures.get(), "All benchmark requests should succeed");
+    }
+
+    private void warmUp(HttpClient client, HttpRequest request, int count) {
+        List<CompletableFuture<HttpResponse<Void>>> warmup = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            warmup.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        CompletableFuture.allOf(warmup.toArray(new CompletableFuture[0])).join();
+    }
+
+    private double percentileMillis(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+}
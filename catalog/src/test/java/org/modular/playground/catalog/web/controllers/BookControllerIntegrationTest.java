@@ -8,8 +8,10 @@ import jakarta.ws.rs.core.MediaType;
 import org.modular.playground.catalog.core.domain.Book;
 import org.modular.playground.catalog.utils.CatalogRepositoryUtils;
 import org.modular.playground.catalog.utils.CatalogTestUtils;
+import org.modular.playground.catalog.web.dto.BookBatchRequestDTO;
 import org.modular.playground.catalog.web.dto.BookRequestDTO;
 import org.modular.playground.catalog.web.dto.BookUpdateDTO;
+import org.modular.playground.common.web.protobuf.ProtobufMessageBodyWriter;
 import org.modular.playground.user.core.domain.User;
 import org.modular.playground.user.utils.UserRepositoryUtils;
 import org.modular.playground.user.utils.UserTestUtils;
@@ -23,6 +25,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.Matchers.hasSize;
 
@@ -182,6 +185,51 @@ public class BookControllerIntegrationTest {
             .body("title", equalTo(book.getTitle()));
     }
 
+    @Test
+    void testGetBookByIdWithMatchingETagShouldReturnNotModifiedUntilBookChanges() {
+        Book book = createAndTrackBook(CatalogTestUtils.createValidBookRequestDTO());
+        String etag = given()
+            .auth().oauth2(getAccessToken("alice"))
+            .pathParam("bookId", book.getBookId())
+        .when()
+            .get("/{bookId}")
+        .then()
+            .statusCode(200)
+            .header("Cache-Control", containsString("max-age"))
+            .extract().header("ETag");
+
+        given()
+            .auth().oauth2(getAccessToken("alice"))
+            .header("If-None-Match", etag)
+            .pathParam("bookId", book.getBookId())
+        .when()
+            .get("/{bookId}")
+        .then()
+            .statusCode(304)
+            .header("ETag", equalTo(etag));
+
+        given()
+            .auth().oauth2(getAccessToken("admin"))
+            .pathParam("bookId", book.getBookId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(BookUpdateDTO.builder().title("Changed Title").build())
+        .when()
+            .put("/{bookId}")
+        .then()
+            .statusCode(200);
+
+        given()
+            .auth().oauth2(getAccessToken("alice"))
+            .header("If-None-Match", etag)
+            .pathParam("bookId", book.getBookId())
+        .when()
+            .get("/{bookId}")
+        .then()
+            .statusCode(200)
+            .header("ETag", not(equalTo(etag)))
+            .body("title", equalTo("Changed Title"));
+    }
+
     @Test
     void testGetBookByIdNonExistingIdShouldReturnNotFound() {
         given()
@@ -247,6 +295,67 @@ public class BookControllerIntegrationTest {
             .body("size()", is(2));
     }
 
+    @Test
+    void testGetAllBooksWithProtobufAcceptShouldReturnProtobuf() {
+        createAndTrackBook(CatalogTestUtils.createValidBookRequestDTO());
+        byte[] body = given()
+            .auth().oauth2(getAccessToken("alice"))
+            .accept(ProtobufMessageBodyWriter.APPLICATION_PROTOBUF)
+        .when()
+            .get()
+        .then()
+            .statusCode(200)
+            .contentType(ProtobufMessageBodyWriter.APPLICATION_PROTOBUF)
+            .extract().asByteArray();
+        assertTrue(body.length > 0);
+    }
+
+    @Test
+    void testGetBookBatchShouldPreserveOrderAndReportMissingIds() {
+        Book first = createAndTrackBook(CatalogTestUtils.createValidBookRequestDTO());
+        Book second = createAndTrackBook(CatalogTestUtils.createValidBookRequestDTO());
+        UUID missingId = UUID.randomUUID();
+
+        given()
+            .auth().oauth2(getAccessToken("alice"))
+            .queryParam("ids", second.getBookId() + "," + missingId + "," + first.getBookId())
+        .when()
+            .get("/batch")
+        .then()
+            .statusCode(200)
+            .body("content", hasSize(2))
+            .body("content[0].bookId", equalTo(second.getBookId().toString()))
+            .body("content[1].bookId", equalTo(first.getBookId().toString()))
+            .body("missingIds", hasSize(1))
+            .body("missingIds[0]", equalTo(missingId.toString()));
+    }
+
+    @Test
+    void testPostBookBatchShouldReturnBooks() {
+        Book book = createAndTrackBook(CatalogTestUtils.createValidBookRequestDTO());
+
+        given()
+            .auth().oauth2(getAccessToken("alice"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new BookBatchRequestDTO(List.of(book.getBookId())))
+        .when()
+            .post("/batch")
+        .then()
+            .statusCode(200)
+            .body("content", hasSize(1))
+            .body("missingIds", hasSize(0));
+    }
+
+    @Test
+    void testGetBookBatchWithoutIdsShouldReturnBadRequest() {
+        given()
+            .auth().oauth2(getAccessToken("alice"))
+        .when()
+            .get("/batch")
+        .then()
+            .statusCode(400);
+    }
+
     @Test
     void testSearchBooksSuccessful() {
         BookRequestDTO request = CatalogTestUtils.createValidBookRequestDTO();
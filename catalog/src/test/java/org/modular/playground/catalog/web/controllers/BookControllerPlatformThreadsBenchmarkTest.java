@@ -0,0 +1,15 @@
+package org.modular.playground.catalog.web.controllers;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import org.modular.playground.common.PlatformThreadsTestProfile;
+
+@QuarkusTest
+@TestProfile(PlatformThreadsTestProfile.class)
+public class BookControllerPlatformThreadsBenchmarkTest extends AbstractBookControllerConcurrencyBenchmark {
+
+    @Override
+    protected String threadMode() {
+        return "platform";
+    }
+}
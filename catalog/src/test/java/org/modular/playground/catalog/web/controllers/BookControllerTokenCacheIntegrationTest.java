@@ -0,0 +1,68 @@
+package org.modular.playground.catalog.web.controllers;
+
+import io.quarkus.test.common.http.TestHTTPEndpoint;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.modular.playground.common.LocalIssuerTestProfile;
+import org.modular.playground.common.LocalTokenIssuer;
+import org.modular.playground.common.security.VerifiedTokenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@TestProfile(LocalIssuerTestProfile.class)
+@TestHTTPEndpoint(BookController.class)
+public class BookControllerTokenCacheIntegrationTest {
+
+    private static final UUID ALICE_UUID = UUID.fromString("eb4123a3-b722-4798-9af5-8957f823657a");
+
+    @Inject
+    VerifiedTokenCache tokenCache;
+
+    @BeforeEach
+    void setUp() {
+        tokenCache.invalidateAll();
+    }
+
+    @Test
+    void shouldCacheVerifiedTokenAndServeRepeatedRequests() {
+        String token = LocalTokenIssuer.issue(ALICE_UUID, "user");
+
+        given().auth().oauth2(token).when().get().then().statusCode(200);
+        assertTrue(tokenCache.get(token).isPresent());
+
+        given().auth().oauth2(token).when().get().then().statusCode(200);
+    }
+
+    @Test
+    void shouldKeepEnforcingRolesForCachedToken() {
+        String token = LocalTokenIssuer.issue(ALICE_UUID, "user");
+
+        given().auth().oauth2(token).when().get().then().statusCode(200);
+        given().auth().oauth2(token).when().delete("/{bookId}", UUID.randomUUID()).then().statusCode(403);
+    }
+
+    @Test
+    void shouldRejectExpiredTokenWithoutCachingIt() {
+        String token = LocalTokenIssuer.issue(ALICE_UUID, Duration.ofSeconds(-120), "user");
+
+        given().auth().oauth2(token).when().get().then().statusCode(401);
+        assertFalse(tokenCache.get(token).isPresent());
+    }
+
+    @Test
+    void shouldRejectTamperedToken() {
+        String token = LocalTokenIssuer.issue(ALICE_UUID, "user");
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+        given().auth().oauth2(tampered).when().get().then().statusCode(401);
+    }
+}
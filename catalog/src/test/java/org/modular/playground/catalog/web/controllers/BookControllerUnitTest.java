@@ -1,15 +1,26 @@
 package org.modular.playground.catalog.web.controllers;
 
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.domain.DomainBatch;
 import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
 import org.modular.playground.catalog.core.usecases.BookService;
 import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
 import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapperImpl;
 import org.modular.playground.catalog.utils.CatalogTestUtils;
+import org.modular.playground.catalog.web.dto.BatchResponse;
+import org.modular.playground.catalog.web.dto.BookBatchRequestDTO;
 import org.modular.playground.catalog.web.dto.BookRequestDTO;
 import org.modular.playground.catalog.web.dto.BookResponseDTO;
+import org.modular.playground.catalog.web.dto.CursorResponse;
 import org.modular.playground.catalog.web.dto.PagedResponse;
+import org.modular.playground.common.web.SerializedResponseCache;
+import org.modular.playground.common.web.TestResponseCaches;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,6 +28,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -38,6 +50,17 @@ public class BookControllerUnitTest {
     @Mock
     private BookService bookService;
 
+    @Mock
+    private Request request;
+
+    @Spy
+    private SerializedResponseCache responseCache = TestResponseCaches.withDefaults();
+
+    @BeforeEach
+    void setUp() {
+        bookController.catalogMaxAge = Duration.ofSeconds(60);
+    }
+
     @Test
     void shouldReturnCreatedWhenBookIsCreated() {
         BookRequestDTO bookRequest = CatalogTestUtils.createValidBookRequestDTO();
@@ -57,10 +80,12 @@ public class BookControllerUnitTest {
         Book mockBook = CatalogTestUtils.createValidBookWithId(bookId);
         when(bookService.getBookById(bookId)).thenReturn(Optional.of(mockBook));
 
-        Response response = bookController.getBookById(bookId);
+        Response response = bookController.getBookById(bookId, request, null, null);
 
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
         assertNotNull(response.getEntity());
+        assertNotNull(response.getEntityTag());
+        assertTrue(response.getHeaderString("Cache-Control").contains("max-age=60"));
         verify(bookService, times(1)).getBookById(bookId);
     }
 
@@ -69,7 +94,7 @@ public class BookControllerUnitTest {
         UUID bookId = UUID.randomUUID();
         when(bookService.getBookById(bookId)).thenReturn(Optional.empty());
         
-        Response response = bookController.getBookById(bookId);
+        Response response = bookController.getBookById(bookId, request, null, null);
         
         assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
         verify(bookService, times(1)).getBookById(bookId);
@@ -107,12 +132,148 @@ public class BookControllerUnitTest {
 
         when(bookService.searchBooks(query, page, size, sortBy, sortOrder)).thenReturn(mockDomainPage);
 
-        PagedResponse<BookResponseDTO> response = bookController.searchBooks(query, 0, 10, "title", "asc");
+        Response httpResponse = bookController.searchBooks(query, 0, 10, "title", "asc", request);
+        @SuppressWarnings("unchecked")
+        PagedResponse<BookResponseDTO> response = (PagedResponse<BookResponseDTO>) httpResponse.getEntity();
 
         assertNotNull(response);
+        assertNotNull(httpResponse.getEntityTag());
         assertEquals(1, response.totalElements());
         assertEquals(0, response.page());
         assertFalse(response.content().isEmpty());
         verify(bookService, times(1)).searchBooks(query, page, size, sortBy, sortOrder);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnPagedResponseWhenGettingBooksPage() {
+        DomainPage<Book> mockDomainPage = new DomainPage<>(
+            Collections.singletonList(CatalogTestUtils.createValidBook()), 1, 1, 0, 25, true, true);
+        when(bookService.getBooksPage(0, 25, "title", "asc")).thenReturn(mockDomainPage);
+
+        PagedResponse<BookResponseDTO> response = bookController.getBooksPage(0, 25, "title", "asc");
+
+        assertEquals(1, response.totalElements());
+        assertEquals(1, response.content().size());
+        verify(bookService, times(1)).getBooksPage(0, 25, "title", "asc");
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreBooksAreAvailable() {
+        UUID lastBookId = UUID.randomUUID();
+        List<Book> books = List.of(CatalogTestUtils.createValidBook(), CatalogTestUtils.createValidBookWithId(lastBookId));
+        when(bookService.getBooksAfter(null, 2)).thenReturn(new DomainSlice<>(books, true));
+
+        CursorResponse<BookResponseDTO> response = bookController.getBooksAfter(null, 2);
+
+        assertTrue(response.hasNext());
+        assertEquals(lastBookId, response.nextCursor());
+        assertEquals(2, response.content().size());
+    }
+
+    @Test
+    void shouldReturnNoCursorOnLastSlice() {
+        List<Book> books = List.of(CatalogTestUtils.createValidBook());
+        when(bookService.getBooksAfter(null, 2)).thenReturn(new DomainSlice<>(books, false));
+
+        CursorResponse<BookResponseDTO> response = bookController.getBooksAfter(null, 2);
+
+        assertFalse(response.hasNext());
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    void shouldReturnBookBatchWithMissingIds() {
+        UUID foundId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        List<UUID> requested = List.of(foundId, missingId);
+        when(bookService.getBookBatch(requested)).thenReturn(
+                new DomainBatch<>(List.of(CatalogTestUtils.createValidBookWithId(foundId)), List.of(missingId)));
+
+        BatchResponse<BookResponseDTO> response = bookController.getBookBatch(requested);
+
+        assertEquals(1, response.content().size());
+        assertEquals(foundId, response.content().get(0).getBookId());
+        assertEquals(List.of(missingId), response.missingIds());
+    }
+
+    @Test
+    void shouldAcceptBookBatchRequestBody() {
+        List<UUID> requested = List.of(UUID.randomUUID());
+        when(bookService.getBookBatch(requested)).thenReturn(new DomainBatch<>(List.of(), requested));
+
+        BatchResponse<BookResponseDTO> response = bookController.postBookBatch(new BookBatchRequestDTO(requested));
+
+        assertTrue(response.content().isEmpty());
+        assertEquals(requested, response.missingIds());
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenBookTagMatches() {
+        UUID bookId = UUID.randomUUID();
+        when(bookService.getBookById(bookId)).thenReturn(Optional.of(CatalogTestUtils.createValidBookWithId(bookId)));
+        when(request.evaluatePreconditions(any(EntityTag.class))).thenReturn(Response.notModified());
+
+        Response response = bookController.getBookById(bookId, request, null, null);
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        assertNull(response.getEntity());
+        assertNotNull(response.getEntityTag());
+        verify(bookMapper, never()).toResponseDTO(any());
+    }
+
+    @Test
+    void shouldChangeBookTagWhenVersionChanges() {
+        UUID bookId = UUID.randomUUID();
+        BookImpl book = (BookImpl) CatalogTestUtils.createValidBookWithId(bookId);
+        book.setVersion(1L);
+        when(bookService.getBookById(bookId)).thenReturn(Optional.of(book));
+        EntityTag first = bookController.getBookById(bookId, request, null, null).getEntityTag();
+
+        book.setVersion(2L);
+        EntityTag second = bookController.getBookById(bookId, request, null, null).getEntityTag();
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void shouldServeCachedBookBytesUntilVersionChanges() {
+        UUID bookId = UUID.randomUUID();
+        BookImpl book = (BookImpl) CatalogTestUtils.createValidBookWithId(bookId);
+        book.setVersion(1L);
+        when(bookService.getBookById(bookId)).thenReturn(Optional.of(book));
+
+        Object first = bookController.getBookById(bookId, request, null, null).getEntity();
+        Object second = bookController.getBookById(bookId, request, null, null).getEntity();
+        assertSame(first, second);
+        verify(bookMapper, times(1)).toResponseDTO(book);
+
+        book.setVersion(2L);
+        bookController.getBookById(bookId, request, null, null);
+        verify(bookMapper, times(2)).toResponseDTO(book);
+    }
+
+    @Test
+    void shouldBypassSerializedCacheWhenFieldsAreSelected() {
+        UUID bookId = UUID.randomUUID();
+        Book book = CatalogTestUtils.createValidBookWithId(bookId);
+        when(bookService.getBookById(bookId)).thenReturn(Optional.of(book));
+
+        Response response = bookController.getBookById(bookId, request, "gzip", "title");
+
+        assertInstanceOf(BookResponseDTO.class, response.getEntity());
+        assertNull(response.getHeaderString("Content-Encoding"));
+        verify(responseCache, never()).ok(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenSearchResultTagMatches() {
+        DomainPage<Book> page = new DomainPage<>(List.of(CatalogTestUtils.createValidBook()), 1, 1, 0, 10, true, true);
+        when(bookService.searchBooks("query", 0, 10, "title", "asc")).thenReturn(page);
+        when(request.evaluatePreconditions(any(EntityTag.class))).thenReturn(Response.notModified());
+
+        Response response = bookController.searchBooks("query", 0, 10, "title", "asc", request);
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        verify(bookMapper, never()).toResponseDTOs(any());
+    }
+}
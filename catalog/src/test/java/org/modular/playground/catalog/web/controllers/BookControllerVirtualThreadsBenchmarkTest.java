@@ -0,0 +1,15 @@
+package org.modular.playground.catalog.web.controllers;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import org.modular.playground.common.VirtualThreadsTestProfile;
+
+@QuarkusTest
+@TestProfile(VirtualThreadsTestProfile.class)
+public class BookControllerVirtualThreadsBenchmarkTest extends AbstractBookControllerConcurrencyBenchmark {
+
+    @Override
+    protected String threadMode() {
+        return "virtual";
+    }
+}
@@ -148,6 +148,30 @@ public class BookGraphQLControllerIntegrationTest {
                 .body("data.bookById.title", equalTo(book.getTitle()));
     }
 
+    @Test
+    void testGetBooksByIdsShouldPreserveOrderAndReportMissingIds() {
+        Book first = createAndTrackBook(CatalogTestUtils.createValidBookRequestDTO());
+        Book second = createAndTrackBook(CatalogTestUtils.createValidBookRequestDTO());
+        UUID missingId = UUID.randomUUID();
+        String body = String.format("""
+                {
+                  "query": "query { booksByIds(bookIds: [\\"%s\\", \\"%s\\", \\"%s\\"]) { content { bookId } missingIds } }"
+                }
+                """, second.getBookId(), missingId, first.getBookId());
+
+        given()
+                .auth().oauth2(getAccessToken("alice"))
+                .contentType(ContentType.JSON)
+                .body(body)
+        .when()
+                .post("/graphql")
+        .then()
+                .statusCode(200)
+                .body("data.booksByIds.content.bookId",
+                        contains(second.getBookId().toString(), first.getBookId().toString()))
+                .body("data.booksByIds.missingIds", contains(missingId.toString()));
+    }
+
     @Test
     void testGetBookByIdNonExistingIdShouldReturnNotFound() {
         String body = String.format("""
@@ -7,15 +7,19 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.DomainBatch;
 import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
 import org.modular.playground.catalog.core.usecases.BookService;
 import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapper;
 import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapperImpl;
 import org.modular.playground.catalog.utils.CatalogTestUtils;
 import org.modular.playground.catalog.web.dto.BookRequestDTO;
 import org.modular.playground.catalog.web.dto.BookResponseDTO;
+import org.modular.playground.catalog.web.graphql.BookBatch;
 import org.modular.playground.catalog.web.graphql.BookGraphQLController;
 import org.modular.playground.catalog.web.graphql.BookPage;
+import org.modular.playground.catalog.web.graphql.BookSlice;
 
 import java.util.Collections;
 import java.util.List;
@@ -117,4 +121,44 @@ public class BookGraphQLControllerUnitTest {
         assertFalse(result.getContent().isEmpty());
         verify(bookService, times(1)).searchBooks(query, page, size, sortBy, sortOrder);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnBookPageWhenGettingBooksPage() {
+        DomainPage<Book> mockDomainPage = new DomainPage<>(
+                Collections.singletonList(CatalogTestUtils.createValidBook()), 1, 1, 0, 25, true, true);
+        when(bookService.getBooksPage(0, 25, null, null)).thenReturn(mockDomainPage);
+
+        BookPage result = bookGraphQLController.getBooksPage(0, 25, null, null);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+        verify(bookService, times(1)).getBooksPage(0, 25, null, null);
+    }
+
+    @Test
+    void shouldReturnBookSliceWithCursorWhenGettingBooksAfter() {
+        UUID lastBookId = UUID.randomUUID();
+        List<Book> books = List.of(CatalogTestUtils.createValidBookWithId(lastBookId));
+        when(bookService.getBooksAfter(null, 1)).thenReturn(new DomainSlice<>(books, true));
+
+        BookSlice result = bookGraphQLController.getBooksAfter(null, 1);
+
+        assertTrue(result.isHasNext());
+        assertEquals(lastBookId, result.getNextCursor());
+    }
+
+    @Test
+    void shouldReturnBookBatchWithMissingIds() {
+        UUID foundId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        List<UUID> requested = List.of(missingId, foundId);
+        when(bookService.getBookBatch(requested)).thenReturn(
+                new DomainBatch<>(List.of(CatalogTestUtils.createValidBookWithId(foundId)), List.of(missingId)));
+
+        BookBatch result = bookGraphQLController.getBooksByIds(requested);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(foundId, result.getContent().get(0).getBookId());
+        assertEquals(List.of(missingId), result.getMissingIds());
+    }
+}
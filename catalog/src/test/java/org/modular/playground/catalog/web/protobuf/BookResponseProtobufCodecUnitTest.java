@@ -0,0 +1,80 @@
+package org.modular.playground.catalog.web.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import org.junit.jupiter.api.Test;
+import org.modular.playground.catalog.web.dto.BatchResponse;
+import org.modular.playground.catalog.web.dto.BookResponseDTO;
+import org.modular.playground.common.web.protobuf.ProtobufFields;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BookResponseProtobufCodecUnitTest {
+
+    private final BookResponseProtobufCodec codec = new BookResponseProtobufCodec();
+
+    @Test
+    void shouldWriteBookFields() throws IOException {
+        BookResponseDTO book = BookResponseDTO.builder()
+                .bookId(UUID.randomUUID())
+                .isbn("9780441013593")
+                .title("Dune")
+                .authors(List.of("Frank Herbert"))
+                .publicationDate(LocalDate.of(1965, 8, 1))
+                .pageCount(412)
+                .build();
+
+        assertEquals(book, read(codec.toByteArray(book)));
+    }
+
+    @Test
+    void shouldWriteBatchContentAndMissingIds() throws IOException {
+        BookBatchProtobufCodec batchCodec = new BookBatchProtobufCodec();
+        batchCodec.bookCodec = codec;
+        BookResponseDTO book = BookResponseDTO.builder().bookId(UUID.randomUUID()).title("Dune").build();
+        UUID missingId = UUID.randomUUID();
+
+        CodedInputStream input = CodedInputStream.newInstance(
+                batchCodec.toByteArray(new BatchResponse<>(List.of(book), List.of(missingId))));
+        List<BookResponseDTO> content = new ArrayList<>();
+        List<UUID> missingIds = new ArrayList<>();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (tag >>> 3) {
+                case 1 -> content.add(read(input.readByteArray()));
+                case 2 -> missingIds.add(ProtobufFields.toUuid(input.readByteArray()));
+                default -> input.skipField(tag);
+            }
+        }
+
+        assertEquals(List.of(book), content);
+        assertEquals(List.of(missingId), missingIds);
+    }
+
+    private static BookResponseDTO read(byte[] bytes) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(bytes);
+        BookResponseDTO.BookResponseDTOBuilder book = BookResponseDTO.builder();
+        List<String> authors = new ArrayList<>();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (tag >>> 3) {
+                case 1 -> book.bookId(ProtobufFields.toUuid(input.readByteArray()));
+                case 2 -> book.isbn(input.readString());
+                case 3 -> book.title(input.readString());
+                case 4 -> authors.add(input.readString());
+                case 5 -> book.publicationDate(LocalDate.ofEpochDay(input.readSInt32()));
+                case 6 -> book.publisher(input.readString());
+                case 7 -> book.description(input.readString());
+                case 8 -> book.pageCount(input.readInt32());
+                case 9 -> book.coverImageId(input.readString());
+                case 10 -> book.originalLanguage(input.readString());
+                case 11 -> book.genre(input.readString());
+                default -> input.skipField(tag);
+            }
+        }
+        return book.authors(authors.isEmpty() ? null : authors).build();
+    }
+}
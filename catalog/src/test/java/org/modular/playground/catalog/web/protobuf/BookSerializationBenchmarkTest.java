@@ -0,0 +1,96 @@
+package org.modular.playground.catalog.web.protobuf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.protobuf.CodedOutputStream;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.infrastructure.persistence.postgres.mapper.BookMapperImpl;
+import org.modular.playground.catalog.utils.CatalogTestUtils;
+import org.modular.playground.catalog.web.dto.BookResponseDTO;
+import org.modular.playground.common.web.protobuf.ProtobufFields;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Serializes a page of {@link BookResponseDTO}s as JSON (Jackson, as {@code quarkus-rest-jackson} does) and as
+ * Protobuf ({@link BookResponseProtobufCodec}) and logs the payload sizes, raw and gzipped, and the time per page.
+ * Excluded from the default build; run with {@code ./mvnw test -Pbenchmark -pl catalog -am
+ * -Dtest=BookSerializationBenchmarkTest}.
+ */
+@Tag("benchmark")
+public class BookSerializationBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(BookSerializationBenchmarkTest.class);
+
+    private static final int BOOKS = Integer.getInteger("benchmark.books", 100);
+    private static final int WARMUP_ROUNDS = Integer.getInteger("benchmark.warmup-rounds", 2000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 10000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final BookResponseProtobufCodec codec = new BookResponseProtobufCodec();
+
+    @Test
+    void benchmarkBookListSerialization() throws Exception {
+        List<Book> books = IntStream.range(0, BOOKS).mapToObj(i -> CatalogTestUtils.createValidBook()).toList();
+        List<BookResponseDTO> page = new BookMapperImpl().toResponseDTOs(books);
+
+        Serializer json = objectMapper::writeValueAsBytes;
+        Serializer protobuf = this::writeProtobuf;
+
+        byte[] jsonBytes = json.serialize(page);
+        byte[] protobufBytes = protobuf.serialize(page);
+        double jsonMicros = measure(json, page);
+        double protobufMicros = measure(protobuf, page);
+
+        LOGGER.infof("Serialization benchmark [json]: books=%d, bytes=%d, gzipped=%d, us/page=%.1f",
+                BOOKS, jsonBytes.length, gzippedSize(jsonBytes), jsonMicros);
+        LOGGER.infof("Serialization benchmark [protobuf]: books=%d, bytes=%d, gzipped=%d, us/page=%.1f",
+                BOOKS, protobufBytes.length, gzippedSize(protobufBytes), protobufMicros);
+        assertTrue(protobufBytes.length < jsonBytes.length);
+    }
+
+    private double measure(Serializer serializer, List<BookResponseDTO> page) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += serializer.serialize(page).length;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += serializer.serialize(page).length;
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(sink > 0);
+        return elapsed / 1_000.0 / ROUNDS;
+    }
+
+    private byte[] writeProtobuf(List<BookResponseDTO> page) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        ProtobufFields.writeMessages(output, 1, codec, page);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private static int gzippedSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+
+    @FunctionalInterface
+    private interface Serializer {
+        byte[] serialize(List<BookResponseDTO> page) throws Exception;
+    }
+}
@@ -0,0 +1,18 @@
+package org.modular.playground.common.persistence;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a query-only service method. Persistence units opened while it runs are routed to their read replica by
+ * {@link ReplicaRouter}, unless the caller has just written to the primary.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadOnly {
+}
@@ -0,0 +1,41 @@
+package org.modular.playground.common.persistence;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Per-request routing state: how many {@link ReadOnly} methods are on the current thread's stack and whether this
+ * request has already written to a primary. The request context is propagated to the threads of a
+ * {@code ManagedExecutor}, so the depth is kept per thread while the write flag is shared by all of them.
+ */
+@RequestScoped
+public class ReadOnlyContext {
+
+    private final ThreadLocal<Integer> readOnlyDepth = new ThreadLocal<>();
+    private volatile boolean wroteToPrimary;
+
+    void enter() {
+        Integer depth = readOnlyDepth.get();
+        readOnlyDepth.set(depth == null ? 1 : depth + 1);
+    }
+
+    void exit() {
+        Integer depth = readOnlyDepth.get();
+        if (depth == null || depth <= 1) {
+            readOnlyDepth.remove();
+        } else {
+            readOnlyDepth.set(depth - 1);
+        }
+    }
+
+    public boolean isReadOnly() {
+        return readOnlyDepth.get() != null;
+    }
+
+    public boolean hasWrittenToPrimary() {
+        return wroteToPrimary;
+    }
+
+    void markWrittenToPrimary() {
+        wroteToPrimary = true;
+    }
+}
@@ -0,0 +1,30 @@
+package org.modular.playground.common.persistence;
+
+import io.quarkus.arc.Arc;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class ReadOnlyInterceptor {
+
+    @Inject
+    ReadOnlyContext readOnlyContext;
+
+    @AroundInvoke
+    Object routeToReplica(InvocationContext context) throws Exception {
+        if (!Arc.container().requestContext().isActive()) {
+            return context.proceed();
+        }
+        readOnlyContext.enter();
+        try {
+            return context.proceed();
+        } finally {
+            readOnlyContext.exit();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.modular.playground.common.persistence;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.security.identity.SecurityIdentity;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Picks the datasource a persistence unit session is opened on. Sessions opened inside a {@link ReadOnly} method go
+ * to the replica; every other session goes to the primary. A statement that writes, as reported by the persistence
+ * units' statement inspectors through {@link #recordStatement(String)}, keeps the rest of the request on the
+ * primaries and makes the caller sticky to them for {@code app.datasource.replica.stickiness}, so they read their own
+ * writes despite replication lag.
+ */
+@ApplicationScoped
+public class ReplicaRouter {
+
+    private static final int MAX_TRACKED_WRITERS = 10000;
+
+    @ConfigProperty(name = "app.datasource.replica.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "app.datasource.replica.stickiness", defaultValue = "5S")
+    Duration stickiness;
+
+    @Inject
+    ReadOnlyContext readOnlyContext;
+
+    @Inject
+    SecurityIdentity identity;
+
+    Clock clock = Clock.systemUTC();
+
+    private final Map<String, Instant> lastWrites = new ConcurrentHashMap<>();
+
+    public String route(String primary, String replica) {
+        if (!enabled || !Arc.container().requestContext().isActive()) {
+            return primary;
+        }
+        return route(primary, replica, readOnlyContext, identity.isAnonymous() ? null : identity.getPrincipal().getName());
+    }
+
+    String route(String primary, String replica, ReadOnlyContext context, String caller) {
+        if (context.isReadOnly() && !context.hasWrittenToPrimary() && !isSticky(caller, clock.instant())) {
+            return replica;
+        }
+        return primary;
+    }
+
+    /**
+     * Called with every SQL statement a persistence unit is about to execute; returns it unchanged.
+     */
+    public String recordStatement(String sql) {
+        if (enabled && isWrite(sql) && Arc.container().requestContext().isActive()) {
+            recordWrite(readOnlyContext, identity.isAnonymous() ? null : identity.getPrincipal().getName());
+        }
+        return sql;
+    }
+
+    void recordWrite(ReadOnlyContext context, String caller) {
+        context.markWrittenToPrimary();
+        if (caller == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        if (lastWrites.size() >= MAX_TRACKED_WRITERS) {
+            Instant cutoff = now.minus(stickiness);
+            lastWrites.values().removeIf(lastWrite -> lastWrite.isBefore(cutoff));
+        }
+        lastWrites.put(caller, now);
+    }
+
+    static boolean isWrite(String sql) {
+        String statement = sql.stripLeading();
+        return startsWithIgnoreCase(statement, "insert") || startsWithIgnoreCase(statement, "update")
+                || startsWithIgnoreCase(statement, "delete") || startsWithIgnoreCase(statement, "merge");
+    }
+
+    private static boolean startsWithIgnoreCase(String statement, String keyword) {
+        return statement.regionMatches(true, 0, keyword, 0, keyword.length());
+    }
+
+    private boolean isSticky(String caller, Instant now) {
+        if (caller == null) {
+            return false;
+        }
+        Instant lastWrite = lastWrites.get(caller);
+        return lastWrite != null && now.isBefore(lastWrite.plus(stickiness));
+    }
+}
@@ -0,0 +1,52 @@
+package org.modular.playground.common.security;
+
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityUtils;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.Optional;
+
+/**
+ * Answers bearer token authentication from the {@link VerifiedTokenCache} before the OIDC provider runs. On a miss it
+ * returns no identity, so the next provider verifies the token and {@link TokenCachingAugmentor} stores the result.
+ */
+@ApplicationScoped
+public class CachedTokenIdentityProvider implements IdentityProvider<TokenAuthenticationRequest> {
+
+    public static final String CACHE_HIT_ATTRIBUTE = "org.modular.playground.token-cache-hit";
+
+    @Inject
+    VerifiedTokenCache tokenCache;
+
+    @Override
+    public Class<TokenAuthenticationRequest> getRequestType() {
+        return TokenAuthenticationRequest.class;
+    }
+
+    @Override
+    public int priority() {
+        return SYSTEM_FIRST;
+    }
+
+    @Override
+    public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request, AuthenticationRequestContext context) {
+        Optional<SecurityIdentity> cached = tokenCache.get(request.getToken().getToken());
+        if (cached.isEmpty()) {
+            return Uni.createFrom().nullItem();
+        }
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder(cached.get())
+                .addAttribute(CACHE_HIT_ATTRIBUTE, Boolean.TRUE);
+        RoutingContext routingContext = HttpSecurityUtils.getRoutingContextAttribute(request);
+        if (routingContext != null) {
+            builder.addAttribute(HttpSecurityUtils.ROUTING_CONTEXT_ATTRIBUTE, routingContext);
+        }
+        return Uni.createFrom().item(builder.build());
+    }
+}
@@ -0,0 +1,23 @@
+package org.modular.playground.common.security;
+
+import jakarta.enterprise.context.RequestScoped;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+/**
+ * Request-scoped holder for the {@link ResolvedPrincipal}, so the subject and the {@code realm_access} claim are
+ * parsed once per request no matter how many services check ownership or roles.
+ */
+@RequestScoped
+public class PrincipalContext {
+
+    private JsonWebToken resolvedToken;
+    private ResolvedPrincipal resolved;
+
+    public ResolvedPrincipal resolve(JsonWebToken principal) {
+        if (resolved == null || resolvedToken != principal) {
+            resolved = ResolvedPrincipal.from(principal);
+            resolvedToken = principal;
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,36 @@
+package org.modular.playground.common.security;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import java.util.UUID;
+
+/**
+ * The caller's identity parsed once from the token: the subject as a {@link UUID} and the realm roles as a
+ * {@link Role} bitset.
+ */
+public record ResolvedPrincipal(UUID userId, int roles) {
+
+    public static ResolvedPrincipal from(JsonWebToken principal) {
+        if (principal == null) {
+            return new ResolvedPrincipal(null, 0);
+        }
+        String subject = principal.getSubject();
+        return new ResolvedPrincipal(subject == null ? null : UUID.fromString(subject), SecurityUtils.roleBits(principal));
+    }
+
+    public boolean hasRole(Role role) {
+        return role.isIn(roles);
+    }
+
+    public boolean isAdmin() {
+        return hasRole(Role.ADMIN);
+    }
+
+    public boolean isUser(UUID otherUserId) {
+        return userId != null && userId.equals(otherUserId);
+    }
+
+    public boolean canAccess(UUID ownerId) {
+        return isUser(ownerId) || isAdmin();
+    }
+}
@@ -0,0 +1,29 @@
+package org.modular.playground.common.security;
+
+public enum Role {
+    USER("user"),
+    ADMIN("admin");
+
+    private final String claimValue;
+
+    Role(String claimValue) {
+        this.claimValue = claimValue;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public boolean isIn(int roles) {
+        return (roles & bit()) != 0;
+    }
+
+    public static int bitOf(String claimValue) {
+        for (Role role : values()) {
+            if (role.claimValue.equals(claimValue)) {
+                return role.bit();
+            }
+        }
+        return 0;
+    }
+}
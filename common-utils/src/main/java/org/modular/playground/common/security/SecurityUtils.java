@@ -5,17 +5,26 @@ import org.eclipse.microprofile.jwt.JsonWebToken;
 public class SecurityUtils {
 
     public static boolean isAdmin(JsonWebToken principal) {
+        return Role.ADMIN.isIn(roleBits(principal));
+    }
+
+    public static int roleBits(JsonWebToken principal) {
         if (principal == null || principal.getClaim("realm_access") == null) {
-            return false;
+            return 0;
         }
-        
+
+        int roles = 0;
         if (principal.getClaim("realm_access") instanceof jakarta.json.JsonObject) {
             jakarta.json.JsonObject realmAccess = principal.getClaim("realm_access");
-            jakarta.json.JsonArray roles = realmAccess.getJsonArray("roles");
-            if (roles != null) {
-                return roles.stream().anyMatch(role -> "admin".equals(((jakarta.json.JsonString) role).getString()));
+            jakarta.json.JsonArray roleNames = realmAccess.getJsonArray("roles");
+            if (roleNames != null) {
+                for (jakarta.json.JsonValue role : roleNames) {
+                    if (role instanceof jakarta.json.JsonString name) {
+                        roles |= Role.bitOf(name.getString());
+                    }
+                }
             }
         }
-        return false;
+        return roles;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package org.modular.playground.common.security;
+
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.SecurityIdentityAugmentor;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityUtils;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import java.util.Map;
+
+/**
+ * Stores every freshly verified JWT identity in the {@link VerifiedTokenCache}. It runs after all other augmentors so
+ * the cached identity already carries their roles and attributes. What is cached is a detached copy: attributes bound
+ * to the request that verified the token, such as its {@link RoutingContext}, are left out so they are neither kept
+ * alive nor handed to later requests, and permission checks are not carried over since they would hold on to the
+ * original identity.
+ */
+@ApplicationScoped
+public class TokenCachingAugmentor implements SecurityIdentityAugmentor {
+
+    @Inject
+    VerifiedTokenCache tokenCache;
+
+    @Override
+    public int priority() {
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public Uni<SecurityIdentity> augment(SecurityIdentity identity, AuthenticationRequestContext context) {
+        if (tokenCache.isEnabled()
+                && identity.getAttribute(CachedTokenIdentityProvider.CACHE_HIT_ATTRIBUTE) == null
+                && identity.getPrincipal() instanceof JsonWebToken jwt
+                && jwt.getRawToken() != null) {
+            tokenCache.put(jwt.getRawToken(), detached(identity), jwt.getExpirationTime());
+        }
+        return Uni.createFrom().item(identity);
+    }
+
+    static SecurityIdentity detached(SecurityIdentity identity) {
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder()
+                .setPrincipal(identity.getPrincipal())
+                .setAnonymous(identity.isAnonymous())
+                .addRoles(identity.getRoles())
+                .addCredentials(identity.getCredentials());
+        for (Map.Entry<String, Object> attribute : identity.getAttributes().entrySet()) {
+            if (!HttpSecurityUtils.ROUTING_CONTEXT_ATTRIBUTE.equals(attribute.getKey())
+                    && !(attribute.getValue() instanceof RoutingContext)) {
+                builder.addAttribute(attribute.getKey(), attribute.getValue());
+            }
+        }
+        return builder.build();
+    }
+}
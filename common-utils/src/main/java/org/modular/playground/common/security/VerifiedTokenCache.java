@@ -0,0 +1,121 @@
+package org.modular.playground.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.quarkus.security.identity.SecurityIdentity;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Bounded cache of already verified bearer tokens, keyed by the SHA-256 of the raw token. An entry lives until the
+ * token's {@code exp} or {@code app.security.token-cache.max-ttl}, whichever comes first, so a cached identity is
+ * never served for an expired token. Once {@code app.security.token-cache.max-size} entries are held, the least used
+ * ones are evicted to make room.
+ */
+@ApplicationScoped
+public class VerifiedTokenCache {
+
+    @ConfigProperty(name = "app.security.token-cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "app.security.token-cache.max-size", defaultValue = "10000")
+    int maxSize;
+
+    @ConfigProperty(name = "app.security.token-cache.max-ttl", defaultValue = "5M")
+    Duration maxTtl;
+
+    Clock clock = Clock.systemUTC();
+
+    private Cache<String, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilExpiresAt())
+                .ticker(() -> nanos(clock.instant()))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<SecurityIdentity> get(String rawToken) {
+        if (!enabled || rawToken == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.getIfPresent(hash(rawToken))).map(Entry::identity);
+    }
+
+    public void put(String rawToken, SecurityIdentity identity, long expirationTime) {
+        if (!enabled || rawToken == null || expirationTime <= 0) {
+            return;
+        }
+        Instant now = clock.instant();
+        Instant expiresAt = Instant.ofEpochSecond(expirationTime);
+        Instant ttlLimit = now.plus(maxTtl);
+        if (expiresAt.isAfter(ttlLimit)) {
+            expiresAt = ttlLimit;
+        }
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+        entries.put(hash(rawToken), new Entry(identity, expiresAt));
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private record Entry(SecurityIdentity identity, Instant expiresAt) {
+    }
+
+    /** Expires each entry at its own {@code expiresAt}, measured on the cache's clock-based ticker. */
+    private static final class UntilExpiresAt implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return Math.max(0, nanos(entry.expiresAt()) - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.modular.playground.common.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The fields a client asked for with {@code ?fields=name,description}. Nested fields are written with dots
+ * ({@code books.title}). Without the parameter every field is selected. Services use {@link #includes} to skip
+ * enrichment whose result would not be returned, and {@link SparseFieldsetsFilter} prunes the JSON response.
+ */
+public final class FieldSelection {
+
+    public static final FieldSelection ALL = new FieldSelection(null);
+
+    private static final String CONTENT = "content";
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        return new FieldSelection(Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public Set<String> fields() {
+        return fields == null ? Set.of() : Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * Whether {@code field} or any of its nested fields was selected.
+     */
+    public boolean includes(String field) {
+        if (isAll()) {
+            return true;
+        }
+        String prefix = field + ".";
+        return fields.stream().anyMatch(selected -> selected.equals(field) || selected.startsWith(prefix));
+    }
+
+    /**
+     * Removes the fields that were not selected. Arrays are pruned element by element. An object with a
+     * {@code content} array is treated as a page: its own properties are kept and the selection applies to the
+     * elements of {@code content}.
+     */
+    public JsonNode prune(JsonNode node) {
+        if (isAll()) {
+            return node;
+        }
+        if (node instanceof ObjectNode object && object.get(CONTENT) instanceof ArrayNode content) {
+            prune(content, tree(fields));
+            return object;
+        }
+        prune(node, tree(fields));
+        return node;
+    }
+
+    private static void prune(JsonNode node, Node selection) {
+        if (selection.whole) {
+            return;
+        }
+        if (node instanceof ArrayNode array) {
+            array.forEach(element -> prune(element, selection));
+        } else if (node instanceof ObjectNode object) {
+            object.retain(selection.children.keySet());
+            selection.children.forEach((name, nested) -> {
+                if (object.has(name)) {
+                    prune(object.get(name), nested);
+                }
+            });
+        }
+    }
+
+    private static Node tree(Set<String> paths) {
+        Node root = new Node();
+        for (String path : paths) {
+            Node level = root;
+            for (String segment : path.split("\\.")) {
+                level = level.children.computeIfAbsent(segment, key -> new Node());
+                if (level.whole) {
+                    break;
+                }
+            }
+            level.whole = true;
+            level.children.clear();
+        }
+        return root;
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "*" : String.join(",", fields);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private boolean whole;
+    }
+}
@@ -0,0 +1,193 @@
+package org.modular.playground.common.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bounded cache of already serialized JSON response bodies, keyed by resource name and ID. An entry is only served
+ * for the version it was built from and for at most {@code app.http.response-cache.max-ttl}, which bounds staleness
+ * for unversioned resources and for writes made by other instances. Writers call {@link #invalidate} after changing a
+ * resource so this instance stops serving it right away. Once {@code app.http.response-cache.max-size} entries are
+ * held, the least used ones are evicted to make room. With {@code app.http.response-cache.compress} enabled, a
+ * gzip copy of each body is kept as well and sent to clients that accept it; {@link #tag} gives that copy its own
+ * entity tag.
+ */
+@ApplicationScoped
+public class SerializedResponseCache {
+
+    private static final Logger LOGGER = Logger.getLogger(SerializedResponseCache.class);
+    private static final String GZIP = "gzip";
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "app.http.response-cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "app.http.response-cache.max-size", defaultValue = "10000")
+    int maxSize;
+
+    @ConfigProperty(name = "app.http.response-cache.max-ttl", defaultValue = "30S")
+    Duration maxTtl;
+
+    @ConfigProperty(name = "app.http.response-cache.compress", defaultValue = "false")
+    boolean compress;
+
+    Clock clock = Clock.systemUTC();
+
+    private Cache<Key, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(maxTtl)
+                .ticker(() -> nanos(clock.instant()))
+                .build();
+    }
+
+    /**
+     * Builds a {@code 200 OK} for the given resource from the cached bytes when an entry for this version exists, and
+     * otherwise serializes {@code body} once and caches the result. When the cache is disabled, {@code body} is
+     * returned as a regular entity.
+     */
+    public Response.ResponseBuilder ok(String resource, Object id, Object version, String acceptEncoding,
+            Supplier<?> body) {
+        if (!enabled) {
+            return Response.ok(body.get());
+        }
+        Key key = new Key(resource, id);
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null || !Objects.equals(entry.version(), version)) {
+            entry = serialize(body.get(), version);
+            entries.put(key, entry);
+        } else {
+            LOGGER.debugf("Serving cached %s response for %s", resource, id);
+        }
+        Response.ResponseBuilder builder = Response.ok().type(MediaType.APPLICATION_JSON_TYPE);
+        if (entry.gzip() == null) {
+            return builder.entity(entry.json());
+        }
+        builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return builder.entity(entry.gzip()).header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return builder.entity(entry.json());
+    }
+
+    /**
+     * Returns the entity tag of the body {@link #ok} sends for this {@code Accept-Encoding}. A strong tag must differ
+     * between content codings, so when the gzip copy is sent, {@code tag} gets a {@code -gzip} suffix. Callers
+     * evaluate preconditions against this tag, so revalidation works for both codings.
+     */
+    public EntityTag tag(EntityTag tag, String acceptEncoding) {
+        if (!enabled || !compress || !acceptsGzip(acceptEncoding)) {
+            return tag;
+        }
+        return new EntityTag(tag.getValue() + "-" + GZIP, tag.isWeak());
+    }
+
+    /**
+     * Drops every cached response for the given ID, whatever the resource, e.g. a book and the review stats of that
+     * book.
+     */
+    public void invalidate(Object id) {
+        entries.asMap().keySet().removeIf(key -> key.id().equals(id));
+    }
+
+    public void invalidate(String resource, Object id) {
+        entries.invalidate(new Key(resource, id));
+    }
+
+    public void invalidateAll(String resource) {
+        entries.asMap().keySet().removeIf(key -> key.resource().equals(resource));
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private Entry serialize(Object body, Object version) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new Entry(json, compress ? gzip(json) : null, version);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + body.getClass().getSimpleName(), e);
+        }
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!GZIP.equalsIgnoreCase(name) && !"*".equals(name)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private record Key(String resource, Object id) {
+    }
+
+    private record Entry(byte[] json, byte[] gzip, Object version) {
+    }
+}
@@ -0,0 +1,19 @@
+package org.modular.playground.common.web;
+
+import jakarta.ws.rs.NameBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets the annotated resources or methods take a {@code ?fields=} parameter; see {@link FieldSelection}.
+ */
+@NameBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SparseFieldsets {
+
+    String FIELDS_PARAM = "fields";
+}
@@ -0,0 +1,44 @@
+package org.modular.playground.common.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+
+/**
+ * Prunes successful JSON responses of {@link SparseFieldsets} resources to the requested {@code fields}. Resources
+ * backed by {@link SerializedResponseCache} bypass it when fields are selected, so their DTO is pruned directly; any
+ * other pre-serialized body is parsed back first, and a compressed one is sent whole. Other media types are not
+ * pruned.
+ */
+@Provider
+@SparseFieldsets
+public class SparseFieldsetsFilter implements ContainerResponseFilter {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+            throws IOException {
+        FieldSelection fields = FieldSelection.parse(
+                requestContext.getUriInfo().getQueryParameters().getFirst(SparseFieldsets.FIELDS_PARAM));
+        if (fields.isAll() || !responseContext.hasEntity()
+                || responseContext.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL
+                || !MediaType.APPLICATION_JSON_TYPE.isCompatible(responseContext.getMediaType())
+                || responseContext.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return;
+        }
+        Object entity = responseContext.getEntity();
+        JsonNode tree = entity instanceof byte[] bytes ? objectMapper.readTree(bytes) : objectMapper.valueToTree(entity);
+        responseContext.setEntity(fields.prune(tree));
+    }
+}
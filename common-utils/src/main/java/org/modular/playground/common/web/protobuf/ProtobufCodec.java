@@ -0,0 +1,30 @@
+package org.modular.playground.common.web.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes one response DTO as a Protobuf message. The matching message definitions are kept in
+ * {@code doc/proto/myreadings.proto}. Implementations are CDI beans picked up by {@link ProtobufMessageBodyWriter}.
+ */
+public interface ProtobufCodec<T> {
+
+    Class<T> type();
+
+    void writeTo(T value, CodedOutputStream output) throws IOException;
+
+    default byte[] toByteArray(T value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        try {
+            writeTo(value, output);
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,95 @@
+package org.modular.playground.common.web.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Field writers shared by the {@link ProtobufCodec}s. As in proto3, {@code null} and default values are not written.
+ * UUIDs are 16 raw bytes, dates are days since the epoch and date-times are milliseconds since the epoch, read as UTC.
+ */
+public final class ProtobufFields {
+
+    private ProtobufFields() {
+    }
+
+    public static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            output.writeString(field, value);
+        }
+    }
+
+    public static void writeStrings(CodedOutputStream output, int field, Collection<String> values) throws IOException {
+        if (values != null) {
+            for (String value : values) {
+                output.writeString(field, value);
+            }
+        }
+    }
+
+    public static void writeInt32(CodedOutputStream output, int field, int value) throws IOException {
+        if (value != 0) {
+            output.writeInt32(field, value);
+        }
+    }
+
+    public static void writeUuid(CodedOutputStream output, int field, UUID value) throws IOException {
+        if (value != null) {
+            output.writeByteArray(field, toBytes(value));
+        }
+    }
+
+    public static void writeUuids(CodedOutputStream output, int field, Collection<UUID> values) throws IOException {
+        if (values != null) {
+            for (UUID value : values) {
+                output.writeByteArray(field, toBytes(value));
+            }
+        }
+    }
+
+    public static void writeDate(CodedOutputStream output, int field, LocalDate value) throws IOException {
+        if (value != null) {
+            output.writeSInt32(field, Math.toIntExact(value.toEpochDay()));
+        }
+    }
+
+    public static void writeDateTime(CodedOutputStream output, int field, LocalDateTime value) throws IOException {
+        if (value != null) {
+            output.writeSInt64(field, value.toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+    }
+
+    public static <T> void writeMessage(CodedOutputStream output, int field, ProtobufCodec<T> codec, T value)
+            throws IOException {
+        if (value != null) {
+            output.writeByteArray(field, codec.toByteArray(value));
+        }
+    }
+
+    public static <T> void writeMessages(CodedOutputStream output, int field, ProtobufCodec<T> codec,
+            Collection<? extends T> values) throws IOException {
+        if (values != null) {
+            for (T value : values) {
+                output.writeByteArray(field, codec.toByteArray(value));
+            }
+        }
+    }
+
+    public static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static byte[] toBytes(UUID value) {
+        return ByteBuffer.allocate(16)
+                .putLong(value.getMostSignificantBits())
+                .putLong(value.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,99 @@
+package org.modular.playground.common.web.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes response entities as Protobuf for endpoints that also produce {@value #APPLICATION_PROTOBUF}. An entity
+ * needs a {@link ProtobufCodec} for its class; a collection is written as a wrapper message whose field 1 repeats its
+ * elements, so a {@code List<BookResponseDTO>} is read as a {@code BookList}. Collections are only writeable when their
+ * element type is known and has a codec, so resources returning them in a {@code Response} wrap the list in a
+ * {@link jakarta.ws.rs.core.GenericEntity}.
+ */
+@Provider
+@Produces(ProtobufMessageBodyWriter.APPLICATION_PROTOBUF)
+public class ProtobufMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    public static final String APPLICATION_PROTOBUF = "application/x-protobuf";
+    public static final MediaType APPLICATION_PROTOBUF_TYPE = MediaType.valueOf(APPLICATION_PROTOBUF);
+
+    private static final int ITEMS_FIELD = 1;
+
+    @Inject
+    @Any
+    Instance<ProtobufCodec<?>> codecBeans;
+
+    private volatile Map<Class<?>, ProtobufCodec<?>> codecs;
+
+    public ProtobufMessageBodyWriter() {
+    }
+
+    ProtobufMessageBodyWriter(List<ProtobufCodec<?>> codecs) {
+        this.codecs = index(codecs);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        if (Collection.class.isAssignableFrom(type)) {
+            return genericType instanceof ParameterizedType parameterized
+                    && parameterized.getActualTypeArguments().length == 1
+                    && parameterized.getActualTypeArguments()[0] instanceof Class<?> elementType
+                    && codecs().containsKey(elementType);
+        }
+        return codecs().containsKey(type);
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(entityStream);
+        if (entity instanceof Collection<?> items) {
+            for (Object item : items) {
+                output.writeByteArray(ITEMS_FIELD, codecFor(item.getClass()).toByteArray(item));
+            }
+        } else {
+            codecFor(type).writeTo(entity, output);
+        }
+        output.flush();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProtobufCodec<Object> codecFor(Class<?> type) {
+        ProtobufCodec<?> codec = codecs().get(type);
+        if (codec == null) {
+            throw new IllegalStateException("No Protobuf codec registered for " + type.getName());
+        }
+        return (ProtobufCodec<Object>) codec;
+    }
+
+    private Map<Class<?>, ProtobufCodec<?>> codecs() {
+        Map<Class<?>, ProtobufCodec<?>> current = codecs;
+        if (current == null) {
+            current = index(codecBeans.stream().toList());
+            codecs = current;
+        }
+        return current;
+    }
+
+    private static Map<Class<?>, ProtobufCodec<?>> index(List<ProtobufCodec<?>> codecs) {
+        return codecs.stream().collect(Collectors.toUnmodifiableMap(ProtobufCodec::type, Function.identity()));
+    }
+}
@@ -0,0 +1,15 @@
+package org.modular.playground.common;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import java.util.Map;
+
+public class LocalIssuerTestProfile implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of(
+                "app.repository.type", "in-memory",
+                "quarkus.keycloak.devservices.enabled", "false",
+                "quarkus.oidc.public-key", LocalTokenIssuer.publicKey(),
+                "quarkus.oidc.token.issuer", LocalTokenIssuer.ISSUER);
+    }
+}
@@ -0,0 +1,55 @@
+package org.modular.playground.common;
+
+import io.smallrye.jwt.build.Jwt;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stand-in for Keycloak in tests: signs realm-style access tokens with an in-process RSA key whose public half is
+ * handed to the OIDC extension by {@link LocalIssuerTestProfile}, so no identity provider container is needed.
+ */
+public final class LocalTokenIssuer {
+
+    public static final String ISSUER = "https://local-issuer.test/realms/my-readings";
+
+    private static final KeyPair KEY_PAIR = generateKeyPair();
+
+    private LocalTokenIssuer() {
+    }
+
+    public static String issue(UUID userId, String... roles) {
+        return issue(userId, Duration.ofMinutes(5), roles);
+    }
+
+    public static String issue(UUID userId, Duration lifetime, String... roles) {
+        return Jwt.issuer(ISSUER)
+                .subject(userId.toString())
+                .claim("preferred_username", userId.toString())
+                .claim("realm_access", Map.of("roles", List.of(roles)))
+                .expiresIn(lifetime)
+                .jws()
+                .keyId("local")
+                .sign(KEY_PAIR.getPrivate());
+    }
+
+    public static String publicKey() {
+        return Base64.getEncoder().encodeToString(KEY_PAIR.getPublic().getEncoded());
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("RSA is not available", e);
+        }
+    }
+}
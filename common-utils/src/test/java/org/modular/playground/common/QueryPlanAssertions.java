@@ -0,0 +1,50 @@
+package org.modular.playground.common;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@code EXPLAIN} against a PostgreSQL datasource and asserts which index the planner picks.
+ * Sequential scans are disabled for the duration of the check, because test tables hold only a
+ * handful of rows and the planner would otherwise always prefer them.
+ */
+public final class QueryPlanAssertions {
+
+    private QueryPlanAssertions() {
+    }
+
+    public static void assertUsesIndex(DataSource dataSource, String sql, String indexName) {
+        List<String> plan = explain(dataSource, sql);
+        assertTrue(plan.stream().anyMatch(line -> line.contains(indexName)),
+                () -> "Expected plan to use index " + indexName + " for: " + sql + "\n" + String.join("\n", plan));
+    }
+
+    public static List<String> explain(DataSource dataSource, String sql) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+                List<String> plan = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+                return plan;
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not explain query: " + sql, e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.modular.playground.common;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Fails a test when any virtual thread got pinned to its carrier while the test was running.
+ * Pinning is detected through the JFR {@code jdk.VirtualThreadPinned} event. On JVMs older than 21
+ * there are no virtual threads to pin, so the tests are reported as skipped instead of passing.
+ */
+public class VirtualThreadPinningExtension implements ExecutionCondition, BeforeEachCallback, AfterEachCallback {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MIN_FEATURE_VERSION = 21;
+    private static final int MAX_REPORTED_FRAMES = 8;
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(VirtualThreadPinningExtension.class);
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        int feature = Runtime.version().feature();
+        if (feature < MIN_FEATURE_VERSION) {
+            return ConditionEvaluationResult.disabled(
+                    "Virtual threads need Java " + MIN_FEATURE_VERSION + ", running on Java " + feature);
+        }
+        return ConditionEvaluationResult.enabled("Running on Java " + feature);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        Recording recording = new Recording();
+        recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+        recording.start();
+        context.getStore(NAMESPACE).put(context.getUniqueId(), recording);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) throws Exception {
+        Recording recording = context.getStore(NAMESPACE).remove(context.getUniqueId(), Recording.class);
+        if (recording == null) {
+            return;
+        }
+        List<RecordedEvent> pinnedEvents;
+        Path dump = Files.createTempFile("virtual-thread-pinning-", ".jfr");
+        try {
+            recording.stop();
+            recording.dump(dump);
+            pinnedEvents = RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> PINNED_EVENT.equals(event.getEventType().getName()))
+                    .collect(Collectors.toList());
+        } finally {
+            recording.close();
+            Files.deleteIfExists(dump);
+        }
+        if (!pinnedEvents.isEmpty()) {
+            fail(String.format("Detected %d pinned virtual thread(s) during %s, first at:%n%s",
+                    pinnedEvents.size(), context.getDisplayName(), describe(pinnedEvents.get(0))));
+        }
+    }
+
+    private String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "  <no stack trace>";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(MAX_REPORTED_FRAMES)
+                .map(this::describe)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private String describe(RecordedFrame frame) {
+        return String.format("  at %s.%s(line %d)",
+                frame.getMethod().getType().getName(), frame.getMethod().getName(), frame.getLineNumber());
+    }
+}
@@ -0,0 +1,11 @@
+package org.modular.playground.common;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import java.util.Map;
+
+public class VirtualThreadsTestProfile implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of("quarkus.virtual-threads.enabled", "true");
+    }
+}
@@ -0,0 +1,146 @@
+package org.modular.playground.common.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReplicaRouterUnitTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+    private static final String PRIMARY = "books-db";
+    private static final String REPLICA = "books-db-replica";
+
+    private ReplicaRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = new ReplicaRouter();
+        router.enabled = true;
+        router.stickiness = Duration.ofSeconds(5);
+        router.clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    }
+
+    @Test
+    void shouldRouteReadOnlySessionsToReplica() {
+        assertEquals(REPLICA, router.route(PRIMARY, REPLICA, readOnly(), "alice"));
+    }
+
+    @Test
+    void shouldRouteOtherSessionsToPrimary() {
+        assertEquals(PRIMARY, router.route(PRIMARY, REPLICA, new ReadOnlyContext(), "alice"));
+    }
+
+    @Test
+    void shouldKeepRequestOnPrimaryAfterItWrote() {
+        ReadOnlyContext context = new ReadOnlyContext();
+        router.recordWrite(context, null);
+
+        context.enter();
+        assertEquals(PRIMARY, router.route(PRIMARY, REPLICA, context, null));
+    }
+
+    @Test
+    void shouldKeepCallerOnPrimaryWithinStickinessWindow() {
+        router.recordWrite(new ReadOnlyContext(), "alice");
+
+        router.clock = Clock.fixed(NOW.plusSeconds(4), ZoneOffset.UTC);
+        assertEquals(PRIMARY, router.route(PRIMARY, REPLICA, readOnly(), "alice"));
+        assertEquals(REPLICA, router.route(PRIMARY, REPLICA, readOnly(), "jdoe"));
+
+        router.clock = Clock.fixed(NOW.plusSeconds(5), ZoneOffset.UTC);
+        assertEquals(REPLICA, router.route(PRIMARY, REPLICA, readOnly(), "alice"));
+    }
+
+    @Test
+    void shouldNotTrackAnonymousCallers() {
+        router.recordWrite(new ReadOnlyContext(), null);
+
+        assertEquals(REPLICA, router.route(PRIMARY, REPLICA, readOnly(), null));
+    }
+
+    @Test
+    void shouldNotMakeCallerStickyForSessionsThatOnlyRead() {
+        assertEquals(PRIMARY, router.route(PRIMARY, REPLICA, new ReadOnlyContext(), "alice"));
+
+        assertEquals(REPLICA, router.route(PRIMARY, REPLICA, readOnly(), "alice"));
+    }
+
+    @Test
+    void shouldOnlyCountWritingStatementsAsWrites() {
+        assertTrue(ReplicaRouter.isWrite("insert into books (book_id) values (?)"));
+        assertTrue(ReplicaRouter.isWrite("  UPDATE reviews SET rating = ? WHERE review_id = ? RETURNING *"));
+        assertTrue(ReplicaRouter.isWrite("delete from reading_list_items where reading_list_id = ?"));
+        assertFalse(ReplicaRouter.isWrite("select b1_0.book_id from books b1_0 where b1_0.book_id = ?"));
+        assertFalse(ReplicaRouter.isWrite("select * from reviews for update"));
+    }
+
+    @Test
+    void shouldKeepReadOnlyDepthPerThread() throws Exception {
+        ReadOnlyContext context = new ReadOnlyContext();
+        context.enter();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(PRIMARY, executor.submit(() -> router.route(PRIMARY, REPLICA, context, "alice")).get());
+            executor.submit(() -> {
+                context.enter();
+                context.exit();
+                context.exit();
+            }).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(REPLICA, router.route(PRIMARY, REPLICA, context, "alice"));
+    }
+
+    @Test
+    void shouldShareWritesAcrossThreadsOfTheRequest() throws Exception {
+        ReadOnlyContext context = new ReadOnlyContext();
+        context.enter();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> router.recordWrite(context, null)).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(PRIMARY, router.route(PRIMARY, REPLICA, context, null));
+    }
+
+    @Test
+    void shouldRouteToReplicaOnlyWhileReadOnlyMethodIsOnTheStack() {
+        ReadOnlyContext context = new ReadOnlyContext();
+        context.enter();
+        context.enter();
+        context.exit();
+        assertEquals(REPLICA, router.route(PRIMARY, REPLICA, context, "alice"));
+
+        context.exit();
+        assertEquals(PRIMARY, router.route(PRIMARY, REPLICA, context, "alice"));
+    }
+
+    @Test
+    void shouldAlwaysRouteToPrimaryWhenDisabled() {
+        router.enabled = false;
+
+        assertEquals(PRIMARY, router.route(PRIMARY, REPLICA));
+    }
+
+    private static ReadOnlyContext readOnly() {
+        ReadOnlyContext context = new ReadOnlyContext();
+        context.enter();
+        return context;
+    }
+}
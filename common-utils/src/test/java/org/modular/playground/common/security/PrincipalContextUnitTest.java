@@ -0,0 +1,81 @@
+package org.modular.playground.common.security;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PrincipalContextUnitTest {
+
+    @Test
+    void shouldParseSubjectAndRolesOnce() {
+        UUID userId = UUID.randomUUID();
+        JsonWebToken principal = createMockToken(userId, "user", "admin");
+        PrincipalContext context = new PrincipalContext();
+
+        ResolvedPrincipal first = context.resolve(principal);
+        ResolvedPrincipal second = context.resolve(principal);
+
+        assertSame(first, second);
+        assertEquals(userId, first.userId());
+        assertTrue(first.hasRole(Role.USER));
+        assertTrue(first.isAdmin());
+        verify(principal, times(1)).getSubject();
+    }
+
+    @Test
+    void shouldResolveAgainForADifferentToken() {
+        PrincipalContext context = new PrincipalContext();
+        UUID firstUser = UUID.randomUUID();
+        UUID secondUser = UUID.randomUUID();
+
+        context.resolve(createMockToken(firstUser, "user"));
+        ResolvedPrincipal resolved = context.resolve(createMockToken(secondUser, "user"));
+
+        assertEquals(secondUser, resolved.userId());
+    }
+
+    @Test
+    void shouldGrantAccessToOwnerOrAdminOnly() {
+        UUID ownerId = UUID.randomUUID();
+        ResolvedPrincipal owner = new ResolvedPrincipal(ownerId, Role.USER.bit());
+        ResolvedPrincipal stranger = new ResolvedPrincipal(UUID.randomUUID(), Role.USER.bit());
+        ResolvedPrincipal admin = new ResolvedPrincipal(UUID.randomUUID(), Role.USER.bit() | Role.ADMIN.bit());
+
+        assertTrue(owner.canAccess(ownerId));
+        assertFalse(stranger.canAccess(ownerId));
+        assertTrue(admin.canAccess(ownerId));
+    }
+
+    @Test
+    void shouldResolveAnonymousPrincipalWithoutRoles() {
+        ResolvedPrincipal resolved = ResolvedPrincipal.from(null);
+
+        assertNull(resolved.userId());
+        assertEquals(0, resolved.roles());
+        assertFalse(resolved.canAccess(UUID.randomUUID()));
+    }
+
+    private JsonWebToken createMockToken(UUID userId, String... roles) {
+        JsonObject realmAccess = Json.createObjectBuilder()
+                .add("roles", Json.createArrayBuilder(List.of(roles)))
+                .build();
+        JsonWebToken principal = Mockito.mock(JsonWebToken.class);
+        when(principal.getSubject()).thenReturn(userId.toString());
+        when(principal.getClaim("realm_access")).thenReturn(realmAccess);
+        return principal;
+    }
+}
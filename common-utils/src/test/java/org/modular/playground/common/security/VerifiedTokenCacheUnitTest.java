@@ -0,0 +1,169 @@
+package org.modular.playground.common.security;
+
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityUtils;
+import io.vertx.ext.web.RoutingContext;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class VerifiedTokenCacheUnitTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache();
+        cache.enabled = true;
+        cache.maxSize = 10000;
+        cache.maxTtl = Duration.ofMinutes(5);
+        cache.clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        cache.init();
+    }
+
+    @Test
+    void shouldReturnCachedIdentityUntilTokenExpires() {
+        SecurityIdentity identity = identity("token-a", NOW.plusSeconds(60));
+        cache.put("token-a", identity, NOW.plusSeconds(60).getEpochSecond());
+
+        assertSame(identity, cache.get("token-a").orElseThrow());
+
+        cache.clock = Clock.fixed(NOW.plusSeconds(60), ZoneOffset.UTC);
+        assertTrue(cache.get("token-a").isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldCapEntryLifetimeAtMaxTtl() {
+        cache.maxTtl = Duration.ofSeconds(30);
+        cache.put("token-a", identity("token-a", NOW.plusSeconds(3600)), NOW.plusSeconds(3600).getEpochSecond());
+
+        cache.clock = Clock.fixed(NOW.plusSeconds(29), ZoneOffset.UTC);
+        assertTrue(cache.get("token-a").isPresent());
+
+        cache.clock = Clock.fixed(NOW.plusSeconds(30), ZoneOffset.UTC);
+        assertTrue(cache.get("token-a").isEmpty());
+    }
+
+    @Test
+    void shouldNotCacheAlreadyExpiredToken() {
+        cache.put("token-a", identity("token-a", NOW), NOW.getEpochSecond());
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldMakeRoomForNewTokensWhenFull() {
+        cache.maxSize = 2;
+        cache.init();
+        for (int i = 0; i < 50; i++) {
+            cache.put("one-off-" + i, identity("one-off-" + i, NOW.plusSeconds(60)), NOW.plusSeconds(60).getEpochSecond());
+        }
+
+        cache.put("new", identity("new", NOW.plusSeconds(60)), NOW.plusSeconds(60).getEpochSecond());
+
+        assertTrue(cache.get("new").isPresent());
+        assertTrue(cache.size() <= 2);
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        cache.enabled = false;
+        cache.put("token-a", identity("token-a", NOW.plusSeconds(60)), NOW.plusSeconds(60).getEpochSecond());
+
+        assertEquals(0, cache.size());
+        assertTrue(cache.get("token-a").isEmpty());
+    }
+
+    @Test
+    void shouldKeyEntriesByTokenHash() {
+        assertEquals(64, VerifiedTokenCache.hash("token-a").length());
+        assertFalse(VerifiedTokenCache.hash("token-a").equals(VerifiedTokenCache.hash("token-b")));
+    }
+
+    @Test
+    void augmentorShouldStoreVerifiedIdentityAndProviderShouldServeIt() {
+        TokenCachingAugmentor augmentor = new TokenCachingAugmentor();
+        augmentor.tokenCache = cache;
+        CachedTokenIdentityProvider provider = new CachedTokenIdentityProvider();
+        provider.tokenCache = cache;
+        TokenAuthenticationRequest request = new TokenAuthenticationRequest(new TokenCredential("token-a", "bearer"));
+
+        assertNull(provider.authenticate(request, null).await().indefinitely());
+
+        SecurityIdentity verified = identity("token-a", NOW.plusSeconds(60));
+        augmentor.augment(verified, null).await().indefinitely();
+        SecurityIdentity cached = provider.authenticate(request, null).await().indefinitely();
+
+        assertSame(verified.getPrincipal(), cached.getPrincipal());
+        assertTrue(cached.hasRole("user"));
+        assertEquals(Boolean.TRUE, cached.getAttribute(CachedTokenIdentityProvider.CACHE_HIT_ATTRIBUTE));
+    }
+
+    @Test
+    void augmentorShouldNotCacheRequestBoundAttributes() {
+        TokenCachingAugmentor augmentor = new TokenCachingAugmentor();
+        augmentor.tokenCache = cache;
+        SecurityIdentity verified = QuarkusSecurityIdentity.builder()
+                .setPrincipal(jwt("token-a", NOW.plusSeconds(60)))
+                .addRole("user")
+                .addAttribute("tenant-id", "default")
+                .addAttribute(HttpSecurityUtils.ROUTING_CONTEXT_ATTRIBUTE, mock(RoutingContext.class))
+                .build();
+
+        augmentor.augment(verified, null).await().indefinitely();
+        SecurityIdentity cached = cache.get("token-a").orElseThrow();
+
+        assertNull(cached.getAttribute(HttpSecurityUtils.ROUTING_CONTEXT_ATTRIBUTE));
+        assertEquals("default", cached.getAttribute("tenant-id"));
+        assertTrue(cached.hasRole("user"));
+    }
+
+    @Test
+    void augmentorShouldNotStoreIdentityServedFromCache() {
+        TokenCachingAugmentor augmentor = new TokenCachingAugmentor();
+        augmentor.tokenCache = cache;
+        JsonWebToken jwt = jwt("token-a", NOW.plusSeconds(60));
+        SecurityIdentity cacheHit = QuarkusSecurityIdentity.builder()
+                .setPrincipal(jwt)
+                .addAttribute(CachedTokenIdentityProvider.CACHE_HIT_ATTRIBUTE, Boolean.TRUE)
+                .build();
+
+        augmentor.augment(cacheHit, null).await().indefinitely();
+
+        assertEquals(0, cache.size());
+    }
+
+    private static SecurityIdentity identity(String rawToken, Instant expiresAt) {
+        return QuarkusSecurityIdentity.builder()
+                .setPrincipal(jwt(rawToken, expiresAt))
+                .addRole("user")
+                .build();
+    }
+
+    private static JsonWebToken jwt(String rawToken, Instant expiresAt) {
+        JsonWebToken jwt = mock(JsonWebToken.class);
+        when(jwt.getRawToken()).thenReturn(rawToken);
+        when(jwt.getExpirationTime()).thenReturn(expiresAt.getEpochSecond());
+        when(jwt.getName()).thenReturn("alice");
+        return jwt;
+    }
+}
@@ -0,0 +1,32 @@
+package org.modular.playground.common.web;
+
+import jakarta.ws.rs.core.EntityTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class EntityTagsUnitTest {
+
+    @Test
+    void shouldBuildSameStrongTagForSameParts() {
+        UUID bookId = UUID.randomUUID();
+
+        EntityTag tag = EntityTags.of(bookId, 3L);
+
+        assertEquals(tag, EntityTags.of(bookId, 3L));
+        assertFalse(tag.isWeak());
+        assertEquals(32, tag.getValue().length());
+    }
+
+    @Test
+    void shouldChangeTagWhenAnyPartChanges() {
+        UUID bookId = UUID.randomUUID();
+
+        assertNotEquals(EntityTags.of(bookId, 3L), EntityTags.of(bookId, 4L));
+        assertNotEquals(EntityTags.of("ab", "c"), EntityTags.of("a", "bc"));
+    }
+}
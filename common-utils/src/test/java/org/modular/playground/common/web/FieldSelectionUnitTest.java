@@ -0,0 +1,67 @@
+package org.modular.playground.common.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FieldSelectionUnitTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldSelectEverythingWithoutParameter() throws Exception {
+        JsonNode json = json("{\"name\":\"Sci-fi\",\"books\":[]}");
+
+        assertSame(FieldSelection.ALL, FieldSelection.parse(" "));
+        assertTrue(FieldSelection.parse(null).includes("books"));
+        assertSame(json, FieldSelection.ALL.prune(json));
+        assertEquals(json("{\"name\":\"Sci-fi\",\"books\":[]}"), json);
+    }
+
+    @Test
+    void shouldIncludeFieldsSelectedDirectlyOrThroughNestedField() {
+        FieldSelection fields = FieldSelection.parse("name, books.title");
+
+        assertTrue(fields.includes("name"));
+        assertTrue(fields.includes("books"));
+        assertFalse(fields.includes("book"));
+        assertFalse(fields.includes("description"));
+    }
+
+    @Test
+    void shouldPruneObjectsAndArraysToSelectedFields() throws Exception {
+        JsonNode json = json("[{\"name\":\"Sci-fi\",\"description\":\"d\",\"books\":[{\"title\":\"Dune\",\"isbn\":\"1\"}]},"
+                + "{\"name\":\"Classics\",\"description\":\"d\"}]");
+
+        JsonNode pruned = FieldSelection.parse("name,books.title").prune(json);
+
+        assertEquals(json("[{\"name\":\"Sci-fi\",\"books\":[{\"title\":\"Dune\"}]},{\"name\":\"Classics\"}]"), pruned);
+    }
+
+    @Test
+    void shouldKeepWholeFieldWhenAlsoSelectedWithoutNestedPath() throws Exception {
+        JsonNode json = json("{\"name\":\"Sci-fi\",\"books\":[{\"title\":\"Dune\",\"isbn\":\"1\"}]}");
+
+        JsonNode pruned = FieldSelection.parse("books.title,books").prune(json);
+
+        assertEquals(json("{\"books\":[{\"title\":\"Dune\",\"isbn\":\"1\"}]}"), pruned);
+    }
+
+    @Test
+    void shouldApplySelectionToPageContent() throws Exception {
+        JsonNode json = json("{\"content\":[{\"rating\":5,\"reviewText\":\"Great\"}],\"totalElements\":1}");
+
+        JsonNode pruned = FieldSelection.parse("rating").prune(json);
+
+        assertEquals(json("{\"content\":[{\"rating\":5}],\"totalElements\":1}"), pruned);
+    }
+
+    private JsonNode json(String json) throws Exception {
+        return objectMapper.readTree(json);
+    }
+}
@@ -0,0 +1,147 @@
+package org.modular.playground.common.web;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SerializedResponseCacheUnitTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private SerializedResponseCache cache;
+    private AtomicInteger serializations;
+
+    @BeforeEach
+    void setUp() {
+        cache = TestResponseCaches.withDefaults();
+        cache.clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        serializations = new AtomicInteger();
+    }
+
+    @Test
+    void shouldServeSameBytesForSameVersion() {
+        Response first = cache.ok("book", "b1", 1L, null, body("Dune")).build();
+        Response second = cache.ok("book", "b1", 1L, null, body("Dune")).build();
+
+        assertEquals("{\"title\":\"Dune\"}", new String((byte[]) first.getEntity(), StandardCharsets.UTF_8));
+        assertSame(first.getEntity(), second.getEntity());
+        assertEquals(1, serializations.get());
+    }
+
+    @Test
+    void shouldSerializeAgainWhenVersionChanges() {
+        cache.ok("book", "b1", 1L, null, body("Dune")).build();
+        Response updated = cache.ok("book", "b1", 2L, null, body("Dune Messiah")).build();
+
+        assertEquals("{\"title\":\"Dune Messiah\"}", new String((byte[]) updated.getEntity(), StandardCharsets.UTF_8));
+        assertEquals(2, serializations.get());
+    }
+
+    @Test
+    void shouldExpireEntriesAfterMaxTtl() {
+        cache.ok("review-stats", "b1", null, null, body("Dune")).build();
+
+        cache.clock = Clock.fixed(NOW.plus(cache.maxTtl), ZoneOffset.UTC);
+        cache.ok("review-stats", "b1", null, null, body("Dune")).build();
+
+        assertEquals(2, serializations.get());
+    }
+
+    @Test
+    void shouldInvalidateEveryResourceForId() {
+        cache.ok("book", "b1", 1L, null, body("Dune")).build();
+        cache.ok("review-stats", "b1", null, null, body("Dune")).build();
+        cache.ok("book", "b2", 1L, null, body("Emma")).build();
+
+        cache.invalidate("b1");
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldMakeRoomForNewResponsesWhenFull() {
+        cache.maxSize = 2;
+        cache.init();
+        for (int i = 0; i < 50; i++) {
+            cache.ok("book", "one-off-" + i, 1L, null, body("One-off")).build();
+        }
+
+        cache.ok("book", "b1", 1L, null, body("Dune")).build();
+        cache.ok("book", "b1", 1L, null, body("Dune")).build();
+
+        assertTrue(cache.size() <= 2);
+        assertEquals(51, serializations.get());
+    }
+
+    @Test
+    void shouldSendGzipCopyOnlyToClientsAcceptingIt() throws IOException {
+        cache.compress = true;
+
+        Response gzipped = cache.ok("book", "b1", 1L, "deflate, gzip;q=0.8", body("Dune")).build();
+        Response plain = cache.ok("book", "b1", 1L, "gzip;q=0", body("Dune")).build();
+
+        assertEquals("gzip", gzipped.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream((byte[]) gzipped.getEntity()))) {
+            assertEquals("{\"title\":\"Dune\"}", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertNull(plain.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, plain.getHeaderString(HttpHeaders.VARY));
+        assertEquals(1, serializations.get());
+    }
+
+    @Test
+    void shouldTagGzipCopySeparately() {
+        EntityTag tag = new EntityTag("b1-1");
+
+        assertEquals(tag, cache.tag(tag, "gzip"));
+
+        cache.compress = true;
+        assertEquals(new EntityTag("b1-1-gzip"), cache.tag(tag, "deflate, gzip;q=0.8"));
+        assertEquals(tag, cache.tag(tag, "gzip;q=0"));
+        assertEquals(tag, cache.tag(tag, null));
+    }
+
+    @Test
+    void shouldPassEntityThroughWhenDisabled() {
+        cache.enabled = false;
+
+        Response response = cache.ok("book", "b1", 1L, null, body("Dune")).build();
+
+        assertEquals(Map.of("title", "Dune"), response.getEntity());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldParseAcceptEncoding() {
+        assertTrue(SerializedResponseCache.acceptsGzip("gzip"));
+        assertTrue(SerializedResponseCache.acceptsGzip("br, *"));
+        assertFalse(SerializedResponseCache.acceptsGzip("identity"));
+        assertFalse(SerializedResponseCache.acceptsGzip(null));
+    }
+
+    private Supplier<Map<String, String>> body(String title) {
+        return () -> {
+            serializations.incrementAndGet();
+            return Map.of("title", title);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package org.modular.playground.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+
+/**
+ * Builds {@link SerializedResponseCache} instances for unit tests that do not go through CDI, set up like the
+ * defaults of the {@code app.http.response-cache.*} properties.
+ */
+public final class TestResponseCaches {
+
+    private TestResponseCaches() {
+    }
+
+    public static SerializedResponseCache withDefaults() {
+        SerializedResponseCache cache = new SerializedResponseCache();
+        cache.objectMapper = new ObjectMapper().findAndRegisterModules();
+        cache.enabled = true;
+        cache.maxSize = 10000;
+        cache.maxTtl = Duration.ofSeconds(30);
+        cache.init();
+        return cache;
+    }
+}
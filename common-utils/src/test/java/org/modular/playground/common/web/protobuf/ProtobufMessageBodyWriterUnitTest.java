@@ -0,0 +1,110 @@
+package org.modular.playground.common.web.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import jakarta.ws.rs.core.GenericEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProtobufMessageBodyWriterUnitTest {
+
+    private static final UUID ID = UUID.fromString("eb4123a3-b722-4798-9af5-8957f823657a");
+
+    private ProtobufMessageBodyWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ProtobufMessageBodyWriter(List.of(new ItemCodec()));
+    }
+
+    @Test
+    void shouldOnlyWriteTypesWithCodecOrCollectionsOfThem() {
+        Type items = new GenericEntity<List<Item>>(List.of()) { }.getType();
+        Type strings = new GenericEntity<List<String>>(List.of()) { }.getType();
+
+        assertTrue(writer.isWriteable(Item.class, Item.class, null, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF_TYPE));
+        assertTrue(writer.isWriteable(List.class, items, null, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF_TYPE));
+        assertFalse(writer.isWriteable(List.class, strings, null, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF_TYPE));
+        assertFalse(writer.isWriteable(ArrayList.class, ArrayList.class, null, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF_TYPE));
+        assertFalse(writer.isWriteable(String.class, String.class, null, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF_TYPE));
+    }
+
+    @Test
+    void shouldWriteSingleMessage() throws IOException {
+        byte[] bytes = write(new Item(ID, "Dune", LocalDate.of(1965, 8, 1)));
+
+        Item item = read(bytes);
+        assertEquals(new Item(ID, "Dune", LocalDate.of(1965, 8, 1)), item);
+    }
+
+    @Test
+    void shouldWriteCollectionAsRepeatedFieldOne() throws IOException {
+        byte[] bytes = write(List.of(new Item(ID, "Dune", null), new Item(ID, "Emma", null)));
+
+        CodedInputStream input = CodedInputStream.newInstance(bytes);
+        List<String> titles = new ArrayList<>();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            assertEquals(1, tag >>> 3);
+            titles.add(read(input.readByteArray()).title());
+        }
+        assertEquals(List.of("Dune", "Emma"), titles);
+    }
+
+    @Test
+    void shouldWriteEmptyCollectionAsEmptyMessage() throws IOException {
+        assertEquals(0, write(List.of()).length);
+    }
+
+    private byte[] write(Object entity) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(entity, entity.getClass(), entity.getClass(), null,
+                ProtobufMessageBodyWriter.APPLICATION_PROTOBUF_TYPE, null, out);
+        return out.toByteArray();
+    }
+
+    private static Item read(byte[] bytes) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(bytes);
+        UUID id = null;
+        String title = null;
+        LocalDate published = null;
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (tag >>> 3) {
+                case 1 -> id = ProtobufFields.toUuid(input.readByteArray());
+                case 2 -> title = input.readString();
+                case 3 -> published = LocalDate.ofEpochDay(input.readSInt32());
+                default -> input.skipField(tag);
+            }
+        }
+        return new Item(id, title, published);
+    }
+
+    record Item(UUID id, String title, LocalDate published) {
+    }
+
+    static class ItemCodec implements ProtobufCodec<Item> {
+
+        @Override
+        public Class<Item> type() {
+            return Item.class;
+        }
+
+        @Override
+        public void writeTo(Item item, CodedOutputStream output) throws IOException {
+            ProtobufFields.writeUuid(output, 1, item.id());
+            ProtobufFields.writeString(output, 2, item.title());
+            ProtobufFields.writeDate(output, 3, item.published());
+        }
+    }
+}
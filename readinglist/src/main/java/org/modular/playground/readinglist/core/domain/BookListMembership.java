@@ -0,0 +1,13 @@
+package org.modular.playground.readinglist.core.domain;
+
+import java.util.UUID;
+
+/**
+ * Which of a user's reading lists holds a book, loaded without the list's other columns and items.
+ */
+public record BookListMembership(
+    UUID bookId,
+    UUID readingListId,
+    String readingListName
+) {
+}
@@ -0,0 +1,15 @@
+package org.modular.playground.readinglist.core.usecases;
+
+import io.smallrye.mutiny.Uni;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.readinglist.core.domain.ReadingList;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveReadingListService {
+    Uni<ReadingList> findReadingListById(UUID readingListId, JsonWebToken principal);
+    Uni<List<ReadingList>> getReadingListsForUser(UUID userId);
+    Uni<List<Book>> getBooksInReadingList(UUID readingListId, JsonWebToken principal);
+}
@@ -0,0 +1,96 @@
+package org.modular.playground.readinglist.core.usecases;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ForbiddenException;
+import jakarta.ws.rs.NotFoundException;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.usecases.ReactiveBookService;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.common.security.ResolvedPrincipal;
+import org.modular.playground.readinglist.core.domain.ReadingList;
+import org.modular.playground.readinglist.core.domain.ReadingListImpl;
+import org.modular.playground.readinglist.core.usecases.repositories.ReactiveReadingListRepository;
+import org.jboss.logging.Logger;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactiveReadingListServiceImpl implements ReactiveReadingListService {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveReadingListServiceImpl.class);
+
+    @Inject
+    ReactiveReadingListRepository reactiveReadingListRepository;
+    @Inject
+    ReactiveBookService reactiveBookService;
+    @Inject
+    PrincipalContext principalContext;
+
+    @Override
+    public Uni<ReadingList> findReadingListById(UUID readingListId, JsonWebToken principal) {
+        LOGGER.debugf("Reactive lookup of reading list %s for user %s", readingListId, principal.getSubject());
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        return reactiveReadingListRepository.findById(readingListId)
+                .flatMap(list -> {
+                    if (list == null) {
+                        return Uni.createFrom().nullItem();
+                    }
+                    checkOwnership(list, caller);
+                    return enrichListsWithBooks(List.of(list)).map(lists -> lists.get(0));
+                });
+    }
+
+    @Override
+    public Uni<List<ReadingList>> getReadingListsForUser(UUID userId) {
+        LOGGER.debugf("Reactive lookup of all reading lists for user ID: %s", userId);
+        return reactiveReadingListRepository.findByUserId(userId)
+                .flatMap(this::enrichListsWithBooks);
+    }
+
+    @Override
+    public Uni<List<Book>> getBooksInReadingList(UUID readingListId, JsonWebToken principal) {
+        LOGGER.debugf("Reactive lookup of books in list %s for user %s", readingListId, principal.getSubject());
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        return reactiveReadingListRepository.findById(readingListId)
+                .onItem().ifNull().failWith(() -> new NotFoundException("Reading list not found with ID: " + readingListId))
+                .invoke(list -> checkOwnership(list, caller))
+                .flatMap(list -> reactiveReadingListRepository.getBookIdsInReadingList(readingListId))
+                .flatMap(bookIds -> bookIds.isEmpty()
+                        ? Uni.createFrom().item(Collections.<Book>emptyList())
+                        : reactiveBookService.getBooksByIds(bookIds));
+    }
+
+    private void checkOwnership(ReadingList readingList, ResolvedPrincipal caller) {
+        if (!caller.canAccess(readingList.getUser().getKeycloakUserId())) {
+            throw new ForbiddenException("Reading list does not belong to the current user.");
+        }
+    }
+
+    private Uni<List<ReadingList>> enrichListsWithBooks(List<ReadingList> lists) {
+        List<UUID> allBookIds = lists.stream()
+                .flatMap(list -> list.getBooks().stream().map(Book::getBookId))
+                .distinct().collect(Collectors.toList());
+        if (allBookIds.isEmpty()) {
+            return Uni.createFrom().item(lists);
+        }
+
+        return reactiveBookService.getBooksByIds(allBookIds).map(books -> {
+            Map<UUID, Book> booksMap = books.stream()
+                    .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+            lists.forEach(list -> {
+                List<Book> fullBooks = list.getBooks().stream()
+                        .map(bookStub -> booksMap.get(bookStub.getBookId()))
+                        .filter(Objects::nonNull).collect(Collectors.toList());
+                ((ReadingListImpl) list).setBooks(fullBooks);
+            });
+            return lists;
+        });
+    }
+}
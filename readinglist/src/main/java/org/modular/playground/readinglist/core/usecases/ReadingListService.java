@@ -1,10 +1,13 @@
 package org.modular.playground.readinglist.core.usecases;
 
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.common.web.FieldSelection;
+import org.modular.playground.readinglist.core.domain.BookListMembership;
 import org.modular.playground.readinglist.core.domain.ReadingList;
 import org.modular.playground.readinglist.web.dto.ReadingListRequestDTO;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,8 +18,14 @@ public interface ReadingListService {
 
     Optional<ReadingList> findReadingListById(UUID readingListId, JsonWebToken principal);
 
+    Optional<ReadingList> findReadingListById(UUID readingListId, JsonWebToken principal, FieldSelection fields);
+
     List<ReadingList> getReadingListsForUser(UUID userId);
 
+    List<ReadingList> getReadingListsForUser(UUID userId, FieldSelection fields);
+
+    Map<UUID, Long> getReadingListVersionsForUser(UUID userId);
+
     ReadingList updateReadingList(UUID readingListId, ReadingListRequestDTO request, JsonWebToken principal);
 
     void deleteReadingListById(UUID readingListId, JsonWebToken principal);
@@ -29,6 +38,14 @@ public interface ReadingListService {
 
     Optional<ReadingList> findReadingListForBookAndUser(UUID userId, UUID bookId);
 
+    Optional<ReadingList> findReadingListForBookAndUser(UUID userId, UUID bookId, FieldSelection fields);
+
+    /**
+     * Returns, for each of the given books that is in one of the user's reading lists, the list holding it, keyed by
+     * book ID. Looks all books up in one query and loads no books.
+     */
+    Map<UUID, BookListMembership> findReadingListMembershipsForUser(UUID userId, List<UUID> bookIds);
+
     void moveBookBetweenReadingLists(UUID userId, UUID bookId, UUID sourceListId, UUID targetListId,
             JsonWebToken principal);
 }
\ No newline at end of file
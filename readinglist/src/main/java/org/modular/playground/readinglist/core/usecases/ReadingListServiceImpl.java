@@ -8,8 +8,13 @@ import jakarta.ws.rs.ForbiddenException;
 import jakarta.ws.rs.NotFoundException;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookSummary;
 import org.modular.playground.catalog.core.usecases.BookService;
-import org.modular.playground.common.security.SecurityUtils;
+import org.modular.playground.common.persistence.ReadOnly;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.common.security.ResolvedPrincipal;
+import org.modular.playground.common.web.FieldSelection;
+import org.modular.playground.readinglist.core.domain.BookListMembership;
 import org.modular.playground.readinglist.core.domain.ReadingList;
 import org.modular.playground.readinglist.core.domain.ReadingListImpl;
 import org.modular.playground.readinglist.core.usecases.repositories.ReadingListRepository;
@@ -29,6 +34,9 @@ public class ReadingListServiceImpl implements ReadingListService {
 
     private static final Logger LOGGER = Logger.getLogger(ReadingListServiceImpl.class);
 
+    /** Response field that needs the books of a list to be enriched; the other fields come from the list itself. */
+    private static final String BOOKS_FIELD = "books";
+
     @Inject
     ReadingListRepository readingListRepository;
     @Inject
@@ -37,13 +45,15 @@ public class ReadingListServiceImpl implements ReadingListService {
     BookService bookService;
     @Inject
     ReadingListMapper readingListMapper;
+    @Inject
+    PrincipalContext principalContext;
 
     @ConfigProperty(name = "app.readinglist.enrichment-strategy", defaultValue = "hexagonal")
     String enrichmentStrategy;
 
     @Override
     public ReadingList createReadingList(ReadingListRequestDTO request, JsonWebToken principal) {
-        UUID userId = UUID.fromString(principal.getSubject());
+        UUID userId = principalContext.resolve(principal).userId();
         LOGGER.infof("User %s creating new reading list named '%s'", userId, request.getName());
         User user = userService.findUserProfileById(userId, principal)
             .orElseThrow(() -> new NotFoundException("User not found."));
@@ -59,8 +69,17 @@ public class ReadingListServiceImpl implements ReadingListService {
     }
 
     @Override
+    @ReadOnly
     public Optional<ReadingList> findReadingListById(UUID readingListId, JsonWebToken principal) {
-        LOGGER.debugf("Finding reading list %s for user %s", readingListId, principal.getSubject());
+        return findReadingListById(readingListId, principal, FieldSelection.ALL);
+    }
+
+    @Override
+    @ReadOnly
+    public Optional<ReadingList> findReadingListById(UUID readingListId, JsonWebToken principal,
+            FieldSelection fields) {
+        LOGGER.debugf("Finding reading list %s for user %s [fields: %s]", readingListId, principal.getSubject(),
+                fields);
         
         Optional<ReadingList> readingListOpt = findByIdInTransaction(readingListId);
         
@@ -71,22 +90,51 @@ public class ReadingListServiceImpl implements ReadingListService {
         ReadingList list = readingListOpt.get();
         checkOwnership(list, principal);
 
+        if (!fields.includes(BOOKS_FIELD)) {
+            return Optional.of(list);
+        }
         return Optional.of(enrichListWithBooks(list));
     }
 
     @Override
+    @ReadOnly
     public List<ReadingList> getReadingListsForUser(UUID userId) {
-        LOGGER.debugf("Finding all reading lists for user ID: %s (strategy: %s)", userId, enrichmentStrategy);
+        return getReadingListsForUser(userId, FieldSelection.ALL);
+    }
+
+    @Override
+    @ReadOnly
+    public List<ReadingList> getReadingListsForUser(UUID userId, FieldSelection fields) {
+        LOGGER.debugf("Finding all reading lists for user ID: %s (strategy: %s, fields: %s)", userId,
+                enrichmentStrategy, fields);
         List<ReadingList> lists = findByUserIdInTransaction(userId);
+        if (!fields.includes(BOOKS_FIELD)) {
+            return lists;
+        }
         return switch (enrichmentStrategy) {
             case "broken" -> enrichListsWithBooksBroken(lists);
             default -> enrichListsWithBooks(lists);
         };
     }
 
+    @Override
+    @ReadOnly
+    public Map<UUID, Long> getReadingListVersionsForUser(UUID userId) {
+        LOGGER.debugf("Finding reading list versions for user ID: %s", userId);
+        return findVersionsByUserIdInTransaction(userId);
+    }
+
     @Override
     public ReadingList updateReadingList(UUID readingListId, ReadingListRequestDTO request, JsonWebToken principal) {
         LOGGER.infof("User %s updating reading list %s", principal.getSubject(), readingListId);
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        if (!caller.isAdmin()) {
+            Optional<ReadingList> updated = updateForUserInTransaction(readingListId,
+                    caller.userId(), request.getName(), request.getDescription());
+            if (updated.isPresent()) {
+                return updated.get();
+            }
+        }
         ReadingListImpl existing = (ReadingListImpl) findByIdInTransaction(readingListId)
                  .orElseThrow(() -> new NotFoundException("Reading list not found with ID: " + readingListId));
         checkOwnership(existing, principal);
@@ -97,6 +145,10 @@ public class ReadingListServiceImpl implements ReadingListService {
     @Override
     public void deleteReadingListById(UUID readingListId, JsonWebToken principal) {
         LOGGER.infof("User %s deleting reading list %s", principal.getSubject(), readingListId);
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        if (!caller.isAdmin() && deleteByIdForUserInTransaction(readingListId, caller.userId())) {
+            return;
+        }
         ReadingList listToDelete = findByIdInTransaction(readingListId)
             .orElseThrow(() -> new NotFoundException("Reading list not found with ID: " + readingListId));
         checkOwnership(listToDelete, principal);
@@ -106,18 +158,26 @@ public class ReadingListServiceImpl implements ReadingListService {
     @Override
     public void addBookToReadingList(UUID readingListId, UUID bookId, JsonWebToken principal) {
         LOGGER.infof("User %s adding book %s to list %s", principal.getSubject(), bookId, readingListId);
-        ReadingList readingList = findByIdInTransaction(readingListId)
-            .orElseThrow(() -> new NotFoundException("Reading list not found with ID: " + readingListId));
-        checkOwnership(readingList, principal);
         if (bookService.getBookById(bookId).isEmpty()) {
             throw new NotFoundException("Book not found with ID: " + bookId);
         }
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        if (!caller.isAdmin() && addBookForUserInTransaction(readingListId, bookId, caller.userId())) {
+            return;
+        }
+        ReadingList readingList = findByIdInTransaction(readingListId)
+            .orElseThrow(() -> new NotFoundException("Reading list not found with ID: " + readingListId));
+        checkOwnership(readingList, principal);
         addBookInTransaction(readingListId, bookId);
     }
 
     @Override
     public void removeBookFromReadingList(UUID readingListId, UUID bookId, JsonWebToken principal) {
         LOGGER.infof("User %s removing book %s from list %s", principal.getSubject(), bookId, readingListId);
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        if (!caller.isAdmin() && removeBookForUserInTransaction(readingListId, bookId, caller.userId())) {
+            return;
+        }
         ReadingList readingList = findByIdInTransaction(readingListId)
             .orElseThrow(() -> new NotFoundException("Reading list not found with ID: " + readingListId));
         checkOwnership(readingList, principal);
@@ -125,6 +185,7 @@ public class ReadingListServiceImpl implements ReadingListService {
     }
 
     @Override
+    @ReadOnly
     public List<Book> getBooksInReadingList(UUID readingListId, JsonWebToken principal) {
         LOGGER.debugf("User %s getting books from list %s", principal.getSubject(), readingListId);
         ReadingList readingList = findByIdInTransaction(readingListId)
@@ -139,15 +200,44 @@ public class ReadingListServiceImpl implements ReadingListService {
     }
     
     @Override
+    @ReadOnly
     public Optional<ReadingList> findReadingListForBookAndUser(UUID userId, UUID bookId) {
-        LOGGER.debugf("Finding if user %s has book %s in any list", userId, bookId);
+        return findReadingListForBookAndUser(userId, bookId, FieldSelection.ALL);
+    }
+
+    @Override
+    @ReadOnly
+    public Optional<ReadingList> findReadingListForBookAndUser(UUID userId, UUID bookId, FieldSelection fields) {
+        LOGGER.debugf("Finding if user %s has book %s in any list [fields: %s]", userId, bookId, fields);
         Optional<ReadingList> listOpt = findListContainingBookForUserInTransaction(userId, bookId);
+        if (!fields.includes(BOOKS_FIELD)) {
+            return listOpt;
+        }
         return listOpt.map(this::enrichListWithBooks);
     }
 
+    @Override
+    @ReadOnly
+    public Map<UUID, BookListMembership> findReadingListMembershipsForUser(UUID userId, List<UUID> bookIds) {
+        LOGGER.debugf("Finding reading lists of user %s holding %d books", userId, bookIds.size());
+        List<UUID> distinctIds = bookIds.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+        return findMembershipsForUserInTransaction(userId, distinctIds).stream()
+                .collect(Collectors.toMap(BookListMembership::bookId, Function.identity(), (first, other) -> first));
+    }
+
     @Override
     public void moveBookBetweenReadingLists(UUID userId, UUID bookId, UUID sourceListId, UUID targetListId, JsonWebToken principal) {
         LOGGER.infof("User %s moving book %s from list %s to list %s", userId, bookId, sourceListId, targetListId);
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        UUID ownerId = caller.isAdmin() ? null : caller.userId();
+        if (moveBookAtomicallyInTransaction(sourceListId, targetListId, bookId, ownerId)) {
+            return;
+        }
+
+        LOGGER.debugf("Single-statement move of book %s did not apply, resolving the reason", bookId);
         ReadingList sourceList = findByIdInTransaction(sourceListId)
             .orElseThrow(() -> new NotFoundException("Source list not found with ID: " + sourceListId));
         checkOwnership(sourceList, principal);
@@ -159,9 +249,7 @@ public class ReadingListServiceImpl implements ReadingListService {
     }
     
     private void checkOwnership(ReadingList readingList, JsonWebToken principal) {
-        UUID currentUserId = UUID.fromString(principal.getSubject());
-        boolean isAdmin = SecurityUtils.isAdmin(principal);
-        if (!readingList.getUser().getKeycloakUserId().equals(currentUserId) && !isAdmin) {
+        if (!principalContext.resolve(principal).canAccess(readingList.getUser().getKeycloakUserId())) {
             throw new ForbiddenException("Reading list does not belong to the current user.");
         }
     }
@@ -172,8 +260,8 @@ public class ReadingListServiceImpl implements ReadingListService {
         if (bookIds.isEmpty()) {
             return list;
         }
-        List<Book> fullBooks = bookService.getBooksByIds(bookIds);
-        ((ReadingListImpl) list).setBooks(fullBooks);
+        Map<UUID, Book> booksMap = findBookSummariesMap(bookIds);
+        mapBooksToLists(List.of(list), booksMap);
         return list;
     }
 
@@ -184,13 +272,17 @@ public class ReadingListServiceImpl implements ReadingListService {
         List<UUID> allBookIds = collectBookIds(lists);
         if (allBookIds.isEmpty()) return lists;
 
-        Map<UUID, Book> booksMap = bookService.getBooksByIds(allBookIds).stream()
-            .collect(Collectors.toMap(Book::getBookId, Function.identity()));
-            
+        Map<UUID, Book> booksMap = findBookSummariesMap(allBookIds);
         mapBooksToLists(lists, booksMap);
         return lists;
     }
 
+    private Map<UUID, Book> findBookSummariesMap(List<UUID> bookIds) {
+        return bookService.getBookSummariesByIds(bookIds).stream()
+            .map(BookSummary::toBook)
+            .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+    }
+
     @WithSpan("readinglist.enrichListsWithBooks.broken")
     protected List<ReadingList> enrichListsWithBooksBroken(List<ReadingList> lists) {
         if (lists.isEmpty()) return Collections.emptyList();
@@ -241,6 +333,11 @@ public class ReadingListServiceImpl implements ReadingListService {
         return readingListRepository.findByUserId(userId);
     }
 
+    @Transactional
+    protected Map<UUID, Long> findVersionsByUserIdInTransaction(UUID userId) {
+        return readingListRepository.findVersionsByUserId(userId);
+    }
+
     @Transactional
     protected ReadingList updateInTransaction(ReadingList readingList) {
         return readingListRepository.update(readingList);
@@ -261,6 +358,26 @@ public class ReadingListServiceImpl implements ReadingListService {
         readingListRepository.removeBookFromReadingList(readingListId, bookId);
     }
     
+    @Transactional
+    protected Optional<ReadingList> updateForUserInTransaction(UUID readingListId, UUID userId, String name, String description) {
+        return readingListRepository.updateForUser(readingListId, userId, name, description);
+    }
+
+    @Transactional
+    protected boolean deleteByIdForUserInTransaction(UUID readingListId, UUID userId) {
+        return readingListRepository.deleteByIdForUser(readingListId, userId);
+    }
+
+    @Transactional
+    protected boolean addBookForUserInTransaction(UUID readingListId, UUID bookId, UUID userId) {
+        return readingListRepository.addBookToReadingListForUser(readingListId, bookId, userId);
+    }
+
+    @Transactional
+    protected boolean removeBookForUserInTransaction(UUID readingListId, UUID bookId, UUID userId) {
+        return readingListRepository.removeBookFromReadingListForUser(readingListId, bookId, userId);
+    }
+
     @Transactional
     protected List<UUID> getBookIdsInTransaction(UUID readingListId) {
         return readingListRepository.getBookIdsInReadingList(readingListId);
@@ -271,6 +388,16 @@ public class ReadingListServiceImpl implements ReadingListService {
         return readingListRepository.findReadingListContainingBookForUser(userId, bookId);
     }
 
+    @Transactional
+    protected List<BookListMembership> findMembershipsForUserInTransaction(UUID userId, List<UUID> bookIds) {
+        return readingListRepository.findMembershipsForUser(userId, bookIds);
+    }
+
+    @Transactional
+    protected boolean moveBookAtomicallyInTransaction(UUID sourceListId, UUID targetListId, UUID bookId, UUID ownerId) {
+        return readingListRepository.moveBook(sourceListId, targetListId, bookId, ownerId);
+    }
+
     @Transactional
     protected void moveBookInTransaction(UUID sourceListId, UUID targetListId, UUID bookId) {
         readingListRepository.removeBookFromReadingList(sourceListId, bookId);
@@ -0,0 +1,13 @@
+package org.modular.playground.readinglist.core.usecases.repositories;
+
+import io.smallrye.mutiny.Uni;
+import org.modular.playground.readinglist.core.domain.ReadingList;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveReadingListRepository {
+    Uni<ReadingList> findById(UUID readingListId);
+    Uni<List<ReadingList>> findByUserId(UUID userId);
+    Uni<List<UUID>> getBookIdsInReadingList(UUID readingListId);
+}
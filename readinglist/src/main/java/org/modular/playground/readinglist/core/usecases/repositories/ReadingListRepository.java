@@ -1,7 +1,9 @@
 package org.modular.playground.readinglist.core.usecases.repositories;
 
+import org.modular.playground.readinglist.core.domain.BookListMembership;
 import org.modular.playground.readinglist.core.domain.ReadingList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,9 +12,34 @@ public interface ReadingListRepository {
     ReadingList update(ReadingList list);
     Optional<ReadingList> findById(UUID readingListId);
     List<ReadingList> findByUserId(UUID userId);
+
+    /**
+     * Returns the version of each of the user's reading lists, ordered by list ID. A list's version changes whenever
+     * its name, description or books change.
+     */
+    Map<UUID, Long> findVersionsByUserId(UUID userId);
+
     void deleteById(UUID readingListId);
     void addBookToReadingList(UUID readingListId, UUID bookId);
     void removeBookFromReadingList(UUID readingListId, UUID bookId);
     List<UUID> getBookIdsInReadingList(UUID readingListId);
     Optional<ReadingList> findReadingListContainingBookForUser(UUID userId, UUID bookId);
+
+    /**
+     * Returns, in one query, which of the user's reading lists holds each of the given books. Books in none of the
+     * user's lists are left out; a book in several lists appears once per list.
+     */
+    List<BookListMembership> findMembershipsForUser(UUID userId, List<UUID> bookIds);
+
+    Optional<ReadingList> updateForUser(UUID readingListId, UUID userId, String name, String description);
+    boolean deleteByIdForUser(UUID readingListId, UUID userId);
+    boolean addBookToReadingListForUser(UUID readingListId, UUID bookId, UUID userId);
+    boolean removeBookFromReadingListForUser(UUID readingListId, UUID bookId, UUID userId);
+
+    /**
+     * Moves a book from one list to another in a single step. When {@code ownerId} is not null both lists
+     * must belong to that user. Returns {@code false} when nothing was moved: a list is missing or owned by
+     * someone else, the book is not in the source list, or it is already in the target list.
+     */
+    boolean moveBook(UUID sourceListId, UUID targetListId, UUID bookId, UUID ownerId);
 }
\ No newline at end of file
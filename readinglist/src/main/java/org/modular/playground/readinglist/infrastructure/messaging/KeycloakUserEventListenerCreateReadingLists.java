@@ -15,7 +15,7 @@ import org.modular.playground.readinglist.core.usecases.ReadingListService;
 import org.modular.playground.user.core.domain.User;
 import org.modular.playground.user.core.usecases.UserService;
 
-import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 @ApplicationScoped
 public class KeycloakUserEventListenerCreateReadingLists {
@@ -29,7 +29,7 @@ public class KeycloakUserEventListenerCreateReadingLists {
     UserService userService;
 
     @Incoming("user-profile-created")
-    @Blocking
+    @RunOnVirtualThread
     public void processUserCreation(User user) {
         MDC.put(TraceIdFilter.TRACE_ID_KEY, "event-" + UUID.randomUUID().toString());
         LOGGER.infof("Received internal user profile created event for user: %s", user.getUsername());
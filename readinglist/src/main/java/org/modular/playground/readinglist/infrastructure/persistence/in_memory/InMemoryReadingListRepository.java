@@ -3,6 +3,7 @@ package org.modular.playground.readinglist.infrastructure.persistence.in_memory;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.modular.playground.catalog.core.domain.Book;
 import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.readinglist.core.domain.BookListMembership;
 import org.modular.playground.readinglist.core.domain.ReadingList;
 import org.modular.playground.readinglist.core.domain.ReadingListImpl;
 import org.modular.playground.readinglist.core.usecases.repositories.ReadingListRepository;
@@ -11,122 +12,298 @@ import io.quarkus.arc.properties.IfBuildProperty;
 
 import org.jboss.logging.Logger;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+/**
+ * Each user's lists are kept as an immutable snapshot that is swapped with {@code compute} on that user's key, so
+ * writes for different users never wait on each other and readers get copies of consistent snapshots without locking.
+ * A move between two lists of the same user is applied as a whole. Admin moves between lists of different users are
+ * applied as an add to the target followed by a removal from the source, undoing the add if the removal fails. Every
+ * change to a list increments its version, like the {@code version} column of the JPA repository.
+ */
 @ApplicationScoped
 @IfBuildProperty(name = "app.repository.type", stringValue = "in-memory", enableIfMissing = true)
 public class InMemoryReadingListRepository implements ReadingListRepository {
 
     private static final Logger LOGGER = Logger.getLogger(InMemoryReadingListRepository.class);
-    private final Map<UUID, ReadingList> readingLists = new HashMap<>();
+    private final Map<UUID, Map<UUID, StoredList>> listsByOwner = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> ownerByListId = new ConcurrentHashMap<>();
 
     @Override
     public ReadingList create(ReadingList list) {
         LOGGER.debugf("In-memory: Creating reading list with ID: %s", list.getReadingListId());
-        readingLists.put(list.getReadingListId(), list);
+        UUID ownerId = list.getUser().getKeycloakUserId();
+        ownerByListId.put(list.getReadingListId(), ownerId);
+        listsByOwner.compute(ownerId, (id, lists) ->
+                with(lists, list.getReadingListId(), new StoredList(copyOf(list), 0)));
         return list;
     }
 
     @Override
     public ReadingList update(ReadingList list) {
         LOGGER.debugf("In-memory: Updating reading list with ID: %s", list.getReadingListId());
-        if (!readingLists.containsKey(list.getReadingListId())) {
-            throw new IllegalArgumentException("ReadingList with ID " + list.getReadingListId() + " not found for update.");
-        }
-        readingLists.put(list.getReadingListId(), list);
+        changeList(ownerOf(list.getReadingListId()), list.getReadingListId(), current -> copyOf(list));
         return list;
     }
 
     @Override
     public Optional<ReadingList> findById(UUID readingListId) {
         LOGGER.debugf("In-memory: Finding reading list by ID: %s", readingListId);
-        return Optional.ofNullable(readingLists.get(readingListId));
+        return stored(readingListId).map(stored -> copyOf(stored.list()));
     }
 
     @Override
     public List<ReadingList> findByUserId(UUID userId) {
         LOGGER.debugf("In-memory: Finding reading lists for user ID: %s", userId);
-        return readingLists.values().stream()
-                .filter(list -> list.getUser().getKeycloakUserId().equals(userId))
+        return listsOf(userId).values().stream()
+                .map(stored -> copyOf(stored.list()))
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Map<UUID, Long> findVersionsByUserId(UUID userId) {
+        LOGGER.debugf("In-memory: Finding reading list versions for user ID: %s", userId);
+        Map<UUID, Long> versions = new TreeMap<>();
+        listsOf(userId).forEach((readingListId, stored) -> versions.put(readingListId, stored.version()));
+        return versions;
+    }
+
     @Override
     public void deleteById(UUID readingListId) {
         LOGGER.debugf("In-memory: Deleting reading list with ID: %s", readingListId);
-        readingLists.remove(readingListId);
+        UUID ownerId = ownerByListId.get(readingListId);
+        if (ownerId != null) {
+            listsByOwner.computeIfPresent(ownerId, (id, lists) -> without(lists, readingListId));
+            ownerByListId.remove(readingListId, ownerId);
+        }
     }
 
     @Override
     public void addBookToReadingList(UUID readingListId, UUID bookId) {
         LOGGER.debugf("In-memory: Adding book %s to list %s", bookId, readingListId);
-        ReadingList currentList = readingLists.get(readingListId);
-        if (currentList == null) {
-            throw new IllegalArgumentException("ReadingList with ID " + readingListId + " not found.");
-        }
-        
-        boolean bookExists = currentList.getBooks().stream().anyMatch(b -> b.getBookId().equals(bookId));
-        if (bookExists) {
-            return; 
+        changeList(ownerOf(readingListId), readingListId,
+                current -> containsBook(current, bookId) ? null : withBook(current, bookId));
+    }
+
+    @Override
+    public void removeBookFromReadingList(UUID readingListId, UUID bookId) {
+        LOGGER.debugf("In-memory: Removing book %s from list %s", bookId, readingListId);
+        changeList(ownerOf(readingListId), readingListId, current -> {
+            if (!containsBook(current, bookId)) {
+                throw new IllegalArgumentException("Book with ID " + bookId + " not found in reading list " + readingListId + ".");
+            }
+            return withoutBook(current, bookId);
+        });
+    }
+
+    @Override
+    public List<UUID> getBookIdsInReadingList(UUID readingListId) {
+        LOGGER.debugf("In-memory: Getting book IDs for list %s", readingListId);
+        return stored(readingListId)
+                .map(stored -> stored.list().getBooks().stream().map(Book::getBookId).collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+    }
+
+    @Override
+    public Optional<ReadingList> findReadingListContainingBookForUser(UUID userId, UUID bookId) {
+        LOGGER.debugf("In-memory: Finding if user %s has book %s in a list", userId, bookId);
+        return listsOf(userId).values().stream()
+                .map(StoredList::list)
+                .filter(list -> containsBook(list, bookId))
+                .findFirst()
+                .map(this::copyOf);
+    }
+
+    @Override
+    public List<BookListMembership> findMembershipsForUser(UUID userId, List<UUID> bookIds) {
+        LOGGER.debugf("In-memory: Finding lists of user %s holding %d books", userId, bookIds.size());
+        Set<UUID> wanted = new HashSet<>(bookIds);
+        return listsOf(userId).values().stream()
+                .map(StoredList::list)
+                .flatMap(list -> list.getBooks().stream()
+                        .map(Book::getBookId)
+                        .filter(wanted::contains)
+                        .map(bookId -> new BookListMembership(bookId, list.getReadingListId(), list.getName())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<ReadingList> updateForUser(UUID readingListId, UUID userId, String name, String description) {
+        LOGGER.debugf("In-memory: Updating reading list %s for user %s", readingListId, userId);
+        return changeList(userId, readingListId, current -> ReadingListImpl.builder()
+                        .readingListId(current.getReadingListId())
+                        .user(current.getUser())
+                        .name(name != null ? name : current.getName())
+                        .description(description != null ? description : current.getDescription())
+                        .creationDate(current.getCreationDate())
+                        .books(current.getBooks())
+                        .build())
+                .map(this::copyOf);
+    }
+
+    @Override
+    public boolean deleteByIdForUser(UUID readingListId, UUID userId) {
+        LOGGER.debugf("In-memory: Deleting reading list %s for user %s", readingListId, userId);
+        AtomicReference<StoredList> deleted = new AtomicReference<>();
+        listsByOwner.computeIfPresent(userId, (id, lists) -> {
+            deleted.set(lists.get(readingListId));
+            return deleted.get() == null ? lists : without(lists, readingListId);
+        });
+        if (deleted.get() == null) {
+            return false;
         }
+        ownerByListId.remove(readingListId, userId);
+        return true;
+    }
 
-        List<Book> newBooks = new ArrayList<>(currentList.getBooks());
-        newBooks.add(BookImpl.builder().bookId(bookId).build());
+    @Override
+    public boolean addBookToReadingListForUser(UUID readingListId, UUID bookId, UUID userId) {
+        LOGGER.debugf("In-memory: Adding book %s to list %s for user %s", bookId, readingListId, userId);
+        return changeList(userId, readingListId,
+                list -> containsBook(list, bookId) ? null : withBook(list, bookId)).isPresent();
+    }
 
-        ReadingList updatedList = ReadingListImpl.builder()
-                .readingListId(currentList.getReadingListId())
-                .user(currentList.getUser())
-                .name(currentList.getName())
-                .description(currentList.getDescription())
-                .creationDate(currentList.getCreationDate())
-                .books(newBooks)
-                .build();
-        
-        readingLists.put(readingListId, updatedList);
+    @Override
+    public boolean removeBookFromReadingListForUser(UUID readingListId, UUID bookId, UUID userId) {
+        LOGGER.debugf("In-memory: Removing book %s from list %s for user %s", bookId, readingListId, userId);
+        return changeList(userId, readingListId,
+                list -> containsBook(list, bookId) ? withoutBook(list, bookId) : null).isPresent();
     }
 
     @Override
-    public void removeBookFromReadingList(UUID readingListId, UUID bookId) {
-        LOGGER.debugf("In-memory: Removing book %s from list %s", bookId, readingListId);
-        ReadingList currentList = readingLists.get(readingListId);
-        if (currentList == null) {
-            throw new IllegalArgumentException("ReadingList with ID " + readingListId + " not found.");
+    public boolean moveBook(UUID sourceListId, UUID targetListId, UUID bookId, UUID ownerId) {
+        LOGGER.debugf("In-memory: Moving book %s from list %s to list %s", bookId, sourceListId, targetListId);
+        UUID sourceOwner = ownerId != null ? ownerId : ownerByListId.get(sourceListId);
+        UUID targetOwner = ownerId != null ? ownerId : ownerByListId.get(targetListId);
+        if (sourceOwner == null || targetOwner == null) {
+            return false;
         }
+        if (!sourceOwner.equals(targetOwner)) {
+            return moveBetweenOwners(sourceOwner, sourceListId, targetOwner, targetListId, bookId);
+        }
+        AtomicBoolean moved = new AtomicBoolean();
+        listsByOwner.computeIfPresent(sourceOwner, (id, lists) -> {
+            StoredList source = lists.get(sourceListId);
+            StoredList target = lists.get(targetListId);
+            if (source == null || target == null
+                    || !containsBook(source.list(), bookId) || containsBook(target.list(), bookId)) {
+                return lists;
+            }
+            moved.set(true);
+            Map<UUID, StoredList> updated = new HashMap<>(lists);
+            updated.put(sourceListId, source.next(withoutBook(source.list(), bookId)));
+            updated.put(targetListId, target.next(withBook(target.list(), bookId)));
+            return Map.copyOf(updated);
+        });
+        return moved.get();
+    }
 
-        List<Book> currentBooks = new ArrayList<>(currentList.getBooks());
-        boolean removed = currentBooks.removeIf(book -> book.getBookId().equals(bookId));
-        if (!removed) {
-            throw new IllegalArgumentException("Book with ID " + bookId + " not found in reading list " + readingListId + ".");
+    private boolean moveBetweenOwners(UUID sourceOwner, UUID sourceListId, UUID targetOwner, UUID targetListId,
+            UUID bookId) {
+        if (!containsBook(stored(sourceListId).map(StoredList::list).orElse(null), bookId)
+                || changeList(targetOwner, targetListId,
+                        list -> containsBook(list, bookId) ? null : withBook(list, bookId)).isEmpty()) {
+            return false;
         }
+        if (changeList(sourceOwner, sourceListId,
+                list -> containsBook(list, bookId) ? withoutBook(list, bookId) : null).isPresent()) {
+            return true;
+        }
+        changeList(targetOwner, targetListId, list -> withoutBook(list, bookId));
+        return false;
+    }
 
-        ReadingList updatedList = ReadingListImpl.builder()
-                .readingListId(currentList.getReadingListId())
-                .user(currentList.getUser())
-                .name(currentList.getName())
-                .description(currentList.getDescription())
-                .creationDate(currentList.getCreationDate())
-                .books(currentBooks)
-                .build();
+    /**
+     * Replaces one of the owner's lists with the result of {@code change} and returns it, or returns empty when the
+     * owner has no such list or {@code change} returns {@code null}. An exception thrown by {@code change} leaves the
+     * list as it was.
+     */
+    private Optional<ReadingList> changeList(UUID ownerId, UUID readingListId, UnaryOperator<ReadingList> change) {
+        AtomicReference<ReadingList> changed = new AtomicReference<>();
+        listsByOwner.computeIfPresent(ownerId, (id, lists) -> {
+            StoredList current = lists.get(readingListId);
+            ReadingList updated = current == null ? null : change.apply(current.list());
+            if (updated == null) {
+                return lists;
+            }
+            changed.set(updated);
+            return with(lists, readingListId, current.next(updated));
+        });
+        return Optional.ofNullable(changed.get());
+    }
 
-        readingLists.put(readingListId, updatedList);
+    private UUID ownerOf(UUID readingListId) {
+        UUID ownerId = ownerByListId.get(readingListId);
+        if (ownerId == null) {
+            throw new IllegalArgumentException("ReadingList with ID " + readingListId + " not found.");
+        }
+        return ownerId;
     }
 
-    @Override
-    public List<UUID> getBookIdsInReadingList(UUID readingListId) {
-        LOGGER.debugf("In-memory: Getting book IDs for list %s", readingListId);
-        ReadingList list = readingLists.get(readingListId);
-        if (list == null) {
-            return Collections.emptyList();
+    private Optional<StoredList> stored(UUID readingListId) {
+        UUID ownerId = ownerByListId.get(readingListId);
+        return ownerId == null ? Optional.empty() : Optional.ofNullable(listsOf(ownerId).get(readingListId));
+    }
+
+    private Map<UUID, StoredList> listsOf(UUID ownerId) {
+        return listsByOwner.getOrDefault(ownerId, Map.of());
+    }
+
+    private static Map<UUID, StoredList> with(Map<UUID, StoredList> lists, UUID readingListId, StoredList list) {
+        Map<UUID, StoredList> updated = lists == null ? new HashMap<>() : new HashMap<>(lists);
+        updated.put(readingListId, list);
+        return Map.copyOf(updated);
+    }
+
+    private static Map<UUID, StoredList> without(Map<UUID, StoredList> lists, UUID readingListId) {
+        if (!lists.containsKey(readingListId)) {
+            return lists;
         }
-        return list.getBooks().stream().map(Book::getBookId).collect(Collectors.toList());
+        Map<UUID, StoredList> updated = new HashMap<>(lists);
+        updated.remove(readingListId);
+        return updated.isEmpty() ? null : Map.copyOf(updated);
     }
 
-    @Override
-    public Optional<ReadingList> findReadingListContainingBookForUser(UUID userId, UUID bookId) {
-        LOGGER.debugf("In-memory: Finding if user %s has book %s in a list", userId, bookId);
-        return readingLists.values().stream()
-                .filter(list -> list.getUser().getKeycloakUserId().equals(userId))
-                .filter(list -> list.getBooks().stream().anyMatch(b -> b.getBookId().equals(bookId)))
-                .findFirst();
+    private boolean containsBook(ReadingList list, UUID bookId) {
+        return list != null && list.getBooks().stream().anyMatch(b -> b.getBookId().equals(bookId));
+    }
+
+    private ReadingList withBook(ReadingList list, UUID bookId) {
+        List<Book> books = new ArrayList<>(list.getBooks());
+        books.add(BookImpl.builder().bookId(bookId).build());
+        return copyWithBooks(list, books);
+    }
+
+    private ReadingList withoutBook(ReadingList list, UUID bookId) {
+        List<Book> books = new ArrayList<>(list.getBooks());
+        books.removeIf(book -> book.getBookId().equals(bookId));
+        return copyWithBooks(list, books);
+    }
+
+    /** Callers such as the service replace the books of the lists they get, so the stored ones are never handed out. */
+    private ReadingList copyOf(ReadingList list) {
+        return copyWithBooks(list, list.getBooks() == null ? new ArrayList<>() : new ArrayList<>(list.getBooks()));
+    }
+
+    private ReadingList copyWithBooks(ReadingList list, List<Book> books) {
+        return ReadingListImpl.builder()
+                .readingListId(list.getReadingListId())
+                .user(list.getUser())
+                .name(list.getName())
+                .description(list.getDescription())
+                .creationDate(list.getCreationDate())
+                .books(books)
+                .build();
+    }
+
+    private record StoredList(ReadingList list, long version) {
+
+        StoredList next(ReadingList changed) {
+            return new StoredList(changed, version + 1);
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,14 +3,20 @@ package org.modular.playground.readinglist.infrastructure.persistence.postgres;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import io.quarkus.arc.properties.IfBuildProperty;
 import io.quarkus.hibernate.orm.PersistenceUnit;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import org.modular.playground.readinglist.core.domain.BookListMembership;
 import org.modular.playground.readinglist.core.domain.ReadingList;
 import org.modular.playground.readinglist.core.usecases.repositories.ReadingListRepository;
 import org.modular.playground.readinglist.infrastructure.persistence.postgres.mapper.ReadingListMapper;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -21,6 +27,24 @@ import org.jboss.logging.Logger;
 public class JpaReadingListRepository implements ReadingListRepository {
 
     private static final Logger LOGGER = Logger.getLogger(JpaReadingListRepository.class);
+    private static final String OWNED_BY_USER = "EXISTS (SELECT 1 FROM reading_lists o WHERE o.id = :readingListId AND o.user_id = :userId)";
+    private static final String ADD_BOOK_FOR_USER_SQL = """
+            INSERT INTO reading_list_items (reading_list_id, book_id)
+            SELECT :readingListId, :bookId WHERE %s
+            ON CONFLICT DO NOTHING""".formatted(OWNED_BY_USER);
+    private static final String REMOVE_BOOK_FOR_USER_SQL = """
+            DELETE FROM reading_list_items
+            WHERE reading_list_id = :readingListId AND book_id = :bookId AND %s""".formatted(OWNED_BY_USER);
+    private static final String MOVE_BOOK_SQL = """
+            UPDATE reading_list_items SET reading_list_id = :targetListId
+            WHERE reading_list_id = :sourceListId AND book_id = :bookId
+            AND EXISTS (SELECT 1 FROM reading_lists s WHERE s.id = :sourceListId%1$s)
+            AND EXISTS (SELECT 1 FROM reading_lists t WHERE t.id = :targetListId%2$s)
+            AND NOT EXISTS (SELECT 1 FROM reading_list_items d WHERE d.reading_list_id = :targetListId AND d.book_id = :bookId)""";
+    private static final String OWNED_MOVE_BOOK_SQL = MOVE_BOOK_SQL.formatted(
+            " AND s.user_id = :ownerId", " AND t.user_id = :ownerId");
+    private static final String UNCHECKED_MOVE_BOOK_SQL = MOVE_BOOK_SQL.formatted("", "");
+    private static final String BUMP_VERSION_SQL = "UPDATE reading_lists SET version = version + 1 WHERE id IN (:readingListIds)";
 
     @Inject
     @PersistenceUnit("readinglist-db")
@@ -65,6 +89,18 @@ public class JpaReadingListRepository implements ReadingListRepository {
         return query.getResultList().stream().map(mapper::toDomain).collect(Collectors.toList());
     }
 
+    @Override
+    public Map<UUID, Long> findVersionsByUserId(UUID userId) {
+        LOGGER.debugf("JPA: Finding reading list versions for user ID: %s", userId);
+        List<Object[]> rows = entityManager.createQuery(
+                "SELECT rl.id, rl.version FROM ReadingListEntity rl WHERE rl.userId = :userId ORDER BY rl.id", Object[].class)
+                .setParameter("userId", userId)
+                .getResultList();
+        Map<UUID, Long> versions = new LinkedHashMap<>();
+        rows.forEach(row -> versions.put((UUID) row[0], (Long) row[1]));
+        return versions;
+    }
+
     @Override
     public void deleteById(UUID readingListId) {
         LOGGER.debugf("JPA: Deleting reading list entity with ID: %s", readingListId);
@@ -97,6 +133,7 @@ public class JpaReadingListRepository implements ReadingListRepository {
         newItem.setReadingList(listEntity);
 
         listEntity.getItems().add(newItem);
+        entityManager.lock(listEntity, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
         entityManager.merge(listEntity);
     }
 
@@ -117,6 +154,7 @@ public class JpaReadingListRepository implements ReadingListRepository {
         }
 
         entityManager.remove(item);
+        entityManager.lock(listEntity, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
     }
 
     @Override
@@ -138,4 +176,97 @@ public class JpaReadingListRepository implements ReadingListRepository {
         query.setParameter("bookId", bookId);
         return query.getResultStream().findFirst().map(mapper::toDomain);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<BookListMembership> findMembershipsForUser(UUID userId, List<UUID> bookIds) {
+        LOGGER.debugf("JPA: Finding lists of user %s holding %d books", userId, bookIds.size());
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                "SELECT new org.modular.playground.readinglist.core.domain.BookListMembership(i.id.bookId, rl.id, rl.name) "
+                        + "FROM ReadingListEntity rl JOIN rl.items i WHERE rl.userId = :userId AND i.id.bookId IN :bookIds "
+                        + "ORDER BY rl.creationDate",
+                BookListMembership.class)
+                .setParameter("userId", userId)
+                .setParameter("bookIds", bookIds)
+                .getResultList();
+    }
+
+    @Override
+    public boolean moveBook(UUID sourceListId, UUID targetListId, UUID bookId, UUID ownerId) {
+        LOGGER.debugf("JPA: Moving book %s from list %s to list %s", bookId, sourceListId, targetListId);
+        Query query = entityManager.createNativeQuery(ownerId == null ? UNCHECKED_MOVE_BOOK_SQL : OWNED_MOVE_BOOK_SQL)
+                .setParameter("sourceListId", sourceListId)
+                .setParameter("targetListId", targetListId)
+                .setParameter("bookId", bookId);
+        if (ownerId != null) {
+            query.setParameter("ownerId", ownerId);
+        }
+        return query.executeUpdate() == 1 && bumpVersion(sourceListId, targetListId);
+    }
+
+    @Override
+    public Optional<ReadingList> updateForUser(UUID readingListId, UUID userId, String name, String description) {
+        LOGGER.debugf("JPA: Updating reading list entity with ID %s for user ID %s", readingListId, userId);
+        List<String> assignments = new ArrayList<>();
+        if (name != null) {
+            assignments.add("name = :name");
+        }
+        if (description != null) {
+            assignments.add("description = :description");
+        }
+        assignments.add("version = version + 1");
+        String sql = "UPDATE reading_lists SET " + String.join(", ", assignments)
+                + " WHERE id = :readingListId AND user_id = :userId RETURNING *";
+
+        Query query = entityManager.createNativeQuery(sql, ReadingListEntity.class)
+                .setParameter("readingListId", readingListId)
+                .setParameter("userId", userId);
+        if (name != null) {
+            query.setParameter("name", name);
+        }
+        if (description != null) {
+            query.setParameter("description", description);
+        }
+        List<?> updated = query.getResultList();
+        return updated.stream().findFirst().map(entity -> mapper.toDomain((ReadingListEntity) entity));
+    }
+
+    @Override
+    public boolean deleteByIdForUser(UUID readingListId, UUID userId) {
+        LOGGER.debugf("JPA: Deleting reading list entity with ID %s for user ID %s", readingListId, userId);
+        return entityManager
+                .createQuery("DELETE FROM ReadingListEntity rl WHERE rl.id = :readingListId AND rl.userId = :userId")
+                .setParameter("readingListId", readingListId)
+                .setParameter("userId", userId)
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    public boolean addBookToReadingListForUser(UUID readingListId, UUID bookId, UUID userId) {
+        LOGGER.debugf("JPA: Adding book %s to list %s for user ID %s", bookId, readingListId, userId);
+        return entityManager.createNativeQuery(ADD_BOOK_FOR_USER_SQL)
+                .setParameter("readingListId", readingListId)
+                .setParameter("bookId", bookId)
+                .setParameter("userId", userId)
+                .executeUpdate() == 1 && bumpVersion(readingListId);
+    }
+
+    @Override
+    public boolean removeBookFromReadingListForUser(UUID readingListId, UUID bookId, UUID userId) {
+        LOGGER.debugf("JPA: Removing book %s from list %s for user ID %s", bookId, readingListId, userId);
+        return entityManager.createNativeQuery(REMOVE_BOOK_FOR_USER_SQL)
+                .setParameter("readingListId", readingListId)
+                .setParameter("bookId", bookId)
+                .setParameter("userId", userId)
+                .executeUpdate() == 1 && bumpVersion(readingListId);
+    }
+
+    private boolean bumpVersion(UUID... readingListIds) {
+        entityManager.createNativeQuery(BUMP_VERSION_SQL)
+                .setParameter("readingListIds", List.of(readingListIds))
+                .executeUpdate();
+        return true;
+    }
+}
@@ -14,7 +14,9 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "reading_lists")
+@Table(name = "reading_lists", indexes = {
+        @Index(name = "idx_reading_lists_user_id", columnList = "user_id")
+})
 @Data
 @EqualsAndHashCode(callSuper = false)
 @Builder
@@ -38,6 +40,10 @@ public class ReadingListEntity extends PanacheEntityBase {
     @Column(name = "creation_date", nullable = false, updatable = false)
     private LocalDateTime creationDate;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "readingList", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<ReadingListItemEntity> items = new ArrayList<>();
@@ -4,15 +4,21 @@ import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
-@Table(name = "reading_list_items")
+@Table(name = "reading_list_items", indexes = {
+        @Index(name = "idx_reading_list_items_book_id", columnList = "book_id, reading_list_id")
+})
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class ReadingListItemEntity extends PanacheEntityBase {
@@ -22,7 +28,9 @@ public class ReadingListItemEntity extends PanacheEntityBase {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("readingListId")
-    @JoinColumn(name = "reading_list_id")
+    @JoinColumn(name = "reading_list_id",
+            foreignKey = @ForeignKey(name = "fk_reading_list_items_reading_list"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private ReadingListEntity readingList;
 
 }
\ No newline at end of file
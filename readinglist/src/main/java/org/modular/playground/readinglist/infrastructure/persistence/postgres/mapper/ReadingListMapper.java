@@ -41,9 +41,11 @@ public interface ReadingListMapper {
     @Mapping(target = "id", ignore = true) 
     @Mapping(source = "user.keycloakUserId", target = "userId")
     @Mapping(target = "items", ignore = true)
+    @Mapping(target = "version", ignore = true)
     ReadingListEntity toEntity(ReadingList domain);
 
     @Mapping(source = "books", target = "books", qualifiedByName = "mapBooksToBookIds")
+    @Mapping(target = "bookCount", expression = "java(readingList.getBooks() == null ? 0 : readingList.getBooks().size())")
     ReadingListResponseDTO toResponseDTO(ReadingList readingList);
 
     List<ReadingListResponseDTO> toResponseDTOs(List<ReadingList> readingLists);
@@ -60,6 +62,7 @@ public interface ReadingListMapper {
     @Mapping(target = "userId", ignore = true)
     @Mapping(target = "creationDate", ignore = true)
     @Mapping(target = "items", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromDomain(ReadingList domain, @MappingTarget ReadingListEntity entity);
 
 
@@ -0,0 +1,100 @@
+package org.modular.playground.readinglist.infrastructure.persistence.reactive;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.readinglist.core.domain.ReadingList;
+import org.modular.playground.readinglist.core.domain.ReadingListImpl;
+import org.modular.playground.readinglist.core.usecases.repositories.ReactiveReadingListRepository;
+import org.modular.playground.readinglist.infrastructure.persistence.postgres.mapper.ReadingListMapper;
+import org.jboss.logging.Logger;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@ApplicationScoped
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactivePgReadingListRepository implements ReactiveReadingListRepository {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactivePgReadingListRepository.class);
+    private static final String SELECT_LISTS =
+            "SELECT id, user_id, name, description, creation_date FROM reading_lists";
+    private static final String SELECT_ITEMS =
+            "SELECT reading_list_id, book_id FROM reading_list_items WHERE reading_list_id = ANY($1)";
+
+    @Inject
+    @ReactiveDataSource("readinglist-db")
+    Pool client;
+
+    @Inject
+    ReadingListMapper readingListMapper;
+
+    @Override
+    public Uni<ReadingList> findById(UUID readingListId) {
+        LOGGER.debugf("Reactive: Finding reading list by ID: %s", readingListId);
+        return client.preparedQuery(SELECT_LISTS + " WHERE id = $1")
+                .execute(Tuple.of(readingListId))
+                .flatMap(this::withBookStubs)
+                .map(lists -> lists.isEmpty() ? null : lists.get(0));
+    }
+
+    @Override
+    public Uni<List<ReadingList>> findByUserId(UUID userId) {
+        LOGGER.debugf("Reactive: Finding reading lists for user ID: %s", userId);
+        return client.preparedQuery(SELECT_LISTS + " WHERE user_id = $1 ORDER BY creation_date ASC")
+                .execute(Tuple.of(userId))
+                .flatMap(this::withBookStubs);
+    }
+
+    @Override
+    public Uni<List<UUID>> getBookIdsInReadingList(UUID readingListId) {
+        LOGGER.debugf("Reactive: Getting book IDs for reading list ID: %s", readingListId);
+        return client.preparedQuery("SELECT book_id FROM reading_list_items WHERE reading_list_id = $1")
+                .execute(Tuple.of(readingListId))
+                .map(rows -> StreamSupport.stream(rows.spliterator(), false)
+                        .map(row -> row.getUUID("book_id"))
+                        .collect(Collectors.toList()));
+    }
+
+    private Uni<List<ReadingList>> withBookStubs(RowSet<Row> listRows) {
+        List<ReadingListImpl> lists = StreamSupport.stream(listRows.spliterator(), false)
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        if (lists.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+
+        Map<UUID, ReadingListImpl> listsById = new LinkedHashMap<>();
+        lists.forEach(list -> listsById.put(list.getReadingListId(), list));
+
+        return client.preparedQuery(SELECT_ITEMS)
+                .execute(Tuple.of(listsById.keySet().toArray(new UUID[0])))
+                .map(itemRows -> {
+                    itemRows.forEach(row -> {
+                        Book bookStub = BookImpl.builder().bookId(row.getUUID("book_id")).build();
+                        listsById.get(row.getUUID("reading_list_id")).getBooks().add(bookStub);
+                    });
+                    return new ArrayList<>(listsById.values());
+                });
+    }
+
+    private ReadingListImpl toDomain(Row row) {
+        return ReadingListImpl.builder()
+                .readingListId(row.getUUID("id"))
+                .user(readingListMapper.mapUserIdToUserStub(row.getUUID("user_id")))
+                .name(row.getString("name"))
+                .description(row.getString("description"))
+                .creationDate(row.getLocalDateTime("creation_date"))
+                .books(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package org.modular.playground.readinglist.web.controllers;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.security.Authenticated;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.readinglist.core.usecases.ReactiveReadingListService;
+import org.modular.playground.readinglist.infrastructure.persistence.postgres.mapper.ReadingListMapper;
+import org.modular.playground.readinglist.web.dto.ReadingListResponseDTO;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.UUID;
+
+@Path("/api/v1/reactive/readinglists")
+@Produces(MediaType.APPLICATION_JSON)
+@Authenticated
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactiveReadingListController {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveReadingListController.class);
+
+    @Inject
+    ReactiveReadingListService reactiveReadingListService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @Inject
+    ReadingListMapper readingListMapper;
+
+    @GET
+    @RolesAllowed({ "user", "admin" })
+    public Uni<List<ReadingListResponseDTO>> getAllReadingListsForUser() {
+        UUID currentUserId = UUID.fromString(jwt.getSubject());
+        LOGGER.infof("Received reactive request to get all reading lists for user: %s", currentUserId);
+        return reactiveReadingListService.getReadingListsForUser(currentUserId)
+                .map(readingListMapper::toResponseDTOs);
+    }
+
+    @GET
+    @Path("/{readingListId}")
+    @RolesAllowed({ "user", "admin" })
+    public Uni<ReadingListResponseDTO> getReadingListById(@PathParam("readingListId") UUID readingListId) {
+        LOGGER.infof("Received reactive request to get reading list by ID: %s", readingListId);
+        return reactiveReadingListService.findReadingListById(readingListId, jwt)
+                .onItem().ifNull().failWith(() -> new NotFoundException("Reading list not found with ID: " + readingListId))
+                .map(readingListMapper::toResponseDTO);
+    }
+
+    @GET
+    @Path("/{readingListId}/books")
+    @RolesAllowed({ "user", "admin" })
+    public Uni<List<Book>> getBooksInReadingList(@PathParam("readingListId") UUID readingListId) {
+        LOGGER.infof("Received reactive request to get books in list %s", readingListId);
+        return reactiveReadingListService.getBooksInReadingList(readingListId, jwt);
+    }
+}
@@ -1,23 +1,37 @@
 package org.modular.playground.readinglist.web.controllers;
 
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Variant;
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.common.web.EntityTags;
+import org.modular.playground.common.web.FieldSelection;
+import org.modular.playground.common.web.SparseFieldsets;
+import org.modular.playground.common.web.protobuf.ProtobufMessageBodyWriter;
 import org.modular.playground.readinglist.core.domain.ReadingList;
 import org.modular.playground.readinglist.core.usecases.ReadingListService;
 import org.modular.playground.readinglist.infrastructure.persistence.postgres.mapper.ReadingListMapper;
 import org.modular.playground.readinglist.web.dto.AddBookRequestDTO;
 import org.modular.playground.readinglist.web.dto.MoveBookRequestDTO;
 import org.modular.playground.readinglist.web.dto.ReadingListRequestDTO;
+import org.modular.playground.readinglist.web.dto.ReadingListResponseDTO;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.jboss.logging.Logger;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,9 +39,13 @@ import java.util.UUID;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Authenticated
+@RunOnVirtualThread
+@SparseFieldsets
 public class ReadingListController {
 
     private static final Logger LOGGER = Logger.getLogger(ReadingListController.class);
+    private static final List<Variant> LIST_VARIANTS = Variant.mediaTypes(
+            MediaType.APPLICATION_JSON_TYPE, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF_TYPE).build();
 
     @Inject
     ReadingListService readingListService;
@@ -49,21 +67,41 @@ public class ReadingListController {
 
     @GET
     @Path("/{readingListId}")
+    @Produces({ MediaType.APPLICATION_JSON, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF })
     @RolesAllowed({ "user", "admin" })
-    public Response getReadingListById(@PathParam("readingListId") UUID readingListId) {
+    public Response getReadingListById(@PathParam("readingListId") UUID readingListId,
+            @QueryParam("fields") String fields) {
         LOGGER.infof("Received request to get reading list by ID: %s", readingListId);
-        Optional<ReadingList> readingList = readingListService.findReadingListById(readingListId, jwt);
+        Optional<ReadingList> readingList = readingListService.findReadingListById(readingListId, jwt,
+                FieldSelection.parse(fields));
         return readingList.map(rl -> Response.ok(readingListMapper.toResponseDTO(rl)).build())
                 .orElse(Response.status(Response.Status.NOT_FOUND).build());
     }
 
     @GET
+    @Produces({ MediaType.APPLICATION_JSON, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF })
     @RolesAllowed({ "user", "admin" })
-    public Response getAllReadingListsForUser() {
+    public Response getAllReadingListsForUser(@Context Request request, @QueryParam("fields") String fields) {
         UUID currentUserId = UUID.fromString(jwt.getSubject());
         LOGGER.infof("Received request to get all reading lists for user: %s", currentUserId);
-        List<ReadingList> readingLists = readingListService.getReadingListsForUser(currentUserId);
-        return Response.ok(readingListMapper.toResponseDTOs(readingLists)).build();
+        FieldSelection selection = FieldSelection.parse(fields);
+        Map<UUID, Long> versions = readingListService.getReadingListVersionsForUser(currentUserId);
+        Variant variant = request.selectVariant(LIST_VARIANTS);
+        MediaType mediaType = variant != null ? variant.getMediaType() : MediaType.APPLICATION_JSON_TYPE;
+        // JSON and Protobuf bodies of the same lists are different representations, so each gets its own tag.
+        EntityTag tag = EntityTags.of(currentUserId, versions, mediaType);
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setPrivate(true);
+        cacheControl.setNoCache(true);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.tag(tag).cacheControl(cacheControl).header(HttpHeaders.VARY, HttpHeaders.ACCEPT).build();
+        }
+        List<ReadingList> readingLists = readingListService.getReadingListsForUser(currentUserId, selection);
+        GenericEntity<List<ReadingListResponseDTO>> body =
+                new GenericEntity<>(readingListMapper.toResponseDTOs(readingLists)) { };
+        return Response.ok(body, mediaType).tag(tag).cacheControl(cacheControl)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT).build();
     }
 
     @PUT
@@ -1,6 +1,7 @@
 package org.modular.playground.readinglist.web.graphql;
 
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -20,6 +21,7 @@ import java.util.UUID;
 
 @GraphQLApi
 @Authenticated
+@RunOnVirtualThread
 public class ReadingGraphQLController {
 
     private static final Logger LOGGER = Logger.getLogger(ReadingGraphQLController.class);
@@ -0,0 +1,31 @@
+package org.modular.playground.readinglist.web.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.modular.playground.common.web.protobuf.ProtobufCodec;
+import org.modular.playground.readinglist.web.dto.ReadingListResponseDTO;
+
+import java.io.IOException;
+
+import static org.modular.playground.common.web.protobuf.ProtobufFields.*;
+
+/**
+ * Writes {@link ReadingListResponseDTO} as the {@code ReadingList} message.
+ */
+@ApplicationScoped
+public class ReadingListResponseProtobufCodec implements ProtobufCodec<ReadingListResponseDTO> {
+
+    @Override
+    public Class<ReadingListResponseDTO> type() {
+        return ReadingListResponseDTO.class;
+    }
+
+    @Override
+    public void writeTo(ReadingListResponseDTO readingList, CodedOutputStream output) throws IOException {
+        writeUuid(output, 1, readingList.getReadingListId());
+        writeString(output, 2, readingList.getName());
+        writeString(output, 3, readingList.getDescription());
+        writeUuids(output, 4, readingList.getBooks());
+        writeInt32(output, 5, readingList.getBookCount());
+    }
+}
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS reading_lists (
+    id            UUID         NOT NULL,
+    user_id       UUID         NOT NULL,
+    name          VARCHAR(30)  NOT NULL,
+    description   VARCHAR(200),
+    creation_date TIMESTAMP(6) NOT NULL,
+    CONSTRAINT reading_lists_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS reading_list_items (
+    reading_list_id UUID NOT NULL,
+    book_id         UUID NOT NULL,
+    CONSTRAINT reading_list_items_pkey PRIMARY KEY (reading_list_id, book_id),
+    CONSTRAINT fk_reading_list_items_reading_list FOREIGN KEY (reading_list_id) REFERENCES reading_lists (id)
+);
@@ -0,0 +1,4 @@
+-- findByUserId and the owner filter of findReadingListContainingBookForUser.
+CREATE INDEX IF NOT EXISTS idx_reading_lists_user_id ON reading_lists (user_id);
+-- Items are keyed by (reading_list_id, book_id); lookups by book need the reverse order.
+CREATE INDEX IF NOT EXISTS idx_reading_list_items_book_id ON reading_list_items (book_id, reading_list_id);
@@ -0,0 +1,21 @@
+-- Lets an owner-scoped DELETE of a reading list remove its items in the same statement.
+-- Databases created by Hibernate before V1 existed carry a generated FK name, so drop the FK by its column.
+DO $$
+DECLARE
+    fk_name TEXT;
+BEGIN
+    FOR fk_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = 'reading_list_items'::regclass
+          AND c.contype = 'f'
+          AND c.confrelid = 'reading_lists'::regclass
+          AND a.attname = 'reading_list_id'
+    LOOP
+        EXECUTE format('ALTER TABLE reading_list_items DROP CONSTRAINT %I', fk_name);
+    END LOOP;
+END $$;
+
+ALTER TABLE reading_list_items ADD CONSTRAINT fk_reading_list_items_reading_list
+    FOREIGN KEY (reading_list_id) REFERENCES reading_lists (id) ON DELETE CASCADE;
@@ -0,0 +1,2 @@
+-- Optimistic-locking version, also bumped whenever the list's items change; the validator behind the reading-list ETags.
+ALTER TABLE reading_lists ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -1,12 +1,14 @@
 package org.modular.playground.readinglist.infrastructure;
 
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.readinglist.core.domain.BookListMembership;
 import org.modular.playground.readinglist.core.domain.ReadingList;
 import org.modular.playground.readinglist.core.usecases.repositories.ReadingListRepository;
 import org.modular.playground.readinglist.utils.ReadingListTestUtils;
 import org.modular.playground.user.core.domain.User;
 import org.junit.jupiter.api.Test;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -82,6 +84,121 @@ public abstract class AbstractReadingListRepositoryTest {
         });
     }
 
+    @Test
+    void shouldApplyOwnerScopedMutationsOnlyForOwner() {
+        User owner = createAndSaveUser();
+        User otherUser = createAndSaveUser();
+        Book book = createAndSaveBook();
+        ReadingList list = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(owner, "Owned")));
+        UUID listId = list.getReadingListId();
+
+        assertFalse(runTransactionalStep(() -> getRepository().addBookToReadingListForUser(listId, book.getBookId(), otherUser.getKeycloakUserId())));
+        assertTrue(runTransactionalStep(() -> getRepository().addBookToReadingListForUser(listId, book.getBookId(), owner.getKeycloakUserId())));
+        assertFalse(runTransactionalStep(() -> getRepository().addBookToReadingListForUser(listId, book.getBookId(), owner.getKeycloakUserId())));
+
+        assertTrue(runTransactionalStep(() -> getRepository().updateForUser(listId, otherUser.getKeycloakUserId(), "Taken", null)).isEmpty());
+        Optional<ReadingList> renamed = runTransactionalStep(() -> getRepository().updateForUser(listId, owner.getKeycloakUserId(), "Renamed", null));
+        assertTrue(renamed.isPresent());
+        assertEquals("Renamed", renamed.get().getName());
+        assertEquals(list.getDescription(), renamed.get().getDescription());
+
+        assertFalse(runTransactionalStep(() -> getRepository().removeBookFromReadingListForUser(listId, book.getBookId(), otherUser.getKeycloakUserId())));
+        assertTrue(runTransactionalStep(() -> getRepository().removeBookFromReadingListForUser(listId, book.getBookId(), owner.getKeycloakUserId())));
+        assertTrue(runTransactionalStep(() -> getRepository().getBookIdsInReadingList(listId)).isEmpty());
+    }
+
+    @Test
+    void shouldDeleteListWithItemsOnlyForOwner() {
+        User owner = createAndSaveUser();
+        User otherUser = createAndSaveUser();
+        Book book = createAndSaveBook();
+        ReadingList list = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(owner, "Owned")));
+        runTransactionalStep(() -> getRepository().addBookToReadingList(list.getReadingListId(), book.getBookId()));
+
+        assertFalse(runTransactionalStep(() -> getRepository().deleteByIdForUser(list.getReadingListId(), otherUser.getKeycloakUserId())));
+        assertTrue(runTransactionalStep(() -> getRepository().findById(list.getReadingListId())).isPresent());
+
+        assertTrue(runTransactionalStep(() -> getRepository().deleteByIdForUser(list.getReadingListId(), owner.getKeycloakUserId())));
+        assertTrue(runTransactionalStep(() -> getRepository().findById(list.getReadingListId())).isEmpty());
+        assertTrue(runTransactionalStep(() -> getRepository().getBookIdsInReadingList(list.getReadingListId())).isEmpty());
+    }
+
+    @Test
+    void shouldMoveBookBetweenListsOfOwner() {
+        User user = createAndSaveUser();
+        Book book = createAndSaveBook();
+        ReadingList source = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(user, "To Read")));
+        ReadingList target = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(user, "Read")));
+        runTransactionalStep(() -> getRepository().addBookToReadingList(source.getReadingListId(), book.getBookId()));
+
+        boolean moved = runTransactionalStep(() -> getRepository().moveBook(
+                source.getReadingListId(), target.getReadingListId(), book.getBookId(), user.getKeycloakUserId()));
+
+        assertTrue(moved);
+        runTransactionalStep(() -> {
+            assertTrue(getRepository().getBookIdsInReadingList(source.getReadingListId()).isEmpty());
+            assertEquals(List.of(book.getBookId()), getRepository().getBookIdsInReadingList(target.getReadingListId()));
+        });
+    }
+
+    @Test
+    void shouldNotMoveBookWhenTargetListBelongsToAnotherUser() {
+        User owner = createAndSaveUser();
+        User otherUser = createAndSaveUser();
+        Book book = createAndSaveBook();
+        ReadingList source = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(owner, "To Read")));
+        ReadingList foreignTarget = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(otherUser, "Read")));
+        runTransactionalStep(() -> getRepository().addBookToReadingList(source.getReadingListId(), book.getBookId()));
+
+        boolean moved = runTransactionalStep(() -> getRepository().moveBook(
+                source.getReadingListId(), foreignTarget.getReadingListId(), book.getBookId(), owner.getKeycloakUserId()));
+
+        assertFalse(moved);
+        runTransactionalStep(() -> {
+            assertEquals(List.of(book.getBookId()), getRepository().getBookIdsInReadingList(source.getReadingListId()));
+            assertTrue(getRepository().getBookIdsInReadingList(foreignTarget.getReadingListId()).isEmpty());
+        });
+    }
+
+    @Test
+    void shouldMoveBookWithoutOwnerCheckWhenOwnerIsNull() {
+        User owner = createAndSaveUser();
+        User otherUser = createAndSaveUser();
+        Book book = createAndSaveBook();
+        ReadingList source = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(owner, "To Read")));
+        ReadingList target = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(otherUser, "Read")));
+        runTransactionalStep(() -> getRepository().addBookToReadingList(source.getReadingListId(), book.getBookId()));
+
+        boolean moved = runTransactionalStep(() -> getRepository().moveBook(
+                source.getReadingListId(), target.getReadingListId(), book.getBookId(), null));
+
+        assertTrue(moved);
+    }
+
+    @Test
+    void shouldNotMoveBookThatIsNotInSourceList() {
+        User user = createAndSaveUser();
+        Book book = createAndSaveBook();
+        ReadingList source = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(user, "To Read")));
+        ReadingList target = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(user, "Read")));
+
+        boolean moved = runTransactionalStep(() -> getRepository().moveBook(
+                source.getReadingListId(), target.getReadingListId(), book.getBookId(), user.getKeycloakUserId()));
+
+        assertFalse(moved);
+        runTransactionalStep(() -> assertTrue(getRepository().getBookIdsInReadingList(target.getReadingListId()).isEmpty()));
+    }
+
     @Test
     void shouldFindByUserId() {
         User user = createAndSaveUser();
@@ -94,6 +211,23 @@ public abstract class AbstractReadingListRepositoryTest {
         assertEquals(2, results.size());
     }
 
+    @Test
+    void shouldChangeListVersionWhenBooksChange() {
+        User user = createAndSaveUser();
+        Book book = createAndSaveBook();
+        ReadingList list = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(user, "Versioned List")));
+        runTransactionalStep(() -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(user, "Other List")));
+        Map<UUID, Long> before = runTransactionalStep(() -> getRepository().findVersionsByUserId(user.getKeycloakUserId()));
+
+        runTransactionalStep(() -> getRepository().addBookToReadingList(list.getReadingListId(), book.getBookId()));
+
+        Map<UUID, Long> after = runTransactionalStep(() -> getRepository().findVersionsByUserId(user.getKeycloakUserId()));
+        assertEquals(2, after.size());
+        assertEquals(before.keySet(), after.keySet());
+        assertNotEquals(before.get(list.getReadingListId()), after.get(list.getReadingListId()));
+    }
+
     @Test
     void shouldFindReadingListContainingBookForUser() {
         User user = createAndSaveUser();
@@ -122,6 +256,26 @@ public abstract class AbstractReadingListRepositoryTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void shouldFindMembershipsOfSeveralBooksForUserOnly() {
+        User user = createAndSaveUser();
+        User otherUser = createAndSaveUser();
+        Book inList = createAndSaveBook();
+        Book notInList = createAndSaveBook();
+        Book inOtherUsersList = createAndSaveBook();
+        ReadingList list = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(user, "My List")));
+        ReadingList otherList = runTransactionalStep(
+                () -> getRepository().create(ReadingListTestUtils.createValidReadingListForUser(otherUser, "Other List")));
+        runTransactionalStep(() -> getRepository().addBookToReadingList(list.getReadingListId(), inList.getBookId()));
+        runTransactionalStep(() -> getRepository().addBookToReadingList(otherList.getReadingListId(), inOtherUsersList.getBookId()));
+
+        List<BookListMembership> memberships = runTransactionalStep(() -> getRepository().findMembershipsForUser(
+                user.getKeycloakUserId(), List.of(inList.getBookId(), notInList.getBookId(), inOtherUsersList.getBookId())));
+
+        assertEquals(List.of(new BookListMembership(inList.getBookId(), list.getReadingListId(), "My List")), memberships);
+    }
+
     @Test
     void shouldThrowExceptionWhenUpdatingNonExistentList() {
         User user = createAndSaveUser();
@@ -4,11 +4,24 @@ import io.quarkus.test.junit.TestProfile;
 import org.modular.playground.catalog.core.domain.Book;
 import org.modular.playground.catalog.utils.CatalogTestUtils;
 import org.modular.playground.common.InMemoryRepositoryTestProfile;
+import org.modular.playground.readinglist.core.domain.ReadingList;
+import org.modular.playground.readinglist.core.domain.ReadingListImpl;
 import org.modular.playground.readinglist.core.usecases.repositories.ReadingListRepository;
 import org.modular.playground.readinglist.infrastructure.persistence.in_memory.InMemoryReadingListRepository;
 import org.modular.playground.user.core.domain.User;
+import org.modular.playground.readinglist.utils.ReadingListTestUtils;
 import org.modular.playground.user.utils.UserTestUtils;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @TestProfile(InMemoryRepositoryTestProfile.class)
 public class InMemoryReadingListRepositoryTest extends AbstractReadingListRepositoryTest {
@@ -34,4 +47,64 @@ public class InMemoryReadingListRepositoryTest extends AbstractReadingListReposi
     protected Book createAndSaveBook() {
         return CatalogTestUtils.createValidBook();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldKeepBookInExactlyOneListWhileMovedConcurrently() {
+        User user = createAndSaveUser();
+        UUID bookId = createAndSaveBook().getBookId();
+        UUID first = inMemoryRepo.create(ReadingListTestUtils.createValidReadingListForUser(user, "First")).getReadingListId();
+        UUID second = inMemoryRepo.create(ReadingListTestUtils.createValidReadingListForUser(user, "Second")).getReadingListId();
+        inMemoryRepo.addBookToReadingList(first, bookId);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<CompletableFuture<Void>> movers = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    awaitQuietly(start);
+                    for (int j = 0; j < 500; j++) {
+                        if (!inMemoryRepo.moveBook(first, second, bookId, user.getKeycloakUserId())) {
+                            inMemoryRepo.moveBook(second, first, bookId, user.getKeycloakUserId());
+                        }
+                    }
+                }))
+                .toList();
+        start.countDown();
+        movers.forEach(CompletableFuture::join);
+
+        assertEquals(1, inMemoryRepo.getBookIdsInReadingList(first).size()
+                + inMemoryRepo.getBookIdsInReadingList(second).size());
+    }
+
+    @Test
+    void shouldNotLetCallersChangeStoredListsInPlace() {
+        User user = createAndSaveUser();
+        UUID bookId = createAndSaveBook().getBookId();
+        UUID listId = inMemoryRepo.create(ReadingListTestUtils.createValidReadingListForUser(user, "List")).getReadingListId();
+        inMemoryRepo.addBookToReadingList(listId, bookId);
+
+        ReadingList found = inMemoryRepo.findByUserId(user.getKeycloakUserId()).get(0);
+        ((ReadingListImpl) found).setBooks(new ArrayList<>());
+
+        assertEquals(List.of(bookId), inMemoryRepo.getBookIdsInReadingList(listId));
+    }
+
+    @Test
+    void shouldNotRepeatVersionWhenListReturnsToEarlierContent() {
+        User user = createAndSaveUser();
+        UUID bookId = createAndSaveBook().getBookId();
+        UUID listId = inMemoryRepo.create(ReadingListTestUtils.createValidReadingListForUser(user, "List")).getReadingListId();
+        long created = inMemoryRepo.findVersionsByUserId(user.getKeycloakUserId()).get(listId);
+
+        inMemoryRepo.addBookToReadingList(listId, bookId);
+        inMemoryRepo.removeBookFromReadingList(listId, bookId);
+
+        assertEquals(created + 2, inMemoryRepo.findVersionsByUserId(user.getKeycloakUserId()).get(listId).longValue());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
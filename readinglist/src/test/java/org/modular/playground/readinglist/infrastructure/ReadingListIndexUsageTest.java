@@ -0,0 +1,43 @@
+package org.modular.playground.readinglist.infrastructure;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.modular.playground.common.JpaRepositoryTestProfile;
+
+import java.util.UUID;
+
+import static org.modular.playground.common.QueryPlanAssertions.assertUsesIndex;
+
+@QuarkusTest
+@TestProfile(JpaRepositoryTestProfile.class)
+public class ReadingListIndexUsageTest {
+
+    @Inject
+    @DataSource("readinglist-db")
+    AgroalDataSource dataSource;
+
+    @Test
+    void findByUserIdUsesIndex() {
+        assertUsesIndex(dataSource,
+                "SELECT * FROM reading_lists WHERE user_id = '" + UUID.randomUUID() + "'",
+                "idx_reading_lists_user_id");
+    }
+
+    @Test
+    void itemLookupByBookUsesIndex() {
+        assertUsesIndex(dataSource,
+                "SELECT reading_list_id FROM reading_list_items WHERE book_id = '" + UUID.randomUUID() + "'",
+                "idx_reading_list_items_book_id");
+    }
+
+    @Test
+    void bookIdsOfReadingListUsePrimaryKey() {
+        assertUsesIndex(dataSource,
+                "SELECT book_id FROM reading_list_items WHERE reading_list_id = '" + UUID.randomUUID() + "'",
+                "reading_list_items_pkey");
+    }
+}
@@ -0,0 +1,124 @@
+package org.modular.playground.readinglist.usecases;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.ForbiddenException;
+import jakarta.ws.rs.NotFoundException;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.usecases.ReactiveBookService;
+import org.modular.playground.readinglist.core.domain.ReadingList;
+import org.modular.playground.readinglist.core.domain.ReadingListImpl;
+import org.modular.playground.readinglist.core.usecases.ReactiveReadingListServiceImpl;
+import org.modular.playground.readinglist.core.usecases.repositories.ReactiveReadingListRepository;
+import org.modular.playground.user.core.domain.User;
+import org.modular.playground.user.core.domain.UserImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveReadingListServiceImplTest {
+
+    @Mock
+    private ReactiveReadingListRepository reactiveReadingListRepository;
+
+    @Mock
+    private ReactiveBookService reactiveBookService;
+
+    @Mock
+    private JsonWebToken jwt;
+
+    @InjectMocks
+    private ReactiveReadingListServiceImpl reactiveReadingListService;
+
+    @Spy
+    private PrincipalContext principalContext = new PrincipalContext();
+
+    private User testUser;
+    private Book testBook;
+    private ReadingList testReadingList;
+
+    @BeforeEach
+    void setUp() {
+        testUser = UserImpl.builder().keycloakUserId(UUID.randomUUID()).username("testuser").build();
+        testBook = BookImpl.builder().bookId(UUID.randomUUID()).title("Test Book").build();
+        Book bookStub = BookImpl.builder().bookId(testBook.getBookId()).build();
+        testReadingList = ReadingListImpl.builder().readingListId(UUID.randomUUID()).user(testUser)
+                .name("My List").books(new ArrayList<>(List.of(bookStub))).build();
+    }
+
+    @Test
+    void shouldFindOwnReadingListAndEnrichBooks() {
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
+        when(reactiveReadingListRepository.findById(testReadingList.getReadingListId()))
+                .thenReturn(Uni.createFrom().item(testReadingList));
+        when(reactiveBookService.getBooksByIds(List.of(testBook.getBookId())))
+                .thenReturn(Uni.createFrom().item(List.of(testBook)));
+
+        ReadingList result = reactiveReadingListService
+                .findReadingListById(testReadingList.getReadingListId(), jwt).await().indefinitely();
+
+        assertEquals("Test Book", result.getBooks().get(0).getTitle());
+    }
+
+    @Test
+    void shouldReturnNullItemWhenReadingListNotFound() {
+        UUID readingListId = UUID.randomUUID();
+        when(reactiveReadingListRepository.findById(readingListId)).thenReturn(Uni.createFrom().nullItem());
+
+        assertNull(reactiveReadingListService.findReadingListById(readingListId, jwt).await().indefinitely());
+        verifyNoInteractions(reactiveBookService);
+    }
+
+    @Test
+    void shouldFailWithForbiddenWhenReadingListBelongsToSomeoneElse() {
+        when(jwt.getSubject()).thenReturn(UUID.randomUUID().toString());
+        when(reactiveReadingListRepository.findById(testReadingList.getReadingListId()))
+                .thenReturn(Uni.createFrom().item(testReadingList));
+
+        Uni<ReadingList> result = reactiveReadingListService
+                .findReadingListById(testReadingList.getReadingListId(), jwt);
+
+        assertThrows(ForbiddenException.class, () -> result.await().indefinitely());
+        verifyNoInteractions(reactiveBookService);
+    }
+
+    @Test
+    void shouldFailWithNotFoundWhenListingBooksOfMissingReadingList() {
+        UUID readingListId = UUID.randomUUID();
+        when(reactiveReadingListRepository.findById(readingListId)).thenReturn(Uni.createFrom().nullItem());
+
+        Uni<List<Book>> result = reactiveReadingListService.getBooksInReadingList(readingListId, jwt);
+
+        assertThrows(NotFoundException.class, () -> result.await().indefinitely());
+    }
+
+    @Test
+    void shouldNotCallCatalogForEmptyReadingList() {
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
+        when(reactiveReadingListRepository.findById(testReadingList.getReadingListId()))
+                .thenReturn(Uni.createFrom().item(testReadingList));
+        when(reactiveReadingListRepository.getBookIdsInReadingList(testReadingList.getReadingListId()))
+                .thenReturn(Uni.createFrom().item(List.of()));
+
+        List<Book> result = reactiveReadingListService
+                .getBooksInReadingList(testReadingList.getReadingListId(), jwt).await().indefinitely();
+
+        assertTrue(result.isEmpty());
+        verify(reactiveBookService, never()).getBooksByIds(any());
+    }
+}
@@ -10,9 +10,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.common.web.FieldSelection;
 import org.modular.playground.catalog.core.domain.Book;
 import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.domain.BookSummary;
 import org.modular.playground.catalog.core.usecases.BookService;
+import org.modular.playground.readinglist.core.domain.BookListMembership;
 import org.modular.playground.readinglist.core.domain.ReadingList;
 import org.modular.playground.readinglist.core.domain.ReadingListImpl;
 import org.modular.playground.readinglist.core.usecases.ReadingListServiceImpl;
@@ -25,6 +29,7 @@ import org.modular.playground.user.core.domain.UserImpl;
 import org.modular.playground.user.core.usecases.UserService;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -50,6 +55,9 @@ public class ReadingListServiceImplTest {
     @InjectMocks
     private ReadingListServiceImpl readingListService;
 
+    @Spy
+    private PrincipalContext principalContext = new PrincipalContext();
+
     @Spy
     private ReadingListMapper readingListMapper = new ReadingListMapperImpl();
 
@@ -122,6 +130,19 @@ public class ReadingListServiceImplTest {
         verify(readingListRepository).findByUserId(testUser.getKeycloakUserId());
     }
 
+    @Test
+    void shouldNotEnrichBooksWhenTheyAreNotSelected() {
+        ((ReadingListImpl) testReadingList).setBooks(List.of(BookImpl.builder().bookId(testBook.getBookId()).build()));
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
+        when(readingListRepository.findById(testReadingList.getReadingListId())).thenReturn(Optional.of(testReadingList));
+
+        ReadingList result = readingListService.findReadingListById(testReadingList.getReadingListId(), jwt,
+                FieldSelection.parse("name,bookCount")).orElseThrow();
+
+        assertEquals(1, readingListMapper.toResponseDTO(result).getBookCount());
+        verify(bookService, never()).getBookSummariesByIds(any());
+    }
+
     @Test
     void shouldFindReadingListForBookAndUser() {
         when(readingListRepository.findReadingListContainingBookForUser(any(), any())).thenReturn(Optional.of(testReadingList));
@@ -130,24 +151,70 @@ public class ReadingListServiceImplTest {
         verify(readingListRepository).findReadingListContainingBookForUser(any(), any());
     }
 
+    @Test
+    void shouldNotEnrichListContainingBookWhenBooksAreNotSelected() {
+        when(readingListRepository.findReadingListContainingBookForUser(any(), any())).thenReturn(Optional.of(testReadingList));
+
+        Optional<ReadingList> result = readingListService.findReadingListForBookAndUser(testUser.getKeycloakUserId(),
+                testBook.getBookId(), FieldSelection.parse("name,bookCount"));
+
+        assertTrue(result.isPresent());
+        verify(bookService, never()).getBookSummariesByIds(any());
+        verify(bookService, never()).getBooksByIds(any());
+    }
+
+    @Test
+    void shouldKeyMembershipsByBookAndKeepTheFirstList() {
+        UUID otherBookId = UUID.randomUUID();
+        BookListMembership first = new BookListMembership(testBook.getBookId(), UUID.randomUUID(), "First");
+        BookListMembership second = new BookListMembership(testBook.getBookId(), UUID.randomUUID(), "Second");
+        when(readingListRepository.findMembershipsForUser(testUser.getKeycloakUserId(), List.of(testBook.getBookId(), otherBookId)))
+                .thenReturn(List.of(first, second));
+
+        Map<UUID, BookListMembership> result = readingListService.findReadingListMembershipsForUser(
+                testUser.getKeycloakUserId(), List.of(testBook.getBookId(), otherBookId, testBook.getBookId()));
+
+        assertEquals(Map.of(testBook.getBookId(), first), result);
+        verify(bookService, never()).getBookSummariesByIds(any());
+    }
+
+    @Test
+    void shouldEnrichListWithBookSummariesInListOrder() {
+        Book otherBook = BookImpl.builder().bookId(UUID.randomUUID()).title("Other Book").build();
+        ((ReadingListImpl) testReadingList).setBooks(List.of(
+                BookImpl.builder().bookId(testBook.getBookId()).build(),
+                BookImpl.builder().bookId(otherBook.getBookId()).build()));
+        when(readingListRepository.findReadingListContainingBookForUser(any(), any())).thenReturn(Optional.of(testReadingList));
+        when(bookService.getBookSummariesByIds(List.of(testBook.getBookId(), otherBook.getBookId())))
+                .thenReturn(List.of(BookSummary.from(otherBook), BookSummary.from(testBook)));
+
+        ReadingList result = readingListService.findReadingListForBookAndUser(testUser.getKeycloakUserId(), testBook.getBookId()).orElseThrow();
+
+        assertEquals(List.of("Test Book", "Other Book"), result.getBooks().stream().map(Book::getTitle).toList());
+        verify(bookService, never()).getBooksByIds(any());
+    }
+
     @Test
     void shouldUpdateReadingListWhenUserIsOwner() {
         ReadingListRequestDTO request = ReadingListRequestDTO.builder().name("Updated Name").build();
+        ReadingList stored = ReadingListImpl.builder().readingListId(testReadingList.getReadingListId()).user(testUser).name("Updated Name").build();
         when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
-        when(readingListRepository.findById(testReadingList.getReadingListId())).thenReturn(Optional.of(testReadingList));
-        when(readingListRepository.update(any(ReadingList.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(readingListRepository.updateForUser(testReadingList.getReadingListId(), testUser.getKeycloakUserId(), "Updated Name", null))
+            .thenReturn(Optional.of(stored));
 
         ReadingList result = readingListService.updateReadingList(testReadingList.getReadingListId(), request, jwt);
 
         assertNotNull(result);
         assertEquals("Updated Name", result.getName());
-        verify(readingListRepository).update(any(ReadingList.class));
+        verify(readingListRepository, never()).findById(any());
+        verify(readingListRepository, never()).update(any(ReadingList.class));
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenUpdatingNonExistentList() {
         ReadingListRequestDTO request = ReadingListRequestDTO.builder().name("Updated Name").build();
         UUID nonExistentListId = UUID.randomUUID();
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
         when(readingListRepository.findById(nonExistentListId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> readingListService.updateReadingList(nonExistentListId, request, jwt));
@@ -168,17 +235,18 @@ public class ReadingListServiceImplTest {
     @Test
     void shouldDeleteReadingListWhenUserIsOwner() {
         when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
-        when(readingListRepository.findById(testReadingList.getReadingListId())).thenReturn(Optional.of(testReadingList));
-        doNothing().when(readingListRepository).deleteById(testReadingList.getReadingListId());
+        when(readingListRepository.deleteByIdForUser(testReadingList.getReadingListId(), testUser.getKeycloakUserId())).thenReturn(true);
 
         readingListService.deleteReadingListById(testReadingList.getReadingListId(), jwt);
 
-        verify(readingListRepository).deleteById(testReadingList.getReadingListId());
+        verify(readingListRepository, never()).findById(any());
+        verify(readingListRepository, never()).deleteById(any());
     }
     
     @Test
     void shouldThrowNotFoundExceptionWhenDeletingNonExistentList() {
         UUID nonExistentListId = UUID.randomUUID();
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
         when(readingListRepository.findById(nonExistentListId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> readingListService.deleteReadingListById(nonExistentListId, jwt));
@@ -198,9 +266,21 @@ public class ReadingListServiceImplTest {
     @Test
     void shouldAddBookToReadingListSuccessfully() {
         when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
-        when(readingListRepository.findById(testReadingList.getReadingListId())).thenReturn(Optional.of(testReadingList));
         when(bookService.getBookById(testBook.getBookId())).thenReturn(Optional.of(testBook));
-        doNothing().when(readingListRepository).addBookToReadingList(any(UUID.class), any(UUID.class));
+        when(readingListRepository.addBookToReadingListForUser(testReadingList.getReadingListId(), testBook.getBookId(), testUser.getKeycloakUserId()))
+            .thenReturn(true);
+
+        readingListService.addBookToReadingList(testReadingList.getReadingListId(), testBook.getBookId(), jwt);
+
+        verify(readingListRepository, never()).findById(any());
+        verify(readingListRepository, never()).addBookToReadingList(any(), any());
+    }
+
+    @Test
+    void shouldFallBackToLoadedListWhenBookIsAlreadyInReadingList() {
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
+        when(bookService.getBookById(testBook.getBookId())).thenReturn(Optional.of(testBook));
+        when(readingListRepository.findById(testReadingList.getReadingListId())).thenReturn(Optional.of(testReadingList));
 
         readingListService.addBookToReadingList(testReadingList.getReadingListId(), testBook.getBookId(), jwt);
 
@@ -210,8 +290,6 @@ public class ReadingListServiceImplTest {
     @Test
     void shouldThrowNotFoundExceptionWhenAddingNonExistentBook() {
         UUID nonExistentBookId = UUID.randomUUID();
-        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
-        when(readingListRepository.findById(testReadingList.getReadingListId())).thenReturn(Optional.of(testReadingList));
         when(bookService.getBookById(nonExistentBookId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> readingListService.addBookToReadingList(testReadingList.getReadingListId(), nonExistentBookId, jwt));
@@ -221,6 +299,8 @@ public class ReadingListServiceImplTest {
     @Test
     void shouldThrowNotFoundExceptionWhenAddingBookToNonExistentList() {
         UUID nonExistentListId = UUID.randomUUID();
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
+        when(bookService.getBookById(testBook.getBookId())).thenReturn(Optional.of(testBook));
         when(readingListRepository.findById(nonExistentListId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> readingListService.addBookToReadingList(nonExistentListId, testBook.getBookId(), jwt));
@@ -229,17 +309,19 @@ public class ReadingListServiceImplTest {
     @Test
     void shouldRemoveBookFromReadingListWhenUserIsOwner() {
         when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
-        when(readingListRepository.findById(testReadingList.getReadingListId())).thenReturn(Optional.of(testReadingList));
-        doNothing().when(readingListRepository).removeBookFromReadingList(any(UUID.class), any(UUID.class));
+        when(readingListRepository.removeBookFromReadingListForUser(testReadingList.getReadingListId(), testBook.getBookId(), testUser.getKeycloakUserId()))
+            .thenReturn(true);
 
         readingListService.removeBookFromReadingList(testReadingList.getReadingListId(), testBook.getBookId(), jwt);
 
-        verify(readingListRepository).removeBookFromReadingList(testReadingList.getReadingListId(), testBook.getBookId());
+        verify(readingListRepository, never()).findById(any());
+        verify(readingListRepository, never()).removeBookFromReadingList(any(), any());
     }
     
     @Test
     void shouldThrowNotFoundExceptionWhenRemovingBookFromNonExistentList() {
         UUID nonExistentListId = UUID.randomUUID();
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
         when(readingListRepository.findById(nonExistentListId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> readingListService.removeBookFromReadingList(nonExistentListId, testBook.getBookId(), jwt));
@@ -277,9 +359,38 @@ public class ReadingListServiceImplTest {
         verify(readingListRepository).addBookToReadingList(targetList.getReadingListId(), testBook.getBookId());
     }
 
+    @Test
+    void shouldMoveBookWithSingleRepositoryCallWhenOwnershipMatches() {
+        UUID targetListId = UUID.randomUUID();
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
+        when(readingListRepository.moveBook(testReadingList.getReadingListId(), targetListId, testBook.getBookId(), testUser.getKeycloakUserId()))
+            .thenReturn(true);
+
+        readingListService.moveBookBetweenReadingLists(testUser.getKeycloakUserId(), testBook.getBookId(), testReadingList.getReadingListId(), targetListId, jwt);
+
+        verify(readingListRepository, never()).findById(any());
+        verify(readingListRepository, never()).removeBookFromReadingList(any(), any());
+        verify(readingListRepository, never()).addBookToReadingList(any(), any());
+    }
+
+    @Test
+    void shouldThrowForbiddenExceptionWhenMovingBookFromAnotherUsersList() {
+        UUID otherUserId = UUID.randomUUID();
+        ReadingList targetList = ReadingListImpl.builder().readingListId(UUID.randomUUID()).user(testUser).name("Target List").build();
+        when(jwt.getSubject()).thenReturn(otherUserId.toString());
+        when(readingListRepository.moveBook(testReadingList.getReadingListId(), targetList.getReadingListId(), testBook.getBookId(), otherUserId))
+            .thenReturn(false);
+        when(readingListRepository.findById(testReadingList.getReadingListId())).thenReturn(Optional.of(testReadingList));
+
+        assertThrows(ForbiddenException.class, () -> readingListService.moveBookBetweenReadingLists(otherUserId, testBook.getBookId(), testReadingList.getReadingListId(), targetList.getReadingListId(), jwt));
+
+        verify(readingListRepository, never()).removeBookFromReadingList(any(), any());
+    }
+
     @Test
     void shouldThrowNotFoundExceptionWhenMovingBookFromNonExistentSourceList() {
         UUID nonExistentListId = UUID.randomUUID();
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
         when(readingListRepository.findById(nonExistentListId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> readingListService.moveBookBetweenReadingLists(testUser.getKeycloakUserId(), testBook.getBookId(), nonExistentListId, testReadingList.getReadingListId(), jwt));
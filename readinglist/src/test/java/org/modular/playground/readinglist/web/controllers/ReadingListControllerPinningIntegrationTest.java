@@ -0,0 +1,99 @@
+package org.modular.playground.readinglist.web.controllers;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.keycloak.client.KeycloakTestClient;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.utils.CatalogRepositoryUtils;
+import org.modular.playground.catalog.utils.CatalogTestUtils;
+import org.modular.playground.common.VirtualThreadPinningExtension;
+import org.modular.playground.common.VirtualThreadsTestProfile;
+import org.modular.playground.readinglist.core.domain.ReadingList;
+import org.modular.playground.readinglist.utils.ReadingListRepositoryUtils;
+import org.modular.playground.readinglist.utils.ReadingListTestUtils;
+import org.modular.playground.user.core.domain.User;
+import org.modular.playground.user.utils.UserRepositoryUtils;
+import org.modular.playground.user.utils.UserTestUtils;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+@QuarkusTest
+@TestProfile(VirtualThreadsTestProfile.class)
+@ExtendWith(VirtualThreadPinningExtension.class)
+public class ReadingListControllerPinningIntegrationTest {
+
+    @Inject
+    UserRepositoryUtils userRepositoryUtils;
+
+    @Inject
+    CatalogRepositoryUtils catalogRepositoryUtils;
+
+    @Inject
+    ReadingListRepositoryUtils readingListRepositoryUtils;
+
+    KeycloakTestClient keycloakClient = new KeycloakTestClient();
+
+    private static final UUID ALICE_UUID = UUID.fromString("eb4123a3-b722-4798-9af5-8957f823657a");
+
+    private User alice;
+    private Book book;
+    private ReadingList readingList;
+
+    @BeforeEach
+    void setUp() {
+        alice = userRepositoryUtils.saveUser(UserTestUtils.createValidUserWithIdAndUsername(ALICE_UUID, "alice"));
+        book = catalogRepositoryUtils.saveBook(CatalogTestUtils.createValidBook());
+        readingList = readingListRepositoryUtils.saveReadingList(
+                ReadingListTestUtils.createValidReadingListForUser(alice, "Pinning"));
+        readingListRepositoryUtils.addBookToReadingList(readingList.getReadingListId(), book.getBookId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        readingListRepositoryUtils.deleteReadingList(readingList.getReadingListId());
+        catalogRepositoryUtils.deleteBook(book.getBookId());
+        userRepositoryUtils.deleteUser(alice.getKeycloakUserId());
+    }
+
+    @Test
+    void testGetBooksInReadingListDoesNotPinCarrierThread() {
+        given()
+                .auth().oauth2(keycloakClient.getAccessToken("alice"))
+                .pathParam("readingListId", readingList.getReadingListId())
+        .when()
+                .get("/api/v1/readinglists/{readingListId}/books")
+        .then()
+                .statusCode(200)
+                .body("$", hasSize(1))
+                .body("[0].bookId", equalTo(book.getBookId().toString()));
+    }
+
+    @Test
+    void testMyReadingListsQueryDoesNotPinCarrierThread() {
+        String body = """
+                {
+                  "query": "query { myReadingLists { readingListId name } }"
+                }
+                """;
+
+        given()
+                .auth().oauth2(keycloakClient.getAccessToken("alice"))
+                .contentType(ContentType.JSON)
+                .body(body)
+        .when()
+                .post("/graphql")
+        .then()
+                .statusCode(200)
+                .body("data.myReadingLists", hasSize(1));
+    }
+}
@@ -1,6 +1,13 @@
 package org.modular.playground.readinglist.web.controllers;
 
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Variant;
+import org.modular.playground.common.web.FieldSelection;
+import org.modular.playground.common.web.protobuf.ProtobufMessageBodyWriter;
 import org.modular.playground.readinglist.core.domain.ReadingList;
 import org.modular.playground.readinglist.core.domain.ReadingListImpl;
 import org.modular.playground.readinglist.core.usecases.ReadingListService;
@@ -20,9 +27,13 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +48,9 @@ public class ReadingListControllerUnitTest {
     @Mock
     private JsonWebToken jwt;
 
+    @Mock
+    private Request request;
+
     @Spy
     private ReadingListMapper readingListMapper = new ReadingListMapperImpl();
 
@@ -74,26 +88,59 @@ public class ReadingListControllerUnitTest {
 
     @Test
     void shouldReturnOkWhenReadingListIsFound() {
-        when(readingListService.findReadingListById(testReadingListId, jwt)).thenReturn(Optional.of(mockReadingList));
-        Response response = readingListController.getReadingListById(testReadingListId);
+        when(readingListService.findReadingListById(testReadingListId, jwt, FieldSelection.ALL)).thenReturn(Optional.of(mockReadingList));
+        Response response = readingListController.getReadingListById(testReadingListId, null);
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
-        verify(readingListService, times(1)).findReadingListById(testReadingListId, jwt);
+        verify(readingListService, times(1)).findReadingListById(testReadingListId, jwt, FieldSelection.ALL);
     }
 
     @Test
     void shouldReturnNotFoundWhenReadingListIsMissing() {
-        when(readingListService.findReadingListById(testReadingListId, jwt)).thenReturn(Optional.empty());
-        Response response = readingListController.getReadingListById(testReadingListId);
+        when(readingListService.findReadingListById(testReadingListId, jwt, FieldSelection.ALL)).thenReturn(Optional.empty());
+        Response response = readingListController.getReadingListById(testReadingListId, null);
         assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
     }
 
     @Test
     void shouldReturnOkWithReadingListsForUser() {
         when(jwt.getSubject()).thenReturn(mockUser.getKeycloakUserId().toString());
-        when(readingListService.getReadingListsForUser(mockUser.getKeycloakUserId())).thenReturn(Collections.singletonList(mockReadingList));
-        Response response = readingListController.getAllReadingListsForUser();
+        when(readingListService.getReadingListsForUser(mockUser.getKeycloakUserId(), FieldSelection.ALL)).thenReturn(Collections.singletonList(mockReadingList));
+        when(readingListService.getReadingListVersionsForUser(mockUser.getKeycloakUserId())).thenReturn(Map.of(testReadingListId, 0L));
+        Response response = readingListController.getAllReadingListsForUser(request, null);
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
-        verify(readingListService, times(1)).getReadingListsForUser(mockUser.getKeycloakUserId());
+        assertNotNull(response.getEntityTag());
+        verify(readingListService, times(1)).getReadingListsForUser(mockUser.getKeycloakUserId(), FieldSelection.ALL);
+    }
+
+    @Test
+    void shouldTagJsonAndProtobufListsSeparately() {
+        when(jwt.getSubject()).thenReturn(mockUser.getKeycloakUserId().toString());
+        when(readingListService.getReadingListsForUser(mockUser.getKeycloakUserId(), FieldSelection.ALL)).thenReturn(Collections.singletonList(mockReadingList));
+        when(readingListService.getReadingListVersionsForUser(mockUser.getKeycloakUserId())).thenReturn(Map.of(testReadingListId, 0L));
+        when(request.selectVariant(anyList()))
+                .thenReturn(new Variant(MediaType.APPLICATION_JSON_TYPE, (String) null, null))
+                .thenReturn(new Variant(ProtobufMessageBodyWriter.APPLICATION_PROTOBUF_TYPE, (String) null, null));
+
+        Response json = readingListController.getAllReadingListsForUser(request, null);
+        Response protobuf = readingListController.getAllReadingListsForUser(request, null);
+
+        assertNotEquals(json.getEntityTag(), protobuf.getEntityTag());
+        assertEquals(ProtobufMessageBodyWriter.APPLICATION_PROTOBUF_TYPE, protobuf.getMediaType());
+        assertEquals(HttpHeaders.ACCEPT, json.getHeaderString(HttpHeaders.VARY));
+        assertEquals(HttpHeaders.ACCEPT, protobuf.getHeaderString(HttpHeaders.VARY));
+    }
+
+    @Test
+    void shouldReturnNotModifiedWithoutLoadingListsWhenTagMatches() {
+        when(jwt.getSubject()).thenReturn(mockUser.getKeycloakUserId().toString());
+        when(readingListService.getReadingListVersionsForUser(mockUser.getKeycloakUserId())).thenReturn(Map.of(testReadingListId, 3L));
+        when(request.evaluatePreconditions(any(EntityTag.class))).thenReturn(Response.notModified());
+
+        Response response = readingListController.getAllReadingListsForUser(request, null);
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        assertNull(response.getEntity());
+        verify(readingListService, never()).getReadingListsForUser(any(), any());
     }
 
     @Test
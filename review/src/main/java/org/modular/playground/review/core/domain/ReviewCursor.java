@@ -0,0 +1,40 @@
+package org.modular.playground.review.core.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of a review inside a sorted listing. It carries every column any
+ * {@link ReviewSort} orders by, so the same token can be replayed regardless of the sort.
+ */
+public record ReviewCursor(
+    LocalDateTime publicationDate,
+    int rating,
+    UUID reviewId
+) {
+    private static final String SEPARATOR = "|";
+
+    public static ReviewCursor of(Review review) {
+        return new ReviewCursor(review.getPublicationDate(), review.getRating(), review.getReviewId());
+    }
+
+    public String encode() {
+        String raw = publicationDate + SEPARATOR + rating + SEPARATOR + reviewId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReviewCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed review cursor: " + token);
+            }
+            return new ReviewCursor(LocalDateTime.parse(parts[0]), Integer.parseInt(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed review cursor: " + token, e);
+        }
+    }
+}
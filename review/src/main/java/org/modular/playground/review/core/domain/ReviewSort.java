@@ -0,0 +1,13 @@
+package org.modular.playground.review.core.domain;
+
+public enum ReviewSort {
+    PUBLICATION_DATE,
+    RATING;
+
+    public static ReviewSort from(String value) {
+        if (value != null && "rating".equalsIgnoreCase(value.trim())) {
+            return RATING;
+        }
+        return PUBLICATION_DATE;
+    }
+}
@@ -0,0 +1,14 @@
+package org.modular.playground.review.core.usecases;
+
+import io.smallrye.mutiny.Uni;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.modular.playground.review.core.domain.Review;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveReviewService {
+    Uni<Review> findReviewAndCheckOwnership(UUID reviewId, JsonWebToken principal);
+    Uni<List<Review>> getReviewsForBook(UUID bookId);
+    Uni<List<Review>> getReviewsForUser(UUID userId, JsonWebToken principal);
+}
@@ -0,0 +1,115 @@
+package org.modular.playground.review.core.usecases;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ForbiddenException;
+import jakarta.ws.rs.NotFoundException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.usecases.ReactiveBookService;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.common.security.ResolvedPrincipal;
+import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewImpl;
+import org.modular.playground.review.core.usecases.repositories.ReactiveReviewRepository;
+import org.modular.playground.user.core.domain.User;
+import org.modular.playground.user.core.usecases.ReactiveUserService;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactiveReviewServiceImpl implements ReactiveReviewService {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveReviewServiceImpl.class);
+
+    @Inject
+    ReactiveReviewRepository reactiveReviewRepository;
+    @Inject
+    ReactiveBookService reactiveBookService;
+    @Inject
+    ReactiveUserService reactiveUserService;
+    @Inject
+    PrincipalContext principalContext;
+
+    @ConfigProperty(name = "app.review.enrichment-timeout-ms", defaultValue = "2000")
+    long enrichmentTimeoutMs;
+
+    @Override
+    public Uni<Review> findReviewAndCheckOwnership(UUID reviewId, JsonWebToken principal) {
+        LOGGER.debugf("Reactive lookup of review %s and ownership check for user %s", reviewId, principal.getSubject());
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        return reactiveReviewRepository.findById(reviewId)
+                .onItem().ifNull().failWith(() -> new NotFoundException("Review not found with ID: " + reviewId))
+                .invoke(review -> checkOwnership(review, caller))
+                .flatMap(review -> enrichReviews(List.of(review)).map(reviews -> reviews.get(0)));
+    }
+
+    @Override
+    public Uni<List<Review>> getReviewsForBook(UUID bookId) {
+        LOGGER.debugf("Reactive lookup of reviews for book ID: %s", bookId);
+        return reactiveReviewRepository.getBookReviews(bookId)
+                .flatMap(this::enrichReviews);
+    }
+
+    @Override
+    public Uni<List<Review>> getReviewsForUser(UUID userId, JsonWebToken principal) {
+        LOGGER.debugf("Reactive lookup of reviews for user ID: %s", userId);
+        return reactiveUserService.findUserProfileById(userId, principal)
+                .flatMap(user -> {
+                    if (user == null) {
+                        LOGGER.warnf("User not found: %s. Cannot retrieve reviews.", userId);
+                        return Uni.createFrom().item(Collections.<Review>emptyList());
+                    }
+                    return reactiveReviewRepository.getUserReviews(userId).flatMap(this::enrichReviews);
+                });
+    }
+
+    private void checkOwnership(Review review, ResolvedPrincipal caller) {
+        if (!caller.canAccess(review.getUser().getKeycloakUserId())) {
+            throw new ForbiddenException("You are not authorized to access this review.");
+        }
+    }
+
+    private Uni<List<Review>> enrichReviews(List<Review> reviews) {
+        if (reviews == null || reviews.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+
+        List<UUID> userIds = reviews.stream().map(r -> r.getUser().getKeycloakUserId()).distinct()
+                .collect(Collectors.toList());
+        List<UUID> bookIds = reviews.stream().map(r -> r.getBook().getBookId()).distinct().collect(Collectors.toList());
+
+        Uni<Map<UUID, User>> usersUni = withFallback(reactiveUserService.findUsersByIds(userIds)
+                .map(users -> users.stream().collect(Collectors.toMap(User::getKeycloakUserId, Function.identity()))),
+                "users");
+        Uni<Map<UUID, Book>> booksUni = withFallback(reactiveBookService.getBooksByIds(bookIds)
+                .map(books -> books.stream().collect(Collectors.toMap(Book::getBookId, Function.identity()))),
+                "books");
+
+        return Uni.combine().all().unis(usersUni, booksUni).asTuple().map(maps -> {
+            reviews.forEach(review -> {
+                ReviewImpl mutableReview = (ReviewImpl) review;
+                mutableReview.setUser(maps.getItem1().getOrDefault(review.getUser().getKeycloakUserId(), review.getUser()));
+                mutableReview.setBook(maps.getItem2().getOrDefault(review.getBook().getBookId(), review.getBook()));
+            });
+            return reviews;
+        });
+    }
+
+    private <T> Uni<Map<UUID, T>> withFallback(Uni<Map<UUID, T>> lookup, String target) {
+        return lookup
+                .ifNoItem().after(Duration.ofMillis(enrichmentTimeoutMs)).fail()
+                .onFailure().recoverWithItem(e -> {
+                    LOGGER.warnf(e, "Reactive review enrichment with %s failed or timed out, falling back to stubs", target);
+                    return Collections.emptyMap();
+                });
+    }
+}
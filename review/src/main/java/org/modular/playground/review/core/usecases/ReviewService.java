@@ -4,17 +4,37 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
+import org.modular.playground.common.web.FieldSelection;
 import org.modular.playground.review.core.domain.Review;
 import org.modular.playground.review.core.domain.ReviewStatsImpl;
 import org.modular.playground.review.web.dto.ReviewRequestDTO;
 
 public interface ReviewService {
+    /** Resource name under which review stats responses are kept in the serialized response cache. */
+    String REVIEW_STATS_RESPONSE = "review-stats";
+
     Review createReview(ReviewRequestDTO reviewRequest, JsonWebToken principal);
+    Review upsertReview(ReviewRequestDTO reviewRequest, JsonWebToken principal);
     Optional<Review> findReviewById(UUID reviewId, JsonWebToken principal);
     Review findReviewAndCheckOwnership(UUID reviewId, JsonWebToken principal);
     Optional<Review> findReviewByUserAndBook(UUID userId, UUID bookId, JsonWebToken principal);
+    Optional<Review> findReviewByUserAndBook(UUID userId, UUID bookId, JsonWebToken principal, FieldSelection fields);
+    /** The user's reviews of any of the given books, looked up in one query and not enriched. */
+    List<Review> findReviewsByUserAndBooks(UUID userId, List<UUID> bookIds);
     List<Review> getReviewsForBook(UUID bookId, JsonWebToken principal);
+    List<Review> getReviewsForBook(UUID bookId, JsonWebToken principal, FieldSelection fields);
     List<Review> getReviewsForUser(UUID userId, JsonWebToken principal);
+    List<Review> getReviewsForUser(UUID userId, JsonWebToken principal, FieldSelection fields);
+    DomainPage<Review> getReviewsForBookPage(UUID bookId, int page, int size, String sort, String order, JsonWebToken principal);
+    DomainPage<Review> getReviewsForBookPage(UUID bookId, int page, int size, String sort, String order, JsonWebToken principal, FieldSelection fields);
+    DomainSlice<Review> getReviewsForBookAfter(UUID bookId, String cursor, Integer size, String sort, String order, JsonWebToken principal);
+    DomainSlice<Review> getReviewsForBookAfter(UUID bookId, String cursor, Integer size, String sort, String order, JsonWebToken principal, FieldSelection fields);
+    DomainPage<Review> getReviewsForUserPage(UUID userId, int page, int size, String sort, String order, JsonWebToken principal);
+    DomainPage<Review> getReviewsForUserPage(UUID userId, int page, int size, String sort, String order, JsonWebToken principal, FieldSelection fields);
+    DomainSlice<Review> getReviewsForUserAfter(UUID userId, String cursor, Integer size, String sort, String order, JsonWebToken principal);
+    DomainSlice<Review> getReviewsForUserAfter(UUID userId, String cursor, Integer size, String sort, String order, JsonWebToken principal, FieldSelection fields);
     Review updateReview(UUID reviewId, ReviewRequestDTO reviewRequest, JsonWebToken principal); 
     void deleteReviewById(UUID reviewId, JsonWebToken principal);
     ReviewStatsImpl getReviewStatsForBook(UUID bookId);
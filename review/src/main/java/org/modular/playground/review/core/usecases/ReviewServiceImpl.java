@@ -3,24 +3,39 @@ package org.modular.playground.review.core.usecases;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.ForbiddenException;
 import jakarta.ws.rs.NotFoundException;
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookSummary;
+import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
 import org.modular.playground.catalog.core.usecases.BookService;
-import org.modular.playground.common.security.SecurityUtils;
+import org.modular.playground.common.persistence.ReadOnly;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.common.security.ResolvedPrincipal;
+import org.modular.playground.common.web.FieldSelection;
+import org.modular.playground.common.web.SerializedResponseCache;
 import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewCursor;
 import org.modular.playground.review.core.domain.ReviewImpl;
+import org.modular.playground.review.core.domain.ReviewSort;
 import org.modular.playground.review.core.domain.ReviewStatsImpl;
 import org.modular.playground.review.core.usecases.repositories.ReviewRepository;
 import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapper;
 import org.modular.playground.review.web.dto.ReviewRequestDTO;
 import org.modular.playground.user.core.domain.User;
 import org.modular.playground.user.core.usecases.UserService;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.jboss.logging.Logger;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
@@ -36,10 +51,25 @@ public class ReviewServiceImpl implements ReviewService {
     UserService userService;
     @Inject
     ReviewMapper reviewMapper;
+    @Inject
+    ManagedExecutor managedExecutor;
+    @Inject
+    PrincipalContext principalContext;
+    @Inject
+    SerializedResponseCache responseCache;
+
+    @ConfigProperty(name = "app.review.enrichment-strategy", defaultValue = "sequential")
+    String enrichmentStrategy;
+
+    @ConfigProperty(name = "app.review.enrichment-timeout-ms", defaultValue = "2000")
+    long enrichmentTimeoutMs;
+
+    @ConfigProperty(name = "app.pagination.max-page-size", defaultValue = "100")
+    int maxPageSize;
 
     @Override
     public Review createReview(ReviewRequestDTO reviewRequest, JsonWebToken principal) {
-        UUID userId = UUID.fromString(principal.getSubject());
+        UUID userId = principalContext.resolve(principal).userId();
         UUID bookId = reviewRequest.getBookId();
         LOGGER.infof("Attempting to create review for book %s by user %s", bookId, userId);
 
@@ -50,7 +80,27 @@ public class ReviewServiceImpl implements ReviewService {
 
         Review reviewToCreate = reviewMapper.toDomain(reviewRequest, user, book);
 
-        return createInTransaction(reviewToCreate);
+        Review createdReview = createInTransaction(reviewToCreate);
+        invalidateStats(bookId);
+        return createdReview;
+    }
+
+    @Override
+    public Review upsertReview(ReviewRequestDTO reviewRequest, JsonWebToken principal) {
+        UUID userId = principalContext.resolve(principal).userId();
+        UUID bookId = reviewRequest.getBookId();
+        LOGGER.infof("Attempting to create or replace review for book %s by user %s", bookId, userId);
+
+        Book book = bookService.getBookById(bookId)
+                .orElseThrow(() -> new NotFoundException("Book not found: " + bookId));
+        User user = userService.findUserProfileById(userId, principal)
+                .orElseThrow(() -> new NotFoundException("User not found: " + userId));
+
+        Review storedReview = upsertInTransaction(reviewMapper.toDomain(reviewRequest, user, book));
+        invalidateStats(bookId);
+        ((ReviewImpl) storedReview).setUser(user);
+        ((ReviewImpl) storedReview).setBook(book);
+        return storedReview;
     }
 
     @Override
@@ -64,21 +114,36 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
+    @ReadOnly
     public Optional<Review> findReviewById(UUID reviewId, JsonWebToken principal) {
         LOGGER.debugf("Searching for review by ID: %s", reviewId);
         return findByIdInTransaction(reviewId).map(this::enrichReview);
     }
 
     @Override
+    @ReadOnly
     public List<Review> getReviewsForBook(UUID bookId, JsonWebToken principal) {
-        LOGGER.debugf("Getting reviews for book ID: %s", bookId);
+        return getReviewsForBook(bookId, principal, FieldSelection.ALL);
+    }
+
+    @Override
+    @ReadOnly
+    public List<Review> getReviewsForBook(UUID bookId, JsonWebToken principal, FieldSelection fields) {
+        LOGGER.debugf("Getting reviews for book ID: %s [fields: %s]", bookId, fields);
         List<Review> reviews = getBookReviewsInTransaction(bookId);
-        return enrichReviews(reviews);
+        return enrichReviews(reviews, fields);
     }
 
     @Override
+    @ReadOnly
     public List<Review> getReviewsForUser(UUID userId, JsonWebToken principal) {
-        LOGGER.debugf("Getting reviews for user ID: %s", userId);
+        return getReviewsForUser(userId, principal, FieldSelection.ALL);
+    }
+
+    @Override
+    @ReadOnly
+    public List<Review> getReviewsForUser(UUID userId, JsonWebToken principal, FieldSelection fields) {
+        LOGGER.debugf("Getting reviews for user ID: %s [fields: %s]", userId, fields);
         
         if (userService.findUserProfileById(userId, principal).isEmpty()) {
             LOGGER.warnf("User not found: %s. Cannot retrieve reviews.", userId);
@@ -86,32 +151,165 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         List<Review> reviews = getUserReviewsInTransaction(userId);
-        return enrichReviews(reviews);
+        return enrichReviews(reviews, fields);
+    }
+
+    @Override
+    @ReadOnly
+    public DomainPage<Review> getReviewsForBookPage(UUID bookId, int page, int size, String sort, String order,
+            JsonWebToken principal) {
+        return getReviewsForBookPage(bookId, page, size, sort, order, principal, FieldSelection.ALL);
+    }
+
+    @Override
+    @ReadOnly
+    public DomainPage<Review> getReviewsForBookPage(UUID bookId, int page, int size, String sort, String order,
+            JsonWebToken principal, FieldSelection fields) {
+        LOGGER.debugf("Getting reviews page for book ID: %s [page: %d, size: %d, sort: %s, order: %s]",
+                bookId, page, size, sort, order);
+        int boundedSize = boundedPageSize(size);
+        DomainPage<Review> reviewsPage = getBookReviewsPageInTransaction(bookId, validatedPage(page, boundedSize),
+                boundedSize, ReviewSort.from(sort), isDescending(order));
+        enrichReviews(reviewsPage.content(), fields);
+        return reviewsPage;
+    }
+
+    @Override
+    @ReadOnly
+    public DomainSlice<Review> getReviewsForBookAfter(UUID bookId, String cursor, Integer size, String sort,
+            String order, JsonWebToken principal) {
+        return getReviewsForBookAfter(bookId, cursor, size, sort, order, principal, FieldSelection.ALL);
+    }
+
+    @Override
+    @ReadOnly
+    public DomainSlice<Review> getReviewsForBookAfter(UUID bookId, String cursor, Integer size, String sort,
+            String order, JsonWebToken principal, FieldSelection fields) {
+        LOGGER.debugf("Getting reviews for book ID: %s after cursor %s", bookId, cursor);
+        int boundedSize = boundedPageSize(size);
+        List<Review> fetched = getBookReviewsAfterInTransaction(bookId, decodeCursor(cursor), boundedSize + 1,
+                ReviewSort.from(sort), isDescending(order));
+        DomainSlice<Review> reviewsSlice = DomainSlice.of(fetched, boundedSize);
+        enrichReviews(reviewsSlice.content(), fields);
+        return reviewsSlice;
+    }
+
+    @Override
+    @ReadOnly
+    public DomainPage<Review> getReviewsForUserPage(UUID userId, int page, int size, String sort, String order,
+            JsonWebToken principal) {
+        return getReviewsForUserPage(userId, page, size, sort, order, principal, FieldSelection.ALL);
+    }
+
+    @Override
+    @ReadOnly
+    public DomainPage<Review> getReviewsForUserPage(UUID userId, int page, int size, String sort, String order,
+            JsonWebToken principal, FieldSelection fields) {
+        LOGGER.debugf("Getting reviews page for user ID: %s [page: %d, size: %d, sort: %s, order: %s]",
+                userId, page, size, sort, order);
+        int boundedSize = boundedPageSize(size);
+        int validPage = validatedPage(page, boundedSize);
+        if (userService.findUserProfileById(userId, principal).isEmpty()) {
+            LOGGER.warnf("User not found: %s. Cannot retrieve reviews.", userId);
+            return new DomainPage<>(Collections.emptyList(), 0, 0, validPage, boundedSize, true, true);
+        }
+        DomainPage<Review> reviewsPage = getUserReviewsPageInTransaction(userId, validPage, boundedSize,
+                ReviewSort.from(sort), isDescending(order));
+        enrichReviews(reviewsPage.content(), fields);
+        return reviewsPage;
+    }
+
+    @Override
+    @ReadOnly
+    public DomainSlice<Review> getReviewsForUserAfter(UUID userId, String cursor, Integer size, String sort,
+            String order, JsonWebToken principal) {
+        return getReviewsForUserAfter(userId, cursor, size, sort, order, principal, FieldSelection.ALL);
+    }
+
+    @Override
+    @ReadOnly
+    public DomainSlice<Review> getReviewsForUserAfter(UUID userId, String cursor, Integer size, String sort,
+            String order, JsonWebToken principal, FieldSelection fields) {
+        LOGGER.debugf("Getting reviews for user ID: %s after cursor %s", userId, cursor);
+        ReviewCursor after = decodeCursor(cursor);
+        if (userService.findUserProfileById(userId, principal).isEmpty()) {
+            LOGGER.warnf("User not found: %s. Cannot retrieve reviews.", userId);
+            return new DomainSlice<>(Collections.emptyList(), false);
+        }
+        int boundedSize = boundedPageSize(size);
+        List<Review> fetched = getUserReviewsAfterInTransaction(userId, after, boundedSize + 1,
+                ReviewSort.from(sort), isDescending(order));
+        DomainSlice<Review> reviewsSlice = DomainSlice.of(fetched, boundedSize);
+        enrichReviews(reviewsSlice.content(), fields);
+        return reviewsSlice;
     }
 
     @Override
     public Review updateReview(UUID reviewId, ReviewRequestDTO reviewRequest, JsonWebToken principal) {
         LOGGER.infof("Attempting to update review with ID: %s", reviewId);
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        if (!caller.isAdmin()) {
+            Optional<Review> updated = updateForUserInTransaction(reviewId, caller.userId(),
+                    reviewRequest.getReviewText(), reviewRequest.getRating());
+            if (updated.isPresent()) {
+                invalidateStats(updated.get().getBook().getBookId());
+                return enrichReview(updated.get());
+            }
+        }
         Review existingReview = findReviewAndCheckOwnership(reviewId, principal);
         reviewMapper.updateFromDto(reviewRequest, (ReviewImpl) existingReview);
-        return updateInTransaction(existingReview);
+        Review updatedReview = updateInTransaction(existingReview);
+        invalidateStats(existingReview.getBook().getBookId());
+        return updatedReview;
     }
 
     @Override
     public void deleteReviewById(UUID reviewId, JsonWebToken principal) {
         LOGGER.infof("Attempting to delete review with ID: %s", reviewId);
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        if (!caller.isAdmin()) {
+            Optional<UUID> bookId = deleteByIdForUserInTransaction(reviewId, caller.userId());
+            if (bookId.isPresent()) {
+                invalidateStats(bookId.get());
+                return;
+            }
+        }
         Review reviewToDelete = findReviewAndCheckOwnership(reviewId, principal);
         deleteByIdInTransaction(reviewToDelete.getReviewId());
+        invalidateStats(reviewToDelete.getBook().getBookId());
     }
 
     @Override
+    @ReadOnly
     public Optional<Review> findReviewByUserAndBook(UUID userId, UUID bookId, JsonWebToken principal) {
-        LOGGER.debugf("Searching for review by user ID %s and book ID %s", userId, bookId);
+        return findReviewByUserAndBook(userId, bookId, principal, FieldSelection.ALL);
+    }
+
+    @Override
+    @ReadOnly
+    public Optional<Review> findReviewByUserAndBook(UUID userId, UUID bookId, JsonWebToken principal,
+            FieldSelection fields) {
+        LOGGER.debugf("Searching for review by user ID %s and book ID %s [fields: %s]", userId, bookId, fields);
         Optional<Review> reviewOpt = findByUserIdAndBookIdInTransaction(userId, bookId);
-        return reviewOpt.map(this::enrichReview);
+        if (fields.isAll()) {
+            return reviewOpt.map(this::enrichReview);
+        }
+        return reviewOpt.map(review -> enrichReviews(List.of(review), fields).get(0));
+    }
+
+    @Override
+    @ReadOnly
+    public List<Review> findReviewsByUserAndBooks(UUID userId, List<UUID> bookIds) {
+        LOGGER.debugf("Searching for reviews by user ID %s for %d books", userId, bookIds.size());
+        List<UUID> distinctIds = bookIds.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return findByUserIdAndBookIdsInTransaction(userId, distinctIds);
     }
 
     @Override
+    @ReadOnly
     public ReviewStatsImpl getReviewStatsForBook(UUID bookId) {
         LOGGER.debugf("Getting review stats for book ID: %s", bookId);
         if (bookService.getBookById(bookId).isEmpty()) {
@@ -120,9 +318,12 @@ public class ReviewServiceImpl implements ReviewService {
         return getReviewStatsInTransaction(bookId);
     }
 
+    private void invalidateStats(UUID bookId) {
+        responseCache.invalidate(REVIEW_STATS_RESPONSE, bookId);
+    }
+
     private void checkOwnership(Review review, JsonWebToken principal) {
-        UUID callerId = UUID.fromString(principal.getSubject());
-        if (!review.getUser().getKeycloakUserId().equals(callerId) && !SecurityUtils.isAdmin(principal)) {
+        if (!principalContext.resolve(principal).canAccess(review.getUser().getKeycloakUserId())) {
             throw new ForbiddenException("You are not authorized to access this review.");
         }
     }
@@ -130,47 +331,156 @@ public class ReviewServiceImpl implements ReviewService {
     private Review enrichReview(Review review) {
         if (review == null)
             return null;
-        User fullUser = userService.findUserByIdInternal(review.getUser().getKeycloakUserId()).orElse(review.getUser());
-        Book fullBook = bookService.getBookById(review.getBook().getBookId()).orElse(review.getBook());
+        User userStub = review.getUser();
+        Book bookStub = review.getBook();
+        User fullUser;
+        Book fullBook;
+
+        if (isParallelEnrichment()) {
+            CompletableFuture<User> userFuture = lookupAsync(
+                    () -> userService.findUserByIdInternal(userStub.getKeycloakUserId()).orElse(userStub),
+                    userStub, "user");
+            CompletableFuture<Book> bookFuture = lookupAsync(
+                    () -> bookService.getBookById(bookStub.getBookId()).orElse(bookStub),
+                    bookStub, "book");
+            fullUser = userFuture.join();
+            fullBook = bookFuture.join();
+        } else {
+            fullUser = userService.findUserByIdInternal(userStub.getKeycloakUserId()).orElse(userStub);
+            fullBook = bookService.getBookById(bookStub.getBookId()).orElse(bookStub);
+        }
 
         ((ReviewImpl) review).setUser(fullUser);
         ((ReviewImpl) review).setBook(fullBook);
         return review;
     }
 
-    private List<Review> enrichReviews(List<Review> reviews) {
+    /**
+     * Replaces the user and book stubs of the reviews with the full entities. REST responses only carry the book ID
+     * and the username, so a partial field selection skips the book lookup, and the user lookup too unless
+     * {@code username} was selected.
+     */
+    private List<Review> enrichReviews(List<Review> reviews, FieldSelection fields) {
         if (reviews == null || reviews.isEmpty()) {
             return Collections.emptyList();
         }
+        boolean withUsers = fields.includes("username");
+        boolean withBooks = fields.isAll();
+        if (!withUsers && !withBooks) {
+            LOGGER.debugf("Skipping enrichment of %d reviews, not needed for fields %s", reviews.size(), fields);
+            return reviews;
+        }
 
-        List<UUID> userIds = reviews.stream().map(r -> r.getUser().getKeycloakUserId()).distinct()
-                .collect(Collectors.toList());
-        List<UUID> bookIds = reviews.stream().map(r -> r.getBook().getBookId()).distinct().collect(Collectors.toList());
-
-        Map<UUID, User> usersMap = userService.findUsersByIds(userIds).stream()
-                .collect(Collectors.toMap(User::getKeycloakUserId, Function.identity()));
-        Map<UUID, Book> booksMap = bookService.getBooksByIds(bookIds).stream()
-                .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+        List<UUID> userIds = withUsers ? reviews.stream().map(r -> r.getUser().getKeycloakUserId()).distinct()
+                .collect(Collectors.toList()) : List.of();
+        List<UUID> bookIds = withBooks ? reviews.stream().map(r -> r.getBook().getBookId()).distinct()
+                .collect(Collectors.toList()) : List.of();
+
+        Map<UUID, User> usersMap;
+        Map<UUID, Book> booksMap;
+
+        if (isParallelEnrichment() && withUsers && withBooks) {
+            LOGGER.debugf("Enriching %d reviews with parallel user and book lookups", reviews.size());
+            CompletableFuture<Map<UUID, User>> usersFuture = lookupAsync(
+                    () -> findUsersMap(userIds), Collections.emptyMap(), "users");
+            CompletableFuture<Map<UUID, Book>> booksFuture = lookupAsync(
+                    () -> findBooksMap(bookIds), Collections.emptyMap(), "books");
+            usersMap = usersFuture.join();
+            booksMap = booksFuture.join();
+        } else {
+            usersMap = withUsers ? findUsersMap(userIds) : Collections.emptyMap();
+            booksMap = withBooks ? findBooksMap(bookIds) : Collections.emptyMap();
+        }
 
         reviews.forEach(review -> {
             ReviewImpl mutableReview = (ReviewImpl) review;
-            mutableReview.setUser(usersMap.get(review.getUser().getKeycloakUserId()));
-            mutableReview.setBook(booksMap.get(review.getBook().getBookId()));
+            mutableReview.setUser(usersMap.getOrDefault(review.getUser().getKeycloakUserId(), review.getUser()));
+            mutableReview.setBook(booksMap.getOrDefault(review.getBook().getBookId(), review.getBook()));
         });
 
         return reviews;
     }
 
+    private Map<UUID, User> findUsersMap(List<UUID> userIds) {
+        return userService.findUsersByIds(userIds).stream()
+                .collect(Collectors.toMap(User::getKeycloakUserId, Function.identity()));
+    }
+
+    private Map<UUID, Book> findBooksMap(List<UUID> bookIds) {
+        return bookService.getBookSummariesByIds(bookIds).stream()
+                .map(BookSummary::toBook)
+                .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+    }
+
+    private int boundedPageSize(Integer requestedSize) {
+        if (requestedSize == null || requestedSize <= 0 || requestedSize > maxPageSize) {
+            return maxPageSize;
+        }
+        return requestedSize;
+    }
+
+    /** Clamps negative pages to the first one and rejects pages whose row offset does not fit in an int. */
+    private int validatedPage(int page, int size) {
+        int validPage = Math.max(page, 0);
+        if ((long) validPage * size > Integer.MAX_VALUE) {
+            throw new BadRequestException("Page " + page + " is out of range for page size " + size);
+        }
+        return validPage;
+    }
+
+    private boolean isDescending(String order) {
+        return !"asc".equalsIgnoreCase(order);
+    }
+
+    private ReviewCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return ReviewCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid review cursor: " + cursor);
+        }
+    }
+
+    private boolean isParallelEnrichment() {
+        return "parallel".equalsIgnoreCase(enrichmentStrategy);
+    }
+
+    private <T> CompletableFuture<T> lookupAsync(Supplier<T> lookup, T fallback, String target) {
+        return CompletableFuture.supplyAsync(lookup, managedExecutor)
+                .orTimeout(enrichmentTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    LOGGER.warnf(e, "Review enrichment with %s failed or timed out, falling back to stubs", target);
+                    return fallback;
+                });
+    }
+
     @Transactional
     protected Review createInTransaction(Review review) {
         return reviewRepository.create(review);
     }
 
+    @Transactional
+    protected Review upsertInTransaction(Review review) {
+        return reviewRepository.upsert(review);
+    }
+
     @Transactional
     protected Review updateInTransaction(Review review) {
         return reviewRepository.update(review);
     }
 
+    @Transactional
+    protected Optional<Review> updateForUserInTransaction(UUID reviewId, UUID userId, String reviewText, int rating) {
+        return reviewRepository.updateForUser(reviewId, userId, reviewText, rating);
+    }
+
+    @Transactional
+    protected Optional<UUID> deleteByIdForUserInTransaction(UUID reviewId, UUID userId) {
+        return reviewRepository.deleteByIdForUser(reviewId, userId);
+    }
+
     @Transactional
     protected Optional<Review> findByIdInTransaction(UUID reviewId) {
         return reviewRepository.findById(reviewId);
@@ -186,6 +496,30 @@ public class ReviewServiceImpl implements ReviewService {
         return reviewRepository.getUserReviews(userId);
     }
 
+    @Transactional
+    protected DomainPage<Review> getBookReviewsPageInTransaction(UUID bookId, int page, int size, ReviewSort sort,
+            boolean descending) {
+        return reviewRepository.getBookReviewsPage(bookId, page, size, sort, descending);
+    }
+
+    @Transactional
+    protected DomainPage<Review> getUserReviewsPageInTransaction(UUID userId, int page, int size, ReviewSort sort,
+            boolean descending) {
+        return reviewRepository.getUserReviewsPage(userId, page, size, sort, descending);
+    }
+
+    @Transactional
+    protected List<Review> getBookReviewsAfterInTransaction(UUID bookId, ReviewCursor after, int limit,
+            ReviewSort sort, boolean descending) {
+        return reviewRepository.getBookReviewsAfter(bookId, after, limit, sort, descending);
+    }
+
+    @Transactional
+    protected List<Review> getUserReviewsAfterInTransaction(UUID userId, ReviewCursor after, int limit,
+            ReviewSort sort, boolean descending) {
+        return reviewRepository.getUserReviewsAfter(userId, after, limit, sort, descending);
+    }
+
     @Transactional
     protected void deleteByIdInTransaction(UUID reviewId) {
         reviewRepository.deleteById(reviewId);
@@ -196,6 +530,11 @@ public class ReviewServiceImpl implements ReviewService {
         return reviewRepository.findByUserIdAndBookId(userId, bookId);
     }
 
+    @Transactional
+    protected List<Review> findByUserIdAndBookIdsInTransaction(UUID userId, List<UUID> bookIds) {
+        return reviewRepository.findByUserIdAndBookIds(userId, bookIds);
+    }
+
     @Transactional
     protected ReviewStatsImpl getReviewStatsInTransaction(UUID bookId) {
         Long totalReviews = reviewRepository.countReviewsByBookId(bookId);
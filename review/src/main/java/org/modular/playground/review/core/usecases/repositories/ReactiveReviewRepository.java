@@ -0,0 +1,13 @@
+package org.modular.playground.review.core.usecases.repositories;
+
+import io.smallrye.mutiny.Uni;
+import org.modular.playground.review.core.domain.Review;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveReviewRepository {
+    Uni<Review> findById(UUID reviewId);
+    Uni<List<Review>> getBookReviews(UUID bookId);
+    Uni<List<Review>> getUserReviews(UUID userId);
+}
@@ -3,16 +3,38 @@ package org.modular.playground.review.core.usecases.repositories;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.modular.playground.catalog.core.domain.DomainPage;
 import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewCursor;
+import org.modular.playground.review.core.domain.ReviewSort;
 
 public interface ReviewRepository {
     Review create(Review review);
     Review update(Review review);
+    Review upsert(Review review);
     Optional<Review> findById(UUID reviewId);
     Optional<Review> findByUserIdAndBookId(UUID userId, UUID bookId);
+
+    /**
+     * Returns the user's reviews of any of the given books in one query, with user and book stubs.
+     */
+    List<Review> findByUserIdAndBookIds(UUID userId, List<UUID> bookIds);
+
     void deleteById(UUID reviewId);
+    Optional<Review> updateForUser(UUID reviewId, UUID userId, String reviewText, int rating);
+
+    /**
+     * Deletes the review only if it belongs to the user and returns the ID of its book, or empty when nothing was
+     * deleted.
+     */
+    Optional<UUID> deleteByIdForUser(UUID reviewId, UUID userId);
+
     List<Review> getBookReviews(UUID bookId);
     List<Review> getUserReviews(UUID userId);
+    DomainPage<Review> getBookReviewsPage(UUID bookId, int page, int size, ReviewSort sort, boolean descending);
+    DomainPage<Review> getUserReviewsPage(UUID userId, int page, int size, ReviewSort sort, boolean descending);
+    List<Review> getBookReviewsAfter(UUID bookId, ReviewCursor after, int limit, ReviewSort sort, boolean descending);
+    List<Review> getUserReviewsAfter(UUID userId, ReviewCursor after, int limit, ReviewSort sort, boolean descending);
     Long countReviewsByBookId(UUID bookId);
     Double findAverageRatingByBookId(UUID bookId);
     void deleteAll();
@@ -1,7 +1,13 @@
 package org.modular.playground.review.infrastructure.persistence.in_memory;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.Response;
+import org.modular.playground.catalog.core.domain.DomainPage;
 import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewCursor;
+import org.modular.playground.review.core.domain.ReviewImpl;
+import org.modular.playground.review.core.domain.ReviewSort;
 import org.modular.playground.review.core.usecases.repositories.ReviewRepository;
 import io.quarkus.arc.properties.IfBuildProperty;
 
@@ -20,6 +26,10 @@ public class InMemoryReviewRepository implements ReviewRepository {
     @Override
     public Review create(Review review) {
         LOGGER.debugf("In-memory: Creating review with ID: %s", review.getReviewId());
+        if (findByUserIdAndBookId(review.getUser().getKeycloakUserId(), review.getBook().getBookId()).isPresent()) {
+            throw new ClientErrorException("A review for this book by this user already exists.",
+                    Response.Status.CONFLICT);
+        }
         reviews.put(review.getReviewId(), review);
         return review;
     }
@@ -36,6 +46,31 @@ public class InMemoryReviewRepository implements ReviewRepository {
         return review;
     }
 
+    @Override
+    public Review upsert(Review review) {
+        LOGGER.debugf("In-memory: Upserting review for user ID %s and book ID %s",
+                review.getUser().getKeycloakUserId(), review.getBook().getBookId());
+        Review stored = findByUserIdAndBookId(review.getUser().getKeycloakUserId(), review.getBook().getBookId())
+                .map(existing -> (Review) ReviewImpl.builder()
+                        .reviewId(existing.getReviewId())
+                        .user(review.getUser())
+                        .book(review.getBook())
+                        .reviewText(review.getReviewText())
+                        .rating(review.getRating())
+                        .publicationDate(existing.getPublicationDate())
+                        .build())
+                .orElseGet(() -> ReviewImpl.builder()
+                        .reviewId(review.getReviewId() != null ? review.getReviewId() : UUID.randomUUID())
+                        .user(review.getUser())
+                        .book(review.getBook())
+                        .reviewText(review.getReviewText())
+                        .rating(review.getRating())
+                        .publicationDate(review.getPublicationDate())
+                        .build());
+        reviews.put(stored.getReviewId(), stored);
+        return stored;
+    }
+
     @Override
     public Optional<Review> findById(UUID reviewId) {
         LOGGER.debugf("In-memory: Finding review by ID: %s", reviewId);
@@ -48,6 +83,36 @@ public class InMemoryReviewRepository implements ReviewRepository {
         reviews.remove(reviewId);
     }
 
+    @Override
+    public Optional<Review> updateForUser(UUID reviewId, UUID userId, String reviewText, int rating) {
+        LOGGER.debugf("In-memory: Updating review with ID %s for user ID %s", reviewId, userId);
+        Review existing = reviews.get(reviewId);
+        if (existing == null || !existing.getUser().getKeycloakUserId().equals(userId)) {
+            return Optional.empty();
+        }
+        Review updated = ReviewImpl.builder()
+                .reviewId(existing.getReviewId())
+                .user(existing.getUser())
+                .book(existing.getBook())
+                .reviewText(reviewText != null ? reviewText : existing.getReviewText())
+                .rating(rating)
+                .publicationDate(existing.getPublicationDate())
+                .build();
+        reviews.put(reviewId, updated);
+        return Optional.of(updated);
+    }
+
+    @Override
+    public Optional<UUID> deleteByIdForUser(UUID reviewId, UUID userId) {
+        LOGGER.debugf("In-memory: Deleting review with ID %s for user ID %s", reviewId, userId);
+        Review existing = reviews.get(reviewId);
+        if (existing == null || !existing.getUser().getKeycloakUserId().equals(userId)) {
+            return Optional.empty();
+        }
+        reviews.remove(reviewId);
+        return Optional.of(existing.getBook().getBookId());
+    }
+
     @Override
     public List<Review> getBookReviews(UUID bookId) {
         LOGGER.debugf("In-memory: Getting reviews for book ID: %s", bookId);
@@ -64,6 +129,58 @@ public class InMemoryReviewRepository implements ReviewRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public DomainPage<Review> getBookReviewsPage(UUID bookId, int page, int size, ReviewSort sort, boolean descending) {
+        LOGGER.debugf("In-memory: Getting reviews page for book ID: %s [page: %d, size: %d, sort: %s]", bookId, page, size, sort);
+        return DomainPage.of(sorted(getBookReviews(bookId), sort, descending), page, size);
+    }
+
+    @Override
+    public DomainPage<Review> getUserReviewsPage(UUID userId, int page, int size, ReviewSort sort, boolean descending) {
+        LOGGER.debugf("In-memory: Getting reviews page for user ID: %s [page: %d, size: %d, sort: %s]", userId, page, size, sort);
+        return DomainPage.of(sorted(getUserReviews(userId), sort, descending), page, size);
+    }
+
+    @Override
+    public List<Review> getBookReviewsAfter(UUID bookId, ReviewCursor after, int limit, ReviewSort sort,
+            boolean descending) {
+        LOGGER.debugf("In-memory: Getting %d reviews for book ID: %s after cursor %s", limit, bookId, after);
+        return after(getBookReviews(bookId), after, limit, sort, descending);
+    }
+
+    @Override
+    public List<Review> getUserReviewsAfter(UUID userId, ReviewCursor after, int limit, ReviewSort sort,
+            boolean descending) {
+        LOGGER.debugf("In-memory: Getting %d reviews for user ID: %s after cursor %s", limit, userId, after);
+        return after(getUserReviews(userId), after, limit, sort, descending);
+    }
+
+    private List<Review> sorted(List<Review> candidates, ReviewSort sort, boolean descending) {
+        return candidates.stream().sorted(getReviewComparator(sort, descending)).collect(Collectors.toList());
+    }
+
+    private List<Review> after(List<Review> candidates, ReviewCursor after, int limit, ReviewSort sort,
+            boolean descending) {
+        Comparator<Review> comparator = getReviewComparator(sort, descending);
+        Review position = after == null ? null : ReviewImpl.builder()
+                .reviewId(after.reviewId()).rating(after.rating()).publicationDate(after.publicationDate()).build();
+        return candidates.stream()
+                .filter(review -> position == null || comparator.compare(review, position) > 0)
+                .sorted(comparator)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private Comparator<Review> getReviewComparator(ReviewSort sort, boolean descending) {
+        Comparator<Review> comparator = Comparator
+                .comparing(Review::getPublicationDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(review -> review.getReviewId().toString());
+        if (sort == ReviewSort.RATING) {
+            comparator = Comparator.comparingInt(Review::getRating).thenComparing(comparator);
+        }
+        return descending ? comparator.reversed() : comparator;
+    }
+
     @Override
     public Optional<Review> findByUserIdAndBookId(UUID userId, UUID bookId) {
         LOGGER.debugf("In-memory: Finding review by user ID %s and book ID %s", userId, bookId);
@@ -73,6 +190,16 @@ public class InMemoryReviewRepository implements ReviewRepository {
                 .findFirst();
     }
 
+    @Override
+    public List<Review> findByUserIdAndBookIds(UUID userId, List<UUID> bookIds) {
+        LOGGER.debugf("In-memory: Finding reviews by user ID %s for %d books", userId, bookIds.size());
+        Set<UUID> wanted = new HashSet<>(bookIds);
+        return reviews.values().stream()
+                .filter(review -> review.getUser().getKeycloakUserId().equals(userId)
+                        && wanted.contains(review.getBook().getBookId()))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Long countReviewsByBookId(UUID bookId) {
         LOGGER.debugf("In-memory: Counting reviews for book ID: %s", bookId);
@@ -3,11 +3,21 @@ package org.modular.playground.review.infrastructure.persistence.postgres;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.Response;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.query.NativeQuery;
+import org.modular.playground.catalog.core.domain.DomainPage;
 import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewCursor;
+import org.modular.playground.review.core.domain.ReviewSort;
 import org.modular.playground.review.core.usecases.repositories.ReviewRepository;
 import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapper;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +32,25 @@ import io.quarkus.hibernate.orm.PersistenceUnit;
 public class JpaReviewRepository implements ReviewRepository {
 
     private static final Logger LOGGER = Logger.getLogger(JpaReviewRepository.class);
+    private static final String UNIQUE_USER_BOOK_CONSTRAINT = "uk_reviews_user_book";
+    private static final String UPSERT_SQL = """
+            INSERT INTO reviews (review_id, book_id, user_id, review_text, rating, publication_date)
+            VALUES (:reviewId, :bookId, :userId, :reviewText, :rating, :publicationDate)
+            ON CONFLICT (user_id, book_id)
+            DO UPDATE SET review_text = EXCLUDED.review_text, rating = EXCLUDED.rating
+            RETURNING review_id, publication_date""";
+    private static final String UPDATE_FOR_USER_SQL = """
+            UPDATE reviews SET rating = :rating
+            WHERE review_id = :reviewId AND user_id = :userId
+            RETURNING *""";
+    private static final String UPDATE_FOR_USER_WITH_TEXT_SQL = """
+            UPDATE reviews SET rating = :rating, review_text = :reviewText
+            WHERE review_id = :reviewId AND user_id = :userId
+            RETURNING *""";
+    private static final String DELETE_FOR_USER_SQL = """
+            DELETE FROM reviews
+            WHERE review_id = :reviewId AND user_id = :userId
+            RETURNING book_id""";
 
     @Inject
     @PersistenceUnit("review-db")
@@ -34,10 +63,58 @@ public class JpaReviewRepository implements ReviewRepository {
     public Review create(Review review) {
         LOGGER.debugf("JPA: Creating review entity with ID: %s", review.getReviewId());
         ReviewEntity newEntity = mapper.toEntity(review);
-        entityManager.persist(newEntity);
+        try {
+            entityManager.persist(newEntity);
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            if (isUniqueUserBookViolation(e)) {
+                throw new ClientErrorException("A review for this book by this user already exists.",
+                        Response.Status.CONFLICT);
+            }
+            throw e;
+        }
         return mapper.toDomain(newEntity);
     }
 
+    @Override
+    public Review upsert(Review review) {
+        UUID userId = review.getUser().getKeycloakUserId();
+        UUID bookId = review.getBook().getBookId();
+        LOGGER.debugf("JPA: Upserting review for user ID %s and book ID %s", userId, bookId);
+        Object[] row = (Object[]) entityManager.createNativeQuery(UPSERT_SQL)
+                .setParameter("reviewId", UUID.randomUUID())
+                .setParameter("bookId", bookId)
+                .setParameter("userId", userId)
+                .setParameter("reviewText", review.getReviewText())
+                .setParameter("rating", review.getRating())
+                .setParameter("publicationDate", review.getPublicationDate())
+                .unwrap(NativeQuery.class)
+                .addScalar("review_id", UUID.class)
+                .addScalar("publication_date", LocalDateTime.class)
+                .getSingleResult();
+
+        ReviewEntity stored = ReviewEntity.builder()
+                .reviewId((UUID) row[0])
+                .bookId(bookId)
+                .userId(userId)
+                .reviewText(review.getReviewText())
+                .rating(review.getRating())
+                .publicationDate((LocalDateTime) row[1])
+                .build();
+        return mapper.toDomain(stored);
+    }
+
+    private boolean isUniqueUserBookViolation(PersistenceException e) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return UNIQUE_USER_BOOK_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
     @Override
     public Review update(Review review) {
         LOGGER.debugf("JPA: Updating review entity with ID: %s", review.getReviewId());
@@ -65,6 +142,33 @@ public class JpaReviewRepository implements ReviewRepository {
         }
     }
 
+    @Override
+    public Optional<Review> updateForUser(UUID reviewId, UUID userId, String reviewText, int rating) {
+        LOGGER.debugf("JPA: Updating review entity with ID %s for user ID %s", reviewId, userId);
+        String sql = reviewText != null ? UPDATE_FOR_USER_WITH_TEXT_SQL : UPDATE_FOR_USER_SQL;
+        Query query = entityManager.createNativeQuery(sql, ReviewEntity.class)
+                .setParameter("reviewId", reviewId)
+                .setParameter("userId", userId)
+                .setParameter("rating", rating);
+        if (reviewText != null) {
+            query.setParameter("reviewText", reviewText);
+        }
+        List<?> updated = query.getResultList();
+        return updated.stream().findFirst().map(entity -> mapper.toDomain((ReviewEntity) entity));
+    }
+
+    @Override
+    public Optional<UUID> deleteByIdForUser(UUID reviewId, UUID userId) {
+        LOGGER.debugf("JPA: Deleting review entity with ID %s for user ID %s", reviewId, userId);
+        List<?> deleted = entityManager.createNativeQuery(DELETE_FOR_USER_SQL)
+                .setParameter("reviewId", reviewId)
+                .setParameter("userId", userId)
+                .unwrap(NativeQuery.class)
+                .addScalar("book_id", UUID.class)
+                .getResultList();
+        return deleted.stream().findFirst().map(UUID.class::cast);
+    }
+
     @Override
     public List<Review> getBookReviews(UUID bookId) {
         LOGGER.debugf("JPA: Getting reviews for book ID: %s", bookId);
@@ -83,6 +187,87 @@ public class JpaReviewRepository implements ReviewRepository {
         return query.getResultList().stream().map(mapper::toDomain).collect(Collectors.toList());
     }
 
+    @Override
+    public DomainPage<Review> getBookReviewsPage(UUID bookId, int page, int size, ReviewSort sort, boolean descending) {
+        LOGGER.debugf("JPA: Getting reviews page for book ID: %s [page: %d, size: %d, sort: %s]", bookId, page, size, sort);
+        return findPage("bookId", bookId, page, size, sort, descending);
+    }
+
+    @Override
+    public DomainPage<Review> getUserReviewsPage(UUID userId, int page, int size, ReviewSort sort, boolean descending) {
+        LOGGER.debugf("JPA: Getting reviews page for user ID: %s [page: %d, size: %d, sort: %s]", userId, page, size, sort);
+        return findPage("userId", userId, page, size, sort, descending);
+    }
+
+    @Override
+    public List<Review> getBookReviewsAfter(UUID bookId, ReviewCursor after, int limit, ReviewSort sort,
+            boolean descending) {
+        LOGGER.debugf("JPA: Getting %d reviews for book ID: %s after cursor %s", limit, bookId, after);
+        return findAfter("bookId", bookId, after, limit, sort, descending);
+    }
+
+    @Override
+    public List<Review> getUserReviewsAfter(UUID userId, ReviewCursor after, int limit, ReviewSort sort,
+            boolean descending) {
+        LOGGER.debugf("JPA: Getting %d reviews for user ID: %s after cursor %s", limit, userId, after);
+        return findAfter("userId", userId, after, limit, sort, descending);
+    }
+
+    private DomainPage<Review> findPage(String ownerField, UUID ownerId, int page, int size, ReviewSort sort,
+            boolean descending) {
+        String where = " WHERE r." + ownerField + " = :ownerId";
+        TypedQuery<ReviewEntity> contentQuery = entityManager.createQuery(
+                "SELECT r FROM ReviewEntity r" + where + " ORDER BY " + orderBy(sort, descending), ReviewEntity.class);
+        contentQuery.setParameter("ownerId", ownerId);
+        contentQuery.setFirstResult(page * size);
+        contentQuery.setMaxResults(size);
+        List<Review> content = contentQuery.getResultList().stream().map(mapper::toDomain).collect(Collectors.toList());
+
+        TypedQuery<Long> countQuery = entityManager.createQuery("SELECT COUNT(r) FROM ReviewEntity r" + where, Long.class);
+        countQuery.setParameter("ownerId", ownerId);
+        long totalElements = countQuery.getSingleResult();
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+
+        return new DomainPage<>(content, totalElements, totalPages, page, size, (page + 1) >= totalPages, page == 0);
+    }
+
+    private List<Review> findAfter(String ownerField, UUID ownerId, ReviewCursor after, int limit, ReviewSort sort,
+            boolean descending) {
+        StringBuilder jpql = new StringBuilder("SELECT r FROM ReviewEntity r WHERE r.")
+                .append(ownerField).append(" = :ownerId");
+        if (after != null) {
+            String cmp = descending ? " < " : " > ";
+            String dateThenId = "(r.publicationDate" + cmp + ":publicationDate OR (r.publicationDate = :publicationDate"
+                    + " AND r.reviewId" + cmp + ":reviewId))";
+            if (sort == ReviewSort.RATING) {
+                jpql.append(" AND (r.rating").append(cmp).append(":rating OR (r.rating = :rating AND ")
+                        .append(dateThenId).append("))");
+            } else {
+                jpql.append(" AND ").append(dateThenId);
+            }
+        }
+        jpql.append(" ORDER BY ").append(orderBy(sort, descending));
+
+        LOGGER.debugf("JPA: Executing review keyset query: %s", jpql.toString());
+        TypedQuery<ReviewEntity> query = entityManager.createQuery(jpql.toString(), ReviewEntity.class);
+        query.setParameter("ownerId", ownerId);
+        if (after != null) {
+            query.setParameter("publicationDate", after.publicationDate());
+            query.setParameter("reviewId", after.reviewId());
+            if (sort == ReviewSort.RATING) {
+                query.setParameter("rating", after.rating());
+            }
+        }
+        query.setMaxResults(limit);
+        return query.getResultList().stream().map(mapper::toDomain).collect(Collectors.toList());
+    }
+
+    private String orderBy(ReviewSort sort, boolean descending) {
+        String direction = descending ? " DESC" : " ASC";
+        String dateThenId = "r.publicationDate" + direction + ", r.reviewId" + direction;
+        return sort == ReviewSort.RATING ? "r.rating" + direction + ", " + dateThenId : dateThenId;
+    }
+
     @Override
     public Optional<Review> findByUserIdAndBookId(UUID userId, UUID bookId) {
         LOGGER.debugf("JPA: Finding review by user ID %s and book ID %s", userId, bookId);
@@ -95,6 +280,19 @@ public class JpaReviewRepository implements ReviewRepository {
                 .findFirst();
     }
 
+    @Override
+    public List<Review> findByUserIdAndBookIds(UUID userId, List<UUID> bookIds) {
+        LOGGER.debugf("JPA: Finding reviews by user ID %s for %d books", userId, bookIds.size());
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+        TypedQuery<ReviewEntity> query = entityManager.createQuery(
+                "SELECT r FROM ReviewEntity r WHERE r.userId = :userId AND r.bookId IN :bookIds", ReviewEntity.class);
+        query.setParameter("userId", userId);
+        query.setParameter("bookIds", bookIds);
+        return query.getResultList().stream().map(mapper::toDomain).collect(Collectors.toList());
+    }
+
     @Override
     public Long countReviewsByBookId(UUID bookId) {
         LOGGER.debugf("JPA: Counting reviews for book ID: %s", bookId);
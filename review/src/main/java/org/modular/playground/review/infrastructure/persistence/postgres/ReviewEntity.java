@@ -12,7 +12,13 @@ import java.util.UUID;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reviews_user_book", columnNames = { "user_id", "book_id" })
+}, indexes = {
+        @Index(name = "idx_reviews_book_publication_date", columnList = "book_id, publication_date"),
+        @Index(name = "idx_reviews_user_publication_date", columnList = "user_id, publication_date"),
+        @Index(name = "idx_reviews_book_rating", columnList = "book_id, rating")
+})
 @Data
 @EqualsAndHashCode(callSuper = false)
 @Builder
@@ -0,0 +1,78 @@
+package org.modular.playground.review.infrastructure.persistence.reactive;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewImpl;
+import org.modular.playground.review.core.usecases.repositories.ReactiveReviewRepository;
+import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapper;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@ApplicationScoped
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactivePgReviewRepository implements ReactiveReviewRepository {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactivePgReviewRepository.class);
+    private static final String SELECT_REVIEWS =
+            "SELECT review_id, book_id, user_id, review_text, rating, publication_date FROM reviews";
+
+    @Inject
+    @ReactiveDataSource("review-db")
+    Pool client;
+
+    @Inject
+    ReviewMapper reviewMapper;
+
+    @Override
+    public Uni<Review> findById(UUID reviewId) {
+        LOGGER.debugf("Reactive: Finding review by ID: %s", reviewId);
+        return client.preparedQuery(SELECT_REVIEWS + " WHERE review_id = $1")
+                .execute(Tuple.of(reviewId))
+                .map(rows -> rows.iterator().hasNext() ? toDomain(rows.iterator().next()) : null);
+    }
+
+    @Override
+    public Uni<List<Review>> getBookReviews(UUID bookId) {
+        LOGGER.debugf("Reactive: Getting reviews for book ID: %s", bookId);
+        return client.preparedQuery(SELECT_REVIEWS + " WHERE book_id = $1")
+                .execute(Tuple.of(bookId))
+                .map(this::toDomainList);
+    }
+
+    @Override
+    public Uni<List<Review>> getUserReviews(UUID userId) {
+        LOGGER.debugf("Reactive: Getting reviews for user ID: %s", userId);
+        return client.preparedQuery(SELECT_REVIEWS + " WHERE user_id = $1")
+                .execute(Tuple.of(userId))
+                .map(this::toDomainList);
+    }
+
+    private List<Review> toDomainList(RowSet<Row> rows) {
+        return StreamSupport.stream(rows.spliterator(), false)
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private Review toDomain(Row row) {
+        return ReviewImpl.builder()
+                .reviewId(row.getUUID("review_id"))
+                .book(reviewMapper.mapBookIdToBookStub(row.getUUID("book_id")))
+                .user(reviewMapper.mapUserIdToUserStub(row.getUUID("user_id")))
+                .reviewText(row.getString("review_text"))
+                .rating(row.getInteger("rating"))
+                .publicationDate(row.getLocalDateTime("publication_date"))
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package org.modular.playground.review.web.controllers;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.security.Authenticated;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.modular.playground.review.core.usecases.ReactiveReviewService;
+import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapper;
+import org.modular.playground.review.web.dto.ReviewResponseDTO;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.UUID;
+
+@Path("/api/v1/reactive/reviews")
+@Produces(MediaType.APPLICATION_JSON)
+@Authenticated
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactiveReviewController {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveReviewController.class);
+
+    @Inject
+    ReactiveReviewService reactiveReviewService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @Inject
+    ReviewMapper reviewMapper;
+
+    @GET
+    @Path("/{reviewId}")
+    @RolesAllowed({"user", "admin"})
+    public Uni<ReviewResponseDTO> getReviewById(@PathParam("reviewId") UUID reviewId) {
+        LOGGER.infof("Received reactive request to get review by ID: %s", reviewId);
+        return reactiveReviewService.findReviewAndCheckOwnership(reviewId, jwt)
+                .map(reviewMapper::toResponseDTO);
+    }
+
+    @GET
+    @Path("/books/{bookId}")
+    @RolesAllowed({"user", "admin"})
+    public Uni<List<ReviewResponseDTO>> getReviewsByBookId(@PathParam("bookId") UUID bookId) {
+        LOGGER.infof("Received reactive request to get reviews for book ID: %s", bookId);
+        return reactiveReviewService.getReviewsForBook(bookId)
+                .map(reviewMapper::toResponseDTOs);
+    }
+
+    @GET
+    @Path("/users/{userId}")
+    @RolesAllowed({"user", "admin"})
+    public Uni<List<ReviewResponseDTO>> getReviewsByUserId(@PathParam("userId") UUID userId) {
+        LOGGER.infof("Received reactive request to get reviews for user ID: %s", userId);
+        return reactiveReviewService.getReviewsForUser(userId, jwt)
+                .map(reviewMapper::toResponseDTOs);
+    }
+}
@@ -1,19 +1,30 @@
 package org.modular.playground.review.web.controllers;
 
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
+import org.modular.playground.catalog.web.dto.PagedResponse;
+import org.modular.playground.common.web.FieldSelection;
+import org.modular.playground.common.web.SerializedResponseCache;
+import org.modular.playground.common.web.SparseFieldsets;
+import org.modular.playground.common.web.protobuf.ProtobufMessageBodyWriter;
 import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewCursor;
 import org.modular.playground.review.core.domain.ReviewStatsImpl;
 import org.modular.playground.review.core.usecases.ReviewService;
 import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapper;
+import org.modular.playground.review.web.dto.ReviewCursorResponse;
 import org.modular.playground.review.web.dto.ReviewRequestDTO;
 import org.modular.playground.review.web.dto.ReviewResponseDTO;
-import org.modular.playground.review.web.dto.ReviewStatsResponseDTO;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.jboss.logging.Logger;
 
@@ -23,6 +34,8 @@ import java.util.UUID;
 @Path("/api/v1/reviews")
 @Produces(MediaType.APPLICATION_JSON)
 @Authenticated
+@RunOnVirtualThread
+@SparseFieldsets
 public class ReviewController {
 
     private static final Logger LOGGER = Logger.getLogger(ReviewController.class);
@@ -36,6 +49,9 @@ public class ReviewController {
     @Inject
     ReviewMapper reviewMapper;
 
+    @Inject
+    SerializedResponseCache responseCache;
+
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
     @RolesAllowed({"user", "admin"})
@@ -78,23 +94,63 @@ public class ReviewController {
 
     @GET
     @Path("/books/{bookId}")
+    @Produces({ MediaType.APPLICATION_JSON, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF })
     @RolesAllowed({"user", "admin"})
-    public Response getReviewsByBookId(@PathParam("bookId") UUID bookId) {
+    public Response getReviewsByBookId(@PathParam("bookId") UUID bookId, @QueryParam("fields") String fields) {
         LOGGER.infof("Received request to get reviews for book ID: %s", bookId);
-        List<Review> reviews = reviewService.getReviewsForBook(bookId, jwt);
+        List<Review> reviews = reviewService.getReviewsForBook(bookId, jwt, FieldSelection.parse(fields));
         List<ReviewResponseDTO> response = reviewMapper.toResponseDTOs(reviews);
         LOGGER.debugf("Found %d reviews for book ID: %s", response.size(), bookId);
-        return Response.ok(response).build();
+        return Response.ok(new GenericEntity<>(response) { }).build();
+    }
+
+    @GET
+    @Path("/books/{bookId}/page")
+    @RolesAllowed({"user", "admin"})
+    public PagedResponse<ReviewResponseDTO> getReviewsPageByBookId(
+            @PathParam("bookId") UUID bookId,
+            @DefaultValue("0") @QueryParam("page") int page,
+            @DefaultValue("20") @QueryParam("size") int size,
+            @QueryParam("sort") String sort,
+            @QueryParam("order") String order,
+            @QueryParam("fields") String fields) {
+        LOGGER.infof("Received request to get reviews page for book ID: %s [page: %d, size: %d, sort: %s, order: %s]",
+                bookId, page, size, sort, order);
+        return toPagedResponse(reviewService.getReviewsForBookPage(bookId, page, size, sort, order, jwt,
+                FieldSelection.parse(fields)));
+    }
+
+    @GET
+    @Path("/books/{bookId}/cursor")
+    @RolesAllowed({"user", "admin"})
+    public ReviewCursorResponse getReviewsByBookIdAfter(
+            @PathParam("bookId") UUID bookId,
+            @QueryParam("after") String after,
+            @DefaultValue("20") @QueryParam("size") int size,
+            @QueryParam("sort") String sort,
+            @QueryParam("order") String order,
+            @QueryParam("fields") String fields) {
+        LOGGER.infof("Received request to get reviews for book ID: %s after cursor [after: %s, size: %d]",
+                bookId, after, size);
+        return toCursorResponse(reviewService.getReviewsForBookAfter(bookId, after, size, sort, order, jwt,
+                FieldSelection.parse(fields)));
     }
 
     @GET
     @Path("/books/{bookId}/stats")
     @RolesAllowed({"user", "admin"})
-    public Response getBookReviewStats(@PathParam("bookId") UUID bookId) {
+    public Response getBookReviewStats(@PathParam("bookId") UUID bookId,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+            @QueryParam("fields") String fields) {
         LOGGER.infof("Received request for review stats for book ID: %s", bookId);
-        ReviewStatsImpl stats = reviewService.getReviewStatsForBook(bookId);
-        ReviewStatsResponseDTO responseDTO = reviewMapper.toStatsResponseDTO(stats, bookId);
-        return Response.ok(responseDTO).build();
+        if (!FieldSelection.parse(fields).isAll()) {
+            ReviewStatsImpl stats = reviewService.getReviewStatsForBook(bookId);
+            return Response.ok(reviewMapper.toStatsResponseDTO(stats, bookId)).build();
+        }
+        return responseCache.ok(ReviewService.REVIEW_STATS_RESPONSE, bookId, null, acceptEncoding, () -> {
+            ReviewStatsImpl stats = reviewService.getReviewStatsForBook(bookId);
+            return reviewMapper.toStatsResponseDTO(stats, bookId);
+        }).build();
     }
 
     @GET
@@ -108,14 +164,77 @@ public class ReviewController {
         return Response.ok(reviewMapper.toResponseDTO(review)).build();
     }
 
+    @PUT
+    @Path("/books/{bookId}/my-review")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @RolesAllowed({"user", "admin"})
+    public Response putMyReviewForBook(@PathParam("bookId") UUID bookId, @Valid ReviewRequestDTO reviewRequestDTO) {
+        LOGGER.infof("Received request to create or replace own review for book ID: %s", bookId);
+        if (!bookId.equals(reviewRequestDTO.getBookId())) {
+            throw new BadRequestException("Book ID in the request body does not match the path.");
+        }
+        Review review = reviewService.upsertReview(reviewRequestDTO, jwt);
+        return Response.ok(reviewMapper.toResponseDTO(review)).build();
+    }
+
     @GET
     @Path("/users/{userId}")
+    @Produces({ MediaType.APPLICATION_JSON, ProtobufMessageBodyWriter.APPLICATION_PROTOBUF })
     @RolesAllowed({"user", "admin"})
-    public Response getReviewsByUserId(@PathParam("userId") UUID userId) {
+    public Response getReviewsByUserId(@PathParam("userId") UUID userId, @QueryParam("fields") String fields) {
         LOGGER.infof("Received request to get reviews for user ID: %s", userId);
-        List<Review> reviews = reviewService.getReviewsForUser(userId, jwt);
+        List<Review> reviews = reviewService.getReviewsForUser(userId, jwt, FieldSelection.parse(fields));
         List<ReviewResponseDTO> response = reviewMapper.toResponseDTOs(reviews);
         LOGGER.debugf("Found %d reviews for user ID: %s", response.size(), userId);
-        return Response.ok(response).build();
+        return Response.ok(new GenericEntity<>(response) { }).build();
+    }
+
+    @GET
+    @Path("/users/{userId}/page")
+    @RolesAllowed({"user", "admin"})
+    public PagedResponse<ReviewResponseDTO> getReviewsPageByUserId(
+            @PathParam("userId") UUID userId,
+            @DefaultValue("0") @QueryParam("page") int page,
+            @DefaultValue("20") @QueryParam("size") int size,
+            @QueryParam("sort") String sort,
+            @QueryParam("order") String order,
+            @QueryParam("fields") String fields) {
+        LOGGER.infof("Received request to get reviews page for user ID: %s [page: %d, size: %d, sort: %s, order: %s]",
+                userId, page, size, sort, order);
+        return toPagedResponse(reviewService.getReviewsForUserPage(userId, page, size, sort, order, jwt,
+                FieldSelection.parse(fields)));
+    }
+
+    @GET
+    @Path("/users/{userId}/cursor")
+    @RolesAllowed({"user", "admin"})
+    public ReviewCursorResponse getReviewsByUserIdAfter(
+            @PathParam("userId") UUID userId,
+            @QueryParam("after") String after,
+            @DefaultValue("20") @QueryParam("size") int size,
+            @QueryParam("sort") String sort,
+            @QueryParam("order") String order,
+            @QueryParam("fields") String fields) {
+        LOGGER.infof("Received request to get reviews for user ID: %s after cursor [after: %s, size: %d]",
+                userId, after, size);
+        return toCursorResponse(reviewService.getReviewsForUserAfter(userId, after, size, sort, order, jwt,
+                FieldSelection.parse(fields)));
+    }
+
+    private PagedResponse<ReviewResponseDTO> toPagedResponse(DomainPage<Review> reviewsPage) {
+        return new PagedResponse<>(
+                reviewMapper.toResponseDTOs(reviewsPage.content()),
+                reviewsPage.pageNumber(),
+                reviewsPage.pageSize(),
+                reviewsPage.totalElements(),
+                reviewsPage.totalPages(),
+                reviewsPage.isLast(),
+                reviewsPage.isFirst());
+    }
+
+    private ReviewCursorResponse toCursorResponse(DomainSlice<Review> reviewsSlice) {
+        List<Review> reviews = reviewsSlice.content();
+        String nextCursor = reviewsSlice.hasNext() ? ReviewCursor.of(reviews.get(reviews.size() - 1)).encode() : null;
+        return new ReviewCursorResponse(reviewMapper.toResponseDTOs(reviews), nextCursor, reviewsSlice.hasNext());
     }
 }
\ No newline at end of file
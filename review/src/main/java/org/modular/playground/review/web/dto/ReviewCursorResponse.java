@@ -0,0 +1,10 @@
+package org.modular.playground.review.web.dto;
+
+import java.util.List;
+
+public record ReviewCursorResponse(
+        List<ReviewResponseDTO> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -1,5 +1,6 @@
 package org.modular.playground.review.web.dto;
 
+import io.quarkus.runtime.annotations.RegisterForReflection;
 import lombok.Builder;
 import lombok.Data;
 import java.time.LocalDateTime;
@@ -7,6 +8,7 @@ import java.util.UUID;
 
 @Data
 @Builder
+@RegisterForReflection
 public class ReviewResponseDTO {
     private UUID reviewId;
     private UUID bookId;
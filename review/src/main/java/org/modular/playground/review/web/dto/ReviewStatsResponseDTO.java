@@ -1,10 +1,12 @@
 package org.modular.playground.review.web.dto;
 
+import io.quarkus.runtime.annotations.RegisterForReflection;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@RegisterForReflection
 public class ReviewStatsResponseDTO {
     private String bookId;
     private long totalReviews;
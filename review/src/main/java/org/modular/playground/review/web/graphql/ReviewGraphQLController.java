@@ -1,12 +1,15 @@
 package org.modular.playground.review.web.graphql;
 
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import org.eclipse.microprofile.graphql.*;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.jboss.logging.Logger;
+import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
 import org.modular.playground.review.core.domain.Review;
 import org.modular.playground.review.core.domain.ReviewStatsImpl;
 import org.modular.playground.review.core.usecases.ReviewService;
@@ -20,6 +23,7 @@ import java.util.UUID;
 
 @GraphQLApi
 @Authenticated
+@RunOnVirtualThread
 public class ReviewGraphQLController {
 
     private static final Logger LOGGER = Logger.getLogger(ReviewGraphQLController.class);
@@ -42,6 +46,15 @@ public class ReviewGraphQLController {
         return reviewMapper.toResponseDTO(createdReview);
     }
 
+    @Mutation
+    @Description("Creates the current user's review for a book, or replaces it if one already exists.")
+    @RolesAllowed({"user", "admin"})
+    public ReviewResponseDTO upsertMyReview(@Name("review") @Valid ReviewRequestDTO reviewRequestDTO) {
+        LOGGER.infof("GraphQL mutation to create or replace review for book ID: %s", reviewRequestDTO.getBookId());
+        Review review = reviewService.upsertReview(reviewRequestDTO, jwt);
+        return reviewMapper.toResponseDTO(review);
+    }
+
     @Query
     @Description("Finds a review by its unique ID.")
     @RolesAllowed({"user", "admin"})
@@ -78,6 +91,34 @@ public class ReviewGraphQLController {
         return reviewMapper.toResponseDTOs(reviews);
     }
 
+    @Query
+    @Description("Gets a page of reviews for a specific book, sorted by publicationDate (default) or rating.")
+    @RolesAllowed({"user", "admin"})
+    public ReviewPage reviewsPageByBookId(
+            UUID bookId,
+            @Name("page") @DefaultValue("0") int page,
+            @Name("size") @DefaultValue("20") int size,
+            @Name("sort") String sort,
+            @Name("order") String order) {
+        LOGGER.infof("GraphQL query for reviews page for book ID: %s [page: %d, size: %d]", bookId, page, size);
+        DomainPage<Review> reviewsPage = reviewService.getReviewsForBookPage(bookId, page, size, sort, order, jwt);
+        return ReviewPage.from(reviewsPage, reviewMapper);
+    }
+
+    @Query
+    @Description("Gets the next slice of reviews for a specific book after the given cursor (keyset pagination).")
+    @RolesAllowed({"user", "admin"})
+    public ReviewSlice reviewsAfterByBookId(
+            UUID bookId,
+            @Name("after") String after,
+            @Name("size") @DefaultValue("20") int size,
+            @Name("sort") String sort,
+            @Name("order") String order) {
+        LOGGER.infof("GraphQL query for reviews for book ID: %s after cursor [after: %s, size: %d]", bookId, after, size);
+        DomainSlice<Review> reviewsSlice = reviewService.getReviewsForBookAfter(bookId, after, size, sort, order, jwt);
+        return ReviewSlice.from(reviewsSlice, reviewMapper);
+    }
+
     @Query
     @Description("Gets the review statistics for a specific book.")
     @RolesAllowed({"user", "admin"})
@@ -106,4 +147,32 @@ public class ReviewGraphQLController {
         List<Review> reviews = reviewService.getReviewsForUser(userId, jwt);
         return reviewMapper.toResponseDTOs(reviews);
     }
+
+    @Query
+    @Description("Gets a page of reviews written by a specific user, sorted by publicationDate (default) or rating.")
+    @RolesAllowed({"user", "admin"})
+    public ReviewPage reviewsPageByUserId(
+            UUID userId,
+            @Name("page") @DefaultValue("0") int page,
+            @Name("size") @DefaultValue("20") int size,
+            @Name("sort") String sort,
+            @Name("order") String order) {
+        LOGGER.infof("GraphQL query for reviews page for user ID: %s [page: %d, size: %d]", userId, page, size);
+        DomainPage<Review> reviewsPage = reviewService.getReviewsForUserPage(userId, page, size, sort, order, jwt);
+        return ReviewPage.from(reviewsPage, reviewMapper);
+    }
+
+    @Query
+    @Description("Gets the next slice of reviews written by a specific user after the given cursor (keyset pagination).")
+    @RolesAllowed({"user", "admin"})
+    public ReviewSlice reviewsAfterByUserId(
+            UUID userId,
+            @Name("after") String after,
+            @Name("size") @DefaultValue("20") int size,
+            @Name("sort") String sort,
+            @Name("order") String order) {
+        LOGGER.infof("GraphQL query for reviews for user ID: %s after cursor [after: %s, size: %d]", userId, after, size);
+        DomainSlice<Review> reviewsSlice = reviewService.getReviewsForUserAfter(userId, after, size, sort, order, jwt);
+        return ReviewSlice.from(reviewsSlice, reviewMapper);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package org.modular.playground.review.web.graphql;
+
+import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapper;
+import org.modular.playground.review.web.dto.ReviewResponseDTO;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReviewPage {
+    private List<ReviewResponseDTO> content;
+    private int pageNumber;
+    private int pageSize;
+    private long totalElements;
+    private int totalPages;
+    private boolean isLast;
+    private boolean isFirst;
+
+    public static ReviewPage from(DomainPage<Review> domainPage, ReviewMapper mapper) {
+        ReviewPage page = new ReviewPage();
+        page.setContent(mapper.toResponseDTOs(domainPage.content()));
+        page.setPageNumber(domainPage.pageNumber());
+        page.setPageSize(domainPage.pageSize());
+        page.setTotalElements(domainPage.totalElements());
+        page.setTotalPages(domainPage.totalPages());
+        page.setLast(domainPage.isLast());
+        page.setFirst(domainPage.isFirst());
+        return page;
+    }
+}
@@ -0,0 +1,28 @@
+package org.modular.playground.review.web.graphql;
+
+import org.modular.playground.catalog.core.domain.DomainSlice;
+import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewCursor;
+import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapper;
+import org.modular.playground.review.web.dto.ReviewResponseDTO;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReviewSlice {
+    private List<ReviewResponseDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static ReviewSlice from(DomainSlice<Review> domainSlice, ReviewMapper mapper) {
+        ReviewSlice slice = new ReviewSlice();
+        slice.setContent(mapper.toResponseDTOs(domainSlice.content()));
+        slice.setNextCursor(domainSlice.hasNext()
+                ? ReviewCursor.of(domainSlice.content().get(domainSlice.content().size() - 1)).encode()
+                : null);
+        slice.setHasNext(domainSlice.hasNext());
+        return slice;
+    }
+}
@@ -0,0 +1,33 @@
+package org.modular.playground.review.web.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.modular.playground.common.web.protobuf.ProtobufCodec;
+import org.modular.playground.review.web.dto.ReviewResponseDTO;
+
+import java.io.IOException;
+
+import static org.modular.playground.common.web.protobuf.ProtobufFields.*;
+
+/**
+ * Writes {@link ReviewResponseDTO} as the {@code Review} message.
+ */
+@ApplicationScoped
+public class ReviewResponseProtobufCodec implements ProtobufCodec<ReviewResponseDTO> {
+
+    @Override
+    public Class<ReviewResponseDTO> type() {
+        return ReviewResponseDTO.class;
+    }
+
+    @Override
+    public void writeTo(ReviewResponseDTO review, CodedOutputStream output) throws IOException {
+        writeUuid(output, 1, review.getReviewId());
+        writeUuid(output, 2, review.getBookId());
+        writeUuid(output, 3, review.getUserId());
+        writeString(output, 4, review.getReviewText());
+        writeInt32(output, 5, review.getRating());
+        writeDateTime(output, 6, review.getPublicationDate());
+        writeString(output, 7, review.getUsername());
+    }
+}
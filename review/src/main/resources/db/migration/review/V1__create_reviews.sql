@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS reviews (
+    review_id        UUID         NOT NULL,
+    book_id          UUID         NOT NULL,
+    user_id          UUID         NOT NULL,
+    review_text      VARCHAR(200),
+    rating           INTEGER      NOT NULL,
+    publication_date TIMESTAMP(6) NOT NULL,
+    CONSTRAINT reviews_pkey PRIMARY KEY (review_id)
+);
@@ -0,0 +1,5 @@
+-- Book and user review listings, filtered by owner and ordered by recency.
+CREATE INDEX IF NOT EXISTS idx_reviews_book_publication_date ON reviews (book_id, publication_date);
+CREATE INDEX IF NOT EXISTS idx_reviews_user_publication_date ON reviews (user_id, publication_date);
+-- Rating-sorted listings and the count/average statistics per book (index-only scan).
+CREATE INDEX IF NOT EXISTS idx_reviews_book_rating ON reviews (book_id, rating);
@@ -0,0 +1,8 @@
+-- One review per user and book. Keep the most recent review of any existing duplicates.
+DELETE FROM reviews r
+USING reviews newer
+WHERE r.user_id = newer.user_id
+  AND r.book_id = newer.book_id
+  AND (r.publication_date, r.review_id) < (newer.publication_date, newer.review_id);
+
+ALTER TABLE reviews ADD CONSTRAINT uk_reviews_user_book UNIQUE (user_id, book_id);
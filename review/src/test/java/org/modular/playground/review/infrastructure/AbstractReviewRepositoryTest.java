@@ -1,16 +1,23 @@
 package org.modular.playground.review.infrastructure;
 
 import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.DomainPage;
 import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewCursor;
+import org.modular.playground.review.core.domain.ReviewSort;
 import org.modular.playground.review.core.usecases.repositories.ReviewRepository;
 import org.modular.playground.review.utils.ReviewTestUtils;
 import org.modular.playground.user.core.domain.User;
 import org.junit.jupiter.api.Test;
+import jakarta.ws.rs.ClientErrorException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -74,15 +81,55 @@ public abstract class AbstractReviewRepositoryTest {
         });
     }
 
+    @Test
+    void shouldUpdateReviewOnlyForItsAuthor() {
+        User author = createAndSaveUser();
+        User otherUser = createAndSaveUser();
+        Book book = createAndSaveBook();
+        Review review = runTransactionalStep(() ->
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(author.getKeycloakUserId(), book.getBookId(), "Original", 4))
+        );
+
+        Optional<Review> foreignUpdate = runTransactionalStep(() ->
+            getRepository().updateForUser(review.getReviewId(), otherUser.getKeycloakUserId(), "Hijacked", 1));
+        Optional<Review> ownUpdate = runTransactionalStep(() ->
+            getRepository().updateForUser(review.getReviewId(), author.getKeycloakUserId(), "Revised", 5));
+
+        assertTrue(foreignUpdate.isEmpty());
+        assertTrue(ownUpdate.isPresent());
+        assertEquals("Revised", ownUpdate.get().getReviewText());
+        assertEquals(5, ownUpdate.get().getRating());
+        runTransactionalStep(() -> assertEquals("Revised", getRepository().findById(review.getReviewId()).orElseThrow().getReviewText()));
+    }
+
+    @Test
+    void shouldDeleteReviewOnlyForItsAuthor() {
+        User author = createAndSaveUser();
+        User otherUser = createAndSaveUser();
+        Book book = createAndSaveBook();
+        Review review = runTransactionalStep(() ->
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(author.getKeycloakUserId(), book.getBookId(), "Mine", 3))
+        );
+
+        Optional<UUID> deletedByOther = runTransactionalStep(() -> getRepository().deleteByIdForUser(review.getReviewId(), otherUser.getKeycloakUserId()));
+        assertTrue(deletedByOther.isEmpty());
+        runTransactionalStep(() -> assertTrue(getRepository().findById(review.getReviewId()).isPresent()));
+
+        Optional<UUID> deletedByAuthor = runTransactionalStep(() -> getRepository().deleteByIdForUser(review.getReviewId(), author.getKeycloakUserId()));
+        assertEquals(Optional.of(book.getBookId()), deletedByAuthor);
+        runTransactionalStep(() -> assertTrue(getRepository().findById(review.getReviewId()).isEmpty()));
+    }
+
     @Test
     void shouldGetBookReviews() {
         User user = createAndSaveUser();
+        User otherUser = createAndSaveUser();
         Book book1 = createAndSaveBook();
         Book book2 = createAndSaveBook();
 
         runTransactionalStep(() -> {
             getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book1.getBookId(), "Review 1", 5));
-            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book1.getBookId(), "Review 2", 4));
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(otherUser.getKeycloakUserId(), book1.getBookId(), "Review 2", 4));
             getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book2.getBookId(), "Review for other book", 3));
         });
 
@@ -95,10 +142,11 @@ public abstract class AbstractReviewRepositoryTest {
         User user1 = createAndSaveUser();
         User user2 = createAndSaveUser();
         Book book = createAndSaveBook();
+        Book otherBook = createAndSaveBook();
 
         runTransactionalStep(() -> {
             getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user1.getKeycloakUserId(), book.getBookId(), "Review 1", 5));
-            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user1.getKeycloakUserId(), book.getBookId(), "Review 2", 4));
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user1.getKeycloakUserId(), otherBook.getBookId(), "Review 2", 4));
             getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user2.getKeycloakUserId(), book.getBookId(), "Review from other user", 3));
         });
 
@@ -119,14 +167,37 @@ public abstract class AbstractReviewRepositoryTest {
         assertTrue(foundReview.isPresent());
     }
 
+    @Test
+    void shouldFindUserReviewsOfSeveralBooks() {
+        User user = createAndSaveUser();
+        User otherUser = createAndSaveUser();
+        Book reviewed = createAndSaveBook();
+        Book otherReviewed = createAndSaveBook();
+        Book notRequested = createAndSaveBook();
+
+        runTransactionalStep(() -> {
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), reviewed.getBookId(), "First", 5));
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), notRequested.getBookId(), "Skipped", 3));
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(otherUser.getKeycloakUserId(), otherReviewed.getBookId(), "Not mine", 1));
+        });
+
+        List<Review> found = runTransactionalStep(() -> getRepository().findByUserIdAndBookIds(
+                user.getKeycloakUserId(), List.of(reviewed.getBookId(), otherReviewed.getBookId())));
+
+        assertEquals(1, found.size());
+        assertEquals(reviewed.getBookId(), found.get(0).getBook().getBookId());
+        assertEquals(5, found.get(0).getRating());
+    }
+
     @Test
     void shouldCountReviewsByBookId() {
         User user = createAndSaveUser();
+        User otherUser = createAndSaveUser();
         Book book = createAndSaveBook();
         
         runTransactionalStep(() -> {
             getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book.getBookId(), "Review 1", 5));
-            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book.getBookId(), "Review 2", 4));
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(otherUser.getKeycloakUserId(), book.getBookId(), "Review 2", 4));
         });
 
         long count = runTransactionalStep(() -> getRepository().countReviewsByBookId(book.getBookId()));
@@ -136,11 +207,12 @@ public abstract class AbstractReviewRepositoryTest {
     @Test
     void shouldFindAverageRatingByBookId() {
         User user = createAndSaveUser();
+        User otherUser = createAndSaveUser();
         Book book = createAndSaveBook();
 
         runTransactionalStep(() -> {
             getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book.getBookId(), "", 3));
-            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book.getBookId(), "", 5));
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(otherUser.getKeycloakUserId(), book.getBookId(), "", 5));
         });
 
         Double averageRating = runTransactionalStep(() -> getRepository().findAverageRatingByBookId(book.getBookId()));
@@ -168,11 +240,12 @@ public abstract class AbstractReviewRepositoryTest {
     @Test
     void shouldDeleteAllReviews() {
         User user = createAndSaveUser();
+        User otherUser = createAndSaveUser();
         Book book = createAndSaveBook();
         
         runTransactionalStep(() -> {
             getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book.getBookId(), "Review 1", 5));
-            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book.getBookId(), "Review 2", 4));
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(otherUser.getKeycloakUserId(), book.getBookId(), "Review 2", 4));
         });
 
         runTransactionalStep(() -> {
@@ -181,4 +254,98 @@ public abstract class AbstractReviewRepositoryTest {
             assertEquals(0, count);
         });
     }
+
+    @Test
+    void shouldPageBookReviewsNewestFirst() {
+        Book book = createAndSaveBook();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        runTransactionalStep(() -> {
+            for (int i = 0; i < 5; i++) {
+                User user = createAndSaveUser();
+                getRepository().create(ReviewTestUtils.from(ReviewTestUtils.createValidReviewForUserAndBook(
+                        user.getKeycloakUserId(), book.getBookId(), "Review " + i, 3))
+                        .publicationDate(base.plusDays(i)).build());
+            }
+        });
+
+        DomainPage<Review> firstPage = runTransactionalStep(() ->
+                getRepository().getBookReviewsPage(book.getBookId(), 0, 2, ReviewSort.PUBLICATION_DATE, true));
+        DomainPage<Review> lastPage = runTransactionalStep(() ->
+                getRepository().getBookReviewsPage(book.getBookId(), 2, 2, ReviewSort.PUBLICATION_DATE, true));
+
+        assertEquals(5, firstPage.totalElements());
+        assertEquals(3, firstPage.totalPages());
+        assertEquals("Review 4", firstPage.content().get(0).getReviewText());
+        assertEquals("Review 3", firstPage.content().get(1).getReviewText());
+        assertEquals(1, lastPage.content().size());
+        assertEquals("Review 0", lastPage.content().get(0).getReviewText());
+        assertTrue(lastPage.isLast());
+    }
+
+    @Test
+    void shouldWalkUserReviewsByRatingWithCursor() {
+        User user = createAndSaveUser();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        int[] ratings = {3, 5, 3, 1, 5};
+
+        runTransactionalStep(() -> {
+            for (int i = 0; i < ratings.length; i++) {
+                Book book = createAndSaveBook();
+                getRepository().create(ReviewTestUtils.from(ReviewTestUtils.createValidReviewForUserAndBook(
+                        user.getKeycloakUserId(), book.getBookId(), "Review " + i, ratings[i]))
+                        .publicationDate(base.plusDays(i)).build());
+            }
+        });
+
+        List<Review> walked = new ArrayList<>();
+        ReviewCursor cursor = null;
+        for (int step = 0; step < ratings.length; step++) {
+            ReviewCursor after = cursor;
+            List<Review> slice = runTransactionalStep(() ->
+                    getRepository().getUserReviewsAfter(user.getKeycloakUserId(), after, 2, ReviewSort.RATING, true));
+            if (slice.isEmpty()) {
+                break;
+            }
+            walked.addAll(slice);
+            cursor = ReviewCursor.of(slice.get(slice.size() - 1));
+        }
+
+        assertEquals(List.of("Review 4", "Review 1", "Review 2", "Review 0", "Review 3"),
+                walked.stream().map(Review::getReviewText).collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldRejectSecondReviewOfSameBookBySameUser() {
+        User user = createAndSaveUser();
+        Book book = createAndSaveBook();
+        runTransactionalStep(() -> {
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book.getBookId(), "First", 4));
+        });
+
+        ClientErrorException conflict = assertThrows(ClientErrorException.class, () -> runTransactionalStep(() -> {
+            getRepository().create(ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book.getBookId(), "Second", 2));
+        }));
+        assertEquals(409, conflict.getResponse().getStatus());
+    }
+
+    @Test
+    void shouldInsertThenReplaceOnUpsert() {
+        User user = createAndSaveUser();
+        Book book = createAndSaveBook();
+
+        Review inserted = runTransactionalStep(() -> getRepository().upsert(
+                ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book.getBookId(), "First take", 2)));
+        Review replaced = runTransactionalStep(() -> getRepository().upsert(
+                ReviewTestUtils.createValidReviewForUserAndBook(user.getKeycloakUserId(), book.getBookId(), "Second take", 5)));
+
+        assertEquals(inserted.getReviewId(), replaced.getReviewId());
+        assertEquals(inserted.getPublicationDate(), replaced.getPublicationDate());
+        Optional<Review> stored = runTransactionalStep(() ->
+                getRepository().findByUserIdAndBookId(user.getKeycloakUserId(), book.getBookId()));
+        assertTrue(stored.isPresent());
+        assertEquals("Second take", stored.get().getReviewText());
+        assertEquals(5, stored.get().getRating());
+        assertEquals(1L, runTransactionalStep(() -> getRepository().countReviewsByBookId(book.getBookId())));
+    }
 }
\ No newline at end of file
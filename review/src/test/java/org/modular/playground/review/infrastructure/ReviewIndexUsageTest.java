@@ -0,0 +1,50 @@
+package org.modular.playground.review.infrastructure;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.modular.playground.common.JpaRepositoryTestProfile;
+
+import java.util.UUID;
+
+import static org.modular.playground.common.QueryPlanAssertions.assertUsesIndex;
+
+@QuarkusTest
+@TestProfile(JpaRepositoryTestProfile.class)
+public class ReviewIndexUsageTest {
+
+    @Inject
+    @DataSource("review-db")
+    AgroalDataSource dataSource;
+
+    @Test
+    void bookReviewsByRecencyUseIndex() {
+        assertUsesIndex(dataSource,
+                "SELECT * FROM reviews WHERE book_id = '" + UUID.randomUUID() + "' ORDER BY publication_date DESC LIMIT 20",
+                "idx_reviews_book_publication_date");
+    }
+
+    @Test
+    void userReviewsByRecencyUseIndex() {
+        assertUsesIndex(dataSource,
+                "SELECT * FROM reviews WHERE user_id = '" + UUID.randomUUID() + "' ORDER BY publication_date DESC LIMIT 20",
+                "idx_reviews_user_publication_date");
+    }
+
+    @Test
+    void bookReviewsByRatingUseIndex() {
+        assertUsesIndex(dataSource,
+                "SELECT * FROM reviews WHERE book_id = '" + UUID.randomUUID() + "' ORDER BY rating DESC LIMIT 20",
+                "idx_reviews_book_rating");
+    }
+
+    @Test
+    void reviewOfUserForBookUsesUniqueConstraint() {
+        assertUsesIndex(dataSource,
+                "SELECT * FROM reviews WHERE user_id = '" + UUID.randomUUID() + "' AND book_id = '" + UUID.randomUUID() + "'",
+                "uk_reviews_user_book");
+    }
+}
\ No newline at end of file
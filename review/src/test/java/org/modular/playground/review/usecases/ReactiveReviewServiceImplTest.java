@@ -0,0 +1,131 @@
+package org.modular.playground.review.usecases;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.ForbiddenException;
+import jakarta.ws.rs.NotFoundException;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.usecases.ReactiveBookService;
+import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewImpl;
+import org.modular.playground.review.core.usecases.ReactiveReviewServiceImpl;
+import org.modular.playground.review.core.usecases.repositories.ReactiveReviewRepository;
+import org.modular.playground.user.core.domain.User;
+import org.modular.playground.user.core.domain.UserImpl;
+import org.modular.playground.user.core.usecases.ReactiveUserService;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveReviewServiceImplTest {
+
+    @Mock
+    private ReactiveReviewRepository reactiveReviewRepository;
+
+    @Mock
+    private ReactiveBookService reactiveBookService;
+
+    @Mock
+    private ReactiveUserService reactiveUserService;
+
+    @Mock
+    private JsonWebToken jwt;
+
+    @InjectMocks
+    private ReactiveReviewServiceImpl reactiveReviewService;
+
+    @Spy
+    private PrincipalContext principalContext = new PrincipalContext();
+
+    private User testUser;
+    private Book testBook;
+    private Review testReview;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field enrichmentTimeoutMs = ReactiveReviewServiceImpl.class.getDeclaredField("enrichmentTimeoutMs");
+        enrichmentTimeoutMs.setAccessible(true);
+        enrichmentTimeoutMs.set(reactiveReviewService, 2000L);
+        testUser = UserImpl.builder().keycloakUserId(UUID.randomUUID()).username("testuser").build();
+        testBook = BookImpl.builder().bookId(UUID.randomUUID()).title("Test Book").build();
+        testReview = ReviewImpl.builder().reviewId(UUID.randomUUID())
+                .user(UserImpl.builder().keycloakUserId(testUser.getKeycloakUserId()).build())
+                .book(BookImpl.builder().bookId(testBook.getBookId()).build())
+                .rating(4).build();
+    }
+
+    @Test
+    void shouldEnrichReviewsForBook() {
+        when(reactiveReviewRepository.getBookReviews(testBook.getBookId()))
+                .thenReturn(Uni.createFrom().item(List.of(testReview)));
+        when(reactiveUserService.findUsersByIds(anyList())).thenReturn(Uni.createFrom().item(List.of(testUser)));
+        when(reactiveBookService.getBooksByIds(anyList())).thenReturn(Uni.createFrom().item(List.of(testBook)));
+
+        List<Review> result = reactiveReviewService.getReviewsForBook(testBook.getBookId()).await().indefinitely();
+
+        assertEquals("testuser", result.get(0).getUser().getUsername());
+        assertEquals("Test Book", result.get(0).getBook().getTitle());
+    }
+
+    @Test
+    void shouldFallBackToStubsWhenEnrichmentFails() {
+        when(reactiveReviewRepository.getBookReviews(testBook.getBookId()))
+                .thenReturn(Uni.createFrom().item(List.of(testReview)));
+        when(reactiveUserService.findUsersByIds(anyList()))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("user module down")));
+        when(reactiveBookService.getBooksByIds(anyList())).thenReturn(Uni.createFrom().item(List.of(testBook)));
+
+        List<Review> result = reactiveReviewService.getReviewsForBook(testBook.getBookId()).await().indefinitely();
+
+        assertEquals(testUser.getKeycloakUserId(), result.get(0).getUser().getKeycloakUserId());
+        assertNull(result.get(0).getUser().getUsername());
+        assertEquals("Test Book", result.get(0).getBook().getTitle());
+    }
+
+    @Test
+    void shouldFailWithNotFoundWhenReviewMissing() {
+        UUID reviewId = UUID.randomUUID();
+        when(reactiveReviewRepository.findById(reviewId)).thenReturn(Uni.createFrom().nullItem());
+
+        Uni<Review> result = reactiveReviewService.findReviewAndCheckOwnership(reviewId, jwt);
+
+        assertThrows(NotFoundException.class, () -> result.await().indefinitely());
+    }
+
+    @Test
+    void shouldFailWithForbiddenWhenReviewBelongsToSomeoneElse() {
+        when(jwt.getSubject()).thenReturn(UUID.randomUUID().toString());
+        when(reactiveReviewRepository.findById(testReview.getReviewId())).thenReturn(Uni.createFrom().item(testReview));
+
+        Uni<Review> result = reactiveReviewService.findReviewAndCheckOwnership(testReview.getReviewId(), jwt);
+
+        assertThrows(ForbiddenException.class, () -> result.await().indefinitely());
+        verifyNoInteractions(reactiveUserService, reactiveBookService);
+    }
+
+    @Test
+    void shouldReturnEmptyListWhenUserNotFound() {
+        UUID userId = UUID.randomUUID();
+        when(reactiveUserService.findUserProfileById(userId, jwt)).thenReturn(Uni.createFrom().nullItem());
+
+        List<Review> result = reactiveReviewService.getReviewsForUser(userId, jwt).await().indefinitely();
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(reactiveReviewRepository);
+    }
+}
@@ -1,7 +1,11 @@
 package org.modular.playground.review.usecases;
 
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.ForbiddenException;
 import jakarta.ws.rs.NotFoundException;
+import org.eclipse.microprofile.context.ManagedExecutor;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,11 +14,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.common.web.FieldSelection;
+import org.modular.playground.common.web.SerializedResponseCache;
 import org.modular.playground.catalog.core.domain.Book;
 import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.domain.BookSummary;
+import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
 import org.modular.playground.catalog.core.usecases.BookService;
 import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewCursor;
 import org.modular.playground.review.core.domain.ReviewImpl;
+import org.modular.playground.review.core.domain.ReviewSort;
+import org.modular.playground.review.core.usecases.ReviewService;
 import org.modular.playground.review.core.usecases.ReviewServiceImpl;
 import org.modular.playground.review.core.usecases.repositories.ReviewRepository;
 import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapper;
@@ -24,13 +37,18 @@ import org.modular.playground.user.core.domain.User;
 import org.modular.playground.user.core.domain.UserImpl;
 import org.modular.playground.user.core.usecases.UserService;
 
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,9 +66,18 @@ public class ReviewServiceImplTest {
     @Mock
     private JsonWebToken jwt;
 
+    @Mock
+    private ManagedExecutor managedExecutor;
+
+    @Mock
+    private SerializedResponseCache responseCache;
+
     @InjectMocks
     private ReviewServiceImpl reviewService;
 
+    @Spy
+    private PrincipalContext principalContext = new PrincipalContext();
+
     @Spy
     private ReviewMapper reviewMapper = new ReviewMapperImpl();
 
@@ -59,7 +86,10 @@ public class ReviewServiceImplTest {
     private Review testReview;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
+        setField("enrichmentStrategy", "sequential");
+        setField("enrichmentTimeoutMs", 2000L);
+        setField("maxPageSize", 100);
         UUID userId = UUID.randomUUID();
         UUID bookId = UUID.randomUUID();
         UUID reviewId = UUID.randomUUID();
@@ -85,6 +115,7 @@ public class ReviewServiceImplTest {
         assertEquals(testBook.getBookId(), createdReview.getBook().getBookId());
         assertEquals(testUser.getKeycloakUserId(), createdReview.getUser().getKeycloakUserId());
         verify(reviewRepository, times(1)).create(any(Review.class));
+        verify(responseCache).invalidate(ReviewService.REVIEW_STATS_RESPONSE, testBook.getBookId());
     }
 
     @Test
@@ -144,20 +175,57 @@ public class ReviewServiceImplTest {
         assertEquals(testReview.getReviewId(), result.get().getReviewId());
     }
 
+    @Test
+    void shouldNotLoadBookForOwnReviewWhenBookIsNotSelected() {
+        when(reviewRepository.findByUserIdAndBookId(testUser.getKeycloakUserId(), testBook.getBookId())).thenReturn(Optional.of(testReview));
+        when(userService.findUsersByIds(anyList())).thenReturn(List.of(testUser));
+
+        Optional<Review> result = reviewService.findReviewByUserAndBook(testUser.getKeycloakUserId(), testBook.getBookId(),
+                jwt, FieldSelection.parse("rating,username"));
+
+        assertEquals("testuser", result.orElseThrow().getUser().getUsername());
+        verify(bookService, never()).getBookById(any());
+        verify(bookService, never()).getBookSummariesByIds(anyList());
+    }
+
+    @Test
+    void shouldOnlyLoadUsersWhenOnlyUsernameIsSelected() {
+        when(userService.findUserProfileById(testUser.getKeycloakUserId(), jwt)).thenReturn(Optional.of(testUser));
+        when(reviewRepository.getUserReviews(testUser.getKeycloakUserId())).thenReturn(List.of(testReview));
+        when(userService.findUsersByIds(anyList())).thenReturn(List.of(testUser));
+
+        reviewService.getReviewsForUser(testUser.getKeycloakUserId(), jwt, FieldSelection.parse("rating,username"));
+
+        verify(userService, times(1)).findUsersByIds(anyList());
+        verify(bookService, never()).getBookSummariesByIds(anyList());
+    }
+
+    @Test
+    void shouldSkipEnrichmentWhenNoEnrichedFieldIsSelected() {
+        when(reviewRepository.getBookReviews(testBook.getBookId())).thenReturn(List.of(testReview));
+
+        List<Review> result = reviewService.getReviewsForBook(testBook.getBookId(), jwt,
+                FieldSelection.parse("rating,reviewText"));
+
+        assertEquals(1, result.size());
+        verify(userService, never()).findUsersByIds(anyList());
+        verify(bookService, never()).getBookSummariesByIds(anyList());
+    }
+
     @Test
     void shouldReturnEnrichedReviewsForUser() {
         List<Review> rawReviews = List.of(testReview);
         when(userService.findUserProfileById(testUser.getKeycloakUserId(), jwt)).thenReturn(Optional.of(testUser));
         when(reviewRepository.getUserReviews(testUser.getKeycloakUserId())).thenReturn(rawReviews);
         when(userService.findUsersByIds(anyList())).thenReturn(List.of(testUser));
-        when(bookService.getBooksByIds(anyList())).thenReturn(List.of(testBook));
+        when(bookService.getBookSummariesByIds(anyList())).thenReturn(List.of(BookSummary.from(testBook)));
 
         List<Review> result = reviewService.getReviewsForUser(testUser.getKeycloakUserId(), jwt);
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
         verify(userService, times(1)).findUsersByIds(anyList());
-        verify(bookService, times(1)).getBooksByIds(anyList());
+        verify(bookService, times(1)).getBookSummariesByIds(anyList());
     }
 
     @Test
@@ -208,22 +276,54 @@ public class ReviewServiceImplTest {
     void shouldUpdateReviewWhenUserIsOwner() {
         ReviewRequestDTO request = ReviewRequestDTO.builder().rating(5).reviewText("Updated!").build();
 
+        Review storedReview = ReviewImpl.builder()
+                .reviewId(testReview.getReviewId())
+                .user(UserImpl.builder().keycloakUserId(testUser.getKeycloakUserId()).build())
+                .book(BookImpl.builder().bookId(testBook.getBookId()).build())
+                .rating(5)
+                .reviewText("Updated!")
+                .build();
+
         when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
-        when(reviewRepository.findById(testReview.getReviewId())).thenReturn(Optional.of(testReview));
-        when(reviewRepository.update(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(reviewRepository.updateForUser(testReview.getReviewId(), testUser.getKeycloakUserId(), "Updated!", 5))
+                .thenReturn(Optional.of(storedReview));
+        when(userService.findUserByIdInternal(testUser.getKeycloakUserId())).thenReturn(Optional.of(testUser));
+        when(bookService.getBookById(testBook.getBookId())).thenReturn(Optional.of(testBook));
 
         Review updatedReview = reviewService.updateReview(testReview.getReviewId(), request, jwt);
 
         assertNotNull(updatedReview);
         assertEquals(5, updatedReview.getRating());
         assertEquals("Updated!", updatedReview.getReviewText());
-        verify(reviewRepository, times(1)).update(any(Review.class));
+        assertEquals("testuser", updatedReview.getUser().getUsername());
+        assertEquals("Test Book", updatedReview.getBook().getTitle());
+        verify(reviewRepository, never()).findById(any());
+        verify(reviewRepository, never()).update(any(Review.class));
+    }
+
+    @Test
+    void shouldFallBackToLoadedReviewWhenAdminUpdatesReview() {
+        ReviewRequestDTO request = ReviewRequestDTO.builder().rating(4).reviewText("Moderated").build();
+        JsonObject realmAccess = Json.createObjectBuilder()
+                .add("roles", Json.createArrayBuilder().add("admin"))
+                .build();
+
+        when(jwt.getSubject()).thenReturn(UUID.randomUUID().toString());
+        when(jwt.getClaim("realm_access")).thenReturn(realmAccess);
+        when(reviewRepository.findById(testReview.getReviewId())).thenReturn(Optional.of(testReview));
+        when(reviewRepository.update(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Review updatedReview = reviewService.updateReview(testReview.getReviewId(), request, jwt);
+
+        assertEquals("Moderated", updatedReview.getReviewText());
+        verify(reviewRepository, never()).updateForUser(any(), any(), any(), anyInt());
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenUpdatingNonExistentReview() {
         UUID nonExistentReviewId = UUID.randomUUID();
         ReviewRequestDTO request = ReviewRequestDTO.builder().rating(5).reviewText("Updated!").build();
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
         when(reviewRepository.findById(nonExistentReviewId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> reviewService.updateReview(nonExistentReviewId, request, jwt));
@@ -245,12 +345,13 @@ public class ReviewServiceImplTest {
     @Test
     void shouldDeleteReviewWhenUserIsOwner() {
         when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
-        when(reviewRepository.findById(testReview.getReviewId())).thenReturn(Optional.of(testReview));
-        doNothing().when(reviewRepository).deleteById(testReview.getReviewId());
+        when(reviewRepository.deleteByIdForUser(testReview.getReviewId(), testUser.getKeycloakUserId())).thenReturn(Optional.of(testBook.getBookId()));
 
         reviewService.deleteReviewById(testReview.getReviewId(), jwt);
 
-        verify(reviewRepository, times(1)).deleteById(testReview.getReviewId());
+        verify(reviewRepository, never()).findById(any());
+        verify(reviewRepository, never()).deleteById(any());
+        verify(responseCache).invalidate(ReviewService.REVIEW_STATS_RESPONSE, testBook.getBookId());
     }
 
     @Test
@@ -263,4 +364,198 @@ public class ReviewServiceImplTest {
         assertThrows(ForbiddenException.class, () -> reviewService.deleteReviewById(testReview.getReviewId(), jwt));
         verify(reviewRepository, never()).deleteById(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldEnrichReviewsInParallelWhenStrategyIsParallel() throws Exception {
+        useParallelEnrichment(2000);
+        Review stubReview = createStubReview();
+        when(userService.findUserProfileById(testUser.getKeycloakUserId(), jwt)).thenReturn(Optional.of(testUser));
+        when(reviewRepository.getUserReviews(testUser.getKeycloakUserId())).thenReturn(List.of(stubReview));
+        when(userService.findUsersByIds(anyList())).thenReturn(List.of(testUser));
+        when(bookService.getBookSummariesByIds(anyList())).thenReturn(List.of(BookSummary.from(testBook)));
+
+        List<Review> result = reviewService.getReviewsForUser(testUser.getKeycloakUserId(), jwt);
+
+        assertEquals(1, result.size());
+        assertEquals("testuser", result.get(0).getUser().getUsername());
+        assertEquals("Test Book", result.get(0).getBook().getTitle());
+        verify(managedExecutor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void shouldFallBackToStubsWhenParallelLookupFails() throws Exception {
+        useParallelEnrichment(2000);
+        Review stubReview = createStubReview();
+        User userStub = stubReview.getUser();
+        when(userService.findUserProfileById(testUser.getKeycloakUserId(), jwt)).thenReturn(Optional.of(testUser));
+        when(reviewRepository.getUserReviews(testUser.getKeycloakUserId())).thenReturn(List.of(stubReview));
+        when(userService.findUsersByIds(anyList())).thenThrow(new IllegalStateException("users-db unavailable"));
+        when(bookService.getBookSummariesByIds(anyList())).thenReturn(List.of(BookSummary.from(testBook)));
+
+        List<Review> result = reviewService.getReviewsForUser(testUser.getKeycloakUserId(), jwt);
+
+        assertSame(userStub, result.get(0).getUser());
+        assertEquals("Test Book", result.get(0).getBook().getTitle());
+    }
+
+    @Test
+    void shouldFallBackToStubsWhenParallelLookupTimesOut() throws Exception {
+        useParallelEnrichment(50);
+        Review stubReview = createStubReview();
+        Book bookStub = stubReview.getBook();
+        when(reviewRepository.findById(stubReview.getReviewId())).thenReturn(Optional.of(stubReview));
+        when(userService.findUserByIdInternal(testUser.getKeycloakUserId())).thenReturn(Optional.of(testUser));
+        when(bookService.getBookById(testBook.getBookId())).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return Optional.of(testBook);
+        });
+
+        Optional<Review> result = reviewService.findReviewById(stubReview.getReviewId(), jwt);
+
+        assertTrue(result.isPresent());
+        assertEquals("testuser", result.get().getUser().getUsername());
+        assertSame(bookStub, result.get().getBook());
+    }
+
+    @Test
+    void shouldEnrichOnlyTheRequestedPageOfBookReviews() {
+        Review stubReview = createStubReview();
+        DomainPage<Review> page = new DomainPage<>(List.of(stubReview), 40, 40, 3, 1, false, false);
+        when(reviewRepository.getBookReviewsPage(testBook.getBookId(), 3, 1, ReviewSort.RATING, false)).thenReturn(page);
+        when(userService.findUsersByIds(List.of(testUser.getKeycloakUserId()))).thenReturn(List.of(testUser));
+        when(bookService.getBookSummariesByIds(List.of(testBook.getBookId())))
+                .thenReturn(List.of(BookSummary.from(testBook)));
+
+        DomainPage<Review> result = reviewService.getReviewsForBookPage(testBook.getBookId(), 3, 1, "rating", "asc", jwt);
+
+        assertEquals(40, result.totalElements());
+        assertEquals("testuser", result.content().get(0).getUser().getUsername());
+        assertEquals("Test Book", result.content().get(0).getBook().getTitle());
+        verify(reviewRepository, never()).getBookReviews(any());
+    }
+
+    @Test
+    void shouldBoundPageSizeAndDefaultToNewestFirst() {
+        when(reviewRepository.getBookReviewsPage(testBook.getBookId(), 0, 100, ReviewSort.PUBLICATION_DATE, true))
+                .thenReturn(new DomainPage<>(List.of(), 0, 0, 0, 100, true, true));
+
+        reviewService.getReviewsForBookPage(testBook.getBookId(), -1, 5000, null, null, jwt);
+
+        verify(reviewRepository).getBookReviewsPage(testBook.getBookId(), 0, 100, ReviewSort.PUBLICATION_DATE, true);
+        verifyNoInteractions(userService, bookService);
+    }
+
+    @Test
+    void shouldRejectPageWhoseOffsetOverflows() {
+        assertThrows(BadRequestException.class,
+                () -> reviewService.getReviewsForBookPage(testBook.getBookId(), 30_000_000, 100, null, null, jwt));
+        assertThrows(BadRequestException.class,
+                () -> reviewService.getReviewsForUserPage(testUser.getKeycloakUserId(), 30_000_000, 100, null, null, jwt));
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void shouldFetchOneExtraReviewToDetectNextSlice() {
+        Review first = createStubReview();
+        Review second = createStubReview();
+        Review third = createStubReview();
+        ReviewCursor cursor = new ReviewCursor(LocalDateTime.of(2024, 1, 1, 0, 0), 4, UUID.randomUUID());
+        when(reviewRepository.getBookReviewsAfter(testBook.getBookId(), cursor, 3, ReviewSort.PUBLICATION_DATE, true))
+                .thenReturn(List.of(first, second, third));
+        when(userService.findUsersByIds(anyList())).thenReturn(List.of(testUser));
+        when(bookService.getBookSummariesByIds(anyList())).thenReturn(List.of(BookSummary.from(testBook)));
+
+        DomainSlice<Review> result = reviewService.getReviewsForBookAfter(
+                testBook.getBookId(), cursor.encode(), 2, null, "desc", jwt);
+
+        assertTrue(result.hasNext());
+        assertEquals(List.of(first, second), result.content());
+        assertNull(third.getUser().getUsername());
+    }
+
+    @Test
+    void shouldRejectMalformedReviewCursor() {
+        assertThrows(BadRequestException.class,
+                () -> reviewService.getReviewsForBookAfter(testBook.getBookId(), "not-a-cursor", 10, null, null, jwt));
+        verify(reviewRepository, never()).getBookReviewsAfter(any(), any(), anyInt(), any(), anyBoolean());
+    }
+
+    @Test
+    void shouldReturnEmptyPageWhenUserNotFound() {
+        when(userService.findUserProfileById(testUser.getKeycloakUserId(), jwt)).thenReturn(Optional.empty());
+
+        DomainPage<Review> result = reviewService.getReviewsForUserPage(testUser.getKeycloakUserId(), 0, 10, null, null, jwt);
+
+        assertTrue(result.content().isEmpty());
+        verify(reviewRepository, never()).getUserReviewsPage(any(), anyInt(), anyInt(), any(), anyBoolean());
+    }
+
+    @Test
+    void shouldStartUserReviewsFromBeginningWithoutCursor() {
+        when(userService.findUserProfileById(testUser.getKeycloakUserId(), jwt)).thenReturn(Optional.of(testUser));
+        when(reviewRepository.getUserReviewsAfter(eq(testUser.getKeycloakUserId()), isNull(), eq(11),
+                eq(ReviewSort.PUBLICATION_DATE), eq(true))).thenReturn(List.of());
+
+        DomainSlice<Review> result = reviewService.getReviewsForUserAfter(
+                testUser.getKeycloakUserId(), null, 10, null, null, jwt);
+
+        assertFalse(result.hasNext());
+        assertTrue(result.content().isEmpty());
+    }
+
+    @Test
+    void shouldUpsertReviewInSingleRepositoryCall() {
+        ReviewRequestDTO request = ReviewRequestDTO.builder()
+                .bookId(testBook.getBookId()).rating(2).reviewText("Changed my mind").build();
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
+        when(bookService.getBookById(testBook.getBookId())).thenReturn(Optional.of(testBook));
+        when(userService.findUserProfileById(testUser.getKeycloakUserId(), jwt)).thenReturn(Optional.of(testUser));
+        when(reviewRepository.upsert(any(Review.class))).thenReturn(ReviewImpl.builder()
+                .reviewId(testReview.getReviewId())
+                .user(UserImpl.builder().keycloakUserId(testUser.getKeycloakUserId()).build())
+                .book(BookImpl.builder().bookId(testBook.getBookId()).build())
+                .rating(2).reviewText("Changed my mind").build());
+
+        Review result = reviewService.upsertReview(request, jwt);
+
+        assertEquals(testReview.getReviewId(), result.getReviewId());
+        assertEquals("testuser", result.getUser().getUsername());
+        assertEquals("Test Book", result.getBook().getTitle());
+        verify(reviewRepository, never()).findByUserIdAndBookId(any(), any());
+        verify(reviewRepository, never()).create(any());
+    }
+
+    @Test
+    void shouldNotUpsertReviewForUnknownBook() {
+        ReviewRequestDTO request = ReviewRequestDTO.builder().bookId(UUID.randomUUID()).rating(3).build();
+        when(jwt.getSubject()).thenReturn(testUser.getKeycloakUserId().toString());
+        when(bookService.getBookById(request.getBookId())).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> reviewService.upsertReview(request, jwt));
+        verify(reviewRepository, never()).upsert(any());
+    }
+
+    private Review createStubReview() {
+        return ReviewImpl.builder()
+                .reviewId(UUID.randomUUID())
+                .user(UserImpl.builder().keycloakUserId(testUser.getKeycloakUserId()).build())
+                .book(BookImpl.builder().bookId(testBook.getBookId()).build())
+                .rating(4)
+                .build();
+    }
+
+    private void useParallelEnrichment(long timeoutMs) throws Exception {
+        setField("enrichmentStrategy", "parallel");
+        setField("enrichmentTimeoutMs", timeoutMs);
+        doAnswer(invocation -> {
+            new Thread(invocation.<Runnable>getArgument(0)).start();
+            return null;
+        }).when(managedExecutor).execute(any(Runnable.class));
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = ReviewServiceImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(reviewService, value);
+    }
+}
@@ -122,7 +122,8 @@ public class ReviewControllerIntegrationTest {
         .then()
             .statusCode(200)
             .body("rating", is(3))
-            .body("reviewText", equalTo("Updated review text."));
+            .body("reviewText", equalTo("Updated review text."))
+            .body("username", equalTo(alice.getUsername()));
     }
 
     @Test
@@ -0,0 +1,98 @@
+package org.modular.playground.review.web.controllers;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.keycloak.client.KeycloakTestClient;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.modular.playground.catalog.core.domain.Book;
+import org.modular.playground.catalog.utils.CatalogRepositoryUtils;
+import org.modular.playground.catalog.utils.CatalogTestUtils;
+import org.modular.playground.common.VirtualThreadPinningExtension;
+import org.modular.playground.common.VirtualThreadsTestProfile;
+import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.utils.ReviewRepositoryUtils;
+import org.modular.playground.review.utils.ReviewTestUtils;
+import org.modular.playground.user.core.domain.User;
+import org.modular.playground.user.utils.UserRepositoryUtils;
+import org.modular.playground.user.utils.UserTestUtils;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+@QuarkusTest
+@TestProfile(VirtualThreadsTestProfile.class)
+@ExtendWith(VirtualThreadPinningExtension.class)
+public class ReviewControllerPinningIntegrationTest {
+
+    @Inject
+    UserRepositoryUtils userRepositoryUtils;
+
+    @Inject
+    CatalogRepositoryUtils catalogRepositoryUtils;
+
+    @Inject
+    ReviewRepositoryUtils reviewRepositoryUtils;
+
+    KeycloakTestClient keycloakClient = new KeycloakTestClient();
+
+    private static final UUID ALICE_UUID = UUID.fromString("eb4123a3-b722-4798-9af5-8957f823657a");
+
+    private User alice;
+    private Book book;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        alice = userRepositoryUtils.saveUser(UserTestUtils.createValidUserWithIdAndUsername(ALICE_UUID, "alice"));
+        book = catalogRepositoryUtils.saveBook(CatalogTestUtils.createValidBook());
+        review = reviewRepositoryUtils.saveReview(ReviewTestUtils.createValidReviewForUserAndBook(
+                alice.getKeycloakUserId(), book.getBookId(), "No pinning here", 5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewRepositoryUtils.deleteReview(review.getReviewId());
+        catalogRepositoryUtils.deleteBook(book.getBookId());
+        userRepositoryUtils.deleteUser(alice.getKeycloakUserId());
+    }
+
+    @Test
+    void testGetReviewsByBookIdDoesNotPinCarrierThread() {
+        given()
+                .auth().oauth2(keycloakClient.getAccessToken("alice"))
+                .pathParam("bookId", book.getBookId())
+        .when()
+                .get("/api/v1/reviews/books/{bookId}")
+        .then()
+                .statusCode(200)
+                .body("$", hasSize(1))
+                .body("[0].reviewId", equalTo(review.getReviewId().toString()));
+    }
+
+    @Test
+    void testReviewsByBookIdQueryDoesNotPinCarrierThread() {
+        String body = String.format("""
+                {
+                  "query": "query { reviewsByBookId(bookId: \\"%s\\") { reviewId rating } }"
+                }
+                """, book.getBookId());
+
+        given()
+                .auth().oauth2(keycloakClient.getAccessToken("alice"))
+                .contentType(ContentType.JSON)
+                .body(body)
+        .when()
+                .post("/graphql")
+        .then()
+                .statusCode(200)
+                .body("data.reviewsByBookId", hasSize(1));
+    }
+}
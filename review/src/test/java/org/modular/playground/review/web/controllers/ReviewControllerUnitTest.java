@@ -1,16 +1,26 @@
 package org.modular.playground.review.web.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.ForbiddenException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Response;
 import org.modular.playground.catalog.core.domain.Book;
 import org.modular.playground.catalog.core.domain.BookImpl;
+import org.modular.playground.catalog.core.domain.DomainPage;
+import org.modular.playground.catalog.core.domain.DomainSlice;
+import org.modular.playground.catalog.web.dto.PagedResponse;
+import org.modular.playground.common.web.FieldSelection;
+import org.modular.playground.common.web.SerializedResponseCache;
+import org.modular.playground.common.web.TestResponseCaches;
 import org.modular.playground.review.core.domain.Review;
+import org.modular.playground.review.core.domain.ReviewCursor;
 import org.modular.playground.review.core.domain.ReviewImpl;
 import org.modular.playground.review.core.domain.ReviewStatsImpl;
 import org.modular.playground.review.core.usecases.ReviewService;
 import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapper;
 import org.modular.playground.review.infrastructure.persistence.postgres.mapper.ReviewMapperImpl;
+import org.modular.playground.review.web.dto.ReviewCursorResponse;
 import org.modular.playground.review.web.dto.ReviewRequestDTO;
 import org.modular.playground.review.web.dto.ReviewResponseDTO;
 import org.modular.playground.review.web.dto.ReviewStatsResponseDTO;
@@ -31,8 +41,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +64,9 @@ public class ReviewControllerUnitTest {
     @Spy
     private ReviewMapper reviewMapper = new ReviewMapperImpl(); 
 
+    @Spy
+    private SerializedResponseCache responseCache = TestResponseCaches.withDefaults();
+
     private UUID testUserId;
     private UUID testBookId;
     private UUID testReviewId;
@@ -146,34 +163,48 @@ public class ReviewControllerUnitTest {
     void shouldReturnOkWithListOfDtosWhenGettingReviewsByBookId() {
         List<Review> reviews = Collections.singletonList(mockReview);
         List<ReviewResponseDTO> expectedList = Collections.singletonList(expectedResponseDTO);
-        when(reviewService.getReviewsForBook(testBookId, jwt)).thenReturn(reviews);
-        Response response = reviewController.getReviewsByBookId(testBookId);
+        when(reviewService.getReviewsForBook(eq(testBookId), eq(jwt), any(FieldSelection.class))).thenReturn(reviews);
+        Response response = reviewController.getReviewsByBookId(testBookId, null);
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
         assertEquals(expectedList, response.getEntity());
-        verify(reviewService, times(1)).getReviewsForBook(testBookId, jwt);
+        verify(reviewService, times(1)).getReviewsForBook(eq(testBookId), eq(jwt), any(FieldSelection.class));
     }
 
     @Test
     void shouldReturnOkWithListOfDtosWhenGettingReviewsByUserId() {
         List<Review> reviews = Collections.singletonList(mockReview);
         List<ReviewResponseDTO> expectedList = Collections.singletonList(expectedResponseDTO);
-        when(reviewService.getReviewsForUser(testUserId, jwt)).thenReturn(reviews);
-        Response response = reviewController.getReviewsByUserId(testUserId);
+        when(reviewService.getReviewsForUser(eq(testUserId), eq(jwt), any(FieldSelection.class))).thenReturn(reviews);
+        Response response = reviewController.getReviewsByUserId(testUserId, null);
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
         assertEquals(expectedList, response.getEntity());
-        verify(reviewService, times(1)).getReviewsForUser(testUserId, jwt);
+        verify(reviewService, times(1)).getReviewsForUser(eq(testUserId), eq(jwt), any(FieldSelection.class));
     }
 
     @Test
-    void shouldReturnOkWithStatsWhenGettingBookReviewStats() {
+    void shouldReturnOkWithStatsWhenGettingBookReviewStats() throws Exception {
         ReviewStatsImpl mockReviewStats = ReviewStatsImpl.builder().totalReviews(5L).averageRating(4.2).build();
         ReviewStatsResponseDTO expectedStatsResponseDTO = ReviewStatsResponseDTO.builder()
                 .bookId(testBookId.toString()).totalReviews(5L).averageRating(4.2).build();
         when(reviewService.getReviewStatsForBook(testBookId)).thenReturn(mockReviewStats);
-        Response response = reviewController.getBookReviewStats(testBookId);
+        Response response = reviewController.getBookReviewStats(testBookId, null, null);
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
-        assertEquals(expectedStatsResponseDTO, response.getEntity());
+        assertArrayEquals(new ObjectMapper().writeValueAsBytes(expectedStatsResponseDTO), (byte[]) response.getEntity());
+        verify(reviewService, times(1)).getReviewStatsForBook(testBookId);
+    }
+
+    @Test
+    void shouldServeCachedStatsUntilInvalidated() {
+        ReviewStatsImpl mockReviewStats = ReviewStatsImpl.builder().totalReviews(5L).averageRating(4.2).build();
+        when(reviewService.getReviewStatsForBook(testBookId)).thenReturn(mockReviewStats);
+
+        reviewController.getBookReviewStats(testBookId, null, null);
+        reviewController.getBookReviewStats(testBookId, null, null);
         verify(reviewService, times(1)).getReviewStatsForBook(testBookId);
+
+        responseCache.invalidate(ReviewService.REVIEW_STATS_RESPONSE, testBookId);
+        reviewController.getBookReviewStats(testBookId, null, null);
+        verify(reviewService, times(2)).getReviewStatsForBook(testBookId);
     }
 
     @Test
@@ -193,4 +224,55 @@ public class ReviewControllerUnitTest {
         assertThrows(NotFoundException.class, () -> reviewController.getMyReviewForBook(testBookId));
         verify(reviewService, times(1)).findReviewByUserAndBook(testUserId, testBookId, jwt);
     }
+
+    @Test
+    void shouldReturnPagedResponseWhenGettingReviewsPageByBookId() {
+        DomainPage<Review> page = new DomainPage<>(List.of(mockReview), 41, 3, 0, 20, false, true);
+        when(reviewService.getReviewsForBookPage(testBookId, 0, 20, "rating", "desc", jwt, FieldSelection.ALL)).thenReturn(page);
+
+        PagedResponse<ReviewResponseDTO> response = reviewController.getReviewsPageByBookId(testBookId, 0, 20, "rating", "desc", null);
+
+        assertEquals(41, response.totalElements());
+        assertEquals(1, response.content().size());
+        assertFalse(response.last());
+    }
+
+    @Test
+    void shouldReturnEncodedCursorOfLastReviewWhenMoreReviewsAreAvailable() {
+        when(reviewService.getReviewsForUserAfter(testUserId, null, 1, null, null, jwt, FieldSelection.ALL))
+                .thenReturn(new DomainSlice<>(List.of(mockReview), true));
+
+        ReviewCursorResponse response = reviewController.getReviewsByUserIdAfter(testUserId, null, 1, null, null, null);
+
+        assertTrue(response.hasNext());
+        assertEquals(testReviewId, ReviewCursor.decode(response.nextCursor()).reviewId());
+    }
+
+    @Test
+    void shouldReturnNoCursorOnLastSliceOfBookReviews() {
+        when(reviewService.getReviewsForBookAfter(testBookId, "abc", 20, null, null, jwt, FieldSelection.ALL))
+                .thenReturn(new DomainSlice<>(List.of(mockReview), false));
+
+        ReviewCursorResponse response = reviewController.getReviewsByBookIdAfter(testBookId, "abc", 20, null, null, null);
+
+        assertFalse(response.hasNext());
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    void shouldReturnOkWithDtoWhenPuttingMyReviewForBook() {
+        when(reviewService.upsertReview(mockReviewRequestDTO, jwt)).thenReturn(mockReview);
+
+        Response response = reviewController.putMyReviewForBook(testBookId, mockReviewRequestDTO);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(expectedResponseDTO, response.getEntity());
+    }
+
+    @Test
+    void shouldRejectMyReviewWhenBodyBookDiffersFromPath() {
+        assertThrows(BadRequestException.class,
+                () -> reviewController.putMyReviewForBook(UUID.randomUUID(), mockReviewRequestDTO));
+        verify(reviewService, never()).upsertReview(any(), any());
+    }
 }
\ No newline at end of file
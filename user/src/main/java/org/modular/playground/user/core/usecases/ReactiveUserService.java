@@ -0,0 +1,14 @@
+package org.modular.playground.user.core.usecases;
+
+import io.smallrye.mutiny.Uni;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.modular.playground.user.core.domain.User;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveUserService {
+    Uni<User> findUserProfileById(UUID userId, JsonWebToken principal);
+    Uni<User> findUserByIdInternal(UUID userId);
+    Uni<List<User>> findUsersByIds(List<UUID> userIds);
+}
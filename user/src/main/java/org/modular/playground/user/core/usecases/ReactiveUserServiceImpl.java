@@ -0,0 +1,54 @@
+package org.modular.playground.user.core.usecases;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ForbiddenException;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.common.security.ResolvedPrincipal;
+import org.modular.playground.user.core.domain.User;
+import org.modular.playground.user.core.usecases.repositories.ReactiveUserRepository;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveUserServiceImpl.class);
+
+    @Inject
+    ReactiveUserRepository reactiveUserRepository;
+
+    @Inject
+    PrincipalContext principalContext;
+
+    @Override
+    public Uni<User> findUserProfileById(UUID userId, JsonWebToken principal) {
+        LOGGER.debugf("Reactive attempt to find user profile with ID: %s", userId);
+
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        if (!caller.canAccess(userId)) {
+            LOGGER.warnf("Authorization failed: User %s tried to access profile of user %s without admin role.",
+                    caller.userId(), userId);
+            return Uni.createFrom().failure(new ForbiddenException("User is not authorized to access this profile."));
+        }
+        return reactiveUserRepository.findById(userId);
+    }
+
+    @Override
+    public Uni<User> findUserByIdInternal(UUID userId) {
+        LOGGER.debugf("Reactive internal search for user profile with ID: %s", userId);
+        return reactiveUserRepository.findById(userId);
+    }
+
+    @Override
+    public Uni<List<User>> findUsersByIds(List<UUID> userIds) {
+        LOGGER.debugf("Reactive search for %d users by IDs", userIds.size());
+        return reactiveUserRepository.findByIds(userIds);
+    }
+}
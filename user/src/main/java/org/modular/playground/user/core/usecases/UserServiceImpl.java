@@ -5,7 +5,9 @@ import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.ForbiddenException;
 
-import org.modular.playground.common.security.SecurityUtils;
+import org.modular.playground.common.persistence.ReadOnly;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.common.security.ResolvedPrincipal;
 import org.modular.playground.user.core.domain.User;
 import org.modular.playground.user.core.usecases.repositories.UserRepository;
 import org.eclipse.microprofile.jwt.JsonWebToken;
@@ -20,10 +22,12 @@ public class UserServiceImpl implements UserService {
 
     private static final Logger LOGGER = Logger.getLogger(UserServiceImpl.class);
     private final UserRepository userRepository;
+    private final PrincipalContext principalContext;
 
     @Inject
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, PrincipalContext principalContext) {
         this.userRepository = userRepository;
+        this.principalContext = principalContext;
     }
 
     @Override
@@ -35,13 +39,15 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @ReadOnly
     public Optional<User> findUserProfileById(UUID userId, JsonWebToken principal) {
         LOGGER.debugf("Attempting to find user profile with ID: %s", userId);
 
-        UUID authenticatedUserId = UUID.fromString(principal.getSubject());
-        boolean isAdmin = SecurityUtils.isAdmin(principal);
+        ResolvedPrincipal caller = principalContext.resolve(principal);
+        UUID authenticatedUserId = caller.userId();
+        boolean isAdmin = caller.isAdmin();
 
-        if (!authenticatedUserId.equals(userId) && !isAdmin) {
+        if (!caller.isUser(userId) && !isAdmin) {
             LOGGER.warnf("Authorization failed: User %s tried to access profile of user %s without admin role.",
                     authenticatedUserId, userId);
             throw new ForbiddenException("User is not authorized to access this profile.");
@@ -67,12 +73,14 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @ReadOnly
     public Optional<User> findUserByIdInternal(UUID userId) {
         LOGGER.debugf("Internal search for user profile with ID: %s", userId);
         return userRepository.findById(userId);
     }
 
     @Override
+    @ReadOnly
     public List<User> findUsersByIds(List<UUID> userIds) {
         LOGGER.debugf("Searching for %d users by IDs", userIds.size());
         return userRepository.findByIds(userIds);
@@ -0,0 +1,12 @@
+package org.modular.playground.user.core.usecases.repositories;
+
+import io.smallrye.mutiny.Uni;
+import org.modular.playground.user.core.domain.User;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveUserRepository {
+    Uni<User> findById(UUID userId);
+    Uni<List<User>> findByIds(List<UUID> userIds);
+}
@@ -1,9 +1,11 @@
 package org.modular.playground.user.infrastructure.messaging;
 
+import io.quarkus.runtime.annotations.RegisterForReflection;
 import jakarta.json.bind.annotation.JsonbProperty;
 import lombok.Data;
 
 @Data
+@RegisterForReflection
 public class KeycloakEventDTO {
     
     @JsonbProperty("userId")
@@ -13,6 +15,7 @@ public class KeycloakEventDTO {
     private Details details;
 
     @Data
+    @RegisterForReflection
     public static class Details {
         private String username;
         private String email;
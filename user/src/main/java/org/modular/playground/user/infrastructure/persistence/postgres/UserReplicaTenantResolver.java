@@ -0,0 +1,31 @@
+package org.modular.playground.user.infrastructure.persistence.postgres;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantResolver;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.modular.playground.common.persistence.ReplicaRouter;
+
+@ApplicationScoped
+@PersistenceUnitExtension("users-db")
+@IfBuildProperty(name = "app.repository.type", stringValue = "jpa", enableIfMissing = false)
+@IfBuildProperty(name = "quarkus.hibernate-orm.\"users-db\".multitenant", stringValue = "DATABASE")
+public class UserReplicaTenantResolver implements TenantResolver {
+
+    static final String PRIMARY = "users-db";
+    static final String REPLICA = "users-db-replica";
+
+    @Inject
+    ReplicaRouter replicaRouter;
+
+    @Override
+    public String getDefaultTenantId() {
+        return PRIMARY;
+    }
+
+    @Override
+    public String resolveTenantId() {
+        return replicaRouter.route(PRIMARY, REPLICA);
+    }
+}
@@ -0,0 +1,67 @@
+package org.modular.playground.user.infrastructure.persistence.reactive;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.modular.playground.user.core.domain.UiTheme;
+import org.modular.playground.user.core.domain.User;
+import org.modular.playground.user.core.domain.UserImpl;
+import org.modular.playground.user.core.usecases.repositories.ReactiveUserRepository;
+import org.jboss.logging.Logger;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@ApplicationScoped
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactivePgUserRepository implements ReactiveUserRepository {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactivePgUserRepository.class);
+    private static final String SELECT_USERS =
+            "SELECT keycloak_user_id, first_name, last_name, username, email, theme_preference FROM users";
+
+    @Inject
+    @ReactiveDataSource("users-db")
+    Pool client;
+
+    @Override
+    public Uni<User> findById(UUID userId) {
+        LOGGER.debugf("Reactive: Finding user by ID: %s", userId);
+        return client.preparedQuery(SELECT_USERS + " WHERE keycloak_user_id = $1")
+                .execute(Tuple.of(userId))
+                .map(rows -> rows.iterator().hasNext() ? toDomain(rows.iterator().next()) : null);
+    }
+
+    @Override
+    public Uni<List<User>> findByIds(List<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        LOGGER.debugf("Reactive: Finding %d users by IDs", userIds.size());
+        return client.preparedQuery(SELECT_USERS + " WHERE keycloak_user_id = ANY($1)")
+                .execute(Tuple.of(userIds.toArray(new UUID[0])))
+                .map(rows -> StreamSupport.stream(rows.spliterator(), false)
+                        .map(this::toDomain)
+                        .collect(Collectors.toList()));
+    }
+
+    private User toDomain(Row row) {
+        String themePreference = row.getString("theme_preference");
+        return UserImpl.builder()
+                .keycloakUserId(row.getUUID("keycloak_user_id"))
+                .firstName(row.getString("first_name"))
+                .lastName(row.getString("last_name"))
+                .username(row.getString("username"))
+                .email(row.getString("email"))
+                .themePreference(themePreference == null ? UiTheme.LIGHT : UiTheme.valueOf(themePreference))
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package org.modular.playground.user.web.controllers;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.security.Authenticated;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.modular.playground.user.core.usecases.ReactiveUserService;
+import org.modular.playground.user.infrastructure.persistence.postgres.mapper.UserMapper;
+import org.modular.playground.user.web.dto.UserResponseDTO;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.logging.Logger;
+
+import java.util.UUID;
+
+@Path("/api/v1/reactive/users")
+@Produces(MediaType.APPLICATION_JSON)
+@Authenticated
+@IfBuildProperty(name = "app.reactive.enabled", stringValue = "true", enableIfMissing = false)
+public class ReactiveUserController {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveUserController.class);
+
+    @Inject
+    ReactiveUserService reactiveUserService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @Inject
+    UserMapper userMapper;
+
+    @GET
+    @Path("/{userId}")
+    @RolesAllowed({"user", "admin"})
+    public Uni<UserResponseDTO> getUserById(@PathParam("userId") UUID userId) {
+        LOGGER.infof("Received reactive request to get user profile by ID: %s", userId);
+        return reactiveUserService.findUserProfileById(userId, jwt)
+                .onItem().ifNull().failWith(() -> new NotFoundException("User profile not found for ID: " + userId))
+                .map(userMapper::toResponseDTO);
+    }
+}
@@ -1,5 +1,6 @@
 package org.modular.playground.user.web.dto;
 
+import io.quarkus.runtime.annotations.RegisterForReflection;
 import lombok.Builder;
 import lombok.Data;
 import org.modular.playground.user.core.domain.UiTheme;
@@ -8,6 +9,7 @@ import java.util.UUID;
 
 @Data
 @Builder
+@RegisterForReflection
 public class UserResponseDTO {
     private UUID userId;
     private String firstName;
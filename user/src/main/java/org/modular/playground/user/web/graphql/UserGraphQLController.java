@@ -11,6 +11,7 @@ import org.modular.playground.user.infrastructure.persistence.postgres.mapper.Us
 import org.modular.playground.user.web.dto.UserResponseDTO;
 
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import io.vertx.core.cli.annotations.Description;
 import jakarta.annotation.security.RolesAllowed;
 
@@ -18,6 +19,7 @@ import java.util.UUID;
 
 @GraphQLApi
 @Authenticated
+@RunOnVirtualThread
 public class UserGraphQLController {
 
     private static final Logger LOGGER = Logger.getLogger(UserGraphQLController.class);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS users (
+    keycloak_user_id UUID         NOT NULL,
+    first_name       VARCHAR(50)  NOT NULL,
+    last_name        VARCHAR(50)  NOT NULL,
+    username         VARCHAR(80)  NOT NULL,
+    email            VARCHAR(100) NOT NULL,
+    theme_preference VARCHAR(255),
+    CONSTRAINT users_pkey PRIMARY KEY (keycloak_user_id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
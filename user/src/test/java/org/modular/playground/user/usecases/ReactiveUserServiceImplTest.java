@@ -0,0 +1,68 @@
+package org.modular.playground.user.usecases;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.ForbiddenException;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modular.playground.common.security.PrincipalContext;
+import org.modular.playground.user.core.domain.User;
+import org.modular.playground.user.core.domain.UserImpl;
+import org.modular.playground.user.core.usecases.ReactiveUserServiceImpl;
+import org.modular.playground.user.core.usecases.repositories.ReactiveUserRepository;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveUserServiceImplTest {
+
+    @Mock
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @Mock
+    private JsonWebToken jwt;
+
+    @InjectMocks
+    private ReactiveUserServiceImpl reactiveUserService;
+
+    @Spy
+    private PrincipalContext principalContext = new PrincipalContext();
+
+    @Test
+    void shouldReturnOwnProfile() {
+        User user = UserImpl.builder().keycloakUserId(UUID.randomUUID()).username("reactive").build();
+        when(jwt.getSubject()).thenReturn(user.getKeycloakUserId().toString());
+        when(reactiveUserRepository.findById(user.getKeycloakUserId())).thenReturn(Uni.createFrom().item(user));
+
+        User result = reactiveUserService.findUserProfileById(user.getKeycloakUserId(), jwt).await().indefinitely();
+
+        assertEquals(user, result);
+    }
+
+    @Test
+    void shouldFailWithForbiddenForOtherUsersProfile() {
+        when(jwt.getSubject()).thenReturn(UUID.randomUUID().toString());
+
+        Uni<User> result = reactiveUserService.findUserProfileById(UUID.randomUUID(), jwt);
+
+        assertThrows(ForbiddenException.class, () -> result.await().indefinitely());
+        verify(reactiveUserRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldLookUpInternallyWithoutOwnershipCheck() {
+        UUID userId = UUID.randomUUID();
+        when(reactiveUserRepository.findById(userId)).thenReturn(Uni.createFrom().nullItem());
+
+        assertNull(reactiveUserService.findUserByIdInternal(userId).await().indefinitely());
+        verifyNoInteractions(jwt);
+    }
+}
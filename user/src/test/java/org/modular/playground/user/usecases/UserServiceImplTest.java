@@ -3,6 +3,7 @@ package org.modular.playground.user.usecases;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.ForbiddenException;
+import org.modular.playground.common.security.PrincipalContext;
 import org.modular.playground.user.core.domain.User;
 import org.modular.playground.user.core.usecases.UserServiceImpl;
 import org.modular.playground.user.core.usecases.repositories.UserRepository;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
@@ -35,6 +37,9 @@ class UserServiceImplTest {
     @InjectMocks
     UserServiceImpl userService;
 
+    @Spy
+    PrincipalContext principalContext = new PrincipalContext();
+
     private User testUser;
 
     @BeforeEach
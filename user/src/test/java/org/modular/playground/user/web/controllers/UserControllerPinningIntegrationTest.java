@@ -0,0 +1,77 @@
+package org.modular.playground.user.web.controllers;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.keycloak.client.KeycloakTestClient;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.modular.playground.common.VirtualThreadPinningExtension;
+import org.modular.playground.common.VirtualThreadsTestProfile;
+import org.modular.playground.user.core.domain.User;
+import org.modular.playground.user.utils.UserRepositoryUtils;
+import org.modular.playground.user.utils.UserTestUtils;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+@QuarkusTest
+@TestProfile(VirtualThreadsTestProfile.class)
+@ExtendWith(VirtualThreadPinningExtension.class)
+public class UserControllerPinningIntegrationTest {
+
+    @Inject
+    UserRepositoryUtils userRepositoryUtils;
+
+    KeycloakTestClient keycloakClient = new KeycloakTestClient();
+
+    private static final UUID ALICE_UUID = UUID.fromString("eb4123a3-b722-4798-9af5-8957f823657a");
+
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        alice = userRepositoryUtils.saveUser(UserTestUtils.createValidUserWithIdAndUsername(ALICE_UUID, "alice"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepositoryUtils.deleteUser(alice.getKeycloakUserId());
+    }
+
+    @Test
+    void testGetUserByIdDoesNotPinCarrierThread() {
+        given()
+                .auth().oauth2(keycloakClient.getAccessToken("alice"))
+                .pathParam("userId", ALICE_UUID)
+        .when()
+                .get("/api/v1/users/{userId}")
+        .then()
+                .statusCode(200)
+                .body("username", equalTo("alice"));
+    }
+
+    @Test
+    void testUserByIdQueryDoesNotPinCarrierThread() {
+        String body = String.format("""
+                {
+                  "query": "query { userById(userId: \\"%s\\") { username } }"
+                }
+                """, ALICE_UUID);
+
+        given()
+                .auth().oauth2(keycloakClient.getAccessToken("alice"))
+                .contentType(ContentType.JSON)
+                .body(body)
+        .when()
+                .post("/graphql")
+        .then()
+                .statusCode(200)
+                .body("data.userById.username", equalTo("alice"));
+    }
+}